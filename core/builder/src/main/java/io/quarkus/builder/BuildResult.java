@@ -21,14 +21,16 @@ public final class BuildResult {
     private final ConcurrentHashMap<ItemId, BuildItem> simpleItems;
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems;
     private final List<Diagnostic> diagnostics;
+    private final List<BuildStepTiming> stepTimings;
     private final long nanos;
 
     BuildResult(final ConcurrentHashMap<ItemId, BuildItem> simpleItems,
             final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems, final Set<ItemId> finalIds,
-            final List<Diagnostic> diagnostics, final long nanos) {
+            final List<Diagnostic> diagnostics, final List<BuildStepTiming> stepTimings, final long nanos) {
         this.simpleItems = simpleItems;
         this.multiItems = multiItems;
         this.diagnostics = diagnostics;
+        this.stepTimings = stepTimings;
         this.nanos = nanos;
     }
 
@@ -92,6 +94,15 @@ public final class BuildResult {
         return diagnostics;
     }
 
+    /**
+     * Get the timings of the build steps executed during build, ordered by start time.
+     *
+     * @return the timings of the executed build steps (not {@code null})
+     */
+    public List<BuildStepTiming> getStepTimings() {
+        return stepTimings;
+    }
+
     /**
      * Get the amount of elapsed time from the time the operation was initiated to the time it was completed.
      *
@@ -0,0 +1,63 @@
+package io.quarkus.builder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timing of a single build step execution.
+ */
+public final class BuildStepTiming {
+    private final String stepName;
+    private final String threadName;
+    private final long startNanos;
+    private final long durationNanos;
+
+    BuildStepTiming(final String stepName, final String threadName, final long startNanos, final long durationNanos) {
+        this.stepName = stepName;
+        this.threadName = threadName;
+        this.startNanos = startNanos;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Get the name of the build step, as returned by its {@code toString()} method.
+     *
+     * @return the name of the build step (not {@code null})
+     */
+    public String getStepName() {
+        return stepName;
+    }
+
+    /**
+     * Get the name of the thread which executed the build step.
+     *
+     * @return the name of the thread (not {@code null})
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Get the amount of time elapsed from the start of the build to the start of the step.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getStart(TimeUnit timeUnit) {
+        return timeUnit.convert(startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the amount of time spent executing the step.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getDuration(TimeUnit timeUnit) {
+        return timeUnit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return stepName + " (" + getDuration(TimeUnit.MILLISECONDS) + " ms on " + threadName + ")";
+    }
+}
@@ -5,9 +5,11 @@ import static java.util.concurrent.locks.LockSupport.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -33,11 +35,13 @@ final class Execution {
     private final ConcurrentHashMap<StepInfo, BuildContext> contextCache = new ConcurrentHashMap<>();
     private final EnhancedQueueExecutor executor;
     private final List<Diagnostic> diagnostics = Collections.synchronizedList(new ArrayList<>());
+    private final ConcurrentLinkedQueue<BuildStepTiming> stepTimings = new ConcurrentLinkedQueue<>();
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
     private volatile Thread runningThread;
     private volatile boolean done;
+    private volatile long startNanos;
 
     static {
         try {
@@ -78,6 +82,7 @@ final class Execution {
 
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        startNanos = start;
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
@@ -124,14 +129,21 @@ final class Execution {
         }
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
+        final List<BuildStepTiming> timings = new ArrayList<>(stepTimings);
+        timings.sort(Comparator.comparingLong(timing -> timing.getStart(TimeUnit.NANOSECONDS)));
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+                Collections.unmodifiableList(timings), max(0, System.nanoTime() - start));
     }
 
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
 
+    void stepFinished(BuildStep buildStep, long start, long end) {
+        stepTimings.add(new BuildStepTiming(buildStep.toString(), Thread.currentThread().getName(),
+                max(0, start - startNanos), max(0, end - start)));
+    }
+
     String getBuildTargetName() {
         return buildTargetName;
     }
@@ -1,10 +1,13 @@
 package io.quarkus.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Assertions;
@@ -43,6 +46,53 @@ public class BasicTests {
         assertNotNull(result.consume(DummyItem.class));
     }
 
+    @Test
+    public void testStepTimings() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "first";
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.consume(DummyItem.class);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                context.produce(new DummyItem2());
+            }
+
+            @Override
+            public String toString() {
+                return "second";
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        final BuildResult result = builder.build().createExecutionBuilder("my-app.jar").execute();
+        final List<BuildStepTiming> timings = result.getStepTimings();
+        assertEquals(2, timings.size());
+        assertEquals("first", timings.get(0).getStepName());
+        assertEquals("second", timings.get(1).getStepName());
+        assertTrue(timings.get(1).getDuration(TimeUnit.MILLISECONDS) >= 20);
+        assertTrue(timings.get(1).getStart(TimeUnit.NANOSECONDS) >= timings.get(0).getStart(TimeUnit.NANOSECONDS)
+                + timings.get(0).getDuration(TimeUnit.NANOSECONDS));
+    }
+
     @Test
     public void testFailure() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -66,6 +66,7 @@ public interface Capability {
     String SECURITY_JPA = SECURITY + ".jpa";
 
     String QUARTZ = QUARKUS_PREFIX + "quartz";
+    String REDIS_CLIENT = QUARKUS_PREFIX + "redis.client";
     String KUBERNETES_SERVICE_BINDING = QUARKUS_PREFIX + "kubernetes.service.binding";
 
     /**
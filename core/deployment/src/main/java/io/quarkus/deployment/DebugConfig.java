@@ -6,8 +6,10 @@ import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
 
 /**
- * This is used currently only to suppress warnings about unknown properties
+ * This is used currently mostly to suppress warnings about unknown properties
  * when the user supplies something like: -Dquarkus.debug.reflection=true
+ * <p>
+ * {@link #printBuildStepTimings} is read by the {@link QuarkusAugmentor} from the build time config.
  *
  * TODO refactor code to actually use these values
  */
@@ -25,4 +27,11 @@ public class DebugConfig {
      */
     @ConfigItem
     Optional<String> generatedClassesDir;
+
+    /**
+     * If set to true, logs the slowest build steps at the end of the augmentation, and writes the timings of all the
+     * build steps to {@code quarkus-build-step-timings.csv} in the build output directory
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean printBuildStepTimings;
 }
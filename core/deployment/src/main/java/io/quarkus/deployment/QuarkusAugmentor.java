@@ -1,15 +1,21 @@
 package io.quarkus.deployment;
 
+import java.io.BufferedWriter;
 import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.microprofile.config.spi.ConfigBuilder;
@@ -22,6 +28,7 @@ import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
 import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.BuildStepTiming;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
@@ -43,6 +50,10 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    static final String PRINT_BUILD_STEP_TIMINGS = "quarkus.debug.print-build-step-timings";
+    static final String BUILD_STEP_TIMINGS_FILE = "quarkus-build-step-timings.csv";
+    private static final int SLOWEST_STEPS = 20;
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final PathsCollection root;
@@ -158,6 +169,11 @@ public class QuarkusAugmentor {
                 //test and dev mode already report the total startup time, no need to add noise to the logs
                 log.debug(message);
             }
+            // the build time config also contains the system properties and the build system properties
+            if (ConfigProviderResolver.instance().getConfig(deploymentClassLoader)
+                    .getOptionalValue(PRINT_BUILD_STEP_TIMINGS, Boolean.class).orElse(false)) {
+                reportStepTimings(buildResult);
+            }
             return buildResult;
         } finally {
             try {
@@ -174,6 +190,45 @@ public class QuarkusAugmentor {
         }
     }
 
+    private void reportStepTimings(BuildResult buildResult) {
+        List<BuildStepTiming> timings = buildResult.getStepTimings();
+        long wallTime = buildResult.getDuration(TimeUnit.MILLISECONDS);
+        long stepsTime = 0;
+        for (BuildStepTiming timing : timings) {
+            stepsTime += timing.getDuration(TimeUnit.MILLISECONDS);
+        }
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Build chain executed %d steps in %d ms, %d ms spent in the steps (%.1fx parallelism)",
+                timings.size(), wallTime, stepsTime, wallTime == 0 ? 0.0 : (double) stepsTime / wallTime));
+        List<BuildStepTiming> slowest = new ArrayList<>(timings);
+        slowest.sort(Comparator.comparingLong((BuildStepTiming timing) -> timing.getDuration(TimeUnit.NANOSECONDS))
+                .reversed());
+        report.append("\nSlowest build steps:");
+        for (BuildStepTiming timing : slowest.subList(0, Math.min(SLOWEST_STEPS, slowest.size()))) {
+            report.append(String.format("\n  %6d ms  (started at %6d ms)  %s", timing.getDuration(TimeUnit.MILLISECONDS),
+                    timing.getStart(TimeUnit.MILLISECONDS), timing.getStepName()));
+        }
+        if (targetDir != null) {
+            Path file = targetDir.resolve(BUILD_STEP_TIMINGS_FILE);
+            try {
+                Files.createDirectories(targetDir);
+                try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    writer.write("step,thread,start_ms,duration_ms");
+                    writer.newLine();
+                    for (BuildStepTiming timing : timings) {
+                        writer.write('"' + timing.getStepName().replace("\"", "\"\"") + "\"," + timing.getThreadName() + ","
+                                + timing.getStart(TimeUnit.MILLISECONDS) + "," + timing.getDuration(TimeUnit.MILLISECONDS));
+                        writer.newLine();
+                    }
+                }
+                report.append("\nThe timings of all the build steps were written to ").append(file);
+            } catch (IOException e) {
+                log.warn("Failed to write the build step timings to " + file, e);
+            }
+        }
+        log.info(report);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -14,6 +14,7 @@ import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.util.VirtualThreadSupport;
 
 /**
  *
@@ -23,13 +24,26 @@ public class ExecutorRecorder {
 
     private static final Logger log = Logger.getLogger("io.quarkus.thread-pool");
 
+    private static final String TRACE_PINNED_THREADS = "jdk.tracePinnedThreads";
+
     public ExecutorRecorder() {
     }
 
     private static volatile Executor current;
+    private static volatile ExecutorService virtualThreadExecutor;
 
     public ExecutorService setupRunTime(ShutdownContext shutdownContext, ThreadPoolConfig threadPoolConfig,
             LaunchMode launchMode) {
+        virtualThreadExecutor = null;
+        if (threadPoolConfig.virtualThreads.enabled) {
+            final ExecutorService executor = createVirtualThreadExecutor(threadPoolConfig.virtualThreads);
+            if (executor != null) {
+                shutdownContext.addLastShutdownTask(createVirtualThreadShutdownTask(threadPoolConfig, executor));
+                virtualThreadExecutor = executor;
+            } else {
+                log.warn("Virtual threads are not supported by the current JDK, the core thread pool is used instead");
+            }
+        }
         final EnhancedQueueExecutor underlying = createExecutor(threadPoolConfig);
         ExecutorService executor;
         Runnable shutdownTask = createShutdownTask(threadPoolConfig, underlying);
@@ -123,6 +137,37 @@ public class ExecutorRecorder {
         };
     }
 
+    private static ExecutorService createVirtualThreadExecutor(VirtualThreadsConfig virtualThreadsConfig) {
+        if (virtualThreadsConfig.tracePinnedThreads && System.getProperty(TRACE_PINNED_THREADS) == null) {
+            // Must be set before the first virtual thread is created
+            System.setProperty(TRACE_PINNED_THREADS, "short");
+        }
+        return VirtualThreadSupport.newVirtualThreadPerTaskExecutor("executor-virtual-thread-");
+    }
+
+    private static Runnable createVirtualThreadShutdownTask(ThreadPoolConfig threadPoolConfig, ExecutorService executor) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                executor.shutdown();
+                final long timeout = threadPoolConfig.shutdownTimeout.toNanos();
+                final long interrupt = Math.min(threadPoolConfig.shutdownInterrupt.toNanos(), timeout);
+                try {
+                    if (executor.awaitTermination(interrupt, TimeUnit.NANOSECONDS)) {
+                        return;
+                    }
+                    // interrupt the virtual threads
+                    executor.shutdownNow();
+                    if (!executor.awaitTermination(timeout - interrupt, TimeUnit.NANOSECONDS)) {
+                        log.warn("Virtual thread executor shutdown failed: some tasks are still running");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
     private static EnhancedQueueExecutor createExecutor(ThreadPoolConfig threadPoolConfig) {
         final JBossThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("executor"), Boolean.TRUE, null,
                 "executor-thread-%t", JBossExecutors.loggingExceptionHandler("org.jboss.executor.uncaught"), null);
@@ -149,4 +194,25 @@ public class ExecutorRecorder {
     public static Executor getCurrent() {
         return current;
     }
+
+    /**
+     * The virtual thread executor is only used to dispatch blocking REST endpoints, scheduled methods and unordered
+     * blocking messaging consumers. Everything else keeps running on the core thread pool.
+     *
+     * @return the executor that runs each task on a new virtual thread, or {@code null} if virtual threads are not enabled
+     *         or not supported
+     */
+    public static ExecutorService getVirtualThreadExecutor() {
+        return virtualThreadExecutor;
+    }
+
+    /**
+     *
+     * @return the executor used to dispatch blocking tasks, i.e. the virtual thread executor if enabled, or the core
+     *         executor
+     */
+    public static Executor getBlockingExecutor() {
+        ExecutorService executor = virtualThreadExecutor;
+        return executor != null ? executor : current;
+    }
 }
@@ -84,4 +84,10 @@ public class ThreadPoolConfig {
     @ConfigItem(defaultValue = "30")
     public Duration keepAliveTime;
 
+    /**
+     * Virtual threads config.
+     */
+    @ConfigItem
+    public VirtualThreadsConfig virtualThreads;
+
 }
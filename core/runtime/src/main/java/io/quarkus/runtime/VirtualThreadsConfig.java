@@ -0,0 +1,32 @@
+package io.quarkus.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * The virtual threads config of the core thread pool.
+ */
+@ConfigGroup
+public class VirtualThreadsConfig {
+
+    /**
+     * If set to true, blocking REST endpoints, scheduled methods and unordered blocking messaging consumers are dispatched
+     * to a separate executor that runs each task on a new virtual thread. The max threads and queue size of the core thread
+     * pool do not apply to these tasks. All other tasks submitted to the core thread pool keep running on it.
+     * <p>
+     * This requires a JDK that supports virtual threads. If it is not supported, a warning is logged and the core thread pool
+     * is used.
+     */
+    @ConfigItem(name = ConfigItem.PARENT, defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * If set to true, a stack trace is printed when a virtual thread blocks while pinned to its carrier thread, e.g. in a
+     * {@code synchronized} block. This sets the {@code jdk.tracePinnedThreads} system property unless it is already set.
+     * <p>
+     * Pinned virtual threads can also be detected with the {@code jdk.VirtualThreadPinned} JFR event.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean tracePinnedThreads;
+
+}
@@ -24,4 +24,20 @@ public class AsyncConfig {
      */
     @ConfigItem(defaultValue = "block")
     OverflowAction overflow;
+
+    /**
+     * The implementation of the asynchronous handler.
+     * <p>
+     * {@code queue} hands the log records to the writing thread through a blocking queue. {@code ring-buffer} uses a
+     * pre-allocated ring buffer that the logging threads write to without locking, and writes the log records in
+     * batches, flushing once per batch. With {@code ring-buffer}, the number of records dropped because of the
+     * {@code discard} overflow action is exposed by the {@code log.async.dropped} metric.
+     */
+    @ConfigItem(defaultValue = "queue")
+    Mode mode;
+
+    public enum Mode {
+        QUEUE,
+        RING_BUFFER
+    }
 }
@@ -22,6 +22,10 @@ public class LogMetricsHandlerRecorder {
 
     static final String METRIC_DESCRIPTION = "Number of log events, per log level. Non-standard levels are counted with the lower standard level.";
 
+    static final String DROPPED_METRIC_NAME = "log.async.dropped";
+
+    static final String DROPPED_METRIC_DESCRIPTION = "Number of log events dropped because the ring buffer of an asynchronous handler was full.";
+
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
@@ -43,6 +47,8 @@ public class LogMetricsHandlerRecorder {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
                 }
+                metricsFactory.builder(DROPPED_METRIC_NAME).description(DROPPED_METRIC_DESCRIPTION)
+                        .buildCounter(RingBufferAsyncHandler.DROPPED::sum);
             }
         };
     }
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 
 import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logmanager.EmbeddedConfigurator;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.Logger;
 import org.jboss.logmanager.errormanager.OnlyOnceErrorManager;
@@ -427,7 +428,18 @@ public class LoggingSetupRecorder {
         }
     }
 
-    private static AsyncHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+        if (asyncConfig.mode == AsyncConfig.Mode.RING_BUFFER) {
+            final RingBufferAsyncHandler asyncHandler = new RingBufferAsyncHandler(asyncConfig.queueLength);
+            asyncHandler.setOverflowAction(asyncConfig.overflow);
+            if (handler instanceof ExtHandler) {
+                // the records are flushed once per batch
+                ((ExtHandler) handler).setAutoFlush(false);
+            }
+            asyncHandler.addHandler(handler);
+            asyncHandler.setLevel(level);
+            return asyncHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength);
         asyncHandler.setOverflowAction(asyncConfig.overflow);
         asyncHandler.addHandler(handler);
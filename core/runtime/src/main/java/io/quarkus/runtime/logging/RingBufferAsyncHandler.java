@@ -0,0 +1,196 @@
+package io.quarkus.runtime.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler passing the log records to a single consumer thread through a pre-allocated ring buffer.
+ * <p>
+ * {@link org.jboss.logmanager.handlers.AsyncHandler} hands the records over through an
+ * {@link java.util.concurrent.ArrayBlockingQueue}, whose single lock is shared by the publishing threads and the consumer
+ * thread. Here the publishing threads claim a slot of the ring buffer with a CAS instead. The consumer thread drains the
+ * records in batches and only flushes the nested handlers at the end of each batch, so that the records logged in bursts
+ * are written with a single flush. When the ring buffer is empty, the consumer thread is parked until a publishing
+ * thread unparks it.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    /**
+     * The number of records dropped by all the handlers, exposed as a metric.
+     */
+    static final LongAdder DROPPED = new LongAdder();
+
+    private static final int STATE_NEW = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_CLOSED = 2;
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ExtLogRecord[] records;
+    /**
+     * The sequence of each slot: equal to the position of the next record to publish in this slot when the slot is
+     * free, and to this position + 1 once the record is published.
+     */
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // only accessed by the consumer thread
+    private long head;
+
+    private final AtomicInteger state = new AtomicInteger(STATE_NEW);
+    private final Thread consumer;
+    private volatile boolean consumerParked;
+    private volatile OverflowAction overflowAction = OverflowAction.BLOCK;
+
+    public RingBufferAsyncHandler(int queueLength) {
+        int capacity = Integer.highestOneBit(Math.max(2, queueLength) - 1) << 1;
+        this.records = new ExtLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.consumer = new Thread(this::consume, "quarkus-async-log");
+        this.consumer.setDaemon(true);
+    }
+
+    public int getQueueLength() {
+        return records.length;
+    }
+
+    public OverflowAction getOverflowAction() {
+        return overflowAction;
+    }
+
+    public void setOverflowAction(OverflowAction overflowAction) {
+        this.overflowAction = overflowAction;
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        int current = state.get();
+        if (current == STATE_NEW && state.compareAndSet(STATE_NEW, STATE_RUNNING)) {
+            consumer.start();
+        } else if (current == STATE_CLOSED) {
+            return;
+        }
+        // prepare the record to be moved to the consumer thread
+        if (isCallerCalculationRequired()) {
+            record.copyAll();
+        } else {
+            record.disableCallerCalculation();
+            record.copyMdc();
+        }
+        if (!offer(record)) {
+            if (overflowAction == OverflowAction.DISCARD) {
+                DROPPED.increment();
+                return;
+            }
+            long parkNanos = 1;
+            while (!offer(record)) {
+                if (state.get() == STATE_CLOSED) {
+                    return;
+                }
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+            }
+        }
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private boolean offer(ExtLogRecord record) {
+        for (;;) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    records[index] = record;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                // the slot still holds a record from the previous lap: the ring buffer is full
+                return false;
+            }
+            // another thread claimed this position, retry with the next one
+        }
+    }
+
+    /**
+     * Publishes the records available in the ring buffer to the nested handlers, at most one lap of the ring buffer so
+     * that the nested handlers are flushed regularly even if the records keep coming.
+     *
+     * @return the number of records published
+     */
+    private int drain() {
+        int published = 0;
+        while (published < records.length) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            ExtLogRecord record = records[index];
+            records[index] = null;
+            sequences.set(index, head + records.length);
+            head++;
+            publishToNestedHandlers(record);
+            published++;
+        }
+        return published;
+    }
+
+    private void consume() {
+        while (state.get() != STATE_CLOSED) {
+            if (drain() > 0) {
+                flushNestedHandlers();
+                continue;
+            }
+            consumerParked = true;
+            // check again after announcing the park, so that a record published in between is not missed: the publishing
+            // thread either sees the flag and unparks the consumer, or has published its record before this check
+            if (sequences.get((int) (head & mask)) != head + 1 && state.get() != STATE_CLOSED) {
+                LockSupport.park(this);
+            }
+            consumerParked = false;
+        }
+        if (drain() > 0) {
+            flushNestedHandlers();
+        }
+    }
+
+    private void flushNestedHandlers() {
+        for (Handler handler : getHandlers()) {
+            try {
+                handler.flush();
+            } catch (Exception e) {
+                reportError("Failed to flush the handler", e, ErrorManager.FLUSH_FAILURE);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        if (state.getAndSet(STATE_CLOSED) == STATE_RUNNING) {
+            LockSupport.unpark(consumer);
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.runtime.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Creates virtual thread executors on JDKs that support them.
+ * <p>
+ * Quarkus is compiled against Java 11, so the virtual thread API is looked up reflectively.
+ */
+public final class VirtualThreadSupport {
+
+    private static final Logger log = Logger.getLogger(VirtualThreadSupport.class);
+
+    private static final Method IS_VIRTUAL = findIsVirtual();
+
+    private VirtualThreadSupport() {
+    }
+
+    /**
+     *
+     * @return {@code true} if virtual threads are supported by the current JDK
+     */
+    public static boolean isSupported() {
+        return IS_VIRTUAL != null && newThreadFactory("virtual-thread-check-") != null;
+    }
+
+    /**
+     *
+     * @param thread
+     * @return {@code true} if the given thread is a virtual thread
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @param namePrefix the prefix of the names of the virtual threads, followed by a counter
+     * @return the executor, or {@code null} if virtual threads are not supported
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = newThreadFactory(namePrefix);
+        if (threadFactory == null) {
+            return null;
+        }
+        try {
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Unable to create a virtual thread executor", e);
+            return null;
+        }
+    }
+
+    private static ThreadFactory newThreadFactory(String namePrefix) {
+        if (IS_VIRTUAL == null) {
+            return null;
+        }
+        try {
+            // Thread.ofVirtual().name(namePrefix, 0).factory()
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Virtual threads are a preview feature on JDK 19 and 20 and require --enable-preview
+            log.debug("Virtual threads are not supported", e);
+            return null;
+        }
+    }
+
+    private static Method findIsVirtual() {
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.util.VirtualThreadSupport;
+
+public class ExecutorRecorderTest {
+
+    private final List<Runnable> shutdownTasks = new ArrayList<>();
+
+    @AfterEach
+    public void shutdown() {
+        Collections.reverse(shutdownTasks);
+        shutdownTasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testVirtualThreadsDisabled() throws Exception {
+        ExecutorService executor = setup(false);
+        assertTrue(executor instanceof EnhancedQueueExecutor);
+        assertSame(executor, ExecutorRecorder.getCurrent());
+        assertNull(ExecutorRecorder.getVirtualThreadExecutor());
+        assertSame(executor, ExecutorRecorder.getBlockingExecutor());
+    }
+
+    @Test
+    public void testVirtualThreadsEnabled() throws Exception {
+        ExecutorService executor = setup(true);
+        // The core executor is never replaced
+        assertTrue(executor instanceof EnhancedQueueExecutor);
+        assertSame(executor, ExecutorRecorder.getCurrent());
+        assertFalse(runOn(ExecutorRecorder.getCurrent()).endsWith(":true"));
+        if (VirtualThreadSupport.isSupported()) {
+            assertNotNull(ExecutorRecorder.getVirtualThreadExecutor());
+            String thread = runOn(ExecutorRecorder.getBlockingExecutor());
+            assertTrue(thread.startsWith("executor-virtual-thread-"), thread);
+            assertTrue(thread.endsWith(":true"), thread);
+        } else {
+            // falls back to the core executor
+            assertNull(ExecutorRecorder.getVirtualThreadExecutor());
+            assertSame(executor, ExecutorRecorder.getBlockingExecutor());
+            String thread = runOn(ExecutorRecorder.getBlockingExecutor());
+            assertTrue(thread.startsWith("executor-thread-"), thread);
+            assertTrue(thread.endsWith(":false"), thread);
+        }
+    }
+
+    private ExecutorService setup(boolean virtualThreads) {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.coreThreads = 1;
+        config.prefill = false;
+        config.maxThreads = OptionalInt.empty();
+        config.queueSize = OptionalInt.empty();
+        config.growthResistance = 0;
+        config.shutdownTimeout = Duration.ofSeconds(5);
+        config.shutdownInterrupt = Duration.ofSeconds(1);
+        config.shutdownCheckInterval = Optional.empty();
+        config.keepAliveTime = Duration.ofSeconds(30);
+        config.virtualThreads = new VirtualThreadsConfig();
+        config.virtualThreads.enabled = virtualThreads;
+        return new ExecutorRecorder().setupRunTime(new ShutdownContext() {
+
+            @Override
+            public void addShutdownTask(Runnable runnable) {
+                shutdownTasks.add(runnable);
+            }
+
+            @Override
+            public void addLastShutdownTask(Runnable runnable) {
+                shutdownTasks.add(runnable);
+            }
+        }, config, LaunchMode.TEST);
+    }
+
+    private static String runOn(Executor executor) throws Exception {
+        return CompletableFuture.supplyAsync(
+                () -> Thread.currentThread().getName() + ":" + VirtualThreadSupport.isVirtual(Thread.currentThread()),
+                executor).get();
+    }
+
+}
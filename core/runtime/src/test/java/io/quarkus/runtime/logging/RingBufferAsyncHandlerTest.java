@@ -0,0 +1,135 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferAsyncHandlerTest {
+
+    @Test
+    public void allRecordsShouldBePublishedInOrderPerThread() throws InterruptedException {
+        CollectingHandler collector = new CollectingHandler();
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(16);
+        handler.addHandler(collector);
+
+        int threads = 4;
+        int recordsPerThread = 1000;
+        List<Thread> publishers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String name = "t" + t;
+            publishers.add(new Thread(() -> {
+                for (int i = 0; i < recordsPerThread; i++) {
+                    handler.publish(record(name + ":" + i));
+                }
+            }));
+        }
+        publishers.forEach(Thread::start);
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+        handler.close();
+
+        assertEquals(threads * recordsPerThread, collector.messages.size());
+        for (int t = 0; t < threads; t++) {
+            int expected = 0;
+            for (String message : collector.messages) {
+                if (message.startsWith("t" + t + ":")) {
+                    assertEquals("t" + t + ":" + expected++, message);
+                }
+            }
+            assertEquals(recordsPerThread, expected);
+        }
+        // the records are flushed in batches
+        assertTrue(collector.flushes.get() <= collector.messages.size());
+    }
+
+    @Test
+    public void recordsShouldBeDroppedWhenFullWithDiscard() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingHandler collector = new CollectingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4);
+        handler.setOverflowAction(OverflowAction.DISCARD);
+        handler.addHandler(collector);
+
+        long dropped = RingBufferAsyncHandler.DROPPED.sum();
+        for (int i = 0; i < 20; i++) {
+            handler.publish(record("m" + i));
+        }
+        release.countDown();
+        handler.close();
+
+        // the consumer holds at most one record, and the ring buffer the next 4
+        assertTrue(collector.messages.size() <= 5);
+        assertEquals(20 - collector.messages.size(), RingBufferAsyncHandler.DROPPED.sum() - dropped);
+        assertEquals("m0", collector.messages.get(0));
+    }
+
+    @Test
+    public void idleConsumerShouldBeWokenUpByPublish() throws InterruptedException {
+        CountDownLatch published = new CountDownLatch(2);
+        CollectingHandler collector = new CollectingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                super.publish(record);
+                published.countDown();
+            }
+        };
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4);
+        handler.addHandler(collector);
+
+        handler.publish(record("m0"));
+        // let the consumer park once the ring buffer is empty
+        Thread.sleep(100);
+        handler.publish(record("m1"));
+        assertTrue(published.await(10, TimeUnit.SECONDS));
+        handler.close();
+
+        assertEquals(2, collector.messages.size());
+    }
+
+    private static ExtLogRecord record(String message) {
+        return new ExtLogRecord(Level.INFO, message, RingBufferAsyncHandlerTest.class.getName());
+    }
+
+    static class CollectingHandler extends Handler {
+
+        final List<String> messages = new ArrayList<>();
+        final AtomicInteger flushes = new AtomicInteger();
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -172,6 +172,14 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "true")
     public boolean detectWrongAnnotations;
 
+    /**
+     * If set to true then each {@code @RequestScoped} bean is assigned a dense index at build time and the request context
+     * stores the contextual instances in an array instead of a map. This reduces the allocation and lookup cost of each
+     * request. The request context state can still be propagated across threads.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean indexedRequestContext;
+
     /**
      * Dev mode configuration.
      */
@@ -27,10 +27,15 @@ public class CacheConfig {
     String type;
 
     /**
-     * Caffeine configuration.
+     * Caffeine configuration. When the {@code redis} cache type is used, this configures the local tier of the caches.
      */
     CaffeineConfig caffeine;
 
+    /**
+     * Redis configuration, only used with the {@code redis} cache type.
+     */
+    RedisConfig redis;
+
     @ConfigGroup
     public static class CaffeineConfig {
 
@@ -73,6 +78,73 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that an entry should be refreshed once a fixed duration has elapsed after the entry's creation, or the
+             * most recent replacement of its value. The stale value keeps being returned while a single background invocation
+             * of the cached method reloads the entry, so concurrent callers never wait for the reload. If the reload fails, the
+             * stale value is kept until it expires or another refresh succeeds. This value should be lower than
+             * {@code expire-after-write} for refreshes to have any effect.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Whether or not the hit, miss, load and in-flight loads statistics of this cache should be recorded and exposed
+             * as metrics. This requires a metrics extension such as Micrometer to be present.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean metricsEnabled;
+        }
+    }
+
+    @ConfigGroup
+    public static class RedisConfig {
+
+        /**
+         * Prefix of the Redis keys and pub/sub channels used by the caches.
+         */
+        @ConfigItem(defaultValue = "quarkus-cache:")
+        String keyPrefix;
+
+        /**
+         * Maximum time to wait for Redis when a local cache miss occurs. Past this delay, the value is computed without
+         * waiting for Redis any longer.
+         */
+        @ConfigItem(defaultValue = "1S")
+        Duration timeout;
+
+        /**
+         * Fully qualified name of the {@link io.quarkus.cache.CacheValueCodec} implementation used to store the values
+         * of all the caches in Redis. Either this property or the codec of each cache must be set.
+         */
+        @ConfigItem
+        Optional<String> codec;
+
+        /**
+         * Namespace configuration.
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        @ConfigDocMapKey("cache-name")
+        Map<String, RedisNamespaceConfig> namespace;
+
+        @ConfigGroup
+        public static class RedisNamespaceConfig {
+
+            /**
+             * Specifies that each entry should be automatically removed from Redis once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The entries never expire from Redis if this
+             * property is not set.
+             */
+            @ConfigItem
+            Optional<Duration> expireAfterWrite;
+
+            /**
+             * Fully qualified name of the {@link io.quarkus.cache.CacheValueCodec} implementation used to store the values
+             * of this cache in Redis. This overrides {@code quarkus.cache.redis.codec}.
+             */
+            @ConfigItem
+            Optional<String> codec;
         }
     }
 }
@@ -43,6 +43,9 @@ public class CacheDeploymentConstants {
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
 
+    // Redis.
+    public static final String REDIS_CACHE_TYPE = "redis";
+
     private static DotName dotName(Class<?> annotationClass) {
         return DotName.createSimple(annotationClass.getName());
     }
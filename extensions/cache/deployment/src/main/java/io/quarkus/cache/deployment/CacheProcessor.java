@@ -10,12 +10,14 @@ import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -33,6 +35,7 @@ import org.jboss.jandex.Type;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
@@ -43,13 +46,22 @@ import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.cache.runtime.redis.RedisCacheBuildRecorder;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 
 class CacheProcessor {
 
@@ -186,7 +198,9 @@ class CacheProcessor {
     @BuildStep
     @Record(STATIC_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem cacheNames, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder) {
+            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder,
+            RedisCacheBuildRecorder redisRecorder, ShutdownContextBuildItem shutdown, Capabilities capabilities,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
 
         Supplier<CacheManager> cacheManagerSupplier;
         if (config.enabled) {
@@ -195,6 +209,23 @@ class CacheProcessor {
                     Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config);
                     cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplier(cacheInfos);
                     break;
+                case CacheDeploymentConstants.REDIS_CACHE_TYPE:
+                    if (!capabilities.isPresent(Capability.REDIS_CLIENT)) {
+                        throw new DeploymentException(
+                                "The redis cache type requires the quarkus-redis-client extension to be added to the application");
+                    }
+                    Set<RedisCacheInfo> redisCacheInfos = RedisCacheInfoBuilder.build(cacheNames.getNames(), config);
+                    for (RedisCacheInfo redisCacheInfo : redisCacheInfos) {
+                        if (redisCacheInfo.codec == null) {
+                            throw new DeploymentException("No value codec is configured for the redis cache ["
+                                    + redisCacheInfo.name + "], set quarkus.cache.redis.codec or quarkus.cache.redis.\""
+                                    + redisCacheInfo.name + "\".codec");
+                        }
+                        // The codecs are instantiated with reflection at run time.
+                        reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, redisCacheInfo.codec));
+                    }
+                    cacheManagerSupplier = redisRecorder.getCacheManagerSupplier(redisCacheInfos, shutdown);
+                    break;
                 default:
                     throw new DeploymentException("Unknown cache type: " + config.type);
             }
@@ -208,6 +239,24 @@ class CacheProcessor {
                 .done();
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    // The metrics consumer looks up the cache manager, a synthetic bean which is initialized at runtime.
+    @Consume(SyntheticBeansRuntimeInitBuildItem.class)
+    void registerMetrics(CacheNamesBuildItem cacheNames, CacheConfig config, CaffeineCacheBuildRecorder caffeineRecorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumers) {
+        // The consumer will only be invoked if a metrics extension is present.
+        if (config.enabled && CacheDeploymentConstants.CAFFEINE_CACHE_TYPE.equals(config.type)
+                && metricsCapability.isPresent()) {
+            Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config);
+            if (cacheInfos.stream().anyMatch(cacheInfo -> cacheInfo.metricsEnabled)) {
+                metricsFactoryConsumers
+                        .produce(new MetricsFactoryConsumerBuildItem(caffeineRecorder.getMetricsFactoryConsumer()));
+            }
+        }
+    }
+
     @BuildStep
     List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildItem combinedIndex) {
         List<BytecodeTransformerBuildItem> bytecodeTransformers = new ArrayList<>();
@@ -0,0 +1,34 @@
+package io.quarkus.cache.deployment;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.quarkus.cache.deployment.CacheConfig.RedisConfig.RedisNamespaceConfig;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+
+public class RedisCacheInfoBuilder {
+
+    public static Set<RedisCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+        if (cacheNames.isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            Set<CaffeineCacheInfo> localCacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, cacheConfig);
+            return localCacheInfos.stream().map(localCacheInfo -> {
+                RedisCacheInfo cacheInfo = new RedisCacheInfo();
+                cacheInfo.name = localCacheInfo.name;
+                cacheInfo.localCacheInfo = localCacheInfo;
+                cacheInfo.keyPrefix = cacheConfig.redis.keyPrefix;
+                cacheInfo.timeout = cacheConfig.redis.timeout;
+                cacheConfig.redis.codec.ifPresent(codec -> cacheInfo.codec = codec);
+                RedisNamespaceConfig namespaceConfig = cacheConfig.redis.namespace.get(cacheInfo.name);
+                if (namespaceConfig != null) {
+                    namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
+                    namespaceConfig.codec.ifPresent(codec -> cacheInfo.codec = codec);
+                }
+                return cacheInfo;
+            }).collect(Collectors.toSet());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.cache.test.deployment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.time.Duration;
 
@@ -38,6 +39,8 @@ public class CacheConfigTest {
         assertEquals(100L, cache.getMaximumSize());
         assertEquals(Duration.ofSeconds(30L), cache.getExpireAfterWrite());
         assertEquals(Duration.ofDays(2L), cache.getExpireAfterAccess());
+        assertEquals(Duration.ofSeconds(10L), cache.getRefreshAfterWrite());
+        assertNotNull(cache.getStatistics());
     }
 
     @Path("/test")
@@ -0,0 +1,33 @@
+package io.quarkus.cache.test.runtime;
+
+import static io.quarkus.cache.runtime.redis.RedisCache.encodeKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.runtime.CompositeCacheKey;
+import io.quarkus.cache.runtime.DefaultCacheKey;
+
+public class RedisCacheKeyTest {
+
+    @Test
+    public void testEqualKeys() {
+        assertEquals(encodeKey("foo"), encodeKey(new String("foo")));
+        assertEquals(encodeKey(new CompositeCacheKey("foo", 1L)), encodeKey(new CompositeCacheKey("foo", 1L)));
+        assertEquals(encodeKey(new DefaultCacheKey("foo")), encodeKey(new DefaultCacheKey("foo")));
+    }
+
+    @Test
+    public void testKeysWithTheSameStringRepresentation() {
+        // The key types are part of the encoded keys.
+        assertNotEquals(encodeKey(1), encodeKey("1"));
+        assertNotEquals(encodeKey(1), encodeKey(1L));
+        assertNotEquals(encodeKey(new CompositeCacheKey("1", 2)), encodeKey(new CompositeCacheKey(1, "2")));
+
+        // The composite key elements can't be confused with the separators.
+        assertNotEquals(encodeKey(new CompositeCacheKey("a, b", "c")), encodeKey(new CompositeCacheKey("a", "b, c")));
+        assertNotEquals(encodeKey(new CompositeCacheKey("a", null)), encodeKey(new CompositeCacheKey("a", "")));
+        assertNotEquals(encodeKey(new CompositeCacheKey("[a, b]")), encodeKey(new CompositeCacheKey("a", "b")));
+    }
+}
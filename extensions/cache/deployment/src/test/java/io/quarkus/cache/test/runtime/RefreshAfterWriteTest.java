@@ -0,0 +1,219 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.control.ActivateRequestContext;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheStatistics;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code refresh-after-write} configuration of the Caffeine caches.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+    private static final String UNI_CACHE_NAME = "uni-refresh-cache";
+    private static final String REQUEST_CACHE_NAME = "request-refresh-cache";
+    private static final String KEY = "key";
+    private static final long REFRESH_AFTER_WRITE_MILLIS = 100L;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CachedService.class, RequestData.class, RequestCaller.class).addAsResource(
+                            new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=0.1S\n"
+                                    + "quarkus.cache.caffeine.\"" + CACHE_NAME + "\".metrics-enabled=true\n"
+                                    + "quarkus.cache.caffeine.\"" + UNI_CACHE_NAME + "\".refresh-after-write=0.1S\n"
+                                    + "quarkus.cache.caffeine.\"" + REQUEST_CACHE_NAME + "\".refresh-after-write=0.1S"),
+                            "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    RequestCaller requestCaller;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Test
+    public void testStaleValueIsServedDuringRefresh() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        // Verified by: invocations counter.
+        assertEquals("1", cachedService.cachedMethod(KEY));
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1 while the entry is fresh.
+        // Expected effect: method not invoked and result coming from the cache.
+        // Verified by: invocations counter.
+        assertEquals("1", cachedService.cachedMethod(KEY));
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 3
+        // Action: the entry becomes stale and the method is called several times while the refresh is blocked.
+        // Expected effect: the stale value is returned to all callers and the method is invoked only once in the background.
+        // Verified by: returned values, invocations counter and cache statistics.
+        Thread.sleep(REFRESH_AFTER_WRITE_MILLIS * 2);
+        cachedService.blockNextInvocation();
+        for (int i = 0; i < 5; i++) {
+            assertEquals("1", cachedService.cachedMethod(KEY));
+        }
+        CacheStatistics statistics = ((CaffeineCache) cacheManager.getCache(CACHE_NAME).get()).getStatistics();
+        assertEquals(1, statistics.getInFlightLoads());
+        assertEquals(1L, statistics.getRefreshCount());
+        cachedService.unblock();
+
+        // STEP 4
+        // Action: same call as STEP 3 once the refresh is done.
+        // Expected effect: the refreshed value is returned from the cache.
+        // Verified by: returned value and invocations counter.
+        awaitValue("2");
+        assertEquals(2, cachedService.getInvocations());
+        assertEquals(0, statistics.getInFlightLoads());
+        assertEquals(1L, statistics.getMissCount());
+        assertEquals(2L, statistics.getLoadSuccessCount());
+    }
+
+    @Test
+    public void testUniRefresh() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResult-annotated method returning a Uni is called and the Uni is resolved.
+        // Expected effect: the emitted item is cached.
+        // Verified by: emitted item and invocations counter.
+        assertEquals("1", cachedService.cachedUniMethod(KEY).await().indefinitely());
+        assertEquals("1", cachedService.cachedUniMethod(KEY).await().indefinitely());
+        assertEquals(1, cachedService.getUniInvocations());
+
+        // STEP 2
+        // Action: the entry becomes stale and the method is called again.
+        // Expected effect: the stale item is emitted and the entry is refreshed in the background.
+        // Verified by: emitted items and invocations counter.
+        Thread.sleep(REFRESH_AFTER_WRITE_MILLIS * 2);
+        assertEquals("1", cachedService.cachedUniMethod(KEY).await().indefinitely());
+        assertEquals(2, cachedService.getUniInvocations());
+        assertEquals("2", cachedService.cachedUniMethod(KEY).await().indefinitely());
+        assertEquals(2, cachedService.getUniInvocations());
+    }
+
+    @Test
+    public void testRefreshWithRequestScopedBean() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResult-annotated method using a request scoped bean is called within a request context.
+        // Expected effect: method invoked and result cached.
+        // Verified by: returned value.
+        assertEquals("1", requestCaller.call(KEY));
+
+        // STEP 2
+        // Action: the entry becomes stale and the method is called again.
+        // Expected effect: the stale value is returned and the method is invoked on a worker thread, within a new request
+        // context, once the caller's request context is terminated.
+        // Verified by: returned values.
+        Thread.sleep(REFRESH_AFTER_WRITE_MILLIS * 2);
+        assertEquals("1", requestCaller.call(KEY));
+        long deadline = System.nanoTime() + Duration.ofSeconds(10L).toNanos();
+        while (!"2".equals(requestCaller.call(KEY)) && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals("2", requestCaller.call(KEY));
+    }
+
+    private void awaitValue(String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10L).toNanos();
+        while (!expected.equals(cachedService.cachedMethod(KEY)) && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(expected, cachedService.cachedMethod(KEY));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger uniInvocations = new AtomicInteger();
+        private final AtomicInteger requestInvocations = new AtomicInteger();
+        private volatile CountDownLatch latch;
+
+        @Inject
+        RequestData requestData;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) throws InterruptedException {
+            CountDownLatch current = latch;
+            if (current != null) {
+                current.await(10L, TimeUnit.SECONDS);
+            }
+            return "" + invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = UNI_CACHE_NAME)
+        public Uni<String> cachedUniMethod(String key) {
+            int invocation = uniInvocations.incrementAndGet();
+            return Uni.createFrom().item(() -> "" + invocation);
+        }
+
+        @CacheResult(cacheName = REQUEST_CACHE_NAME)
+        public String cachedRequestScopedMethod(String key) {
+            // fails with a ContextNotActiveException if there is no request context
+            requestData.ping();
+            return "" + requestInvocations.incrementAndGet();
+        }
+
+        public void blockNextInvocation() {
+            latch = new CountDownLatch(1);
+        }
+
+        public void unblock() {
+            latch.countDown();
+            latch = null;
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+
+        public int getUniInvocations() {
+            return uniInvocations.get();
+        }
+    }
+
+    @RequestScoped
+    static class RequestData {
+
+        public void ping() {
+        }
+    }
+
+    @ApplicationScoped
+    static class RequestCaller {
+
+        @Inject
+        CachedService cachedService;
+
+        @ActivateRequestContext
+        public String call(String key) {
+            return cachedService.cachedRequestScopedMethod(key);
+        }
+    }
+}
@@ -1,13 +1,58 @@
 package io.quarkus.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * Use this interface to interact with a cache programmatically. The cache can be injected using the {@link CacheName}
  * annotation or retrieved using {@link CacheManager}.
  */
 public interface Cache {
 
-    /*
-     * This interface is intentionally empty for now.
-     * TODO: Add the methods that will be exposed by the programmatic API.
+    /**
+     * Returns the value associated with the given key, if any. This method never computes any value.
+     * <p>
+     * The default implementation returns {@code null}, as if the cache was always empty.
+     *
+     * @param key cache key
+     * @return a {@link CompletionStage} holding the cached value, or {@code null} if this cache does not contain the key
+     * @throws NullPointerException if the key is {@code null}
+     */
+    default CompletionStage<Object> getIfPresent(Object key) {
+        if (key == null) {
+            throw new NullPointerException("Null keys are not supported by the Quarkus application data cache");
+        }
+        return null;
+    }
+
+    /**
+     * Returns the values associated with the given keys. This method never computes any value: the keys that are not cached,
+     * or whose value is still being computed, are simply absent from the returned map. The {@code redis} cache type looks up
+     * the keys missing from its local tier with a single pipelined batch of Redis commands.
+     * <p>
+     * The keys must be the ones used by the annotations caching API, i.e. the method argument itself when a cached method has
+     * a single argument.
+     * <p>
+     * The default implementation calls {@link #getIfPresent(Object)} for each key.
+     *
+     * @param keys cache keys
+     * @return a {@link CompletionStage} holding the cached values
+     * @throws NullPointerException if one of the keys is {@code null}
      */
+    default CompletionStage<Map<Object, Object>> getAll(Collection<?> keys) {
+        Map<Object, Object> values = new HashMap<>();
+        for (Object key : keys) {
+            CompletionStage<Object> cacheValue = getIfPresent(key);
+            if (cacheValue != null) {
+                CompletableFuture<Object> future = cacheValue.toCompletableFuture();
+                if (future.isDone() && !future.isCompletedExceptionally() && future.join() != null) {
+                    values.put(key, future.join());
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(values);
+    }
 }
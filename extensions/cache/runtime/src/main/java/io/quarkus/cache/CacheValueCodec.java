@@ -0,0 +1,27 @@
+package io.quarkus.cache;
+
+/**
+ * Converts cache values to and from their binary representation when they are stored outside of the JVM, for example in the
+ * Redis tier of the {@code redis} cache type.
+ * <p>
+ * Implementations must be thread-safe and provide a public no-args constructor. A codec is selected for a given cache with
+ * the {@code quarkus.cache.redis."cache-name".codec} configuration property.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Encodes a cache value. This method is never called with a {@code null} value.
+     *
+     * @param value cache value
+     * @return the binary representation of the value
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decodes a cache value previously encoded with {@link #encode(Object)}.
+     *
+     * @param bytes binary representation of the value
+     * @return cache value
+     */
+    Object decode(byte[] bytes);
+}
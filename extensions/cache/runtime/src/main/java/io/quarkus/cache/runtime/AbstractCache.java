@@ -1,6 +1,7 @@
 package io.quarkus.cache.runtime;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import io.quarkus.cache.Cache;
@@ -30,6 +31,20 @@ public abstract class AbstractCache implements Cache {
 
     public abstract CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader);
 
+    /**
+     * Same as {@link #get(Object, Function)} but also provides a function that can be used to reload the value of a stale
+     * entry in the background. Implementations that do not support refresh-ahead simply ignore {@code refreshLoader}.
+     *
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @param refreshLoader function used to asynchronously recompute the cache value if the entry needs to be refreshed
+     * @return a {@link CompletableFuture} holding the cache value
+     */
+    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader,
+            Function<Object, CompletionStage<Object>> refreshLoader) {
+        return get(key, valueLoader);
+    }
+
     public abstract void invalidate(Object key);
 
     public abstract void invalidateAll();
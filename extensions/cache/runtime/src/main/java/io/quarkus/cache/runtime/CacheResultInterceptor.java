@@ -1,10 +1,12 @@
 package io.quarkus.cache.runtime;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
@@ -13,8 +15,11 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheResult;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @CacheResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
 @Interceptor
@@ -59,6 +64,47 @@ public class CacheResultInterceptor extends CacheInterceptor {
                         throw new CacheException(e);
                     }
                 }
+            }, new Function<Object, CompletionStage<Object>>() {
+                @Override
+                public CompletionStage<Object> apply(Object k) {
+                    /*
+                     * This function is only called when a stale entry needs to be refreshed and the caller never waits for the
+                     * refreshed value. A Uni is subscribed to right away since it is not supposed to block, any other method
+                     * invocation is offloaded to the worker pool. The request context of the caller may be terminated before
+                     * the offloaded invocation runs, so the invocation gets a new request context instead.
+                     */
+                    if (Uni.class.isAssignableFrom(invocationContext.getMethod().getReturnType())) {
+                        try {
+                            return ((Uni<Object>) invocationContext.proceed()).subscribeAsCompletionStage();
+                        } catch (Exception e) {
+                            throw new CacheException(e);
+                        }
+                    } else {
+                        return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                            @Override
+                            public Object get() {
+                                ManagedContext requestContext = Arc.container().requestContext();
+                                if (requestContext.isActive()) {
+                                    return proceed();
+                                }
+                                requestContext.activate();
+                                try {
+                                    return proceed();
+                                } finally {
+                                    requestContext.terminate();
+                                }
+                            }
+
+                            private Object proceed() {
+                                try {
+                                    return invocationContext.proceed();
+                                } catch (Exception e) {
+                                    throw new CacheException(e);
+                                }
+                            }
+                        }, Infrastructure.getDefaultWorkerPool());
+                    }
+                }
             });
 
             Object value;
@@ -0,0 +1,91 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Statistics recorded by a cache when metrics are enabled for that cache. The counters are updated from the
+ * {@link io.quarkus.cache.CacheResult CacheResult} interceptor hot path and must therefore remain cheap and lock-free.
+ */
+public class CacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final AtomicInteger inFlightLoads = new AtomicInteger();
+
+    /*
+     * The caches are built during the static init while the metrics are registered during the runtime init, this recorder is
+     * therefore set after the cache creation.
+     */
+    private volatile TimeRecorder loadTimeRecorder;
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordRefresh() {
+        refreshes.increment();
+    }
+
+    /**
+     * Marks the beginning of a load.
+     *
+     * @return the start time that must be passed to {@link #recordLoadEnd(long, boolean)}
+     */
+    public long recordLoadStart() {
+        inFlightLoads.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void recordLoadEnd(long startTime, boolean success) {
+        long duration = System.nanoTime() - startTime;
+        inFlightLoads.decrementAndGet();
+        if (success) {
+            loadSuccesses.increment();
+        } else {
+            loadFailures.increment();
+        }
+        TimeRecorder recorder = loadTimeRecorder;
+        if (recorder != null) {
+            recorder.update(duration, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void setLoadTimeRecorder(TimeRecorder loadTimeRecorder) {
+        this.loadTimeRecorder = loadTimeRecorder;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccesses.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    public int getInFlightLoads() {
+        return inFlightLoads.get();
+    }
+}
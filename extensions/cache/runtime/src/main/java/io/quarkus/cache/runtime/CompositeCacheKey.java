@@ -42,4 +42,13 @@ public class CompositeCacheKey {
         }
         return false;
     }
+
+    public Object[] getKeyElements() {
+        return keyElements;
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeCacheKey" + Arrays.deepToString(keyElements);
+    }
 }
@@ -1,7 +1,14 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.jboss.logging.Logger;
@@ -11,7 +18,9 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.CacheException;
+import io.quarkus.cache.runtime.CacheStatistics;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -34,6 +43,18 @@ public class CaffeineCache extends AbstractCache {
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private long refreshAfterWriteNanos;
+
+    /*
+     * Keys of the entries which are currently being refreshed, mapped to the stale cache value. This map guarantees that at
+     * most one refresh is running for a given key.
+     */
+    private ConcurrentMap<Object, CompletableFuture<Object>> refreshes;
+
+    private CacheStatistics statistics;
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
         this.name = cacheInfo.name;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -53,6 +74,14 @@ public class CaffeineCache extends AbstractCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+            this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+            this.refreshes = new ConcurrentHashMap<>();
+        }
+        if (cacheInfo.metricsEnabled) {
+            this.statistics = new CacheStatistics();
+        }
         cache = builder.buildAsync();
     }
 
@@ -73,29 +102,128 @@ public class CaffeineCache extends AbstractCache {
      */
     @Override
     public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader) {
+        return get(key, valueLoader, null);
+    }
+
+    /**
+     * Same as {@link #get(Object, Function)}. In addition, if this cache is configured with {@code refresh-after-write} and
+     * the entry identified by {@code key} is stale, the current value is returned immediately and a single background
+     * refresh of that entry is started using {@code refreshLoader}.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @param refreshLoader function used to asynchronously recompute the cache value if the entry is stale, may be
+     *        {@code null}
+     * @return a {@link CompletableFuture} holding the cache value
+     * @throws CacheException if an exception is thrown during the cache value computation
+     */
+    @Override
+    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader,
+            Function<Object, CompletionStage<Object>> refreshLoader) {
         if (key == null) {
             throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
         }
         CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
+            long loadStart = 0L;
+            if (statistics != null) {
+                statistics.recordMiss();
+                loadStart = statistics.recordLoadStart();
+            }
+            boolean loaded = false;
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toTimestampedValue(NullValueConverter.toCacheValue(value)));
+                loaded = true;
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
+            } finally {
+                if (statistics != null) {
+                    statistics.recordLoadEnd(loadStart, loaded);
+                }
             }
             return unwrapCacheValueOrThrowable(newCacheValue);
         } else {
+            if (statistics != null) {
+                statistics.recordHit();
+            }
+            if (refreshes != null && refreshLoader != null) {
+                refreshIfStale(key, existingCacheValue, refreshLoader);
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    private void refreshIfStale(Object key, CompletableFuture<Object> cacheValue,
+            Function<Object, CompletionStage<Object>> refreshLoader) {
+        // The value is not available yet if another thread is still computing it.
+        Object value = cacheValue.getNow(null);
+        if (!(value instanceof TimestampedValue)
+                || System.nanoTime() - ((TimestampedValue) value).writeTime < refreshAfterWriteNanos) {
+            return;
+        }
+        if (refreshes.putIfAbsent(key, cacheValue) != null) {
+            // Another thread is already refreshing this entry.
+            return;
+        }
+        LOGGER.debugf("Refreshing entry with key [%s] from cache [%s]", key, name);
+        long loadStart = 0L;
+        if (statistics != null) {
+            statistics.recordRefresh();
+            loadStart = statistics.recordLoadStart();
+        }
+        CompletionStage<Object> refreshedValue;
+        try {
+            refreshedValue = refreshLoader.apply(key);
+        } catch (Throwable t) {
+            refreshedValue = CompletableFuture.failedFuture(t);
+        }
+        long refreshStart = loadStart;
+        refreshedValue.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object newValue, Throwable failure) {
+                try {
+                    if (failure == null) {
+                        /*
+                         * The entry is only replaced if it is still associated with the stale value. If it was invalidated or
+                         * replaced while the refresh was running, the refreshed value is simply dropped.
+                         */
+                        Object refreshedCacheValue = toTimestampedValue(NullValueConverter.toCacheValue(newValue));
+                        cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(refreshedCacheValue));
+                    } else {
+                        LOGGER.debugf(failure, "Refresh of entry with key [%s] from cache [%s] failed, keeping the stale value",
+                                key, name);
+                    }
+                } finally {
+                    refreshes.remove(key, cacheValue);
+                    if (statistics != null) {
+                        statistics.recordLoadEnd(refreshStart, failure == null);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Records the write time of the given cache value if this cache is configured with {@code refresh-after-write}.
+     * {@link UnresolvedUniValue} placeholders are never timestamped because they are never refreshed.
+     */
+    private Object toTimestampedValue(Object cacheValue) {
+        if (refreshes == null || cacheValue == UnresolvedUniValue.INSTANCE) {
+            return cacheValue;
+        }
+        return new TimestampedValue(cacheValue, System.nanoTime());
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
             public Object apply(Object value) {
+                if (value instanceof TimestampedValue) {
+                    value = ((TimestampedValue) value).value;
+                }
                 // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
                 if (value instanceof CaffeineComputationThrowable) {
                     Throwable cause = ((CaffeineComputationThrowable) value).getCause();
@@ -111,6 +239,37 @@ public class CaffeineCache extends AbstractCache {
         });
     }
 
+    /**
+     * Returns a {@link CompletableFuture} holding the cache value identified by {@code key} or {@code null} if this cache
+     * does not contain that key. The value is never computed by this method.
+     * 
+     * @param key cache key
+     * @return a {@link CompletableFuture} holding the cache value or {@code null}
+     */
+    @Override
+    public CompletableFuture<Object> getIfPresent(Object key) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        CompletableFuture<Object> cacheValue = cache.getIfPresent(key);
+        return cacheValue == null ? null : unwrapCacheValueOrThrowable(cacheValue);
+    }
+
+    @Override
+    public CompletionStage<Map<Object, Object>> getAll(Collection<?> keys) {
+        Map<Object, Object> values = new HashMap<>();
+        for (Object key : keys) {
+            CompletableFuture<Object> cacheValue = getIfPresent(key);
+            if (cacheValue != null && cacheValue.isDone() && !cacheValue.isCompletedExceptionally()) {
+                Object value = cacheValue.join();
+                if (value != UnresolvedUniValue.INSTANCE) {
+                    values.put(key, value);
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(values);
+    }
+
     @Override
     public void invalidate(Object key) {
         if (key == null) {
@@ -134,7 +293,7 @@ public class CaffeineCache extends AbstractCache {
                  * The following computed value will always replace the current cache value (whether it is an
                  * UnresolvedUniValue or not) if this method is called multiple times with the same key.
                  */
-                return CompletableFuture.completedFuture(NullValueConverter.toCacheValue(emittedValue));
+                return CompletableFuture.completedFuture(toTimestampedValue(NullValueConverter.toCacheValue(emittedValue)));
             });
             return null;
         });
@@ -160,7 +319,33 @@ public class CaffeineCache extends AbstractCache {
         return expireAfterAccess;
     }
 
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    /**
+     * Returns the statistics of this cache or {@code null} if metrics are not enabled for this cache.
+     */
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
     public long getSize() {
         return cache.synchronous().estimatedSize();
     }
+
+    /**
+     * A cache value along with the time it was written into the cache, used to decide whether the entry must be refreshed.
+     */
+    private static class TimestampedValue {
+
+        final Object value;
+        final long writeTime;
+
+        TimestampedValue(Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
 }
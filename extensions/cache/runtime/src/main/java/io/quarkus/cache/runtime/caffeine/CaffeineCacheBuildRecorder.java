@@ -5,14 +5,19 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.CacheStatistics;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class CaffeineCacheBuildRecorder {
@@ -32,9 +37,10 @@ public class CaffeineCacheBuildRecorder {
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
+                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [refreshAfterWrite=%s] and [metricsEnabled=%s]",
                                     cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess);
+                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite,
+                                    cacheInfo.metricsEnabled);
                         }
                         CaffeineCache cache = new CaffeineCache(cacheInfo);
                         caches.put(cacheInfo.name, cache);
@@ -44,4 +50,60 @@ public class CaffeineCacheBuildRecorder {
             }
         };
     }
+
+    /* RUNTIME_INIT for metrics */
+    public Consumer<MetricsFactory> getMetricsFactoryConsumer() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CacheManager cacheManager = Arc.container().instance(CacheManager.class).get();
+                for (String cacheName : cacheManager.getCacheNames()) {
+                    Cache cache = cacheManager.getCache(cacheName).get();
+                    if (cache instanceof CaffeineCache && ((CaffeineCache) cache).getStatistics() != null) {
+                        registerMetrics(metricsFactory, (CaffeineCache) cache);
+                    }
+                }
+            }
+        };
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory, CaffeineCache cache) {
+        String cacheName = cache.getName();
+        CacheStatistics statistics = cache.getStatistics();
+
+        createCounter(metricsFactory, "cache.gets", "The number of cache lookups (see result for hit or miss)",
+                cacheName, statistics, CacheStatistics::getHitCount, "result", "hit");
+        createCounter(metricsFactory, "cache.gets", "The number of cache lookups (see result for hit or miss)",
+                cacheName, statistics, CacheStatistics::getMissCount, "result", "miss");
+        createCounter(metricsFactory, "cache.loads", "The number of cache value loads (see result for success or failure)",
+                cacheName, statistics, CacheStatistics::getLoadSuccessCount, "result", "success");
+        createCounter(metricsFactory, "cache.loads", "The number of cache value loads (see result for success or failure)",
+                cacheName, statistics, CacheStatistics::getLoadFailureCount, "result", "failure");
+        createCounter(metricsFactory, "cache.refreshes", "The number of background refreshes of stale cache values",
+                cacheName, statistics, CacheStatistics::getRefreshCount);
+
+        metricsFactory.builder("cache.loads.in.flight")
+                .description("The number of cache values currently being loaded or refreshed")
+                .tag("cache", cacheName)
+                .buildGauge(statistics, CacheStatistics::getInFlightLoads);
+        metricsFactory.builder("cache.size")
+                .description("The approximate number of entries in the cache")
+                .tag("cache", cacheName)
+                .buildGauge(cache, CaffeineCache::getSize);
+        statistics.setLoadTimeRecorder(metricsFactory.builder("cache.load.duration")
+                .description("The time spent loading and refreshing cache values")
+                .tag("cache", cacheName)
+                .buildTimer());
+    }
+
+    <T> void createCounter(MetricsFactory metricsFactory, String metricName, String description, String cacheName,
+            T statistics, Function<T, Long> f, String... tags) {
+        MetricsFactory.MetricBuilder builder = metricsFactory.builder(metricName)
+                .description(description)
+                .tag("cache", cacheName);
+        for (int i = 0; i + 1 < tags.length; i = i + 2) {
+            builder.tag(tags[i], tags[i + 1]);
+        }
+        builder.buildCounter(statistics, f);
+    }
 }
@@ -1,6 +1,10 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import io.quarkus.cache.runtime.AbstractCache;
@@ -31,6 +35,11 @@ public class NoOpCache extends AbstractCache {
         return cacheValue;
     }
 
+    @Override
+    public CompletionStage<Map<Object, Object>> getAll(Collection<?> keys) {
+        return CompletableFuture.completedFuture(Collections.emptyMap());
+    }
+
     @Override
     public void invalidate(Object key) {
     }
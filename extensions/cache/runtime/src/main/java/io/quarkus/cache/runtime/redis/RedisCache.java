@@ -0,0 +1,369 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CompositeCacheKey;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * A two-tier cache: a local {@link CaffeineCache} sits in front of Redis, which is shared by all the application instances.
+ * A local miss is first looked up in Redis and the value is only computed if Redis does not contain it either. Redis is
+ * considered as an optimization: if it is unavailable or slow, the values are computed and cached locally.
+ * <p>
+ * Both tiers use the encoded form of the cache keys, see {@link #encodeKey(Object)}. The invalidations are propagated to the
+ * local tier of the other application instances with Redis pub/sub, see {@link RedisCacheInvalidations}.
+ */
+public class RedisCache extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCache.class);
+
+    // The first byte of every value stored in Redis tells whether the cached value is null or not.
+    private static final byte NULL_VALUE = 0;
+    private static final byte NON_NULL_VALUE = 1;
+
+    private static final int SCAN_COUNT = 500;
+
+    private final String name;
+
+    private final CaffeineCache localCache;
+
+    private final Redis redis;
+
+    private final CacheValueCodec codec;
+
+    private final String keyPrefix;
+
+    private final String channel;
+
+    private final long expireAfterWriteMillis;
+
+    private final long timeoutMillis;
+
+    public RedisCache(RedisCacheInfo cacheInfo, Redis redis, CacheValueCodec codec) {
+        this.name = cacheInfo.name;
+        this.localCache = new CaffeineCache(cacheInfo.localCacheInfo);
+        this.redis = redis;
+        this.codec = codec;
+        this.keyPrefix = cacheInfo.keyPrefix + cacheInfo.name + ":";
+        this.channel = cacheInfo.keyPrefix + cacheInfo.name;
+        this.expireAfterWriteMillis = cacheInfo.expireAfterWrite == null ? 0L : cacheInfo.expireAfterWrite.toMillis();
+        this.timeoutMillis = cacheInfo.timeout.toMillis();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the Redis pub/sub channel used to propagate the invalidations of this cache.
+     */
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader) {
+        return get(key, valueLoader, null);
+    }
+
+    @Override
+    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader,
+            Function<Object, CompletionStage<Object>> refreshLoader) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        String localKey = encodeKey(key);
+        Function<Object, CompletionStage<Object>> localRefreshLoader = null;
+        if (refreshLoader != null) {
+            localRefreshLoader = new Function<Object, CompletionStage<Object>>() {
+                @Override
+                public CompletionStage<Object> apply(Object k) {
+                    return refreshLoader.apply(key).thenApply(new Function<Object, Object>() {
+                        @Override
+                        public Object apply(Object value) {
+                            writeRemote(localKey, value);
+                            return value;
+                        }
+                    });
+                }
+            };
+        }
+        return localCache.get(localKey, new Function<Object, Object>() {
+            @Override
+            public Object apply(Object k) {
+                return load(key, localKey, valueLoader);
+            }
+        }, localRefreshLoader);
+    }
+
+    /**
+     * Returns the values associated with the given keys in either tier. The keys missing from the local tier are fetched from
+     * Redis with a single pipelined batch of commands and the values found there are then stored in the local tier. This
+     * method never computes any value: the keys that are not cached at all are simply absent from the returned map.
+     *
+     * @param keys cache keys
+     * @return a {@link CompletionStage} holding the cached values
+     */
+    @Override
+    public CompletionStage<Map<Object, Object>> getAll(Collection<?> keys) {
+        Map<Object, Object> values = new HashMap<>();
+        List<Object> remoteKeys = new ArrayList<>();
+        List<String> remoteLocalKeys = new ArrayList<>();
+        List<Request> requests = new ArrayList<>();
+        for (Object key : keys) {
+            if (key == null) {
+                throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+            }
+            String localKey = encodeKey(key);
+            CompletableFuture<Object> localValue = localCache.getIfPresent(localKey);
+            if (localValue != null && localValue.isDone() && !localValue.isCompletedExceptionally()
+                    && localValue.join() != UnresolvedUniValue.INSTANCE) {
+                values.put(key, localValue.join());
+            } else {
+                remoteKeys.add(key);
+                remoteLocalKeys.add(localKey);
+                requests.add(Request.cmd(Command.GET).arg(keyPrefix + localKey));
+            }
+        }
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(values);
+        }
+        return redis.batch(requests).toCompletionStage()
+                .thenCompose(new Function<List<Response>, CompletionStage<Map<Object, Object>>>() {
+                    @Override
+                    public CompletionStage<Map<Object, Object>> apply(List<Response> responses) {
+                        // This runs on the event loop of the Redis client, so the local tier is never waited for.
+                        List<CompletableFuture<Void>> localWrites = new ArrayList<>();
+                        for (int i = 0; i < responses.size(); i++) {
+                            Response response = responses.get(i);
+                            if (response != null) {
+                                localWrites.add(writeLocal(remoteKeys.get(i), remoteLocalKeys.get(i),
+                                        decode(response.toBytes()), values));
+                            }
+                        }
+                        return CompletableFuture.allOf(localWrites.toArray(new CompletableFuture[0]))
+                                .thenApply(ignored -> values);
+                    }
+                });
+    }
+
+    /**
+     * Stores a value read from Redis in the local tier and adds it to the given values. The local tier may have been
+     * populated in the meantime, its value then always wins.
+     */
+    private CompletableFuture<Void> writeLocal(Object key, String localKey, Object remoteValue, Map<Object, Object> values) {
+        return localCache.get(localKey, new Function<Object, Object>() {
+            @Override
+            public Object apply(Object k) {
+                return remoteValue;
+            }
+        }).handle(new BiFunction<Object, Throwable, Void>() {
+            @Override
+            public Void apply(Object localValue, Throwable failure) {
+                boolean useLocalValue = failure == null && localValue != UnresolvedUniValue.INSTANCE;
+                // The local value may be computed by another thread.
+                synchronized (values) {
+                    values.put(key, useLocalValue ? localValue : remoteValue);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        String localKey = encodeKey(key);
+        localCache.invalidate(localKey);
+        // The entry is deleted before the other instances are notified so that they can't reload the stale value from Redis.
+        redis.batch(Arrays.asList(Request.cmd(Command.DEL).arg(keyPrefix + localKey),
+                Request.cmd(Command.PUBLISH).arg(channel).arg(RedisCacheInvalidations.invalidateKeyMessage(localKey))))
+                .onFailure(t -> LOGGER.warnf(t, "Unable to invalidate entry with key [%s] from cache [%s] in Redis", key, name));
+    }
+
+    @Override
+    public void invalidateAll() {
+        localCache.invalidateAll();
+        deleteAllRemote("0");
+    }
+
+    void invalidateLocally(String localKey) {
+        LOGGER.debugf("Invalidating entry with key [%s] from the local tier of cache [%s]", localKey, name);
+        localCache.invalidate(localKey);
+    }
+
+    void invalidateAllLocally() {
+        LOGGER.debugf("Invalidating all entries from the local tier of cache [%s]", name);
+        localCache.invalidateAll();
+    }
+
+    @Override
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue) {
+        String localKey = encodeKey(key);
+        return localCache.replaceUniValue(localKey, emittedValue).invoke(ignored -> {
+            // If the entry was invalidated while the Uni was being resolved, the emitted value must not be shared.
+            if (localCache.getIfPresent(localKey) != null) {
+                writeRemote(localKey, emittedValue);
+            }
+        });
+    }
+
+    private Object load(Object key, String localKey, Function<Object, Object> valueLoader) {
+        byte[] remoteValue = readRemote(localKey);
+        if (remoteValue != null) {
+            try {
+                return decode(remoteValue);
+            } catch (RuntimeException e) {
+                LOGGER.warnf(e, "Unable to decode entry with key [%s] from cache [%s], the value will be computed", key,
+                        name);
+            }
+        }
+        Object value = valueLoader.apply(key);
+        if (value != UnresolvedUniValue.INSTANCE) {
+            writeRemote(localKey, value);
+        }
+        return value;
+    }
+
+    private byte[] readRemote(String localKey) {
+        if (Context.isOnEventLoopThread()) {
+            // Blocking the event loop while waiting for Redis is not an option.
+            return null;
+        }
+        try {
+            Response response = redis.send(Request.cmd(Command.GET).arg(keyPrefix + localKey)).toCompletionStage()
+                    .toCompletableFuture().get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return response == null ? null : response.toBytes();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.debugf(e, "Unable to read entry with key [%s] from cache [%s] in Redis", localKey, name);
+            return null;
+        }
+    }
+
+    private void writeRemote(String localKey, Object value) {
+        byte[] bytes;
+        try {
+            bytes = encode(value);
+        } catch (RuntimeException e) {
+            LOGGER.warnf(e, "Unable to encode entry with key [%s] from cache [%s], it will only be cached locally", localKey,
+                    name);
+            return;
+        }
+        Request set = Request.cmd(Command.SET).arg(keyPrefix + localKey).arg(bytes);
+        if (expireAfterWriteMillis > 0) {
+            set.arg("PX").arg(expireAfterWriteMillis);
+        }
+        redis.send(set).onFailure(
+                t -> LOGGER.debugf(t, "Unable to write entry with key [%s] from cache [%s] in Redis", localKey, name));
+    }
+
+    private void deleteAllRemote(String cursor) {
+        redis.send(Request.cmd(Command.SCAN).arg(cursor).arg("MATCH").arg(escapeGlob(keyPrefix) + "*").arg("COUNT")
+                .arg(SCAN_COUNT)).onSuccess(response -> {
+                    Response keys = response.get(1);
+                    if (keys.size() > 0) {
+                        Request del = Request.cmd(Command.DEL);
+                        for (Response key : keys) {
+                            del.arg(key.toString());
+                        }
+                        redis.send(del);
+                    }
+                    String nextCursor = response.get(0).toString();
+                    if ("0".equals(nextCursor)) {
+                        redis.send(Request.cmd(Command.PUBLISH).arg(channel)
+                                .arg(RedisCacheInvalidations.invalidateAllMessage()));
+                    } else {
+                        deleteAllRemote(nextCursor);
+                    }
+                }).onFailure(t -> LOGGER.warnf(t, "Unable to invalidate all entries from cache [%s] in Redis", name));
+    }
+
+    private byte[] encode(Object value) {
+        if (value == null) {
+            return new byte[] { NULL_VALUE };
+        }
+        byte[] encoded = codec.encode(value);
+        byte[] bytes = new byte[encoded.length + 1];
+        bytes[0] = NON_NULL_VALUE;
+        System.arraycopy(encoded, 0, bytes, 1, encoded.length);
+        return bytes;
+    }
+
+    private Object decode(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] == NULL_VALUE) {
+            return null;
+        }
+        return codec.decode(Arrays.copyOfRange(bytes, 1, bytes.length));
+    }
+
+    /**
+     * Encodes a cache key into the key used by both tiers. The string representation of each key is prefixed with the name of
+     * its class, so that distinct keys with the same string representation, such as {@code 1} and {@code "1"}, do not collide.
+     * The elements of a {@link CompositeCacheKey} are encoded one by one and prefixed with their length. The keys must
+     * therefore have a string representation which is consistent with {@code equals} and stable across the application
+     * instances.
+     */
+    public static String encodeKey(Object key) {
+        StringBuilder encoded = new StringBuilder();
+        encodeKey(key, encoded);
+        return encoded.toString();
+    }
+
+    private static void encodeKey(Object key, StringBuilder encoded) {
+        encoded.append(key.getClass().getName()).append(':');
+        if (key instanceof CompositeCacheKey) {
+            for (Object element : ((CompositeCacheKey) key).getKeyElements()) {
+                String encodedElement = element == null ? "" : encodeKey(element);
+                encoded.append(encodedElement.length()).append(':').append(encodedElement);
+            }
+        } else if (key.getClass().isArray()) {
+            encoded.append(Arrays.deepToString(new Object[] { key }));
+        } else {
+            encoded.append(key);
+        }
+    }
+
+    private static String escapeGlob(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.redis.client.Redis;
+
+@Recorder
+public class RedisCacheBuildRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheBuildRecorder.class);
+
+    public Supplier<CacheManager> getCacheManagerSupplier(Set<RedisCacheInfo> cacheInfos, ShutdownContext shutdownContext) {
+        Objects.requireNonNull(cacheInfos);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (cacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    // The Redis client is a runtime-init bean, it is only available once the cache manager is created.
+                    Redis redis = Arc.container().instance(Redis.class).get();
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches maps.
+                    Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                    Map<String, RedisCache> cachesByChannel = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                    for (RedisCacheInfo cacheInfo : cacheInfos) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debugf(
+                                    "Building Redis cache [%s] with [keyPrefix=%s], [expireAfterWrite=%s], [codec=%s] and [timeout=%s]",
+                                    cacheInfo.name, cacheInfo.keyPrefix, cacheInfo.expireAfterWrite, cacheInfo.codec,
+                                    cacheInfo.timeout);
+                        }
+                        RedisCache cache = new RedisCache(cacheInfo, redis, createCodec(cacheInfo.codec));
+                        caches.put(cacheInfo.name, cache);
+                        cachesByChannel.put(cache.getChannel(), cache);
+                    }
+                    RedisCacheInvalidations invalidations = new RedisCacheInvalidations(redis, cachesByChannel);
+                    invalidations.start();
+                    shutdownContext.addShutdownTask(invalidations::close);
+                    return new CacheManagerImpl(caches);
+                }
+            }
+        };
+    }
+
+    private static CacheValueCodec createCodec(String codecClassName) {
+        try {
+            Class<?> codecClass = Class.forName(codecClassName, true, Thread.currentThread().getContextClassLoader());
+            return (CacheValueCodec) codecClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Unable to create the cache value codec " + codecClassName, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+
+public class RedisCacheInfo {
+
+    public String name;
+
+    /**
+     * Configuration of the local Caffeine tier.
+     */
+    public CaffeineCacheInfo localCacheInfo;
+
+    public String keyPrefix;
+
+    public Duration expireAfterWrite;
+
+    public String codec;
+
+    public Duration timeout;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof RedisCacheInfo) {
+            RedisCacheInfo other = (RedisCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
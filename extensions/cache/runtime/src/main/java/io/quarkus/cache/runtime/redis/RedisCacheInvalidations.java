@@ -0,0 +1,150 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * Listens to the invalidation messages published over Redis pub/sub by the other application instances and evicts the
+ * matching entries from the local tier of the {@link RedisCache Redis caches}.
+ * <p>
+ * Each cache uses its own channel and the messages have the following format:
+ * <ul>
+ * <li>{@code K<node-id>|<key>} when a single entry is invalidated</li>
+ * <li>{@code A<node-id>|} when all entries are invalidated</li>
+ * </ul>
+ * The messages published by the current application instance are ignored since its local tier was already invalidated.
+ */
+public class RedisCacheInvalidations {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheInvalidations.class);
+
+    static final String NODE_ID = UUID.randomUUID().toString();
+
+    static final char INVALIDATE_KEY = 'K';
+    static final char INVALIDATE_ALL = 'A';
+    static final char SEPARATOR = '|';
+
+    private static final long RECONNECT_DELAY_MILLIS = 1000L;
+
+    private final Redis redis;
+    private final Map<String, RedisCache> cachesByChannel;
+
+    private RedisConnection connection;
+    private boolean closed;
+
+    public RedisCacheInvalidations(Redis redis, Map<String, RedisCache> cachesByChannel) {
+        this.redis = redis;
+        this.cachesByChannel = cachesByChannel;
+    }
+
+    static String invalidateKeyMessage(String key) {
+        return INVALIDATE_KEY + NODE_ID + SEPARATOR + key;
+    }
+
+    static String invalidateAllMessage() {
+        return INVALIDATE_ALL + NODE_ID + SEPARATOR;
+    }
+
+    public void start() {
+        connect();
+    }
+
+    public synchronized void close() {
+        closed = true;
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+
+    private void connect() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+        }
+        // Pub/sub requires a dedicated connection, it can't be shared with the other commands.
+        redis.connect().onComplete(ar -> {
+            if (ar.failed()) {
+                LOGGER.warnf(ar.cause(), "Unable to subscribe to the Redis cache invalidations, retrying in %sms",
+                        RECONNECT_DELAY_MILLIS);
+                scheduleReconnect();
+                return;
+            }
+            RedisConnection newConnection = ar.result();
+            synchronized (this) {
+                if (closed) {
+                    newConnection.close();
+                    return;
+                }
+                connection = newConnection;
+            }
+            newConnection.handler(this::onMessage);
+            newConnection.exceptionHandler(t -> onConnectionLost(newConnection, t));
+            newConnection.endHandler(v -> onConnectionLost(newConnection, null));
+            Request subscribe = Request.cmd(Command.SUBSCRIBE);
+            for (String channel : cachesByChannel.keySet()) {
+                subscribe.arg(channel);
+            }
+            newConnection.send(subscribe).onFailure(t -> onConnectionLost(newConnection, t));
+        });
+    }
+
+    private void onConnectionLost(RedisConnection lostConnection, Throwable cause) {
+        synchronized (this) {
+            if (connection != lostConnection) {
+                // Already handled.
+                return;
+            }
+            connection = null;
+            if (closed) {
+                return;
+            }
+        }
+        LOGGER.warnf(cause, "Lost the Redis cache invalidations subscription, retrying in %sms", RECONNECT_DELAY_MILLIS);
+        // Invalidation messages may be missed until the subscription is restored so the local entries can't be trusted.
+        for (RedisCache cache : cachesByChannel.values()) {
+            cache.invalidateAllLocally();
+        }
+        scheduleReconnect();
+    }
+
+    private void scheduleReconnect() {
+        try {
+            Infrastructure.getDefaultWorkerPool().schedule(this::connect, RECONNECT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The application is shutting down.
+        }
+    }
+
+    void onMessage(Response message) {
+        // The pub/sub messages are ["message", channel, payload], anything else such as the subscription replies is ignored.
+        if ((message.type() != ResponseType.MULTI && message.type() != ResponseType.PUSH) || message.size() != 3
+                || !"message".equals(message.get(0).toString())) {
+            return;
+        }
+        RedisCache cache = cachesByChannel.get(message.get(1).toString());
+        String payload = message.get(2).toString();
+        int separator = payload.indexOf(SEPARATOR);
+        if (cache == null || separator < 1 || NODE_ID.equals(payload.substring(1, separator))) {
+            return;
+        }
+        if (payload.charAt(0) == INVALIDATE_KEY) {
+            cache.invalidateLocally(payload.substring(separator + 1));
+        } else if (payload.charAt(0) == INVALIDATE_ALL) {
+            cache.invalidateAllLocally();
+        }
+    }
+}
@@ -725,6 +725,16 @@ public class OidcTenantConfig extends OidcCommonConfig {
         @ConfigItem(defaultValue = "10M")
         public Duration forcedJwkRefreshInterval = Duration.ofMinutes(10);
 
+        /**
+         * JWK set refresh interval. If it is set, the JWK set is refreshed in the background at this interval, minus a
+         * random jitter of up to 10%, so that the keys rotated by the OIDC provider are usually available before the
+         * tokens signed with them are received.
+         * Otherwise the JWK set is only refreshed when a token signed with an unknown key is received, at most once per
+         * 'forced-jwk-refresh-interval'.
+         */
+        @ConfigItem
+        public Optional<Duration> jwkRefreshInterval = Optional.empty();
+
         /**
          * Custom HTTP header that contains a bearer token.
          * This option is valid only when the application is of type {@link ApplicationType#SERVICE}}.
@@ -800,6 +810,14 @@ public class OidcTenantConfig extends OidcCommonConfig {
             this.forcedJwkRefreshInterval = forcedJwkRefreshInterval;
         }
 
+        public Optional<Duration> getJwkRefreshInterval() {
+            return jwkRefreshInterval;
+        }
+
+        public void setJwkRefreshInterval(Duration jwkRefreshInterval) {
+            this.jwkRefreshInterval = Optional.of(jwkRefreshInterval);
+        }
+
         public Optional<String> getTokenType() {
             return tokenType;
         }
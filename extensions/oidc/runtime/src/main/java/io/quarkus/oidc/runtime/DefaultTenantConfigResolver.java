@@ -182,4 +182,8 @@ public class DefaultTenantConfigResolver {
     public Executor getBlockingExecutor() {
         return tenantConfigBean.getBlockingExecutor();
     }
+
+    TokenVerificationCache getTokenCache() {
+        return tenantConfigBean.getTokenCache();
+    }
 }
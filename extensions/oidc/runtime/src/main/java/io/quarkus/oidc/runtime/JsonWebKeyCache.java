@@ -16,13 +16,15 @@ public class JsonWebKeyCache {
     private static final String EC_KEY_TYPE = "EC";
     private static final String SIGNATURE_USE = "sig";
 
-    private Map<String, Key> keys = new HashMap<>();
+    // never modified once built, a refreshed JWK set replaces the whole cache
+    private final Map<String, Key> keys;
 
     public JsonWebKeyCache(String json) {
-        initKeys(json);
+        this.keys = Collections.unmodifiableMap(initKeys(json));
     }
 
-    private void initKeys(String json) {
+    private static Map<String, Key> initKeys(String json) {
+        Map<String, Key> keys = new HashMap<>();
         try {
             JsonWebKeySet jwkSet = new JsonWebKeySet(json);
             for (JsonWebKey jwkKey : jwkSet.getJsonWebKeys()) {
@@ -36,6 +38,7 @@ public class JsonWebKeyCache {
         } catch (JoseException ex) {
             throw new OIDCException(ex);
         }
+        return keys;
     }
 
     public Key getKey(String kid) {
@@ -43,6 +46,6 @@ public class JsonWebKeyCache {
     }
 
     Map<String, Key> getKeys() {
-        return Collections.unmodifiableMap(keys);
+        return keys;
     }
 }
@@ -0,0 +1,146 @@
+package io.quarkus.oidc.runtime;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+/**
+ * Holds the current JWK set of a tenant and refreshes it, either periodically in the background or when a token signed
+ * with an unknown key is received.
+ * <p>
+ * The JWK set is replaced as a whole, so the key lookups never block. Concurrent refreshes share a single request to
+ * the OIDC provider, and the refreshes triggered by unknown keys are rate limited, so that a key rotation, or tokens
+ * with forged key ids, do not flood the OIDC provider with requests.
+ * <p>
+ * The successful, failed and rate limited refreshes are counted, and published as metrics if the OIDC metrics are enabled.
+ */
+class JsonWebKeyRefresher {
+
+    private static final Logger LOG = Logger.getLogger(JsonWebKeyRefresher.class);
+
+    private final Supplier<Uni<JsonWebKeyCache>> jwksSupplier;
+    private final long forcedRefreshIntervalMillis;
+    private final AtomicLong lastForcedRefreshTime = new AtomicLong();
+    private final AtomicReference<Uni<Void>> pendingRefresh = new AtomicReference<>();
+    private final AtomicLong refreshSuccessCount = new AtomicLong();
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+    private final AtomicLong rateLimitedRefreshCount = new AtomicLong();
+
+    private volatile JsonWebKeyCache jwks;
+
+    private Vertx vertx;
+    private volatile long timerId = -1;
+    private volatile boolean closed;
+
+    JsonWebKeyRefresher(JsonWebKeyCache jwks, Supplier<Uni<JsonWebKeyCache>> jwksSupplier,
+            Duration forcedRefreshInterval) {
+        this.jwks = jwks;
+        this.jwksSupplier = jwksSupplier;
+        this.forcedRefreshIntervalMillis = forcedRefreshInterval.toMillis();
+    }
+
+    Key getKey(String kid) {
+        return jwks.getKey(kid);
+    }
+
+    /**
+     * Refreshes the JWK set because a token signed with an unknown key has been received. The refresh is skipped if a
+     * forced refresh already happened during the forced refresh interval, unless it is still pending.
+     *
+     * @return a {@link Uni} completed when the JWK set has been refreshed, or immediately if the refresh is skipped
+     */
+    Uni<Void> forceRefresh() {
+        Uni<Void> pending = pendingRefresh.get();
+        if (pending != null) {
+            return pending;
+        }
+        long now = System.currentTimeMillis();
+        long lastRefreshTime = lastForcedRefreshTime.get();
+        if (now <= lastRefreshTime + forcedRefreshIntervalMillis
+                || !lastForcedRefreshTime.compareAndSet(lastRefreshTime, now)) {
+            rateLimitedRefreshCount.incrementAndGet();
+            return Uni.createFrom().voidItem();
+        }
+        return refresh();
+    }
+
+    /**
+     * Refreshes the JWK set, or joins the pending refresh. The current JWK set is kept if the refresh fails.
+     *
+     * @return a {@link Uni} completed when the JWK set has been refreshed
+     */
+    Uni<Void> refresh() {
+        while (true) {
+            Uni<Void> pending = pendingRefresh.get();
+            if (pending != null) {
+                return pending;
+            }
+            Uni<Void> refresh = Uni.createFrom().<JsonWebKeyCache> deferred(() -> jwksSupplier.get())
+                    .onItem().invoke(newJwks -> {
+                        jwks = newJwks;
+                        refreshSuccessCount.incrementAndGet();
+                    })
+                    .onFailure().invoke(t -> {
+                        refreshFailureCount.incrementAndGet();
+                        LOG.debugf("JWK set refresh has failed: %s", t.getMessage());
+                    })
+                    .onFailure().recoverWithNull()
+                    .onTermination().invoke(() -> pendingRefresh.set(null))
+                    .replaceWithVoid()
+                    .memoize().indefinitely();
+            if (pendingRefresh.compareAndSet(null, refresh)) {
+                return refresh;
+            }
+        }
+    }
+
+    /**
+     * Starts refreshing the JWK set periodically. A random jitter of up to 10% of the interval is subtracted from each
+     * delay, so that the instances of an application started together do not refresh at the same time.
+     */
+    void startPeriodicRefresh(Vertx vertx, Duration interval) {
+        this.vertx = vertx;
+        schedulePeriodicRefresh(interval.toMillis());
+    }
+
+    private void schedulePeriodicRefresh(long intervalMillis) {
+        if (closed) {
+            return;
+        }
+        long jitter = ThreadLocalRandom.current().nextLong(intervalMillis / 10 + 1);
+        timerId = vertx.setTimer(Math.max(1, intervalMillis - jitter), id -> refresh().subscribe().with(
+                v -> schedulePeriodicRefresh(intervalMillis),
+                t -> schedulePeriodicRefresh(intervalMillis)));
+    }
+
+    long getRefreshSuccessCount() {
+        return refreshSuccessCount.get();
+    }
+
+    long getRefreshFailureCount() {
+        return refreshFailureCount.get();
+    }
+
+    /**
+     *
+     * @return the number of refreshes triggered by unknown keys which were skipped because of the forced refresh interval
+     */
+    long getRateLimitedRefreshCount() {
+        return rateLimitedRefreshCount.get();
+    }
+
+    void close() {
+        closed = true;
+        if (vertx != null && timerId != -1) {
+            vertx.cancelTimer(timerId);
+        }
+    }
+}
@@ -13,4 +13,13 @@ public class OidcBuildTimeConfig {
      */
     @ConfigItem(defaultValue = "true")
     public boolean enabled;
+
+    /**
+     * Whether OIDC metrics are published in case a metrics extension is present.
+     * <p>
+     * The number of successful, failed and rate limited refreshes of the JWK set are recorded for each tenant, as well as
+     * the hits and misses of the token verification cache if it is enabled.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "false")
+    public boolean metricsEnabled;
 }
@@ -1,10 +1,12 @@
 package io.quarkus.oidc.runtime;
 
+import java.time.Duration;
 import java.util.Map;
 
 import io.quarkus.oidc.OidcTenantConfig;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -25,4 +27,28 @@ public class OidcConfig {
     @ConfigDocMapKey("tenant")
     @ConfigItem(name = ConfigItem.PARENT)
     public Map<String, OidcTenantConfig> namedTenants;
+
+    /**
+     * Verified bearer token cache.
+     */
+    @ConfigItem
+    public TokenCache tokenCache;
+
+    @ConfigGroup
+    public static class TokenCache {
+        /**
+         * Maximum number of the verified bearer tokens whose verification or introspection results are cached.
+         * Tokens sent with many requests are only verified or introspected once while their results are cached.
+         * The cache is disabled by default.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int maxSize;
+
+        /**
+         * Maximum time a token verification or introspection result is cached for.
+         * The result is also removed from the cache when the token expires.
+         */
+        @ConfigItem(defaultValue = "3M")
+        public Duration timeToLive;
+    }
 }
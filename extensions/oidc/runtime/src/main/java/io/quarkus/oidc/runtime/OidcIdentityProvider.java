@@ -252,6 +252,20 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     }
 
     private Uni<TokenVerificationResult> verifyTokenUni(TenantConfigContext resolvedContext, String token) {
+        TokenVerificationCache tokenCache = tenantResolver.getTokenCache();
+        if (!tokenCache.isEnabled()) {
+            return verifyTokenWithoutCacheUni(resolvedContext, token);
+        }
+        String tenantId = resolvedContext.oidcConfig.tenantId.orElse(null);
+        TokenVerificationResult cachedResult = tokenCache.get(tenantId, token);
+        if (cachedResult != null) {
+            return Uni.createFrom().item(cachedResult);
+        }
+        return verifyTokenWithoutCacheUni(resolvedContext, token)
+                .onItem().invoke(result -> tokenCache.put(tenantId, token, result));
+    }
+
+    private Uni<TokenVerificationResult> verifyTokenWithoutCacheUni(TenantConfigContext resolvedContext, String token) {
         if (OidcUtils.isOpaqueToken(token) || resolvedContext.provider.getMetadata().getJsonWebKeySetUri() == null) {
             return introspectTokenUni(resolvedContext, token);
         } else {
@@ -285,11 +299,18 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
         });
     }
 
-    private static Uni<SecurityIdentity> validateTokenWithoutOidcServer(TokenAuthenticationRequest request,
+    private Uni<SecurityIdentity> validateTokenWithoutOidcServer(TokenAuthenticationRequest request,
             TenantConfigContext resolvedContext) {
 
         try {
-            TokenVerificationResult result = resolvedContext.provider.verifyJwtToken(request.getToken().getToken());
+            String token = request.getToken().getToken();
+            TokenVerificationCache tokenCache = tenantResolver.getTokenCache();
+            String tenantId = resolvedContext.oidcConfig.tenantId.orElse(null);
+            TokenVerificationResult result = tokenCache.get(tenantId, token);
+            if (result == null) {
+                result = resolvedContext.provider.verifyJwtToken(token);
+                tokenCache.put(tenantId, token, result);
+            }
             return Uni.createFrom()
                     .item(validateAndCreateIdentity(null, request.getToken(), resolvedContext,
                             result.localVerificationResult, result.localVerificationResult, null));
@@ -1,7 +1,6 @@
 package io.quarkus.oidc.runtime;
 
 import java.security.Key;
-import java.time.Duration;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -27,6 +26,7 @@ import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import io.smallrye.jwt.util.KeyUtils;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
@@ -49,10 +49,10 @@ public class OidcProvider {
     final String issuer;
     final String[] audience;
 
-    public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, JsonWebKeyCache jwks) {
+    public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, JsonWebKeyCache jwks, Vertx vertx) {
         this.client = client;
         this.oidcConfig = oidcConfig;
-        this.keyResolver = jwks == null ? null : new JsonWebKeyResolver(jwks, oidcConfig.token.forcedJwkRefreshInterval);
+        this.keyResolver = jwks == null ? null : new JsonWebKeyResolver(jwks, vertx);
 
         this.issuer = checkIssuerProp();
         this.audience = checkAudienceProp();
@@ -183,13 +183,13 @@ public class OidcProvider {
     }
 
     private class JsonWebKeyResolver implements RefreshableVerificationKeyResolver {
-        volatile JsonWebKeyCache jwks;
-        volatile long lastForcedRefreshTime;
-        volatile long forcedJwksRefreshIntervalMilliSecs;
+        final JsonWebKeyRefresher jwks;
 
-        JsonWebKeyResolver(JsonWebKeyCache jwks, Duration forcedJwksRefreshInterval) {
-            this.jwks = jwks;
-            this.forcedJwksRefreshIntervalMilliSecs = forcedJwksRefreshInterval.toMillis();
+        JsonWebKeyResolver(JsonWebKeyCache jwks, Vertx vertx) {
+            this.jwks = new JsonWebKeyRefresher(jwks, client::getJsonWebKeySet, oidcConfig.token.forcedJwkRefreshInterval);
+            if (oidcConfig.token.jwkRefreshInterval.isPresent()) {
+                this.jwks.startPeriodicRefresh(vertx, oidcConfig.token.jwkRefreshInterval.get());
+            }
         }
 
         @Override
@@ -206,24 +206,15 @@ public class OidcProvider {
             return key;
         }
 
+        @Override
         public Uni<Void> refresh() {
-            final long now = System.currentTimeMillis();
-            if (now > lastForcedRefreshTime + forcedJwksRefreshIntervalMilliSecs) {
-                lastForcedRefreshTime = now;
-                return client.getJsonWebKeySet().onItem().transformToUni(new Function<JsonWebKeyCache, Uni<? extends Void>>() {
-
-                    @Override
-                    public Uni<? extends Void> apply(JsonWebKeyCache t) {
-                        jwks = t;
-                        return Uni.createFrom().voidItem();
-                    }
-
-                });
-            } else {
-                return Uni.createFrom().voidItem();
-            }
+            return jwks.forceRefresh();
         }
 
+        @Override
+        public void close() {
+            jwks.close();
+        }
     }
 
     private static class LocalPublicKeyResolver implements RefreshableVerificationKeyResolver {
@@ -249,9 +240,29 @@ public class OidcProvider {
         return client.getMetadata();
     }
 
+    /**
+     * Stops the background refresh of the JWK set, if any.
+     */
+    /**
+     *
+     * @return the refresher of the JWK set, or {@code null} if the tokens are not verified with a JWK set
+     */
+    JsonWebKeyRefresher getJsonWebKeyRefresher() {
+        return keyResolver instanceof JsonWebKeyResolver ? ((JsonWebKeyResolver) keyResolver).jwks : null;
+    }
+
+    public void close() {
+        if (keyResolver != null) {
+            keyResolver.close();
+        }
+    }
+
     private static interface RefreshableVerificationKeyResolver extends VerificationKeyResolver {
         default Uni<Void> refresh() {
             return Uni.createFrom().voidItem();
         }
+
+        default void close() {
+        }
     }
 }
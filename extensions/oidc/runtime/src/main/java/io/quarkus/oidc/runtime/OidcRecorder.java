@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -24,9 +25,11 @@ import io.quarkus.oidc.common.runtime.OidcCommonUtils;
 import io.quarkus.runtime.BlockingOperationControl;
 import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.TlsConfig;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Vertx;
 import io.vertx.core.net.ProxyOptions;
@@ -42,7 +45,11 @@ public class OidcRecorder {
 
     private static final Map<String, TenantConfigContext> dynamicTenantsConfig = new ConcurrentHashMap<>();
 
-    public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx, TlsConfig tlsConfig) {
+    // set once the metrics of the existing tenants have been registered, if the metrics are enabled
+    private static volatile MetricsFactory metricsFactory;
+
+    public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx, TlsConfig tlsConfig,
+            ShutdownContext shutdownContext) {
         final Vertx vertxValue = vertx.get();
 
         String defaultTenantId = config.defaultTenant.getTenantId().orElse(DEFAULT_TENANT_ID);
@@ -56,6 +63,20 @@ public class OidcRecorder {
                     createStaticTenantContext(vertxValue, tenant.getValue(), tlsConfig, tenant.getKey()));
         }
 
+        TokenVerificationCache tokenCache = new TokenVerificationCache(config.tokenCache.maxSize,
+                config.tokenCache.timeToLive);
+
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                // stop the background refresh of the JWK sets
+                closeProvider(defaultTenantContext);
+                staticTenantsConfig.values().forEach(OidcRecorder::closeProvider);
+                dynamicTenantsConfig.values().forEach(OidcRecorder::closeProvider);
+                metricsFactory = null;
+            }
+        });
+
         return new Supplier<TenantConfigBean>() {
             @Override
             public TenantConfigBean get() {
@@ -72,11 +93,17 @@ public class OidcRecorder {
                                         });
                             }
                         },
-                        ExecutorRecorder.getCurrent());
+                        ExecutorRecorder.getCurrent(), tokenCache);
             }
         };
     }
 
+    private static void closeProvider(TenantConfigContext context) {
+        if (context.provider != null) {
+            context.provider.close();
+        }
+    }
+
     private Uni<TenantConfigContext> createDynamicTenantContext(Vertx vertx,
             OidcTenantConfig oidcConfig, TlsConfig tlsConfig, String tenantId) {
 
@@ -87,7 +114,9 @@ public class OidcRecorder {
                     new Function<TenantConfigContext, TenantConfigContext>() {
                         @Override
                         public TenantConfigContext apply(TenantConfigContext t) {
-                            dynamicTenantsConfig.putIfAbsent(tenantId, t);
+                            if (dynamicTenantsConfig.putIfAbsent(tenantId, t) == null && metricsFactory != null) {
+                                registerMetrics(metricsFactory, t);
+                            }
                             return t;
                         }
                     });
@@ -139,7 +168,7 @@ public class OidcRecorder {
         }
         if (!oidcConfig.tenantEnabled) {
             LOG.debugf("'%s' tenant configuration is disabled", tenantId);
-            return Uni.createFrom().item(new TenantConfigContext(new OidcProvider(null, null, null), oidcConfig));
+            return Uni.createFrom().item(new TenantConfigContext(new OidcProvider(null, null, null, null), oidcConfig));
         }
 
         if (oidcConfig.getPublicKey().isPresent()) {
@@ -210,6 +239,62 @@ public class OidcRecorder {
         return new TenantConfigContext(new OidcProvider(oidcConfig.publicKey.get(), oidcConfig), oidcConfig);
     }
 
+    /* RUNTIME_INIT for metrics */
+    public Consumer<MetricsFactory> getMetricsFactoryConsumer() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory factory) {
+                // the tenants created from now on register their metrics when they are created
+                metricsFactory = factory;
+                TenantConfigBean tenants = Arc.container().instance(TenantConfigBean.class).get();
+                if (tenants.getTokenCache().isEnabled()) {
+                    registerMetrics(factory, tenants.getTokenCache());
+                }
+                registerMetrics(factory, tenants.getDefaultTenant());
+                for (TenantConfigContext context : tenants.getStaticTenantsConfig().values()) {
+                    registerMetrics(factory, context);
+                }
+                for (TenantConfigContext context : dynamicTenantsConfig.values()) {
+                    registerMetrics(factory, context);
+                }
+            }
+        };
+    }
+
+    static void registerMetrics(MetricsFactory metricsFactory, TokenVerificationCache tokenCache) {
+        metricsFactory.builder("oidc.token.cache.gets")
+                .description("The number of token verification cache lookups (see result for hit or miss)")
+                .tag("result", "hit")
+                .buildCounter(tokenCache, TokenVerificationCache::getHitCount);
+        metricsFactory.builder("oidc.token.cache.gets")
+                .description("The number of token verification cache lookups (see result for hit or miss)")
+                .tag("result", "miss")
+                .buildCounter(tokenCache, TokenVerificationCache::getMissCount);
+    }
+
+    static void registerMetrics(MetricsFactory metricsFactory, TenantConfigContext context) {
+        JsonWebKeyRefresher refresher = context.provider != null ? context.provider.getJsonWebKeyRefresher() : null;
+        if (refresher == null) {
+            return;
+        }
+        String tenantId = context.oidcConfig.getTenantId().orElse(DEFAULT_TENANT_ID);
+        metricsFactory.builder("oidc.jwks.refreshes")
+                .description("The number of refreshes of the JWK set (see result for success or failure)")
+                .tag("tenant", tenantId)
+                .tag("result", "success")
+                .buildCounter(refresher, JsonWebKeyRefresher::getRefreshSuccessCount);
+        metricsFactory.builder("oidc.jwks.refreshes")
+                .description("The number of refreshes of the JWK set (see result for success or failure)")
+                .tag("tenant", tenantId)
+                .tag("result", "failure")
+                .buildCounter(refresher, JsonWebKeyRefresher::getRefreshFailureCount);
+        metricsFactory.builder("oidc.jwks.refreshes.rate.limited")
+                .description("The number of refreshes of the JWK set triggered by unknown keys and skipped because of the"
+                        + " forced refresh interval")
+                .tag("tenant", tenantId)
+                .buildCounter(refresher, JsonWebKeyRefresher::getRateLimitedRefreshCount);
+    }
+
     public void setSecurityEventObserved(boolean isSecurityEventObserved) {
         DefaultTenantConfigResolver bean = Arc.container().instance(DefaultTenantConfigResolver.class).get();
         bean.setSecurityEventObserved(isSecurityEventObserved);
@@ -235,12 +320,12 @@ public class OidcRecorder {
 
                                         @Override
                                         public OidcProvider apply(JsonWebKeyCache jwks) {
-                                            return new OidcProvider(client, oidcConfig, jwks);
+                                            return new OidcProvider(client, oidcConfig, jwks, vertx);
                                         }
 
                                     });
                         } else {
-                            return Uni.createFrom().item(new OidcProvider(client, oidcConfig, null));
+                            return Uni.createFrom().item(new OidcProvider(client, oidcConfig, null, vertx));
                         }
                     }
                 });
@@ -0,0 +1,172 @@
+package io.quarkus.oidc.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.quarkus.oidc.common.runtime.OidcConstants;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Caches the verification results of the bearer tokens, so that the signature of a token sent with many requests is
+ * only verified once, and an opaque token is only introspected once.
+ * <p>
+ * The results are kept until the token expires, or at most for the configured time to live, and only the successful
+ * verifications are cached. The tokens are keyed by their tenant id and their SHA-256 hash, so that the cache does not
+ * hold them. The results of a tenant without an id are not cached, as they could not be told apart from the results of
+ * another tenant.
+ * <p>
+ * The cache never holds more than the maximum number of results. When it is full, a single thread removes the expired
+ * results, and then arbitrary results until a tenth of the cache is free, so that the cost of the eviction is shared by
+ * the following insertions. The results verified while another thread is evicting are not cached.
+ * <p>
+ * The hits and misses are counted, and published as metrics if the OIDC metrics are enabled.
+ */
+class TokenVerificationCache {
+
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final Map<String, CacheEntry> entries;
+    private final AtomicInteger size = new AtomicInteger();
+    private final Lock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    TokenVerificationCache(int maxSize, Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.entries = maxSize > 0 ? new ConcurrentHashMap<>() : null;
+    }
+
+    boolean isEnabled() {
+        return entries != null;
+    }
+
+    TokenVerificationResult get(String tenantId, String token) {
+        if (entries == null || tenantId == null) {
+            return null;
+        }
+        String key = key(tenantId, token);
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.result;
+    }
+
+    void put(String tenantId, String token, TokenVerificationResult result) {
+        if (entries == null || tenantId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + timeToLiveMillis;
+        Long tokenExpiresAt = getExpiresAt(result);
+        if (tokenExpiresAt != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiresAt * 1000);
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        // reserve the room of the new result first, so that concurrent insertions cannot exceed the maximum size
+        if (size.incrementAndGet() > maxSize) {
+            size.decrementAndGet();
+            if (!evict(now)) {
+                return;
+            }
+            if (size.incrementAndGet() > maxSize) {
+                size.decrementAndGet();
+                return;
+            }
+        }
+        if (entries.put(key(tenantId, token), new CacheEntry(result, expiresAt)) != null) {
+            // the result replaced the previous result of the same token
+            size.decrementAndGet();
+        }
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     *
+     * @return {@code true} if results were evicted, {@code false} if another thread is evicting
+     */
+    private boolean evict(long now) {
+        if (!evictionLock.tryLock()) {
+            return false;
+        }
+        try {
+            int target = maxSize - Math.max(1, maxSize / 10);
+            for (Map.Entry<String, CacheEntry> entry : entries.entrySet()) {
+                if (entry.getValue().isExpired(now)) {
+                    remove(entry.getKey(), entry.getValue());
+                }
+            }
+            Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+            while (size.get() > target && iterator.hasNext()) {
+                Map.Entry<String, CacheEntry> entry = iterator.next();
+                remove(entry.getKey(), entry.getValue());
+            }
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void remove(String key, CacheEntry entry) {
+        if (entries.remove(key, entry)) {
+            size.decrementAndGet();
+        }
+    }
+
+    private static Long getExpiresAt(TokenVerificationResult result) {
+        JsonObject json = result.localVerificationResult != null ? result.localVerificationResult
+                : result.introspectionResult;
+        return json != null ? json.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP) : null;
+    }
+
+    private static String key(String tenantId, String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return tenantId + ":" + Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            // SHA-256 is supported by all the Java platforms
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class CacheEntry {
+        final TokenVerificationResult result;
+        final long expiresAt;
+
+        CacheEntry(TokenVerificationResult result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jose4j.jwk.EcJwkGenerator;
+import org.jose4j.jwk.EllipticCurveJsonWebKey;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.keys.EllipticCurves;
+import org.jose4j.lang.JoseException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+public class JsonWebKeyRefresherTest {
+
+    private final List<UniEmitter<? super JsonWebKeyCache>> requests = new CopyOnWriteArrayList<>();
+
+    private final JsonWebKeyRefresher refresher = new JsonWebKeyRefresher(jwks("k1"),
+            () -> Uni.createFrom().emitter(requests::add), Duration.ofMinutes(10));
+
+    @Test
+    public void testConcurrentRefreshesShareOneRequest() throws Exception {
+        AtomicBoolean firstDone = new AtomicBoolean();
+        AtomicBoolean secondDone = new AtomicBoolean();
+        refresher.refresh().subscribe().with(v -> firstDone.set(true));
+        refresher.refresh().subscribe().with(v -> secondDone.set(true));
+        assertEquals(1, requests.size());
+        assertNull(refresher.getKey("k2"));
+
+        requests.get(0).complete(jwks("k2"));
+        assertTrue(firstDone.get());
+        assertTrue(secondDone.get());
+        assertNotNull(refresher.getKey("k2"));
+        assertNull(refresher.getKey("k1"));
+        assertEquals(1, refresher.getRefreshSuccessCount());
+
+        // the next refresh sends a new request
+        refresher.refresh().subscribe().with(v -> {
+        });
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void testForcedRefreshesAreRateLimited() throws Exception {
+        refresher.forceRefresh().subscribe().with(v -> {
+        });
+        assertEquals(1, requests.size());
+        // the pending refresh is joined
+        refresher.forceRefresh().subscribe().with(v -> {
+        });
+        assertEquals(1, requests.size());
+        requests.get(0).complete(jwks("k2"));
+
+        // the next forced refresh is skipped until the forced refresh interval has elapsed
+        AtomicBoolean done = new AtomicBoolean();
+        refresher.forceRefresh().subscribe().with(v -> done.set(true));
+        assertTrue(done.get());
+        assertEquals(1, requests.size());
+        assertEquals(1, refresher.getRateLimitedRefreshCount());
+    }
+
+    @Test
+    public void testFailedRefreshKeepsCurrentKeys() {
+        AtomicBoolean done = new AtomicBoolean();
+        refresher.refresh().subscribe().with(v -> done.set(true));
+        requests.get(0).fail(new RuntimeException("OIDC server is not available"));
+        assertTrue(done.get());
+        assertNotNull(refresher.getKey("k1"));
+        assertEquals(1, refresher.getRefreshFailureCount());
+        assertEquals(0, refresher.getRefreshSuccessCount());
+    }
+
+    private static JsonWebKeyCache jwks(String kid) {
+        try {
+            EllipticCurveJsonWebKey jwk = EcJwkGenerator.generateJwk(EllipticCurves.P256);
+            jwk.setKeyId(kid);
+            jwk.setUse("sig");
+            return new JsonWebKeyCache(new JsonWebKeySet(jwk).toJson());
+        } catch (JoseException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
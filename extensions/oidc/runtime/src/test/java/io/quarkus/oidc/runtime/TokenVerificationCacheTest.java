@@ -0,0 +1,143 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class TokenVerificationCacheTest {
+
+    @Test
+    public void testCachedResult() {
+        TokenVerificationCache cache = new TokenVerificationCache(10, Duration.ofMinutes(3));
+        TokenVerificationResult result = result(expiresIn(60));
+        cache.put("tenant", "token", result);
+        assertSame(result, cache.get("tenant", "token"));
+        assertNull(cache.get("tenant", "other-token"));
+        assertNull(cache.get("other-tenant", "token"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testExpiredTokenIsNotCached() {
+        TokenVerificationCache cache = new TokenVerificationCache(10, Duration.ofMinutes(3));
+        cache.put("tenant", "token", result(expiresIn(-1)));
+        assertNull(cache.get("tenant", "token"));
+    }
+
+    @Test
+    public void testResultExpiresAfterTimeToLive() throws Exception {
+        TokenVerificationCache cache = new TokenVerificationCache(10, Duration.ofMillis(10));
+        cache.put("tenant", "token", result(expiresIn(60)));
+        assertNotNull(cache.get("tenant", "token"));
+        Thread.sleep(20);
+        assertNull(cache.get("tenant", "token"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testCacheSizeIsBounded() {
+        TokenVerificationCache cache = new TokenVerificationCache(2, Duration.ofMinutes(3));
+        cache.put("tenant", "token1", result(expiresIn(60)));
+        cache.put("tenant", "token2", result(expiresIn(60)));
+        cache.put("tenant", "token3", result(expiresIn(60)));
+        int cached = 0;
+        for (String token : new String[] { "token1", "token2", "token3" }) {
+            if (cache.get("tenant", token) != null) {
+                cached++;
+            }
+        }
+        assertEquals(2, cached);
+        assertNotNull(cache.get("tenant", "token3"));
+    }
+
+    @Test
+    public void testEvictsTenthOfCacheWhenFull() {
+        TokenVerificationCache cache = new TokenVerificationCache(20, Duration.ofMinutes(3));
+        for (int i = 0; i < 21; i++) {
+            cache.put("tenant", "token" + i, result(expiresIn(60)));
+        }
+        // two results were evicted to make room for the last one
+        assertEquals(19, cachedCount(cache, 21));
+        assertNotNull(cache.get("tenant", "token20"));
+        cache.put("tenant", "token21", result(expiresIn(60)));
+        assertEquals(20, cachedCount(cache, 22));
+    }
+
+    @Test
+    public void testConcurrentPutsDoNotExceedMaxSize() throws Exception {
+        TokenVerificationCache cache = new TokenVerificationCache(50, Duration.ofMinutes(3));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        cache.put("tenant", "token" + thread + "-" + i, result(expiresIn(60)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        int cached = 0;
+        for (int t = 0; t < 8; t++) {
+            for (int i = 0; i < 1000; i++) {
+                if (cache.get("tenant", "token" + t + "-" + i) != null) {
+                    cached++;
+                }
+            }
+        }
+        assertTrue(cached <= 50, "cache holds " + cached + " results");
+    }
+
+    @Test
+    public void testTenantWithoutIdIsNotCached() {
+        TokenVerificationCache cache = new TokenVerificationCache(10, Duration.ofMinutes(3));
+        cache.put(null, "token", result(expiresIn(60)));
+        assertNull(cache.get(null, "token"));
+    }
+
+    @Test
+    public void testDisabledCache() {
+        TokenVerificationCache cache = new TokenVerificationCache(0, Duration.ofMinutes(3));
+        cache.put("tenant", "token", result(expiresIn(60)));
+        assertNull(cache.get("tenant", "token"));
+    }
+
+    private static int cachedCount(TokenVerificationCache cache, int tokens) {
+        int cached = 0;
+        for (int i = 0; i < tokens; i++) {
+            if (cache.get("tenant", "token" + i) != null) {
+                cached++;
+            }
+        }
+        return cached;
+    }
+
+    private static long expiresIn(long seconds) {
+        return System.currentTimeMillis() / 1000 + seconds;
+    }
+
+    private static TokenVerificationResult result(long exp) {
+        return new TokenVerificationResult(new JsonObject().put("exp", exp), null);
+    }
+}
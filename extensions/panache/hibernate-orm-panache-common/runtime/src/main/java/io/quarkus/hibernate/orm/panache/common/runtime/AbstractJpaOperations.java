@@ -33,7 +33,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         entityToPersistenceUnit = Collections.unmodifiableMap(map);
     }
 
-    protected abstract PanacheQueryType createPanacheQuery(EntityManager em, String query, String orderBy,
+    protected abstract PanacheQueryType createPanacheQuery(EntityManager em, String query, Sort sort,
             Object paramsArrayOrMap);
 
     public abstract List<?> list(PanacheQueryType query);
@@ -51,6 +51,12 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         return getEntityManager(persistentUnitName);
     }
 
+    // Returns the name of the persistence unit of the given entity class, the default one if it is not known
+    static String getPersistenceUnitName(String entityClassName) {
+        String persistenceUnitName = entityToPersistenceUnit.get(entityClassName);
+        return persistenceUnitName != null ? persistenceUnitName : DEFAULT_PERSISTENCE_UNIT_NAME;
+    }
+
     public static EntityManager getEntityManager(String persistentUnitName) {
         ArcContainer arcContainer = Arc.container();
         if (persistentUnitName == null || PersistenceUnitUtil.isDefaultPersistenceUnit(persistentUnitName)) {
@@ -190,15 +196,15 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String findQuery = PanacheJpaUtil.createFindQuery(entityClass, query, paramCount(params));
+        String findQuery = PrecompiledQueryUtil.createFindQuery(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager(entityClass);
         // FIXME: check for duplicate ORDER BY clause?
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             NamedQueryUtil.checkNamedQuery(entityClass, namedQuery);
-            return createPanacheQuery(em, query, PanacheJpaUtil.toOrderBy(sort), params);
+            return createPanacheQuery(em, query, sort, params);
         }
-        return createPanacheQuery(em, findQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createPanacheQuery(em, findQuery, sort, params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -206,15 +212,15 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String findQuery = PanacheJpaUtil.createFindQuery(entityClass, query, paramCount(params));
+        String findQuery = PrecompiledQueryUtil.createFindQuery(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager(entityClass);
         // FIXME: check for duplicate ORDER BY clause?
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             NamedQueryUtil.checkNamedQuery(entityClass, namedQuery);
-            return createPanacheQuery(em, query, PanacheJpaUtil.toOrderBy(sort), params);
+            return createPanacheQuery(em, query, sort, params);
         }
-        return createPanacheQuery(em, findQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createPanacheQuery(em, findQuery, sort, params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Parameters params) {
@@ -282,7 +288,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     public PanacheQueryType findAll(Class<?> entityClass, Sort sort) {
         String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
         EntityManager em = getEntityManager(entityClass);
-        return createPanacheQuery(em, query, PanacheJpaUtil.toOrderBy(sort), null);
+        return createPanacheQuery(em, query, sort, null);
     }
 
     public List<?> listAll(Class<?> entityClass) {
@@ -310,14 +316,14 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     public long count(Class<?> entityClass, String query, Object... params) {
         return (long) bindParameters(
                 getEntityManager(entityClass)
-                        .createQuery(PanacheJpaUtil.createCountQuery(entityClass, query, paramCount(params))),
+                        .createQuery(PrecompiledQueryUtil.createCountQuery(entityClass, query, paramCount(params))),
                 params).getSingleResult();
     }
 
     public long count(Class<?> entityClass, String query, Map<String, Object> params) {
         return (long) bindParameters(
                 getEntityManager(entityClass)
-                        .createQuery(PanacheJpaUtil.createCountQuery(entityClass, query, paramCount(params))),
+                        .createQuery(PrecompiledQueryUtil.createCountQuery(entityClass, query, paramCount(params))),
                 params).getSingleResult();
     }
 
@@ -360,7 +366,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     public long delete(Class<?> entityClass, String query, Object... params) {
         return bindParameters(
                 getEntityManager(entityClass)
-                        .createQuery(PanacheJpaUtil.createDeleteQuery(entityClass, query, paramCount(params))),
+                        .createQuery(PrecompiledQueryUtil.createDeleteQuery(entityClass, query, paramCount(params))),
                 params)
                         .executeUpdate();
     }
@@ -368,7 +374,7 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     public long delete(Class<?> entityClass, String query, Map<String, Object> params) {
         return bindParameters(
                 getEntityManager(entityClass)
-                        .createQuery(PanacheJpaUtil.createDeleteQuery(entityClass, query, paramCount(params))),
+                        .createQuery(PrecompiledQueryUtil.createDeleteQuery(entityClass, query, paramCount(params))),
                 params)
                         .executeUpdate();
     }
@@ -413,12 +419,12 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
     }
 
     public int executeUpdate(Class<?> entityClass, String query, Object... params) {
-        String updateQuery = PanacheJpaUtil.createUpdateQuery(entityClass, query, paramCount(params));
+        String updateQuery = PrecompiledQueryUtil.createUpdateQuery(entityClass, query, paramCount(params));
         return executeUpdate(updateQuery, entityClass, params);
     }
 
     public int executeUpdate(Class<?> entityClass, String query, Map<String, Object> params) {
-        String updateQuery = PanacheJpaUtil.createUpdateQuery(entityClass, query, paramCount(params));
+        String updateQuery = PrecompiledQueryUtil.createUpdateQuery(entityClass, query, paramCount(params));
         return executeUpdate(updateQuery, entityClass, params);
     }
 
@@ -2,12 +2,23 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
@@ -15,12 +26,30 @@ import javax.persistence.NonUniqueResultException;
 import javax.persistence.Query;
 
 import org.hibernate.Filter;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
 
 import io.quarkus.hibernate.orm.panache.ProjectedFieldName;
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
@@ -40,6 +69,7 @@ public class CommonPanacheQueryImpl<Entity> {
     private Object paramsArrayOrMap;
     private String query;
     protected String countQuery;
+    private Sort sort;
     private String orderBy;
     private EntityManager em;
 
@@ -48,15 +78,19 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Range range;
 
+    private Cursor cursor;
+    private Cursor nextCursor;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
     private Map<String, Map<String, Object>> filters;
 
-    public CommonPanacheQueryImpl(EntityManager em, String query, String orderBy, Object paramsArrayOrMap) {
+    public CommonPanacheQueryImpl(EntityManager em, String query, Sort sort, Object paramsArrayOrMap) {
         this.em = em;
         this.query = query;
-        this.orderBy = orderBy;
+        this.sort = sort;
+        this.orderBy = PanacheJpaUtil.toOrderBy(sort);
         this.paramsArrayOrMap = paramsArrayOrMap;
     }
 
@@ -64,11 +98,13 @@ public class CommonPanacheQueryImpl<Entity> {
         this.em = previousQuery.em;
         this.query = newQueryString;
         this.countQuery = countQuery;
+        this.sort = previousQuery.sort;
         this.orderBy = previousQuery.orderBy;
         this.paramsArrayOrMap = previousQuery.paramsArrayOrMap;
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.cursor = previousQuery.cursor;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -124,6 +160,7 @@ public class CommonPanacheQueryImpl<Entity> {
     public void page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.cursor = null; // reset the cursor to be able to switch from cursor to page
     }
 
     public void page(int pageIndex, int pageSize) {
@@ -184,10 +221,41 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     }
 
+    public void cursor(Cursor cursor) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Keyset pagination is not supported for named queries");
+        }
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a sort, " +
+                    "which should end with a unique column such as the identifier");
+        }
+        for (Sort.Column column : sort.getColumns()) {
+            if (column.getName().indexOf('.') != -1) {
+                throw new PanacheQueryException("Keyset pagination does not support the sort column '"
+                        + column.getName() + "', the sort columns must be properties of the queried entity, "
+                        + "without an alias or a path");
+            }
+        }
+        this.cursor = cursor;
+        this.nextCursor = null;
+        // reset the page and the range to be able to switch from them to a cursor
+        this.page = null;
+        this.range = null;
+    }
+
+    public Cursor nextCursor() {
+        if (cursor == null) {
+            throw new UnsupportedOperationException("Cannot call a cursor related method, " +
+                    "call cursor(Cursor) to initiate keyset pagination first");
+        }
+        return nextCursor;
+    }
+
     public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.cursor = null;
     }
 
     public void withLock(LockModeType lockModeType) {
@@ -234,12 +302,33 @@ public class CommonPanacheQueryImpl<Entity> {
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
+        if (cursor != null) {
+            return listCursor();
+        }
         Query jpaQuery = createQuery();
         try (NonThrowingCloseable c = applyFilters()) {
             return jpaQuery.getResultList();
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> List<T> listCursor() {
+        // read one more entity to know if there is a next page without counting the entities
+        Query jpaQuery = createQuery(cursor.size + 1);
+        List<T> list;
+        try (NonThrowingCloseable c = applyFilters()) {
+            list = jpaQuery.getResultList();
+        }
+        if (list.size() <= cursor.size) {
+            nextCursor = null;
+            return list;
+        }
+        list = new ArrayList<>(list.subList(0, cursor.size));
+        String token = CursorToken.encode(em.unwrap(SessionImplementor.class), query, list.get(cursor.size - 1), sort);
+        nextCursor = Cursor.after(token, cursor.size);
+        return list;
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
         Query jpaQuery = createQuery();
@@ -248,6 +337,25 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     }
 
+    public <T extends Entity> Stream<T> stream(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Fetch size must be > 0 : " + fetchSize);
+        }
+        org.hibernate.query.Query<?> hibernateQuery = createQuery().unwrap(org.hibernate.query.Query.class);
+        hibernateQuery.setFetchSize(fetchSize);
+        // no snapshots to keep for dirty checking, as the entities are detached anyway
+        hibernateQuery.setReadOnly(true);
+        EventSource session = em.unwrap(EventSource.class);
+        // the entities managed before the stream are never detached
+        Set<EntityKey> managedBefore = DetachingSpliterator.managedEntities(session.getPersistenceContext());
+        ScrollableResults results;
+        try (NonThrowingCloseable c = applyFilters()) {
+            results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        }
+        DetachingSpliterator<T> spliterator = new DetachingSpliterator<>(session, results, fetchSize, managedBefore);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
     public <T extends Entity> T firstResult() {
         Query jpaQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -292,6 +400,10 @@ public class CommonPanacheQueryImpl<Entity> {
         } else if (page != null) {
             jpaQuery.setFirstResult(page.index * page.size);
             jpaQuery.setMaxResults(page.size);
+        } else if (cursor != null) {
+            // the cursor position is part of the query, so there are no rows to skip
+            jpaQuery.setFirstResult(0);
+            jpaQuery.setMaxResults(cursor.size);
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
             @SuppressWarnings("deprecation")
@@ -327,6 +439,8 @@ public class CommonPanacheQueryImpl<Entity> {
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
+        } else if (cursor != null && cursor.getToken() != null) {
+            return createKeysetQuery();
         } else {
             jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
         }
@@ -336,7 +450,35 @@ public class CommonPanacheQueryImpl<Entity> {
         } else {
             AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
         }
+        return applyLockAndHints(jpaQuery);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Query createKeysetQuery() {
+        Object[] values = CursorToken.decode(em.unwrap(SessionImplementor.class), query, cursor.getToken(), sort);
+        // the keyset parameters must use the same style as the query parameters, as they cannot be mixed
+        String[] parameters = new String[values.length];
+        int firstPosition = paramsArrayOrMap instanceof Object[] ? ((Object[]) paramsArrayOrMap).length + 1 : 1;
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = paramsArrayOrMap instanceof Map ? ":panacheKeyset" + i : "?" + (firstPosition + i);
+        }
+        Query jpaQuery = em.createQuery(PanacheJpaUtil.createKeysetQuery(query, sort, parameters) + orderBy);
+
+        if (paramsArrayOrMap instanceof Map) {
+            AbstractJpaOperations.bindParameters(jpaQuery, (Map<String, Object>) paramsArrayOrMap);
+            for (int i = 0; i < values.length; i++) {
+                jpaQuery.setParameter("panacheKeyset" + i, values[i]);
+            }
+        } else {
+            AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
+            for (int i = 0; i < values.length; i++) {
+                jpaQuery.setParameter(firstPosition + i, values[i]);
+            }
+        }
+        return applyLockAndHints(jpaQuery);
+    }
 
+    private Query applyLockAndHints(Query jpaQuery) {
         if (this.lockModeType != null) {
             jpaQuery.setLockMode(lockModeType);
         }
@@ -349,6 +491,156 @@ public class CommonPanacheQueryImpl<Entity> {
         return jpaQuery;
     }
 
+    /**
+     * Reads the results one by one, and detaches them from the persistence context once {@code retainedEntities}
+     * further results have been read, so that the persistence context does not grow with the number of results.
+     * <p>
+     * The associated entities loaded along with a result, e.g. the targets of its eager associations and the elements of
+     * its initialized collections, are detached with it. The entities that were already managed before the stream started
+     * are left untouched, so that their pending changes are kept. An associated entity shared by several results is
+     * detached with the first of them.
+     */
+    private static final class DetachingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final EventSource session;
+        private final ScrollableResults results;
+        private final int retainedEntities;
+        private final Set<EntityKey> managedBefore;
+        private final ArrayDeque<Object> readEntities;
+        private boolean closed;
+
+        DetachingSpliterator(EventSource session, ScrollableResults results, int retainedEntities,
+                Set<EntityKey> managedBefore) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.session = session;
+            this.results = results;
+            this.retainedEntities = retainedEntities;
+            this.managedBefore = managedBefore;
+            this.readEntities = new ArrayDeque<>(retainedEntities + 1);
+        }
+
+        static Set<EntityKey> managedEntities(PersistenceContext persistenceContext) {
+            Set<EntityKey> keys = new HashSet<>();
+            for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+                keys.add(entry.getValue().getEntityKey());
+            }
+            return keys;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            if (!results.next()) {
+                close();
+                return false;
+            }
+            Object result = results.get(0);
+            // projections are not managed, there is nothing to detach
+            if (result != null) {
+                EntityEntry entry = session.getPersistenceContext().getEntry(result);
+                if (entry != null && !managedBefore.contains(entry.getEntityKey())) {
+                    readEntities.add(result);
+                    if (readEntities.size() > retainedEntities) {
+                        detach(readEntities.poll());
+                    }
+                }
+            }
+            action.accept((T) result);
+            return true;
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                results.close();
+                if (session.isOpen()) {
+                    for (Object entity : readEntities) {
+                        detach(entity);
+                    }
+                }
+                readEntities.clear();
+            }
+        }
+
+        /**
+         * Does what {@link Session#evict(Object)} does for the result and the associated entities loaded along with it,
+         * whatever the cascade settings of the associations, but skips the entities managed before the stream started.
+         */
+        private void detach(Object result) {
+            PersistenceContext persistenceContext = session.getPersistenceContext();
+            Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            ArrayDeque<Object> toDetach = new ArrayDeque<>();
+            toDetach.add(result);
+            while (!toDetach.isEmpty()) {
+                Object entity = toDetach.poll();
+                if (!visited.add(entity)) {
+                    continue;
+                }
+                if (entity instanceof HibernateProxy) {
+                    LazyInitializer initializer = ((HibernateProxy) entity).getHibernateLazyInitializer();
+                    EntityKey key = session.generateEntityKey(initializer.getIdentifier(),
+                            session.getFactory().getMetamodel().entityPersister(initializer.getEntityName()));
+                    if (!managedBefore.contains(key)) {
+                        persistenceContext.removeProxy(key);
+                        if (!initializer.isUninitialized()) {
+                            toDetach.add(initializer.getImplementation());
+                        }
+                    }
+                    continue;
+                }
+                EntityEntry entry = persistenceContext.getEntry(entity);
+                if (entry == null || managedBefore.contains(entry.getEntityKey())) {
+                    continue;
+                }
+                EntityPersister persister = entry.getPersister();
+                addAssociatedEntities(persister.getPropertyTypes(), persister.getPropertyValues(entity), toDetach);
+                EntityKey key = entry.getEntityKey();
+                persistenceContext.removeProxy(key);
+                persistenceContext.removeEntity(key);
+                if (persister.hasCollections()) {
+                    // removes the collections of the entity from the persistence context, their elements are detached above
+                    new EvictVisitor(session, entity).process(entity, persister);
+                }
+                persistenceContext.removeEntry(entity);
+            }
+        }
+
+        /**
+         * Adds the associated entities which are already loaded, so that no association is initialized.
+         */
+        private void addAssociatedEntities(Type[] types, Object[] values, ArrayDeque<Object> entities) {
+            for (int i = 0; i < types.length; i++) {
+                Object value = values[i];
+                if (value == null || value == LazyPropertyInitializer.UNFETCHED_PROPERTY) {
+                    continue;
+                }
+                Type type = types[i];
+                if (type.isEntityType()) {
+                    entities.add(value);
+                } else if (type.isCollectionType()) {
+                    if ((value instanceof PersistentCollection && !((PersistentCollection) value).wasInitialized())
+                            || !((CollectionType) type).getElementType(session.getFactory()).isEntityType()) {
+                        continue;
+                    }
+                    Collection<?> elements = value instanceof Map ? ((Map<?, ?>) value).values()
+                            : value instanceof Collection ? (Collection<?>) value : Collections.emptyList();
+                    for (Object element : elements) {
+                        if (element != null) {
+                            entities.add(element);
+                        }
+                    }
+                } else if (type.isComponentType()) {
+                    CompositeType componentType = (CompositeType) type;
+                    addAssociatedEntities(componentType.getSubtypes(), componentType.getPropertyValues(value, session),
+                            entities);
+                }
+            }
+        }
+    }
+
     private NonThrowingCloseable applyFilters() {
         if (filters == null)
             return NO_FILTERS;
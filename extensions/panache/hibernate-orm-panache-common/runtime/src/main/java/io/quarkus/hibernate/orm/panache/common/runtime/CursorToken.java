@@ -0,0 +1,116 @@
+package io.quarkus.hibernate.orm.panache.common.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.StringRepresentableType;
+import org.hibernate.type.Type;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+
+/**
+ * Encodes the sort column values of the last entity of a keyset page into an opaque token, and decodes them back to
+ * the query parameters of the next page. The values are converted with the Hibernate type of the columns of the entity
+ * selected by the query, and the name of this entity and the sort columns are part of the token, so that a token cannot
+ * be replayed against a query on another entity or with another sort.
+ */
+final class CursorToken {
+
+    private CursorToken() {
+    }
+
+    static String encode(SessionImplementor session, String query, Object entity, Sort sort) {
+        EntityPersister queryPersister = queryPersister(session, query);
+        EntityPersister persister;
+        try {
+            // the entity may be an instance of a subclass of the queried entity
+            persister = session.getEntityPersister(null, entity);
+        } catch (HibernateException e) {
+            throw new PanacheQueryException("Keyset pagination is only supported for queries returning entities", e);
+        }
+        List<Sort.Column> columns = sort.getColumns();
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(queryPersister.getEntityName());
+            out.writeShort(columns.size());
+            for (Sort.Column column : columns) {
+                Object value = column.getName().equals(persister.getIdentifierPropertyName())
+                        ? persister.getIdentifier(entity, session)
+                        : persister.getPropertyValue(entity, column.getName());
+                if (value == null) {
+                    throw new PanacheQueryException("Keyset pagination does not support null values, but column '"
+                            + column.getName() + "' of " + entity + " is null");
+                }
+                out.writeUTF(column.getName());
+                out.writeUTF(stringType(queryPersister, column.getName()).toString(value));
+            }
+            out.flush();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            // cannot happen with a ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Object[] decode(SessionImplementor session, String query, String token, Sort sort) {
+        EntityPersister persister = queryPersister(session, query);
+        List<Sort.Column> columns = sort.getColumns();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (!persister.getEntityName().equals(in.readUTF())) {
+                throw new PanacheQueryException("Invalid cursor token, it was not created for a query on entity "
+                        + persister.getEntityName());
+            }
+            if (in.readShort() != columns.size()) {
+                throw new PanacheQueryException("Invalid cursor token, it does not match the sort of the query");
+            }
+            Object[] values = new Object[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                String name = columns.get(i).getName();
+                if (!name.equals(in.readUTF())) {
+                    throw new PanacheQueryException("Invalid cursor token, it does not match the sort of the query");
+                }
+                values[i] = stringType(persister, name).fromStringValue(in.readUTF());
+            }
+            return values;
+        } catch (IOException | IllegalArgumentException | HibernateException e) {
+            throw new PanacheQueryException("Invalid cursor token: " + token, e);
+        }
+    }
+
+    private static EntityPersister queryPersister(SessionImplementor session, String query) {
+        String entityName = PanacheJpaUtil.getQueryEntityName(query);
+        if (entityName == null) {
+            throw new PanacheQueryException("Keyset pagination is only supported for queries with a FROM clause: " + query);
+        }
+        MetamodelImplementor metamodel = session.getFactory().getMetamodel();
+        String importedName = metamodel.getImportedClassName(entityName);
+        try {
+            return metamodel.entityPersister(importedName != null ? importedName : entityName);
+        } catch (HibernateException e) {
+            throw new PanacheQueryException("Keyset pagination is only supported for queries on an entity: " + query, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StringRepresentableType<Object> stringType(EntityPersister persister, String column) {
+        Type type = column.equals(persister.getIdentifierPropertyName())
+                ? persister.getIdentifierType()
+                : persister.getPropertyType(column);
+        if (!(type instanceof StringRepresentableType)) {
+            throw new PanacheQueryException("Keyset pagination does not support column '" + column + "' of type "
+                    + type.getName() + ", only basic types can be used as sort columns");
+        }
+        return (StringRepresentableType<Object>) type;
+    }
+}
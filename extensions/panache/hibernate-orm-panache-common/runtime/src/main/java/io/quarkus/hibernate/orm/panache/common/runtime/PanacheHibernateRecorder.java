@@ -1,8 +1,16 @@
 package io.quarkus.hibernate.orm.panache.common.runtime;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.runtime.JPAConfig;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -10,4 +18,38 @@ public class PanacheHibernateRecorder {
     public void setNamedQueryMap(Map<String, Set<String>> namedQueryMap) {
         NamedQueryUtil.setNamedQueryMap(namedQueryMap);
     }
+
+    public void setPrecompiledQueries(Map<String, Map<String, PrecompiledQuery>> precompiledQueries) {
+        PrecompiledQueryUtil.setPrecompiledQueries(precompiledQueries);
+    }
+
+    /**
+     * Compiles the plans of the precompiled queries, so that they are in the query plan cache before the first request,
+     * and so that the invalid queries are reported at startup rather than when they are first executed.
+     */
+    public void validatePrecompiledQueries() {
+        JPAConfig jpaConfig = Arc.container().instance(JPAConfig.class).get();
+        List<String> errors = new ArrayList<>();
+        for (Map.Entry<String, Map<String, PrecompiledQuery>> entityQueries : PrecompiledQueryUtil.getPrecompiledQueries()
+                .entrySet()) {
+            String persistenceUnitName = AbstractJpaOperations.getPersistenceUnitName(entityQueries.getKey());
+            if (!jpaConfig.getPersistenceUnits().contains(persistenceUnitName)) {
+                continue;
+            }
+            QueryPlanCache queryPlanCache = jpaConfig.getEntityManagerFactory(persistenceUnitName)
+                    .unwrap(SessionFactoryImplementor.class).getQueryPlanCache();
+            for (PrecompiledQuery precompiled : entityQueries.getValue().values()) {
+                for (String query : precompiled.getQueries()) {
+                    try {
+                        queryPlanCache.getHQLQueryPlan(query, false, Collections.emptyMap());
+                    } catch (RuntimeException e) {
+                        errors.add("'" + query + "' used in " + precompiled.getLocation() + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid Panache queries:\n\t- " + String.join("\n\t- ", errors));
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package io.quarkus.hibernate.orm.panache.common.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The HQL queries expanded at build time from a constant Panache query string, for the operations it is used with.
+ */
+public class PrecompiledQuery {
+
+    private String findQuery;
+    private String countQuery;
+    private String deleteQuery;
+    private String updateQuery;
+    private boolean shorthand;
+    private String location;
+
+    public String getFindQuery() {
+        return findQuery;
+    }
+
+    public void setFindQuery(String findQuery) {
+        this.findQuery = findQuery;
+    }
+
+    public String getCountQuery() {
+        return countQuery;
+    }
+
+    public void setCountQuery(String countQuery) {
+        this.countQuery = countQuery;
+    }
+
+    public String getDeleteQuery() {
+        return deleteQuery;
+    }
+
+    public void setDeleteQuery(String deleteQuery) {
+        this.deleteQuery = deleteQuery;
+    }
+
+    public String getUpdateQuery() {
+        return updateQuery;
+    }
+
+    public void setUpdateQuery(String updateQuery) {
+        this.updateQuery = updateQuery;
+    }
+
+    /**
+     * @return {@code true} if the query uses the shorthand form (e.g. {@code "name"}), in which case the expanded
+     *         queries are only valid when exactly one parameter is given
+     */
+    public boolean isShorthand() {
+        return shorthand;
+    }
+
+    public void setShorthand(boolean shorthand) {
+        this.shorthand = shorthand;
+    }
+
+    /**
+     * @return the location of the first call site using this query, for error reporting
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    List<String> getQueries() {
+        List<String> queries = new ArrayList<>(4);
+        if (findQuery != null) {
+            queries.add(findQuery);
+        }
+        if (countQuery != null) {
+            queries.add(countQuery);
+        }
+        if (deleteQuery != null) {
+            queries.add(deleteQuery);
+        }
+        if (updateQuery != null) {
+            queries.add(updateQuery);
+        }
+        return queries;
+    }
+}
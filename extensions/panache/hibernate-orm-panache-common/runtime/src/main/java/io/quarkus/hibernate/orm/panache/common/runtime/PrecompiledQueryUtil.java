@@ -0,0 +1,75 @@
+package io.quarkus.hibernate.orm.panache.common.runtime;
+
+import java.util.Collections;
+import java.util.Map;
+
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+
+/**
+ * Looks up the HQL queries expanded at build time for the constant query strings passed to the Panache operations, and
+ * falls back to expanding the query string for the others.
+ */
+public final class PrecompiledQueryUtil {
+
+    // will be replaced at augmentation phase
+    private static volatile Map<String, Map<String, PrecompiledQuery>> precompiledQueries = Collections.emptyMap();
+
+    private PrecompiledQueryUtil() {
+        // prevent initialization
+    }
+
+    public static void setPrecompiledQueries(Map<String, Map<String, PrecompiledQuery>> newPrecompiledQueries) {
+        precompiledQueries = newPrecompiledQueries;
+    }
+
+    static Map<String, Map<String, PrecompiledQuery>> getPrecompiledQueries() {
+        return precompiledQueries;
+    }
+
+    public static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+        PrecompiledQuery precompiled = lookup(entityClass, query, paramCount);
+        if (precompiled != null && precompiled.getFindQuery() != null) {
+            return precompiled.getFindQuery();
+        }
+        return PanacheJpaUtil.createFindQuery(entityClass, query, paramCount);
+    }
+
+    public static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
+        PrecompiledQuery precompiled = lookup(entityClass, query, paramCount);
+        if (precompiled != null && precompiled.getCountQuery() != null) {
+            return precompiled.getCountQuery();
+        }
+        return PanacheJpaUtil.createCountQuery(entityClass, query, paramCount);
+    }
+
+    public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        PrecompiledQuery precompiled = lookup(entityClass, query, paramCount);
+        if (precompiled != null && precompiled.getDeleteQuery() != null) {
+            return precompiled.getDeleteQuery();
+        }
+        return PanacheJpaUtil.createDeleteQuery(entityClass, query, paramCount);
+    }
+
+    public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
+        PrecompiledQuery precompiled = lookup(entityClass, query, paramCount);
+        if (precompiled != null && precompiled.getUpdateQuery() != null) {
+            return precompiled.getUpdateQuery();
+        }
+        return PanacheJpaUtil.createUpdateQuery(entityClass, query, paramCount);
+    }
+
+    private static PrecompiledQuery lookup(Class<?> entityClass, String query, int paramCount) {
+        if (query == null) {
+            return null;
+        }
+        Map<String, PrecompiledQuery> entityQueries = precompiledQueries.get(entityClass.getName());
+        if (entityQueries == null) {
+            return null;
+        }
+        PrecompiledQuery precompiled = entityQueries.get(query);
+        if (precompiled == null || (precompiled.isShorthand() && paramCount != 1)) {
+            return null;
+        }
+        return precompiled;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.stream.Stream;
 import javax.persistence.EntityManager;
 
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations;
+import io.quarkus.panache.common.Sort;
 
 public class KotlinJpaOperations extends AbstractJpaOperations<PanacheQueryImpl<?>> {
     /**
@@ -14,9 +15,9 @@ public class KotlinJpaOperations extends AbstractJpaOperations<PanacheQueryImpl<
     public static final KotlinJpaOperations INSTANCE = new KotlinJpaOperations();
 
     @Override
-    protected PanacheQueryImpl<?> createPanacheQuery(EntityManager em, String query, String orderBy,
+    protected PanacheQueryImpl<?> createPanacheQuery(EntityManager em, String query, Sort sort,
             Object paramsArrayOrMap) {
-        return new PanacheQueryImpl<>(em, query, orderBy, paramsArrayOrMap);
+        return new PanacheQueryImpl<>(em, query, sort, paramsArrayOrMap);
     }
 
     @Override
@@ -2,6 +2,8 @@ package io.quarkus.hibernate.orm.panache.deployment;
 
 import static io.quarkus.panache.common.deployment.PanacheConstants.META_INF_PANACHE_ARCHIVE_MARKER;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -19,9 +21,13 @@ import javax.persistence.Id;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
+import io.quarkus.bootstrap.classloading.ClassPathElement;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.builder.BuildException;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -30,24 +36,33 @@ import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveMarkerBuildItem;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ServiceStartBuildItem;
+import io.quarkus.deployment.util.IoUtil;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.AdditionalJpaModelBuildItem;
+import io.quarkus.hibernate.orm.deployment.JpaEntitiesBuildItem;
 import io.quarkus.hibernate.orm.deployment.JpaModelPersistenceUnitMappingBuildItem;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.orm.panache.common.runtime.PanacheHibernateRecorder;
+import io.quarkus.hibernate.orm.panache.common.runtime.PrecompiledQuery;
 import io.quarkus.hibernate.orm.panache.runtime.PanacheHibernateOrmRecorder;
 import io.quarkus.panache.common.deployment.HibernateEnhancersRegisteredBuildItem;
 import io.quarkus.panache.common.deployment.PanacheJpaEntityOperationsEnhancer;
 import io.quarkus.panache.common.deployment.PanacheMethodCustomizer;
 import io.quarkus.panache.common.deployment.PanacheMethodCustomizerBuildItem;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public final class PanacheHibernateResourceProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(PanacheHibernateResourceProcessor.class);
+
     static final DotName DOTNAME_PANACHE_REPOSITORY_BASE = DotName.createSimple(PanacheRepositoryBase.class.getName());
     private static final DotName DOTNAME_PANACHE_REPOSITORY = DotName.createSimple(PanacheRepository.class.getName());
 
@@ -107,27 +122,9 @@ public final class PanacheHibernateResourceProcessor {
 
         PanacheJpaRepositoryEnhancer daoEnhancer = new PanacheJpaRepositoryEnhancer(index.getIndex(),
                 JavaJpaTypeBundle.BUNDLE);
-        Set<String> panacheEntities = new HashSet<>();
-        Set<String> daoClasses = new HashSet<>();
-        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE)) {
-            // Skip PanacheRepository
-            if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY))
-                continue;
-            if (daoEnhancer.skipRepository(classInfo))
-                continue;
-            List<org.jboss.jandex.Type> typeParameters = JandexUtil
-                    .resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY_BASE, index.getIndex());
-            panacheEntities.add(typeParameters.get(0).name().toString());
-            daoClasses.add(classInfo.name().toString());
-        }
-        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY)) {
-            if (daoEnhancer.skipRepository(classInfo))
-                continue;
-            List<org.jboss.jandex.Type> typeParameters = JandexUtil
-                    .resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY, index.getIndex());
-            panacheEntities.add(typeParameters.get(0).name().toString());
-            daoClasses.add(classInfo.name().toString());
-        }
+        Map<String, String> repositoryEntities = collectRepositoryEntities(index.getIndex(), daoEnhancer);
+        Set<String> panacheEntities = new HashSet<>(repositoryEntities.values());
+        Set<String> daoClasses = repositoryEntities.keySet();
         for (String daoClass : daoClasses) {
             transformers.produce(new BytecodeTransformerBuildItem(daoClass, daoEnhancer));
         }
@@ -146,6 +143,125 @@ public final class PanacheHibernateResourceProcessor {
         recordPanacheEntityPersistenceUnits(recorder, jpaModelPersistenceUnitMapping, panacheEntities);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    PrecompiledQueriesBuildItem precompileQueries(PanacheHibernateRecorder recorder,
+            CombinedIndexBuildItem index,
+            ApplicationArchivesBuildItem applicationArchives,
+            JpaEntitiesBuildItem jpaEntities,
+            List<PanacheEntityClassBuildItem> entityClasses) throws IOException {
+        // the entities and repositories the queries can be called on
+        Map<String, String> ownerToEntity = new HashMap<>();
+        for (PanacheEntityClassBuildItem entityClass : entityClasses) {
+            String entityClassName = entityClass.get().name().toString();
+            if (jpaEntities.getEntityClassNames().contains(entityClassName)) {
+                ownerToEntity.put(entityClassName.replace('.', '/'), entityClassName);
+            }
+        }
+        if (ownerToEntity.isEmpty()) {
+            return null;
+        }
+        PanacheJpaRepositoryEnhancer daoEnhancer = new PanacheJpaRepositoryEnhancer(index.getIndex(),
+                JavaJpaTypeBundle.BUNDLE);
+        for (Entry<String, String> repositoryEntity : collectRepositoryEntities(index.getIndex(), daoEnhancer).entrySet()) {
+            if (jpaEntities.getEntityClassNames().contains(repositoryEntity.getValue())) {
+                ownerToEntity.put(repositoryEntity.getKey().replace('.', '/'), repositoryEntity.getValue());
+            }
+        }
+
+        // look for the calls with a constant query in the application classes
+        PanacheQueryCallSiteScanner scanner = new PanacheQueryCallSiteScanner(ownerToEntity);
+        QuarkusClassLoader tccl = (QuarkusClassLoader) Thread.currentThread().getContextClassLoader();
+        Set<String> classNames = new HashSet<>();
+        for (ClassInfo classInfo : applicationArchives.getRootArchive().getIndex().getKnownClasses()) {
+            classNames.add(classInfo.name().toString());
+        }
+        for (ClassPathElement archive : tccl.getElementsWithResource(META_INF_PANACHE_ARCHIVE_MARKER)) {
+            for (String resource : archive.getProvidedResources()) {
+                if (resource.endsWith(".class")) {
+                    classNames.add(resource.replace('/', '.').substring(0, resource.length() - 6));
+                }
+            }
+        }
+        Map<String, Map<String, PrecompiledQuery>> queries = new HashMap<>();
+        for (String className : classNames) {
+            byte[] classBytes;
+            try (InputStream stream = IoUtil.readClass(tccl, className)) {
+                if (stream == null) {
+                    continue;
+                }
+                classBytes = IoUtil.readBytes(stream);
+            }
+            for (PanacheQueryCallSiteScanner.CallSite callSite : scanner.scan(classBytes)) {
+                if (callSite.query.trim().isEmpty() || PanacheJpaUtil.isNamedQuery(callSite.query)) {
+                    continue;
+                }
+                PrecompiledQuery query = queries.computeIfAbsent(callSite.entityClassName, k -> new HashMap<>())
+                        .computeIfAbsent(callSite.query, k -> {
+                            PrecompiledQuery precompiled = new PrecompiledQuery();
+                            precompiled.setLocation(callSite.location);
+                            return precompiled;
+                        });
+                precompile(query, callSite);
+            }
+        }
+        if (queries.isEmpty()) {
+            return null;
+        }
+        recorder.setPrecompiledQueries(queries);
+        return new PrecompiledQueriesBuildItem(queries);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void validatePrecompiledQueries(PanacheHibernateRecorder recorder,
+            Optional<PrecompiledQueriesBuildItem> precompiledQueries,
+            List<ServiceStartBuildItem> orderAfterPersistenceUnitsStart) {
+        if (precompiledQueries.isPresent()) {
+            recorder.validatePrecompiledQueries();
+        }
+    }
+
+    private static void precompile(PrecompiledQuery query, PanacheQueryCallSiteScanner.CallSite callSite) {
+        String entityName = callSite.entityClassName;
+        String expanded;
+        String expandedWithoutParameter;
+        switch (callSite.operation) {
+            case "count":
+                expanded = PanacheJpaUtil.createCountQuery(entityName, callSite.query, 1);
+                expandedWithoutParameter = PanacheJpaUtil.createCountQuery(entityName, callSite.query, 0);
+                query.setCountQuery(expanded);
+                break;
+            case "delete":
+                expanded = PanacheJpaUtil.createDeleteQuery(entityName, callSite.query, 1);
+                expandedWithoutParameter = PanacheJpaUtil.createDeleteQuery(entityName, callSite.query, 0);
+                query.setDeleteQuery(expanded);
+                break;
+            case "update":
+                expanded = PanacheJpaUtil.createUpdateQuery(entityName, callSite.query, 1);
+                expandedWithoutParameter = PanacheJpaUtil.createUpdateQuery(entityName, callSite.query, 0);
+                query.setUpdateQuery(expanded);
+                break;
+            default:
+                expanded = PanacheJpaUtil.createFindQuery(entityName, callSite.query, 1);
+                expandedWithoutParameter = PanacheJpaUtil.createFindQuery(entityName, callSite.query, 0);
+                query.setFindQuery(expanded);
+                break;
+        }
+        // the shorthand form (e.g. "name") is only expanded to "name = ?1" when there is exactly one parameter
+        if (!expanded.equals(expandedWithoutParameter)) {
+            query.setShorthand(true);
+        }
+        // the update statements are not checked: the Panache QL grammar does not support several assignments
+        if (!callSite.operation.equals("update")) {
+            String syntaxError = PanacheQlSyntaxChecker.check(expanded);
+            if (syntaxError != null) {
+                LOGGER.warnf("The Panache query '%s' used in %s is probably invalid: %s", expanded, callSite.location,
+                        syntaxError);
+            }
+        }
+    }
+
     @BuildStep
     ValidationPhaseBuildItem.ValidationErrorBuildItem validate(ValidationPhaseBuildItem validationPhase,
             CombinedIndexBuildItem index) throws BuildException {
@@ -163,6 +279,28 @@ public final class PanacheHibernateResourceProcessor {
         return null;
     }
 
+    private static Map<String, String> collectRepositoryEntities(IndexView index, PanacheJpaRepositoryEnhancer daoEnhancer) {
+        Map<String, String> repositoryEntities = new HashMap<>();
+        for (ClassInfo classInfo : index.getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE)) {
+            // Skip PanacheRepository
+            if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY))
+                continue;
+            if (daoEnhancer.skipRepository(classInfo))
+                continue;
+            List<org.jboss.jandex.Type> typeParameters = JandexUtil
+                    .resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY_BASE, index);
+            repositoryEntities.put(classInfo.name().toString(), typeParameters.get(0).name().toString());
+        }
+        for (ClassInfo classInfo : index.getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY)) {
+            if (daoEnhancer.skipRepository(classInfo))
+                continue;
+            List<org.jboss.jandex.Type> typeParameters = JandexUtil
+                    .resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY, index);
+            repositoryEntities.put(classInfo.name().toString(), typeParameters.get(0).name().toString());
+        }
+        return repositoryEntities;
+    }
+
     void recordPanacheEntityPersistenceUnits(PanacheHibernateOrmRecorder recorder,
             Optional<JpaModelPersistenceUnitMappingBuildItem> jpaModelPersistenceUnitMapping,
             Set<String> panacheEntityClasses) {
@@ -0,0 +1,47 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+import io.quarkus.panacheql.internal.HqlLexer;
+import io.quarkus.panacheql.internal.HqlParser;
+
+/**
+ * Checks the syntax of the HQL queries with the Panache QL grammar.
+ */
+final class PanacheQlSyntaxChecker {
+
+    private PanacheQlSyntaxChecker() {
+    }
+
+    /**
+     * @return the first syntax error, or {@code null} if the query is syntactically valid
+     */
+    static String check(String query) {
+        SyntaxErrorListener errorListener = new SyntaxErrorListener();
+        HqlLexer lexer = new HqlLexer(CharStreams.fromString(query));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        HqlParser parser = new HqlParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        parser.statement();
+        return errorListener.error;
+    }
+
+    private static final class SyntaxErrorListener extends BaseErrorListener {
+
+        String error;
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                String msg, RecognitionException e) {
+            if (error == null) {
+                error = "column " + charPositionInLine + ": " + msg;
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+/**
+ * Finds the calls to the Panache query operations (e.g. {@code Person.find("status = ?1", status)}) whose query is a
+ * constant string.
+ */
+final class PanacheQueryCallSiteScanner {
+
+    static final Set<String> QUERY_OPERATIONS = new HashSet<>(
+            Arrays.asList("find", "list", "stream", "count", "delete", "update"));
+
+    private static final Type STRING = Type.getType(String.class);
+    private static final Type SORT = Type.getObjectType("io/quarkus/panache/common/Sort");
+    private static final Set<Type> PARAMETERS_TYPES = new HashSet<>(Arrays.asList(Type.getType(Object[].class),
+            Type.getType(Map.class), Type.getObjectType("io/quarkus/panache/common/Parameters")));
+
+    private final Map<String, String> ownerToEntity;
+
+    /**
+     * @param ownerToEntity the entity class names, indexed by the internal names of the Panache entities and
+     *        repositories they are queried with
+     */
+    PanacheQueryCallSiteScanner(Map<String, String> ownerToEntity) {
+        this.ownerToEntity = ownerToEntity;
+    }
+
+    List<CallSite> scan(byte[] classBytes) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(classBytes).accept(classNode, ClassReader.SKIP_FRAMES);
+        List<CallSite> callSites = new ArrayList<>();
+        for (MethodNode method : classNode.methods) {
+            if (hasQueryOperation(method)) {
+                scan(classNode, method, callSites);
+            }
+        }
+        return callSites;
+    }
+
+    private void scan(ClassNode classNode, MethodNode method, List<CallSite> callSites) {
+        Frame<SourceValue>[] frames;
+        try {
+            frames = new Analyzer<>(new SourceInterpreter()).analyze(classNode.name, method);
+        } catch (AnalyzerException e) {
+            return;
+        }
+        for (int i = 0; i < method.instructions.size(); i++) {
+            AbstractInsnNode instruction = method.instructions.get(i);
+            Frame<SourceValue> frame = frames[i];
+            if (frame == null || !isQueryOperation(instruction)) {
+                continue;
+            }
+            MethodInsnNode invocation = (MethodInsnNode) instruction;
+            int argumentCount = Type.getArgumentTypes(invocation.desc).length;
+            SourceValue query = frame.getStack(frame.getStackSize() - argumentCount);
+            if (query.insns.size() != 1) {
+                continue;
+            }
+            AbstractInsnNode source = query.insns.iterator().next();
+            if (source instanceof LdcInsnNode && ((LdcInsnNode) source).cst instanceof String) {
+                callSites.add(new CallSite(ownerToEntity.get(invocation.owner), invocation.name,
+                        (String) ((LdcInsnNode) source).cst, location(classNode, method, instruction)));
+            }
+        }
+    }
+
+    private boolean hasQueryOperation(MethodNode method) {
+        for (AbstractInsnNode instruction : method.instructions) {
+            if (isQueryOperation(instruction)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isQueryOperation(AbstractInsnNode instruction) {
+        if (!(instruction instanceof MethodInsnNode)) {
+            return false;
+        }
+        MethodInsnNode invocation = (MethodInsnNode) instruction;
+        if (!QUERY_OPERATIONS.contains(invocation.name) || !ownerToEntity.containsKey(invocation.owner)) {
+            return false;
+        }
+        // static methods for the entities, instance methods for the repositories
+        if ((invocation.getOpcode() == Opcodes.INVOKESTATIC) != isEntity(invocation.owner)) {
+            return false;
+        }
+        Type[] arguments = Type.getArgumentTypes(invocation.desc);
+        if (arguments.length < 2 || arguments.length > 3 || !arguments[0].equals(STRING)) {
+            return false;
+        }
+        if (arguments.length == 3 && !arguments[1].equals(SORT)) {
+            return false;
+        }
+        return PARAMETERS_TYPES.contains(arguments[arguments.length - 1]);
+    }
+
+    private boolean isEntity(String owner) {
+        return ownerToEntity.get(owner).equals(owner.replace('/', '.'));
+    }
+
+    private static String location(ClassNode classNode, MethodNode method, AbstractInsnNode instruction) {
+        String location = classNode.name.replace('/', '.') + "#" + method.name;
+        for (AbstractInsnNode previous = instruction; previous != null; previous = previous.getPrevious()) {
+            if (previous instanceof LineNumberNode) {
+                return location + ":" + ((LineNumberNode) previous).line;
+            }
+        }
+        return location;
+    }
+
+    static final class CallSite {
+
+        final String entityClassName;
+        final String operation;
+        final String query;
+        final String location;
+
+        CallSite(String entityClassName, String operation, String query, String location) {
+            this.entityClassName = entityClassName;
+            this.operation = operation;
+            this.query = query;
+            this.location = location;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.hibernate.orm.panache.common.runtime.PrecompiledQuery;
+
+/**
+ * The HQL queries expanded at build time from the constant query strings passed to the Panache operations, indexed by
+ * entity class name and query string.
+ */
+public final class PrecompiledQueriesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, Map<String, PrecompiledQuery>> queries;
+
+    public PrecompiledQueriesBuildItem(Map<String, Map<String, PrecompiledQuery>> queries) {
+        this.queries = queries;
+    }
+
+    public Map<String, Map<String, PrecompiledQuery>> getQueries() {
+        return queries;
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InvalidPrecompiledQueryTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setExpectedException(IllegalStateException.class)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class, InvalidQueries.class));
+
+    @Test
+    void shouldThrow() {
+        fail("The application should not start with an invalid constant query");
+    }
+
+    public static class InvalidQueries {
+
+        public static List<MyEntity> findByUnknownField(String value) {
+            return MyEntity.list("unknownField = ?1", value);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Cursor;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class KeysetPaginationTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class, MyOtherEntity.class, MyEntityPages.class));
+
+    @Inject
+    MyEntityPages pages;
+
+    @Test
+    void readsAllPagesWithCursors() {
+        pages.persist("b", "d", "a", "c", "b", "e");
+
+        assertEquals(Arrays.asList("e", "d", "c", "b", "b", "a"),
+                pages.readAll(Sort.by("name", Sort.Direction.Descending).and("id"), "name != ?1", "z"));
+        // named parameters, a where clause excluding rows and an ascending sort
+        assertEquals(Arrays.asList("b", "b", "c", "d"),
+                pages.readAll(Sort.by("name").and("id"), "name > :min and name < :max",
+                        Parameters.with("min", "a").and("max", "e")));
+    }
+
+    @Test
+    void rejectsInvalidCursors() {
+        assertThrows(PanacheQueryException.class, () -> pages.cursorWithoutSort());
+        assertThrows(PanacheQueryException.class, () -> pages.readAfter("not a token"));
+        assertThrows(UnsupportedOperationException.class, () -> pages.nextCursorWithoutCursor());
+        assertThrows(PanacheQueryException.class, () -> pages.cursorWithAliasedSort());
+    }
+
+    @Test
+    void rejectsCursorsOfAnotherEntity() {
+        pages.persist("a", "b", "c");
+
+        String token = pages.firstPageToken();
+        assertEquals(1, pages.readAfter(token).size());
+        assertThrows(PanacheQueryException.class, () -> pages.readOtherEntityAfter(token));
+    }
+
+    @ApplicationScoped
+    public static class MyEntityPages {
+
+        @Transactional
+        public void persist(String... names) {
+            MyEntity.deleteAll();
+            for (String name : names) {
+                MyEntity entity = new MyEntity();
+                entity.name = name;
+                entity.persist();
+            }
+        }
+
+        @Transactional
+        public List<String> readAll(Sort sort, String query, Object... params) {
+            return readAll(() -> MyEntity.find(query, sort, params));
+        }
+
+        @Transactional
+        public List<String> readAll(Sort sort, String query, Parameters params) {
+            return readAll(() -> MyEntity.find(query, sort, params));
+        }
+
+        private List<String> readAll(QuerySupplier querySupplier) {
+            List<String> names = new ArrayList<>();
+            Cursor cursor = Cursor.ofSize(2);
+            while (cursor != null) {
+                // a new query for each page, as when the token is sent back by a client
+                PanacheQuery<MyEntity> query = querySupplier.get().cursor(cursor);
+                List<MyEntity> page = query.list();
+                if (query.nextCursor() != null) {
+                    assertEquals(2, page.size());
+                }
+                names.addAll(page.stream().map(entity -> entity.name).collect(Collectors.toList()));
+                cursor = query.nextCursor();
+            }
+            return names;
+        }
+
+        @Transactional
+        public void cursorWithoutSort() {
+            MyEntity.findAll().cursor(Cursor.ofSize(2));
+        }
+
+        @Transactional
+        public List<MyEntity> readAfter(String token) {
+            return MyEntity.findAll(Sort.by("id")).cursor(Cursor.after(token, 2)).list();
+        }
+
+        @Transactional
+        public List<MyOtherEntity> readOtherEntityAfter(String token) {
+            return MyOtherEntity.findAll(Sort.by("id")).cursor(Cursor.after(token, 2)).list();
+        }
+
+        @Transactional
+        public String firstPageToken() {
+            PanacheQuery<MyEntity> query = MyEntity.findAll(Sort.by("id")).cursor(Cursor.ofSize(2));
+            query.list();
+            return query.nextCursor().getToken();
+        }
+
+        @Transactional
+        public void cursorWithAliasedSort() {
+            MyEntity.find("FROM MyEntity e", Sort.by("e.name").and("e.id")).cursor(Cursor.ofSize(2));
+        }
+
+        @Transactional
+        public void nextCursorWithoutCursor() {
+            MyEntity.findAll(Sort.by("id")).page(0, 2).nextCursor();
+        }
+
+        interface QuerySupplier {
+            PanacheQuery<MyEntity> get();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.ManyToOne;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class MyLineEntity extends PanacheEntity {
+    public String name;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    public MyOtherEntity other;
+}
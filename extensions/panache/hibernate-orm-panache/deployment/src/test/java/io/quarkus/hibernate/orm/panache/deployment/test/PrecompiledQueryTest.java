@@ -0,0 +1,82 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.common.runtime.PrecompiledQueryUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PrecompiledQueryTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class, MyEntityQueries.class));
+
+    @Inject
+    MyEntityQueries queries;
+
+    @Test
+    void constantQueriesArePrecompiled() {
+        // the precompiled queries are looked up instead of being built for each call
+        assertSame(PrecompiledQueryUtil.createFindQuery(MyEntity.class, "name", 1),
+                PrecompiledQueryUtil.createFindQuery(MyEntity.class, "name", 1));
+        assertEquals("FROM " + MyEntity.class.getName() + " WHERE name = ?1",
+                PrecompiledQueryUtil.createFindQuery(MyEntity.class, "name", 1));
+        assertSame(PrecompiledQueryUtil.createCountQuery(MyEntity.class, "name like ?1", 1),
+                PrecompiledQueryUtil.createCountQuery(MyEntity.class, "name like ?1", 1));
+        // the shorthand form is only expanded with exactly one parameter
+        assertEquals("FROM " + MyEntity.class.getName() + " WHERE name",
+                PrecompiledQueryUtil.createFindQuery(MyEntity.class, "name", 0));
+        // the other queries are still built
+        assertNotSame(PrecompiledQueryUtil.createFindQuery(MyEntity.class, "name = ?1 and id > ?2", 2),
+                PrecompiledQueryUtil.createFindQuery(MyEntity.class, "name = ?1 and id > ?2", 2));
+    }
+
+    @Test
+    void precompiledQueriesAreExecuted() {
+        queries.persist("foo");
+        queries.persist("bar");
+        assertEquals(1, queries.findByName("foo"));
+        assertEquals(2, queries.countByPrefix("%"));
+        assertEquals(1, queries.deleteByName("bar"));
+        assertEquals(1, queries.countByPrefix("%"));
+    }
+
+    @ApplicationScoped
+    public static class MyEntityQueries {
+
+        @Transactional
+        public void persist(String name) {
+            MyEntity entity = new MyEntity();
+            entity.name = name;
+            entity.persist();
+        }
+
+        @Transactional
+        public int findByName(String name) {
+            return MyEntity.find("name", name).list().size();
+        }
+
+        @Transactional
+        public long countByPrefix(String prefix) {
+            return MyEntity.count("name like ?1", prefix);
+        }
+
+        @Transactional
+        public long deleteByName(String name) {
+            return MyEntity.delete("name", name);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamFetchSizeTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class, MyLineEntity.class, MyOtherEntity.class, MyEntityExport.class));
+
+    @Inject
+    MyEntityExport export;
+
+    @Test
+    void streamedEntitiesAreDetached() {
+        export.persist(10);
+        export.export();
+    }
+
+    @Test
+    void entitiesManagedBeforeTheStreamAreKept() {
+        export.persist(5);
+        Long id = export.modifyAndExport();
+        assertEquals("modified", export.name(id));
+    }
+
+    @Test
+    void eagerAssociationsAreDetached() {
+        export.persistLines(6);
+        export.exportLines();
+    }
+
+    @ApplicationScoped
+    public static class MyEntityExport {
+
+        @Inject
+        EntityManager em;
+
+        @Transactional
+        public void persist(int count) {
+            for (int i = 0; i < count; i++) {
+                MyEntity entity = new MyEntity();
+                entity.name = "entity" + i;
+                entity.persist();
+            }
+        }
+
+        @Transactional
+        public void export() {
+            em.clear();
+            List<MyEntity> read = new ArrayList<>();
+            try (Stream<MyEntity> stream = MyEntity.findAll(Sort.by("id")).stream(3)) {
+                Iterator<MyEntity> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    read.add(iterator.next());
+                    // only the last 3 entities are kept in the persistence context
+                    for (int i = 0; i < read.size(); i++) {
+                        assertEquals(i >= read.size() - 3, em.contains(read.get(i)));
+                    }
+                }
+            }
+            assertEquals(10, read.size());
+            assertTrue(read.stream().noneMatch(em::contains));
+        }
+
+        @Transactional
+        public void persistLines(int count) {
+            for (int i = 0; i < count; i++) {
+                MyOtherEntity other = new MyOtherEntity();
+                other.name = "other" + i;
+                other.persist();
+                MyLineEntity line = new MyLineEntity();
+                line.name = "line" + i;
+                line.other = other;
+                line.persist();
+            }
+        }
+
+        @Transactional
+        public void exportLines() {
+            em.clear();
+            // an associated entity managed before the stream is never detached
+            MyOtherEntity managed = MyOtherEntity.<MyOtherEntity> findAll(Sort.by("id")).firstResult();
+            List<MyLineEntity> read = new ArrayList<>();
+            try (Stream<MyLineEntity> stream = MyLineEntity.findAll(Sort.by("id")).stream(2)) {
+                Iterator<MyLineEntity> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    read.add(iterator.next());
+                    for (int i = 0; i < read.size(); i++) {
+                        MyLineEntity line = read.get(i);
+                        boolean retained = i >= read.size() - 2;
+                        assertEquals(retained, em.contains(line));
+                        // the eagerly loaded association is detached along with the line
+                        assertEquals(retained || line.other == managed, em.contains(line.other));
+                    }
+                }
+            }
+            assertEquals(6, read.size());
+            assertTrue(read.stream().noneMatch(em::contains));
+            assertTrue(read.stream().noneMatch(line -> line.other != managed && em.contains(line.other)));
+            assertTrue(em.contains(managed));
+        }
+
+        @Transactional
+        public Long modifyAndExport() {
+            em.clear();
+            MyEntity modified = MyEntity.<MyEntity> findAll(Sort.by("id")).firstResult();
+            // a pending change, which is only flushed at the end of the transaction
+            modified.name = "modified";
+            try (Stream<MyEntity> stream = MyEntity.findAll(Sort.by("id")).stream(1)) {
+                assertTrue(stream.count() >= 5);
+            }
+            assertTrue(em.contains(modified));
+            return modified.id;
+        }
+
+        @Transactional
+        public String name(Long id) {
+            return MyEntity.<MyEntity> findById(id).name;
+        }
+    }
+}
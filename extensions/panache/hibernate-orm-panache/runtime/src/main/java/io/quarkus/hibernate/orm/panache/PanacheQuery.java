@@ -12,8 +12,10 @@ import javax.persistence.NonUniqueResultException;
 import org.hibernate.Session;
 import org.hibernate.annotations.FilterDef;
 
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.exception.PanacheQueryException;
 
 /**
  * <p>
@@ -147,6 +149,29 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to keyset pagination: instead of skipping the rows of the previous pages, the query reads the
+     * rows following the position of the cursor, according to the query sort. The sort must define a total order,
+     * for example by ending with the identifier, and its columns must be non-null basic properties of the entity,
+     * named without an alias or a path. Reading a page with a cursor costs the same whatever its position, but only the next page can be reached from it.
+     *
+     * @param cursor the cursor to read the page of
+     * @return this query, modified
+     * @throws PanacheQueryException if the query has no sort, has an aliased sort column or is a named query
+     * @see #nextCursor()
+     */
+    public <T extends Entity> PanacheQuery<T> cursor(Cursor cursor);
+
+    /**
+     * Returns the cursor of the page following the one read by the last call to {@link #list()}, or null if that
+     * page was the last one.
+     *
+     * @return the cursor of the next page, or null if there is no next page
+     * @throws UnsupportedOperationException if a cursor hasn't been set
+     * @see #cursor(Cursor)
+     */
+    public Cursor nextCursor();
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -242,6 +267,20 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} read with a forward-only database cursor, fetching the
+     * given number of rows at a time, and detaching each entity from the persistence context once the given number of
+     * further entities has been read. Unlike {@link #stream()}, the memory used does not grow with the number of
+     * results, which makes it suitable to export large result sets. The entities are read-only, and the stream must be
+     * closed, and consumed before the end of the transaction.
+     *
+     * @param fetchSize the number of rows to fetch from the database at a time, which is also the number of entities
+     *        kept in the persistence context
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     */
+    public <T extends Entity> Stream<T> stream(int fetchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -11,15 +11,17 @@ import javax.persistence.LockModeType;
 
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     private CommonPanacheQueryImpl<Entity> delegate;
 
-    PanacheQueryImpl(EntityManager em, String query, String orderBy, Object paramsArrayOrMap) {
-        this.delegate = new CommonPanacheQueryImpl<Entity>(em, query, orderBy, paramsArrayOrMap);
+    PanacheQueryImpl(EntityManager em, String query, Sort sort, Object paramsArrayOrMap) {
+        this.delegate = new CommonPanacheQueryImpl<Entity>(em, query, sort, paramsArrayOrMap);
     }
 
     protected PanacheQueryImpl(CommonPanacheQueryImpl<Entity> delegate) {
@@ -102,6 +104,18 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> cursor(Cursor cursor) {
+        delegate.cursor(cursor);
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public Cursor nextCursor() {
+        return delegate.nextCursor();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
@@ -154,6 +168,11 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> stream(int fetchSize) {
+        return delegate.stream(fetchSize);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
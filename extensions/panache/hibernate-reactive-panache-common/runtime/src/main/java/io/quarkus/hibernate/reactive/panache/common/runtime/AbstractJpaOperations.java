@@ -128,6 +128,11 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         return getSession().find(entityClass, id, LockModeConverter.convertToLockMode(lockModeType));
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Uni<List<?>> findByIds(Class<?> entityClass, List<?> ids) {
+        return (Uni) getSession().find(entityClass, ids.toArray());
+    }
+
     public PanacheQueryType find(Class<?> entityClass, String query, Object... params) {
         return find(entityClass, query, null, params);
     }
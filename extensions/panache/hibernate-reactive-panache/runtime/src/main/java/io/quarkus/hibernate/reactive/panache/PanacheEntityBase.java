@@ -127,6 +127,17 @@ public abstract class PanacheEntityBase {
         throw INSTANCE.implementationInjectionMissing();
     }
 
+    /**
+     * Find the entities of this type with the given IDs, loading them in a single query.
+     *
+     * @param ids the IDs of the entities to find.
+     * @return the entities found, in the order of the given IDs, with <code>null</code> for the IDs that were not found.
+     */
+    @GenerateBridge
+    public static <T extends PanacheEntityBase> Uni<List<T>> findByIds(List<?> ids) {
+        throw INSTANCE.implementationInjectionMissing();
+    }
+
     /**
      * Find entities using a query, with optional indexed parameters.
      *
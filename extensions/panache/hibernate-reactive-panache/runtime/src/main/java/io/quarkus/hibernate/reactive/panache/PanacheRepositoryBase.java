@@ -122,6 +122,17 @@ public interface PanacheRepositoryBase<Entity, Id> {
         throw INSTANCE.implementationInjectionMissing();
     }
 
+    /**
+     * Find the entities of this type with the given IDs, loading them in a single query.
+     *
+     * @param ids the IDs of the entities to find.
+     * @return the entities found, in the order of the given IDs, with <code>null</code> for the IDs that were not found.
+     */
+    @GenerateBridge
+    public default Uni<List<Entity>> findByIds(List<Id> ids) {
+        throw INSTANCE.implementationInjectionMissing();
+    }
+
     /**
      * Find entities using a query, with optional indexed parameters.
      * 
@@ -0,0 +1,92 @@
+package io.quarkus.panache.common;
+
+/**
+ * <p>
+ * Utility class to represent keyset (a.k.a. seek) pagination information. Cursor instances are immutable.
+ * </p>
+ *
+ * <p>
+ * Unlike a {@link Page}, which skips the rows of the previous pages, a cursor resumes the query after the last row of
+ * the previous page, based on the values of the sort columns of this row, so reading a page costs the same whatever its
+ * position. The position is represented by an opaque token, which can be handed to clients and given back to
+ * {@link #after(String, int)} to read the next page.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <code><pre>
+ * PanacheQuery&lt;Person&gt; query = Person.find("status", Sort.by("name").and("id"), Status.Alive)
+ *         .cursor(Cursor.ofSize(25));
+ * List&lt;Person&gt; firstPage = query.list();
+ * Cursor next = query.nextCursor(); // null if there is no next page
+ * List&lt;Person&gt; secondPage = query.cursor(next).list();
+ * </pre></code>
+ */
+public class Cursor {
+
+    /**
+     * The position of the cursor, or {@code null} for the first page.
+     */
+    private final String token;
+
+    /**
+     * The page size.
+     */
+    public final int size;
+
+    /**
+     * Builds a cursor positioned after the row represented by the given token.
+     *
+     * @param token the token of the last row of the previous page, or {@code null} for the first page
+     * @param size the page size
+     * @throws IllegalArgumentException if the page size is less than or equal to 0
+     * @see #after(String, int)
+     */
+    public Cursor(String token, int size) {
+        if (size <= 0)
+            throw new IllegalArgumentException("Page size must be > 0 : " + size);
+        this.token = token;
+        this.size = size;
+    }
+
+    /**
+     * Builds a cursor for the first page of the given size.
+     *
+     * @param size the page size
+     * @throws IllegalArgumentException if the page size is less than or equal to 0
+     */
+    public static Cursor ofSize(int size) {
+        return new Cursor(null, size);
+    }
+
+    /**
+     * Builds a cursor positioned after the row represented by the given token, as returned by {@link #getToken()}.
+     *
+     * @param token the token of the last row of the previous page, or {@code null} for the first page
+     * @param size the page size
+     * @throws IllegalArgumentException if the page size is less than or equal to 0
+     */
+    public static Cursor after(String token, int size) {
+        return new Cursor(token, size);
+    }
+
+    /**
+     * Returns the opaque token representing the position of this cursor, or {@code null} for the first page.
+     *
+     * @return the opaque token representing the position of this cursor, or {@code null} for the first page.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns a new cursor with the first page position and the same size, or this cursor if it is the first page.
+     *
+     * @return a new cursor with the first page position and the same size, or this cursor if it is the first page.
+     */
+    public Cursor first() {
+        return token != null ? new Cursor(null, size) : this;
+    }
+}
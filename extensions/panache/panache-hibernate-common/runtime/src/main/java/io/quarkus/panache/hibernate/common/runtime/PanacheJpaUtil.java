@@ -57,13 +57,17 @@ public class PanacheJpaUtil {
     }
 
     public static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+        return createFindQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createFindQuery(String entityName, String query, int paramCount) {
         if (query == null) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
 
         String trimmed = query.trim();
         if (trimmed.isEmpty()) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
 
         if (isNamedQuery(query)) {
@@ -76,12 +80,12 @@ public class PanacheJpaUtil {
             return query;
         }
         if (trimmedLc.startsWith("order by ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + entityName + " " + query;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + entityName + " WHERE " + query;
     }
 
     public static boolean isNamedQuery(String query) {
@@ -92,12 +96,16 @@ public class PanacheJpaUtil {
     }
 
     public static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
+        return createCountQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createCountQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ")) {
@@ -105,15 +113,19 @@ public class PanacheJpaUtil {
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "SELECT COUNT(*) FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "SELECT COUNT(*) FROM " + entityName + " WHERE " + query;
     }
 
     public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
+        return createUpdateQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createUpdateQuery(String entityName, String query, int paramCount) {
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
@@ -134,18 +146,22 @@ public class PanacheJpaUtil {
             query += " = ?1";
         }
         if (trimmedLc.startsWith("set ")) {
-            return "UPDATE FROM " + getEntityName(entityClass) + " " + query;
+            return "UPDATE FROM " + entityName + " " + query;
         }
-        return "UPDATE FROM " + getEntityName(entityClass) + " SET " + query;
+        return "UPDATE FROM " + entityName + " SET " + query;
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        return createDeleteQuery(getEntityName(entityClass), query, paramCount);
+    }
+
+    public static String createDeleteQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ")) {
@@ -153,12 +169,12 @@ public class PanacheJpaUtil {
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "DELETE FROM " + entityName + " WHERE " + query;
     }
 
     public static String toOrderBy(Sort sort) {
@@ -179,4 +195,119 @@ public class PanacheJpaUtil {
         }
         return sb.toString();
     }
+
+    /**
+     * Adds the keyset pagination predicate to the given query, so that it only selects the rows that come after the
+     * given sort column values, in the order defined by the given sort. The predicate is expanded to
+     * {@code (c1 > ?) OR (c1 = ? AND c2 > ?) OR ...} rather than using a row value comparison, because the latter is
+     * not supported by all the databases and does not allow mixing the sort directions.
+     *
+     * @param query the HQL query, without an ORDER BY clause
+     * @param sort the sort of the query, which should define a total order (e.g. by ending with the identifier)
+     * @param parameters the parameter placeholders (e.g. {@code ?3} or {@code :name}) holding the sort column values of
+     *        the last row of the previous page, in the sort column order
+     * @return the query with the keyset predicate
+     */
+    public static String createKeysetQuery(String query, Sort sort, String[] parameters) {
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a sort");
+        }
+        if (parameters.length != sort.getColumns().size()) {
+            throw new IllegalArgumentException("Expected " + sort.getColumns().size() + " parameters for the sort columns");
+        }
+        StringBuilder predicate = new StringBuilder();
+        for (int i = 0; i < sort.getColumns().size(); i++) {
+            if (i > 0) {
+                predicate.append(" OR ");
+            }
+            predicate.append('(');
+            for (int j = 0; j < i; j++) {
+                predicate.append(sort.getColumns().get(j).getName()).append(" = ").append(parameters[j]).append(" AND ");
+            }
+            Sort.Column column = sort.getColumns().get(i);
+            predicate.append(column.getName())
+                    .append(column.getDirection() == Sort.Direction.Ascending ? " > " : " < ")
+                    .append(parameters[i])
+                    .append(')');
+        }
+
+        int whereIndex = -1;
+        String lcQuery = query.toLowerCase();
+        int depth = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < lcQuery.length(); i++) {
+            char c = lcQuery.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            } else if (inLiteral) {
+                continue;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && (i == 0 || isKeywordStart(lcQuery.charAt(i - 1)))) {
+                if (isKeywordAt(lcQuery, i, "where")) {
+                    whereIndex = i;
+                } else if (isKeywordAt(lcQuery, i, "group") || isKeywordAt(lcQuery, i, "having")
+                        || isKeywordAt(lcQuery, i, "order")) {
+                    throw new PanacheQueryException("Keyset pagination is not supported for queries with a "
+                            + "GROUP BY, HAVING or ORDER BY clause, use a Sort instead: " + query);
+                }
+            }
+        }
+        if (whereIndex == -1) {
+            return query + " WHERE " + predicate;
+        }
+        return query.substring(0, whereIndex) + "WHERE (" + query.substring(whereIndex + "where".length()).trim()
+                + ") AND (" + predicate + ")";
+    }
+
+    /**
+     * Returns the name of the entity selected by the given query, as written after the first top level FROM keyword.
+     * It may be an imported (unqualified) entity name.
+     *
+     * @param query the HQL query
+     * @return the entity name, or null if the query has no FROM clause
+     */
+    public static String getQueryEntityName(String query) {
+        String lcQuery = query.toLowerCase();
+        int depth = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < lcQuery.length(); i++) {
+            char c = lcQuery.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            } else if (inLiteral) {
+                continue;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && (i == 0 || isKeywordStart(lcQuery.charAt(i - 1)))
+                    && isKeywordAt(lcQuery, i, "from")) {
+                int start = i + "from".length();
+                while (start < query.length() && Character.isWhitespace(query.charAt(start))) {
+                    start++;
+                }
+                int end = start;
+                while (end < query.length()
+                        && (Character.isJavaIdentifierPart(query.charAt(end)) || query.charAt(end) == '.')) {
+                    end++;
+                }
+                return end > start ? query.substring(start, end) : null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isKeywordStart(char previous) {
+        // not in the middle of an identifier, a path or a named parameter
+        return !Character.isJavaIdentifierPart(previous) && previous != '.' && previous != ':';
+    }
+
+    private static boolean isKeywordAt(String lcQuery, int index, String keyword) {
+        int end = index + keyword.length();
+        return lcQuery.startsWith(keyword, index)
+                && (end == lcQuery.length() || !Character.isJavaIdentifierPart(lcQuery.charAt(end)));
+    }
 }
@@ -0,0 +1,60 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class KeysetQueryTest {
+
+    @Test
+    public void testKeysetPredicate() {
+        Assertions.assertEquals("FROM Person WHERE (id > ?1)",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", Sort.by("id"), new String[] { "?1" }));
+        Assertions.assertEquals("FROM Person WHERE (name < :k0) OR (name = :k0 AND id > :k1)",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", Sort.by("name", Sort.Direction.Descending).and("id"),
+                        new String[] { ":k0", ":k1" }));
+    }
+
+    @Test
+    public void testKeysetPredicateWithWhereClause() {
+        Assertions.assertEquals("FROM Person WHERE (status = ?1 OR status = ?2) AND ((id > ?3))",
+                PanacheJpaUtil.createKeysetQuery("FROM Person WHERE status = ?1 OR status = ?2", Sort.by("id"),
+                        new String[] { "?3" }));
+        Assertions.assertEquals("select p from Person p WHERE (p.name in (select d.name from Dog d where d.age > 2)) "
+                + "AND ((id > ?1))",
+                PanacheJpaUtil.createKeysetQuery(
+                        "select p from Person p where p.name in (select d.name from Dog d where d.age > 2)",
+                        Sort.by("id"), new String[] { "?1" }));
+        Assertions.assertEquals("FROM Person WHERE (name = 'order by where') AND ((id > ?1))",
+                PanacheJpaUtil.createKeysetQuery("FROM Person WHERE name = 'order by where'", Sort.by("id"),
+                        new String[] { "?1" }));
+        Assertions.assertEquals("FROM Shop s WHERE (s.order = :order) AND ((id > :k0))",
+                PanacheJpaUtil.createKeysetQuery("FROM Shop s WHERE s.order = :order", Sort.by("id"),
+                        new String[] { ":k0" }));
+    }
+
+    @Test
+    public void testQueryEntityName() {
+        Assertions.assertEquals("io.quarkus.Person", PanacheJpaUtil.getQueryEntityName("FROM io.quarkus.Person"));
+        Assertions.assertEquals("Person", PanacheJpaUtil.getQueryEntityName("from Person WHERE name = 'from Dog'"));
+        Assertions.assertEquals("Person",
+                PanacheJpaUtil.getQueryEntityName("select p from Person p where p.name in (select d.name from Dog d)"));
+        Assertions.assertEquals("Person", PanacheJpaUtil.getQueryEntityName(
+                "SELECT new PersonName (p.name) FROM Person p WHERE p.fromDate > :from"));
+        Assertions.assertNull(PanacheJpaUtil.getQueryEntityName("#Person.getByName"));
+    }
+
+    @Test
+    public void testUnsupportedKeysetQueries() {
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Person", null, new String[0]));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Person ORDER BY name", Sort.by("id"),
+                        new String[] { "?1" }));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("SELECT name FROM Person GROUP BY name", Sort.by("name"),
+                        new String[] { "?1" }));
+    }
+}
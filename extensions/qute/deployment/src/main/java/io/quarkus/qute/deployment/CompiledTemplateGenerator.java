@@ -0,0 +1,345 @@
+package io.quarkus.qute.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType.Primitive;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldCreator;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Results.Result;
+import io.quarkus.qute.deployment.TypeInfos.Info;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+
+/**
+ * Generates a {@link CompiledTemplate} for a checked template.
+ * <p>
+ * Only type-safe expressions that consist of a template parameter followed by properties are supported, e.g.
+ * {@code item.name}. Each property must be backed by a public field or a public method with no parameters declared on a
+ * public class. Expressions that do not meet these requirements are not compiled.
+ */
+final class CompiledTemplateGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    static final String SUFFIX = "_CompiledTemplate";
+
+    // Properties handled by the built-in value resolvers
+    private static final Set<String> BUILT_IN_PROPERTIES = new HashSet<>(Arrays.asList("this", "raw", "safe", "orEmpty"));
+
+    private static final MethodDescriptor MAP_GET = MethodDescriptor.ofMethod(Map.class, "get", Object.class, Object.class);
+    private static final MethodDescriptor ARRAYS_AS_LIST = MethodDescriptor.ofMethod(Arrays.class, "asList", List.class,
+            Object[].class);
+    private static final FieldDescriptor RESULT_NOT_FOUND = FieldDescriptor.of(Result.class, "NOT_FOUND", Result.class);
+
+    private final IndexView index;
+    private final List<TemplateExtensionMethodBuildItem> templateExtensionMethods;
+    private final Function<String, String> templateIdToPathFun;
+    // expression original string -> compiled expression
+    private final Map<String, CompiledExpression> expressions;
+    private final Set<String> unsupported;
+
+    CompiledTemplateGenerator(IndexView index, List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            Function<String, String> templateIdToPathFun) {
+        this.index = index;
+        this.templateExtensionMethods = templateExtensionMethods;
+        this.templateIdToPathFun = templateIdToPathFun;
+        this.expressions = new LinkedHashMap<>();
+        this.unsupported = new HashSet<>();
+    }
+
+    void addExpression(Expression expression) {
+        String key = expression.toOriginalString();
+        if (unsupported.contains(key)) {
+            return;
+        }
+        CompiledExpression compiled = compile(expression);
+        CompiledExpression existing = expressions.get(key);
+        if (compiled == null || (existing != null && !existing.equals(compiled))) {
+            // The same expression may have different meaning in a nested section, e.g. {#let item=foo}
+            LOGGER.debugf("Expression [%s] cannot be compiled: %s", key, expression.getOrigin());
+            unsupported.add(key);
+            expressions.remove(key);
+        } else {
+            expressions.put(key, compiled);
+        }
+    }
+
+    boolean isEmpty() {
+        return expressions.isEmpty();
+    }
+
+    /**
+     *
+     * @param classOutput
+     * @param className
+     */
+    void generate(ClassOutput classOutput, String className) {
+        try (ClassCreator compiledTemplate = ClassCreator.builder().classOutput(classOutput).className(className)
+                .interfaces(CompiledTemplate.class).build()) {
+
+            FieldCreator expressionsField = compiledTemplate.getFieldCreator("expressions", List.class)
+                    .setModifiers(Modifier.PRIVATE | Modifier.FINAL);
+
+            MethodCreator constructor = compiledTemplate.getMethodCreator("<init>", "V");
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(Object.class), constructor.getThis());
+            ResultHandle expressionsArray = constructor.newArray(Object.class, expressions.size());
+            int idx = 0;
+            for (String expression : expressions.keySet()) {
+                constructor.writeArrayValue(expressionsArray, idx++, constructor.load(expression));
+            }
+            constructor.writeInstanceField(expressionsField.getFieldDescriptor(), constructor.getThis(),
+                    constructor.invokeStaticMethod(ARRAYS_AS_LIST, expressionsArray));
+            constructor.returnValue(null);
+
+            MethodCreator getExpressions = compiledTemplate.getMethodCreator("getExpressions", List.class)
+                    .setModifiers(Modifier.PUBLIC);
+            getExpressions.returnValue(
+                    getExpressions.readInstanceField(expressionsField.getFieldDescriptor(), getExpressions.getThis()));
+
+            MethodCreator evaluate = compiledTemplate.getMethodCreator("evaluate", Object.class, int.class, Map.class)
+                    .setModifiers(Modifier.PUBLIC);
+            ResultHandle indexHandle = evaluate.getMethodParam(0);
+            ResultHandle dataHandle = evaluate.getMethodParam(1);
+            idx = 0;
+            for (CompiledExpression expression : expressions.values()) {
+                BytecodeCreator matched = evaluate.ifIntegerEqual(indexHandle, evaluate.load(idx++)).trueBranch();
+                ResultHandle value = matched.invokeInterfaceMethod(MAP_GET, dataHandle, matched.load(expression.param));
+                // Null values and unexpected types are not handled by the compiled template
+                BytecodeCreator paramNotFound = matched.ifNull(value).trueBranch();
+                paramNotFound.returnValue(paramNotFound.readStaticField(RESULT_NOT_FOUND));
+                for (AnnotationTarget member : expression.members) {
+                    ClassInfo declaringClass = member.kind() == Kind.METHOD ? member.asMethod().declaringClass()
+                            : member.asField().declaringClass();
+                    BytecodeCreator notFound = matched.ifFalse(matched.instanceOf(value, declaringClass.name().toString()))
+                            .trueBranch();
+                    notFound.returnValue(notFound.readStaticField(RESULT_NOT_FOUND));
+                    ResultHandle base = matched.checkCast(value, declaringClass.name().toString());
+                    Type type;
+                    if (member.kind() == Kind.METHOD) {
+                        MethodInfo method = member.asMethod();
+                        if (Modifier.isInterface(declaringClass.flags())) {
+                            value = matched.invokeInterfaceMethod(method, base);
+                        } else {
+                            value = matched.invokeVirtualMethod(method, base);
+                        }
+                        type = method.returnType();
+                    } else {
+                        FieldInfo field = member.asField();
+                        value = matched.readInstanceField(field, base);
+                        type = field.type();
+                    }
+                    if (type.kind() == Type.Kind.PRIMITIVE) {
+                        value = box(matched, value, type.asPrimitiveType().primitive());
+                    }
+                }
+                matched.returnValue(value);
+            }
+            evaluate.returnValue(evaluate.readStaticField(RESULT_NOT_FOUND));
+        }
+    }
+
+    private CompiledExpression compile(Expression expression) {
+        if (expression.isLiteral() || expression.hasNamespace() || !expression.hasTypeInfo()) {
+            return null;
+        }
+        List<Info> infos = TypeInfos.create(expression, index, templateIdToPathFun);
+        if (infos.size() != expression.getParts().size()) {
+            return null;
+        }
+        Info root = infos.get(0);
+        if (!root.isTypeInfo() || root.hasHints() || root.asTypeInfo().rawClass == null) {
+            // Only template parameters are supported, i.e. no loop elements, etc.
+            return null;
+        }
+        ClassInfo clazz = root.asTypeInfo().rawClass;
+        List<AnnotationTarget> members = new ArrayList<>();
+        for (int i = 1; i < infos.size(); i++) {
+            Info info = infos.get(i);
+            if (clazz == null || !info.isProperty() || info.hasHints() || BUILT_IN_PROPERTIES.contains(info.asProperty().name)
+                    || hasExtensionMethod(info.asProperty().name, clazz)) {
+                return null;
+            }
+            AnnotationTarget member = findMember(info.asProperty().name, clazz);
+            if (member == null) {
+                return null;
+            }
+            members.add(member);
+            Type type = member.kind() == Kind.METHOD ? member.asMethod().returnType() : member.asField().type();
+            if (type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                clazz = index.getClassByName(type.name());
+            } else {
+                clazz = null;
+            }
+        }
+        return new CompiledExpression(expression.getParts().get(0).getName(), members);
+    }
+
+    private AnnotationTarget findMember(String name, ClassInfo clazz) {
+        // Methods take precedence over fields, see ValueResolverGenerator
+        MethodInfo foundMethod = null;
+        FieldInfo foundField = null;
+        ClassInfo current = clazz;
+        while (current != null) {
+            for (MethodInfo method : current.methods()) {
+                if (method.parameters().isEmpty() && method.returnType().kind() != Type.Kind.VOID
+                        && !Modifier.isStatic(method.flags()) && !ValueResolverGenerator.isSynthetic(method.flags())
+                        && (method.name().equals(name) || ValueResolverGenerator.getPropertyName(method.name()).equals(name))) {
+                    if (foundMethod != null && !foundMethod.name().equals(method.name())) {
+                        // Ambiguous method, e.g. name() and getName()
+                        return null;
+                    }
+                    if (foundMethod == null) {
+                        foundMethod = method;
+                    }
+                }
+            }
+            if (foundField == null) {
+                for (FieldInfo field : current.fields()) {
+                    if (field.name().equals(name) && !Modifier.isStatic(field.flags())
+                            && !ValueResolverGenerator.isSynthetic(field.flags())) {
+                        foundField = field;
+                    }
+                }
+            }
+            DotName superName = current.superName();
+            current = superName != null ? index.getClassByName(superName) : null;
+        }
+        AnnotationTarget member = foundMethod != null ? foundMethod : foundField;
+        if (member == null) {
+            return null;
+        }
+        int flags = member.kind() == Kind.METHOD ? foundMethod.flags() : foundField.flags();
+        ClassInfo declaringClass = member.kind() == Kind.METHOD ? foundMethod.declaringClass() : foundField.declaringClass();
+        if (!Modifier.isPublic(flags) || !Modifier.isPublic(declaringClass.flags())) {
+            // The generated class is not able to access the member
+            return null;
+        }
+        return member;
+    }
+
+    private boolean hasExtensionMethod(String name, ClassInfo clazz) {
+        Set<DotName> types = new HashSet<>();
+        types.add(DotName.createSimple(Object.class.getName()));
+        collectTypes(clazz, types);
+        for (TemplateExtensionMethodBuildItem extensionMethod : templateExtensionMethods) {
+            if (!extensionMethod.hasNamespace() && types.contains(extensionMethod.getMatchType().name())
+                    && extensionMethod.matchesName(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void collectTypes(ClassInfo clazz, Set<DotName> types) {
+        if (clazz == null || !types.add(clazz.name())) {
+            return;
+        }
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            types.add(interfaceName);
+            collectTypes(index.getClassByName(interfaceName), types);
+        }
+        if (clazz.superName() != null) {
+            types.add(clazz.superName());
+            collectTypes(index.getClassByName(clazz.superName()), types);
+        }
+    }
+
+    private static ResultHandle box(BytecodeCreator bytecode, ResultHandle value, Primitive primitive) {
+        Class<?> primitiveClass;
+        Class<?> wrapperClass;
+        switch (primitive) {
+            case BOOLEAN:
+                primitiveClass = boolean.class;
+                wrapperClass = Boolean.class;
+                break;
+            case BYTE:
+                primitiveClass = byte.class;
+                wrapperClass = Byte.class;
+                break;
+            case CHAR:
+                primitiveClass = char.class;
+                wrapperClass = Character.class;
+                break;
+            case SHORT:
+                primitiveClass = short.class;
+                wrapperClass = Short.class;
+                break;
+            case INT:
+                primitiveClass = int.class;
+                wrapperClass = Integer.class;
+                break;
+            case LONG:
+                primitiveClass = long.class;
+                wrapperClass = Long.class;
+                break;
+            case FLOAT:
+                primitiveClass = float.class;
+                wrapperClass = Float.class;
+                break;
+            case DOUBLE:
+                primitiveClass = double.class;
+                wrapperClass = Double.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported primitive: " + primitive);
+        }
+        return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(wrapperClass, "valueOf", wrapperClass, primitiveClass),
+                value);
+    }
+
+    static final class CompiledExpression {
+
+        final String param;
+        final List<AnnotationTarget> members;
+
+        CompiledExpression(String param, List<AnnotationTarget> members) {
+            this.param = param;
+            this.members = members;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(param, members);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            CompiledExpression other = (CompiledExpression) obj;
+            return param.equals(other.param) && members.equals(other.members);
+        }
+
+    }
+
+}
@@ -124,6 +124,7 @@ import io.quarkus.qute.runtime.extensions.MapTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.NumberTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.StringTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.TimeTemplateExtensions;
+import io.quarkus.runtime.util.HashUtil;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.json.DecodeException;
@@ -573,6 +574,67 @@ public class QuteProcessor {
         }
     }
 
+    @BuildStep
+    void generateCompiledTemplates(QuteConfig config, TemplatesAnalysisBuildItem templatesAnalysis,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.compileCheckedTemplates || checkedTemplates.isEmpty()) {
+            return;
+        }
+        IndexView index = beanArchiveIndex.getIndex();
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        Function<String, String> templateIdToPathFun = new Function<String, String>() {
+            @Override
+            public String apply(String id) {
+                return findTemplatePath(templatesAnalysis, id);
+            }
+        };
+
+        for (TemplateAnalysis templateAnalysis : templatesAnalysis.getAnalysis()) {
+            // Only checked templates are compiled
+            String path = templateAnalysis.path;
+            for (String suffix : config.suffixes) {
+                if (path.endsWith(suffix)) {
+                    path = path.substring(0, path.length() - (suffix.length() + 1));
+                    break;
+                }
+            }
+            CheckedTemplateBuildItem checkedTemplate = null;
+            for (CheckedTemplateBuildItem item : checkedTemplates) {
+                if (item.templateId.equals(path)) {
+                    checkedTemplate = item;
+                    break;
+                }
+            }
+            if (checkedTemplate == null) {
+                continue;
+            }
+
+            CompiledTemplateGenerator generator = new CompiledTemplateGenerator(index, templateExtensionMethods,
+                    templateIdToPathFun);
+            for (Expression expression : templateAnalysis.expressions) {
+                generator.addExpression(expression);
+            }
+            if (generator.isEmpty()) {
+                LOGGER.debugf("No expression of the checked template %s can be compiled", templateAnalysis.path);
+                continue;
+            }
+            // org.acme.Foo$Templates#items() and "Foo/items.html" -> org.acme.Foo_Templates_items_SHA1_CompiledTemplate
+            String className = checkedTemplate.method.declaringClass().name().toString().replace('$', '_') + "_"
+                    + checkedTemplate.method.name() + "_" + HashUtil.sha1(templateAnalysis.path)
+                    + CompiledTemplateGenerator.SUFFIX;
+            generator.generate(classOutput, className);
+            compiledTemplates.produce(new CompiledTemplateBuildItem(templateAnalysis.path, className));
+            reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, className));
+            LOGGER.debugf("Generated compiled template %s for %s", className, templateAnalysis.path);
+        }
+    }
+
     static String buildIgnorePattern(Iterable<String> names) {
         // ^(?!\\Qbar\\P|\\Qfoo\\P).*$
         StringBuilder ignorePattern = new StringBuilder("^(?!");
@@ -1213,7 +1275,8 @@ public class QuteProcessor {
     @Record(value = STATIC_INIT)
     void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
-            Optional<TemplateVariantsBuildItem> templateVariants) {
+            Optional<TemplateVariantsBuildItem> templateVariants, List<CompiledTemplateBuildItem> compiledTemplates,
+            QuteConfig config) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -1233,10 +1296,29 @@ public class QuteProcessor {
             variants = Collections.emptyMap();
         }
 
+        Map<String, String> compiledTemplateClasses;
+        if (compiledTemplates.isEmpty()) {
+            compiledTemplateClasses = Collections.emptyMap();
+        } else {
+            compiledTemplateClasses = new HashMap<>();
+            for (CompiledTemplateBuildItem compiledTemplate : compiledTemplates) {
+                String path = compiledTemplate.getTemplatePath();
+                compiledTemplateClasses.put(path, compiledTemplate.getClassName());
+                // The template may be also loaded by the path without suffix, e.g. "items" for "items.html"
+                for (String suffix : config.suffixes) {
+                    if (path.endsWith(suffix)) {
+                        compiledTemplateClasses.putIfAbsent(path.substring(0, path.length() - (suffix.length() + 1)),
+                                compiledTemplate.getClassName());
+                        break;
+                    }
+                }
+            }
+        }
+
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(QuteContext.class)
                 .supplier(recorder.createContext(generatedValueResolvers.stream()
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
-                        tags, variants))
+                        tags, variants, compiledTemplateClasses))
                 .done());
     }
 
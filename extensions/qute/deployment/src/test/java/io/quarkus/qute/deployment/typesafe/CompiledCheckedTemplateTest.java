@@ -0,0 +1,53 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledCheckedTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Templates.class, Movie.class)
+                    .addAsResource(new StringAsset("{movie.name}: {movie.alwaysTrue} {movie.alwaysFalsePrimitive} {title}"),
+                            "templates/CompiledCheckedTemplateTest/movie.html")
+                    .addAsResource(new StringAsset("{#for character in movie.mainCharacters}{character}{/for}"),
+                            "templates/CompiledCheckedTemplateTest/characters.html")
+                    .addAsResource(new StringAsset("quarkus.qute.compile-checked-templates=true"),
+                            "application.properties"));
+
+    @Test
+    public void testCompiledTemplate() throws ClassNotFoundException {
+        assertEquals("Jason: true false &lt;Friday&gt;", Templates.movie(new Movie(), "<Friday>").render());
+        assertTrue(CompiledTemplate.class.isAssignableFrom(Thread.currentThread().getContextClassLoader()
+                .loadClass(Templates.class.getName().replace('$', '_') + "_movie_"
+                        + HashUtil.sha1("CompiledCheckedTemplateTest/movie.html") + "_CompiledTemplate")));
+    }
+
+    @Test
+    public void testSectionsAreNotCompiled() {
+        assertEquals("JasonVoorhees", Templates.characters(new Movie("Jason", "Voorhees")).render());
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance movie(Movie movie, String title);
+
+        static native TemplateInstance characters(Movie movie);
+
+    }
+
+}
@@ -6,7 +6,10 @@ import java.io.Reader;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -19,6 +22,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.HtmlEscaper;
@@ -125,6 +129,14 @@ public class EngineProducer {
             }
             LOGGER.debugf("Added generated value resolver: %s", resolverClass);
         }
+        // Add compiled templates
+        Map<String, CompiledTemplate> compiledTemplates = new HashMap<>();
+        for (Entry<String, String> entry : context.getCompiledTemplates().entrySet()) {
+            CompiledTemplate compiledTemplate = compiledTemplates.computeIfAbsent(entry.getValue(),
+                    this::createCompiledTemplate);
+            builder.addCompiledTemplate(entry.getKey(), compiledTemplate);
+            LOGGER.debugf("Added compiled template for %s: %s", entry.getKey(), entry.getValue());
+        }
         // Add tags
         for (String tag : tags) {
             // Strip suffix, item.html -> item
@@ -172,6 +184,20 @@ public class EngineProducer {
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClassName);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     /**
      * @param path
      * @return the optional reader
@@ -44,4 +44,16 @@ public class QuteConfig {
     @ConfigItem
     public Optional<List<String>> typeCheckExcludes;
 
+    /**
+     * If set to {@code true} then the checked templates are compiled into generated classes during the build.
+     * <p>
+     * A compiled template evaluates the type-safe expressions synchronously by means of direct field access and method
+     * invocations instead of the value resolvers. A template is only rendered with the compiled template if it does not
+     * contain any section and all its expressions could be compiled. If a value cannot be obtained synchronously, e.g. a
+     * {@link java.util.concurrent.CompletionStage} is returned, the template is rendered by the regular asynchronous
+     * resolution.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compileCheckedTemplates;
+
 }
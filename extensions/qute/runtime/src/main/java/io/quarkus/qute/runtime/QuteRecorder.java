@@ -10,7 +10,8 @@ import io.quarkus.runtime.annotations.Recorder;
 public class QuteRecorder {
 
     public Supplier<Object> createContext(List<String> resolverClasses,
-            List<String> templatePaths, List<String> tags, Map<String, List<String>> variants) {
+            List<String> templatePaths, List<String> tags, Map<String, List<String>> variants,
+            Map<String, String> compiledTemplates) {
         return new Supplier<Object>() {
 
             @Override
@@ -36,6 +37,11 @@ public class QuteRecorder {
                     public Map<String, List<String>> getVariants() {
                         return variants;
                     }
+
+                    @Override
+                    public Map<String, String> getCompiledTemplates() {
+                        return compiledTemplates;
+                    }
                 };
             }
         };
@@ -50,6 +56,12 @@ public class QuteRecorder {
         List<String> getTags();
 
         Map<String, List<String>> getVariants();
+
+        /**
+         * 
+         * @return the map of template ids to generated compiled template classes
+         */
+        Map<String, String> getCompiledTemplates();
     }
 
 }
@@ -0,0 +1,196 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+
+public class SharedPoolTest {
+
+    Vertx vertx;
+    List<TestSqlConnection> created;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        created = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void maxSizeIsHonoured() throws Exception {
+        SharedPool pool = createPool(2);
+        SqlConnection c1 = get(pool.getConnection());
+        SqlConnection c2 = get(pool.getConnection());
+        Future<SqlConnection> c3 = pool.getConnection();
+        assertEquals(2, created.size());
+        assertEquals(2, pool.getActiveCount());
+        assertEquals(1, pool.getWaitingCount());
+        assertThrows(TimeoutException.class,
+                () -> c3.toCompletionStage().toCompletableFuture().get(100, TimeUnit.MILLISECONDS));
+
+        c1.close();
+        get(c3);
+        assertEquals(2, created.size());
+        assertEquals(0, pool.getWaitingCount());
+        assertEquals(3, pool.getAcquireCount());
+        assertEquals(1, pool.getWaitCount());
+
+        c2.close();
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(2, pool.getSize());
+        // the idle connection is reused
+        get(pool.getConnection());
+        assertEquals(2, created.size());
+    }
+
+    @Test
+    public void waitersAreServedInOrder() throws Exception {
+        SharedPool pool = createPool(1);
+        SqlConnection c1 = get(pool.getConnection());
+        Future<SqlConnection> w1 = pool.getConnection();
+        Future<SqlConnection> w2 = pool.getConnection();
+        c1.close();
+        SqlConnection c2 = get(w1);
+        assertFalse(w2.isComplete());
+        // closing twice does not release the connection twice
+        c1.close();
+        assertFalse(w2.isComplete());
+        c2.close();
+        get(w2);
+        assertEquals(1, created.size());
+    }
+
+    @Test
+    public void closedConnectionIsReplaced() throws Exception {
+        SharedPool pool = createPool(1);
+        get(pool.getConnection());
+        Future<SqlConnection> waiter = pool.getConnection();
+        // the connection is closed by the database
+        created.get(0).close();
+        get(waiter);
+        assertEquals(2, created.size());
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    public void closeClosesIdleConnections() throws Exception {
+        SharedPool pool = createPool(2);
+        SqlConnection c1 = get(pool.getConnection());
+        SqlConnection c2 = get(pool.getConnection());
+        c1.close();
+        get(pool.close());
+        assertTrue(created.get(0).isClosed());
+        assertFalse(created.get(1).isClosed());
+        // the connections in use are closed when released
+        c2.close();
+        assertTrue(created.get(1).isClosed());
+        assertEquals(0, pool.getSize());
+        assertThrows(ExecutionException.class, () -> get(pool.getConnection()));
+    }
+
+    @Test
+    public void pendingTransactionIsRolledBack() throws Exception {
+        SharedPool pool = createPool(1);
+        SqlConnection c1 = get(pool.getConnection());
+        get(c1.begin());
+        Future<SqlConnection> waiter = pool.getConnection();
+        get(c1.close());
+        // the transaction is rolled back before the connection is handed to the next borrower
+        assertTrue(created.get(0).transactions.get(0).rolledBack);
+        SqlConnection c2 = get(waiter);
+        assertEquals(1, created.size());
+
+        // a completed transaction is not rolled back
+        get(get(c2.begin()).commit());
+        get(c2.close());
+        assertFalse(created.get(0).transactions.get(1).rolledBack);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void queriesArePipelined() throws Exception {
+        SharedPool pool = createPool(2, 2);
+        // the queries are executed from the same event loop
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<List<Future<RowSet<Row>>>> executed = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            List<Future<RowSet<Row>>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                results.add(pool.query("SELECT " + i).execute());
+            }
+            executed.complete(results);
+        });
+        List<Future<RowSet<Row>>> results = executed.get(5, TimeUnit.SECONDS);
+        awaitQueries(0, 2);
+        awaitQueries(1, 1);
+        assertEquals(2, created.size());
+
+        created.get(0).queries.get(0).complete();
+        assertEquals(0, pool.getIdleCount());
+        created.get(0).queries.get(1).complete();
+        get(results.get(0));
+        get(results.get(1));
+        assertFalse(results.get(2).isComplete());
+        // the connection is released once all its queries are completed
+        assertEquals(1, pool.getIdleCount());
+
+        created.get(1).queries.get(0).complete();
+        get(results.get(2));
+        assertEquals(2, pool.getIdleCount());
+    }
+
+    private void awaitQueries(int connection, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (created.size() <= connection || created.get(connection).queries.size() < count) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Expected " + count + " queries on connection " + connection);
+            }
+            Thread.sleep(10);
+        }
+        assertEquals(count, created.get(connection).queries.size());
+    }
+
+    private SharedPool createPool(int maxSize) {
+        return createPool(maxSize, 0);
+    }
+
+    private SharedPool createPool(int maxSize, int maxPipelinedQueries) {
+        return new SharedPool(vertx, new PoolOptions().setMaxSize(maxSize), maxPipelinedQueries) {
+            @Override
+            protected Future<SqlConnection> connect() {
+                TestSqlConnection connection = new TestSqlConnection();
+                created.add(connection);
+                return Future.succeededFuture(connection);
+            }
+        };
+    }
+
+    private static <T> T get(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,160 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.PreparedStatement;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Transaction;
+
+class TestSqlConnection implements SqlConnection {
+
+    //The results of the queries executed on this connection, completed by the tests
+    final List<Promise<RowSet<Row>>> queries = new CopyOnWriteArrayList<>();
+    //The transactions started on this connection
+    final List<TestTransaction> transactions = new CopyOnWriteArrayList<>();
+    private Handler<Void> closeHandler;
+    private boolean closed;
+
+    @Override
+    public SqlConnection prepare(String sql, Handler<AsyncResult<PreparedStatement>> handler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Future<PreparedStatement> prepare(String sql) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SqlConnection exceptionHandler(Handler<Throwable> handler) {
+        return this;
+    }
+
+    @Override
+    public SqlConnection closeHandler(Handler<Void> handler) {
+        this.closeHandler = handler;
+        return this;
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<Transaction>> handler) {
+        begin().onComplete(handler);
+    }
+
+    @Override
+    public Future<Transaction> begin() {
+        TestTransaction transaction = new TestTransaction();
+        transactions.add(transaction);
+        return Future.succeededFuture(transaction);
+    }
+
+    @Override
+    public boolean isSSL() {
+        return false;
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return new Query<RowSet<Row>>() {
+            @Override
+            public void execute(Handler<AsyncResult<RowSet<Row>>> handler) {
+                execute().onComplete(handler);
+            }
+
+            @Override
+            public Future<RowSet<Row>> execute() {
+                Promise<RowSet<Row>> promise = Promise.promise();
+                queries.add(promise);
+                return promise.future();
+            }
+
+            @Override
+            public <R> Query<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <U> Query<RowSet<U>> mapping(Function<Row, U> mapper) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        handler.handle(close());
+    }
+
+    @Override
+    public Future<Void> close() {
+        if (!closed) {
+            closed = true;
+            if (closeHandler != null) {
+                closeHandler.handle(null);
+            }
+        }
+        return Future.succeededFuture();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    static class TestTransaction implements Transaction {
+
+        private final Promise<Void> completion = Promise.promise();
+        volatile boolean committed;
+        volatile boolean rolledBack;
+
+        @Override
+        public Future<Void> commit() {
+            committed = true;
+            completion.tryComplete();
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public void commit(Handler<AsyncResult<Void>> handler) {
+            handler.handle(commit());
+        }
+
+        @Override
+        public Future<Void> rollback() {
+            rolledBack = true;
+            completion.tryFail("Rollback");
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public void rollback(Handler<AsyncResult<Void>> handler) {
+            handler.handle(rollback());
+        }
+
+        @Override
+        public void completion(Handler<AsyncResult<Void>> handler) {
+            completion.future().onComplete(handler);
+        }
+
+        @Override
+        public Future<Void> completion() {
+            return completion.future();
+        }
+    }
+}
@@ -28,11 +28,24 @@ public class DataSourceReactiveRuntimeConfig {
 
     /**
      * The datasource pool maximum size.
-     * Note that a separate pool instance is started for each thread using it: the size limits each individual pool instance.
+     * Note that unless {@code shared-pool} is enabled, a separate pool instance is started for each thread using it:
+     * the size limits each individual pool instance.
      */
     @ConfigItem
     public OptionalInt maxSize = OptionalInt.empty();
 
+    /**
+     * Whether a single pool, whose connections are shared by all the threads, is used instead of a separate pool instance
+     * for each thread.
+     * <p>
+     * The shared pool never opens more than {@code max-size} connections. A connection is preferably reused by the event
+     * loop it was created on, and when all the connections are in use the requests wait in a single FIFO queue.
+     * Note that the connections it returns only implement {@code io.vertx.sqlclient.SqlConnection}, not the database
+     * specific connection interface.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean sharedPool = false;
+
     /**
      * Whether all server certificates should be trusted.
      */
@@ -0,0 +1,742 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.PreparedStatement;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * This Pool implementation shares a single set of connections between all the threads,
+ * so that, unlike {@link ThreadLocalPool}, the configured max size is the maximum number
+ * of connections opened to the database.
+ * <p>
+ * A connection is created on the event loop of the thread requesting it and, once released,
+ * it is preferably reused by a thread of the same event loop. When all the connections are in use,
+ * the requests wait in a single FIFO queue, whatever the thread they come from,
+ * and get the connections in order as they are released.
+ * <p>
+ * The connections returned by {@link #getConnection()} are returned to the pool when closed,
+ * after rolling back the transaction started with {@code begin()} if it was not completed.
+ * Note that they only implement {@link SqlConnection}, not the database specific connection interface.
+ * <p>
+ * If a maximum number of pipelined queries is set, the queries executed directly on the pool from the same
+ * event loop share a connection instead of acquiring one each, so that the database client can pipeline them.
+ * The connection is returned to the pool once all the queries sharing it are completed.
+ * As the database executes the queries of a connection one after the other, a slow query delays the
+ * queries pipelined behind it, so this maximum should stay well below the pipelining limit of the protocol.
+ * The connections returned by {@link #getConnection()}, which Hibernate Reactive and Panache use,
+ * are never shared and do not benefit from the pipelining.
+ */
+public abstract class SharedPool implements Pool {
+
+    private static final String CLOSED_MESSAGE = "This Pool has been closed";
+
+    //Used by subclasses to create new connections
+    protected final Vertx vertx;
+
+    private final int maxSize;
+    private final int maxWaitQueueSize;
+    private final long idleTimeoutNanos;
+    private final int maxPipelinedQueries;
+    private final long evictionTimerId;
+
+    //The fields below are guarded by this
+    private final Map<EventLoop, ArrayDeque<PooledConnection>> idleConnections = new HashMap<>();
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private final Map<EventLoop, PipelinedLease> pipelinedLeases = new HashMap<>();
+    private int size;
+    private int idleCount;
+    private boolean closed;
+    private long acquireCount;
+    private long waitCount;
+    private long waitTimeNanos;
+
+    public SharedPool(Vertx vertx, PoolOptions poolOptions) {
+        this(vertx, poolOptions, 0);
+    }
+
+    /**
+     * @param maxPipelinedQueries if positive, the maximum number of queries executed directly on the pool
+     *        that share a connection; if zero or negative, each query acquires its own connection
+     */
+    public SharedPool(Vertx vertx, PoolOptions poolOptions, int maxPipelinedQueries) {
+        this.vertx = vertx;
+        this.maxSize = poolOptions.getMaxSize();
+        this.maxWaitQueueSize = poolOptions.getMaxWaitQueueSize();
+        this.idleTimeoutNanos = poolOptions.getIdleTimeoutUnit().toNanos(poolOptions.getIdleTimeout());
+        this.maxPipelinedQueries = maxPipelinedQueries;
+        if (idleTimeoutNanos > 0) {
+            long period = Math.max(1000, TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos) / 2);
+            evictionTimerId = vertx.setPeriodic(period, new Handler<Long>() {
+                @Override
+                public void handle(Long id) {
+                    evictIdleConnections();
+                }
+            });
+        } else {
+            evictionTimerId = -1;
+        }
+    }
+
+    /**
+     * Opens a new connection to the database.
+     * This is called on the context of the thread the connection is created for.
+     */
+    protected abstract Future<SqlConnection> connect();
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        getConnection().onComplete(handler);
+    }
+
+    @Override
+    public Future<SqlConnection> getConnection() {
+        return getConnection((ContextInternal) vertx.getOrCreateContext());
+    }
+
+    private Future<SqlConnection> getConnection(ContextInternal context) {
+        Promise<SqlConnection> promise = context.promise();
+        PooledConnection connection;
+        synchronized (this) {
+            if (closed) {
+                return Future.failedFuture(new IllegalStateException(CLOSED_MESSAGE));
+            }
+            acquireCount++;
+            connection = pollIdleConnection(context.nettyEventLoop());
+            if (connection == null) {
+                if (size < maxSize) {
+                    size++;
+                } else if (maxWaitQueueSize >= 0 && waiters.size() >= maxWaitQueueSize) {
+                    return Future.failedFuture(new IllegalStateException(
+                            "Max waiter queue size reached: " + maxWaitQueueSize));
+                } else {
+                    waitCount++;
+                    waiters.add(new Waiter(context, promise));
+                    return promise.future();
+                }
+            }
+        }
+        if (connection != null) {
+            promise.complete(new LeasedConnection(connection));
+        } else {
+            createConnection(context, promise);
+        }
+        return promise.future();
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return new SharedQuery<>(new Function<SqlClient, Query<RowSet<Row>>>() {
+            @Override
+            public Query<RowSet<Row>> apply(SqlClient client) {
+                return client.query(sql);
+            }
+        });
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return new SharedPreparedQuery<>(new Function<SqlClient, PreparedQuery<RowSet<Row>>>() {
+            @Override
+            public PreparedQuery<RowSet<Row>> apply(SqlClient client) {
+                return client.preparedQuery(sql);
+            }
+        });
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        close().onComplete(handler);
+    }
+
+    @Override
+    public Future<Void> close() {
+        List<PooledConnection> connections = new ArrayList<>();
+        List<Waiter> pending;
+        synchronized (this) {
+            if (closed) {
+                return Future.succeededFuture();
+            }
+            closed = true;
+            for (ArrayDeque<PooledConnection> idle : idleConnections.values()) {
+                for (PooledConnection connection : idle) {
+                    connection.removed = true;
+                    connections.add(connection);
+                }
+            }
+            idleConnections.clear();
+            size -= idleCount;
+            idleCount = 0;
+            pending = new ArrayList<>(waiters);
+            waiters.clear();
+        }
+        if (evictionTimerId != -1) {
+            vertx.cancelTimer(evictionTimerId);
+        }
+        for (Waiter waiter : pending) {
+            waiter.promise.tryFail(new IllegalStateException(CLOSED_MESSAGE));
+        }
+        //The connections in use are closed when they are released
+        ArrayList<CompletableFuture<Void>> tasks = new ArrayList<>(connections.size());
+        for (PooledConnection connection : connections) {
+            tasks.add(connection.delegate.close().toCompletionStage().toCompletableFuture());
+        }
+        return Future.fromCompletionStage(CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])));
+    }
+
+    /**
+     * @return the number of connections, either in use, idle or being created
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the number of connections in use or being created
+     */
+    public synchronized int getActiveCount() {
+        return size - idleCount;
+    }
+
+    public synchronized int getIdleCount() {
+        return idleCount;
+    }
+
+    /**
+     * @return the number of requests waiting for a connection to be released
+     */
+    public synchronized int getWaitingCount() {
+        return waiters.size();
+    }
+
+    /**
+     * @return the number of times a connection was requested
+     */
+    public synchronized long getAcquireCount() {
+        return acquireCount;
+    }
+
+    /**
+     * @return the number of times a request had to wait for a connection to be released
+     */
+    public synchronized long getWaitCount() {
+        return waitCount;
+    }
+
+    /**
+     * @return the total time, in milliseconds, the requests waited for a connection to be released
+     */
+    public synchronized long getWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(waitTimeNanos);
+    }
+
+    private void createConnection(ContextInternal context, Promise<SqlConnection> promise) {
+        context.runOnContext(new Handler<Void>() {
+            @Override
+            public void handle(Void v) {
+                connect().onComplete(new Handler<AsyncResult<SqlConnection>>() {
+                    @Override
+                    public void handle(AsyncResult<SqlConnection> result) {
+                        if (result.succeeded()) {
+                            PooledConnection connection = new PooledConnection(result.result(), context.nettyEventLoop());
+                            result.result().closeHandler(new Handler<Void>() {
+                                @Override
+                                public void handle(Void v) {
+                                    connectionClosed(connection);
+                                }
+                            });
+                            if (!promise.tryComplete(new LeasedConnection(connection))) {
+                                release(connection);
+                            }
+                        } else {
+                            promise.tryFail(result.cause());
+                            createConnectionForWaiter(true);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Creates a connection for the first waiter if a connection was removed from the pool.
+     */
+    private void createConnectionForWaiter(boolean removed) {
+        Waiter waiter;
+        synchronized (this) {
+            if (removed) {
+                size--;
+            }
+            if (closed || size >= maxSize) {
+                return;
+            }
+            waiter = pollWaiter();
+            if (waiter == null) {
+                return;
+            }
+            size++;
+        }
+        createConnection(waiter.context, waiter.promise);
+    }
+
+    private void release(PooledConnection connection) {
+        Waiter waiter;
+        boolean close = false;
+        synchronized (this) {
+            if (connection.removed) {
+                return;
+            }
+            waiter = closed ? null : pollWaiter();
+            if (closed) {
+                connection.removed = true;
+                size--;
+                close = true;
+            } else if (waiter == null) {
+                connection.lastUsed = System.nanoTime();
+                idleConnections.computeIfAbsent(connection.eventLoop, k -> new ArrayDeque<>()).add(connection);
+                idleCount++;
+            }
+        }
+        if (close) {
+            connection.delegate.close();
+        } else if (waiter != null && !waiter.promise.tryComplete(new LeasedConnection(connection))) {
+            release(connection);
+        }
+    }
+
+    private void connectionClosed(PooledConnection connection) {
+        synchronized (this) {
+            if (connection.removed) {
+                return;
+            }
+            connection.removed = true;
+            ArrayDeque<PooledConnection> idle = idleConnections.get(connection.eventLoop);
+            if (idle != null && idle.remove(connection)) {
+                idleCount--;
+            }
+        }
+        if (connection.closeHandler != null) {
+            connection.closeHandler.handle(null);
+        }
+        createConnectionForWaiter(true);
+    }
+
+    private void evictIdleConnections() {
+        List<PooledConnection> evicted = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (ArrayDeque<PooledConnection> idle : idleConnections.values()) {
+                // the connections are added to the tail when released, so the oldest are at the head
+                Iterator<PooledConnection> it = idle.iterator();
+                while (it.hasNext()) {
+                    PooledConnection connection = it.next();
+                    if (now - connection.lastUsed < idleTimeoutNanos) {
+                        break;
+                    }
+                    it.remove();
+                    connection.removed = true;
+                    evicted.add(connection);
+                }
+            }
+            idleCount -= evicted.size();
+            size -= evicted.size();
+        }
+        for (PooledConnection connection : evicted) {
+            connection.delegate.close();
+        }
+    }
+
+    private PooledConnection pollIdleConnection(EventLoop eventLoop) {
+        if (idleCount == 0) {
+            return null;
+        }
+        // the most recently used connection of the current event loop, or of any other event loop
+        PooledConnection connection = null;
+        ArrayDeque<PooledConnection> idle = idleConnections.get(eventLoop);
+        if (idle != null) {
+            connection = idle.pollLast();
+        }
+        if (connection == null) {
+            for (ArrayDeque<PooledConnection> other : idleConnections.values()) {
+                connection = other.pollLast();
+                if (connection != null) {
+                    break;
+                }
+            }
+        }
+        idleCount--;
+        return connection;
+    }
+
+    private Waiter pollWaiter() {
+        Waiter waiter = waiters.poll();
+        if (waiter != null) {
+            waitTimeNanos += System.nanoTime() - waiter.startTime;
+        }
+        return waiter;
+    }
+
+    private <T> Future<T> withConnection(Function<SqlConnection, Future<T>> function) {
+        if (maxPipelinedQueries > 0) {
+            return withPipelinedConnection(function);
+        }
+        return getConnection().compose(new Function<SqlConnection, Future<T>>() {
+            @Override
+            public Future<T> apply(SqlConnection connection) {
+                return function.apply(connection).onComplete(new Handler<AsyncResult<T>>() {
+                    @Override
+                    public void handle(AsyncResult<T> result) {
+                        connection.close();
+                    }
+                });
+            }
+        });
+    }
+
+    private <T> Future<T> withPipelinedConnection(Function<SqlConnection, Future<T>> function) {
+        ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+        EventLoop eventLoop = context.nettyEventLoop();
+        PipelinedLease lease;
+        synchronized (this) {
+            lease = pipelinedLeases.get(eventLoop);
+            if (lease == null || lease.inflight >= maxPipelinedQueries) {
+                // the previous lease, if any, is released once its queries are completed
+                lease = new PipelinedLease(getConnection(context));
+                pipelinedLeases.put(eventLoop, lease);
+            }
+            lease.inflight++;
+        }
+        PipelinedLease current = lease;
+        return current.connection.compose(function).onComplete(new Handler<AsyncResult<T>>() {
+            @Override
+            public void handle(AsyncResult<T> result) {
+                releasePipelined(eventLoop, current);
+            }
+        });
+    }
+
+    private void releasePipelined(EventLoop eventLoop, PipelinedLease lease) {
+        synchronized (this) {
+            if (--lease.inflight > 0) {
+                return;
+            }
+            pipelinedLeases.remove(eventLoop, lease);
+        }
+        lease.connection.onSuccess(new Handler<SqlConnection>() {
+            @Override
+            public void handle(SqlConnection connection) {
+                connection.close();
+            }
+        });
+    }
+
+    private static final class PipelinedLease {
+
+        final Future<SqlConnection> connection;
+        //Guarded by the pool
+        int inflight;
+
+        PipelinedLease(Future<SqlConnection> connection) {
+            this.connection = connection;
+        }
+    }
+
+    private static final class Waiter {
+
+        final ContextInternal context;
+        final Promise<SqlConnection> promise;
+        final long startTime = System.nanoTime();
+
+        Waiter(ContextInternal context, Promise<SqlConnection> promise) {
+            this.context = context;
+            this.promise = promise;
+        }
+    }
+
+    private static final class PooledConnection {
+
+        final SqlConnection delegate;
+        final EventLoop eventLoop;
+        long lastUsed;
+        boolean removed;
+        //The close handler of the current lease
+        volatile Handler<Void> closeHandler;
+
+        PooledConnection(SqlConnection delegate, EventLoop eventLoop) {
+            this.delegate = delegate;
+            this.eventLoop = eventLoop;
+        }
+    }
+
+    /**
+     * A connection handed out by the pool, closing it returns the underlying connection to the pool.
+     */
+    private class LeasedConnection implements SqlConnection {
+
+        private final PooledConnection connection;
+        private boolean released;
+        //The transaction started on this lease, until it is completed
+        private Transaction transaction;
+
+        LeasedConnection(PooledConnection connection) {
+            this.connection = connection;
+        }
+
+        private SqlConnection delegate() {
+            if (released) {
+                throw new IllegalStateException("Connection is closed");
+            }
+            return connection.delegate;
+        }
+
+        @Override
+        public SqlConnection prepare(String sql, Handler<AsyncResult<PreparedStatement>> handler) {
+            delegate().prepare(sql, handler);
+            return this;
+        }
+
+        @Override
+        public Future<PreparedStatement> prepare(String sql) {
+            return delegate().prepare(sql);
+        }
+
+        @Override
+        public SqlConnection exceptionHandler(Handler<Throwable> handler) {
+            delegate().exceptionHandler(handler);
+            return this;
+        }
+
+        @Override
+        public SqlConnection closeHandler(Handler<Void> handler) {
+            delegate();
+            connection.closeHandler = handler;
+            return this;
+        }
+
+        @Override
+        public void begin(Handler<AsyncResult<Transaction>> handler) {
+            begin().onComplete(handler);
+        }
+
+        @Override
+        public Future<Transaction> begin() {
+            return delegate().begin().onSuccess(new Handler<Transaction>() {
+                @Override
+                public void handle(Transaction tx) {
+                    synchronized (LeasedConnection.this) {
+                        transaction = tx;
+                    }
+                    tx.completion().onComplete(new Handler<AsyncResult<Void>>() {
+                        @Override
+                        public void handle(AsyncResult<Void> result) {
+                            synchronized (LeasedConnection.this) {
+                                if (transaction == tx) {
+                                    transaction = null;
+                                }
+                            }
+                        }
+                    });
+                }
+            });
+        }
+
+        @Override
+        public boolean isSSL() {
+            return delegate().isSSL();
+        }
+
+        @Override
+        public Query<RowSet<Row>> query(String sql) {
+            return delegate().query(sql);
+        }
+
+        @Override
+        public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+            return delegate().preparedQuery(sql);
+        }
+
+        @Override
+        public void close(Handler<AsyncResult<Void>> handler) {
+            close().onComplete(handler);
+        }
+
+        @Override
+        public Future<Void> close() {
+            Transaction tx;
+            synchronized (this) {
+                if (released) {
+                    return Future.succeededFuture();
+                }
+                released = true;
+                tx = transaction;
+                transaction = null;
+            }
+            connection.delegate.exceptionHandler(null);
+            connection.closeHandler = null;
+            if (tx == null) {
+                release(connection);
+                return Future.succeededFuture();
+            }
+            //Like the Vert.x pools, roll back the pending transaction so that the next borrower does not inherit it
+            return tx.rollback().transform(new Function<AsyncResult<Void>, Future<Void>>() {
+                @Override
+                public Future<Void> apply(AsyncResult<Void> result) {
+                    if (result.succeeded()) {
+                        release(connection);
+                        return Future.succeededFuture();
+                    }
+                    //The state of the connection is unknown, it is removed from the pool by its close handler
+                    return connection.delegate.close();
+                }
+            });
+        }
+    }
+
+    private class SharedQuery<T> implements Query<T> {
+
+        private final Function<SqlClient, Query<T>> factory;
+
+        SharedQuery(Function<SqlClient, Query<T>> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<T>> handler) {
+            execute().onComplete(handler);
+        }
+
+        @Override
+        public Future<T> execute() {
+            return withConnection(new Function<SqlConnection, Future<T>>() {
+                @Override
+                public Future<T> apply(SqlConnection connection) {
+                    return factory.apply(connection).execute();
+                }
+            });
+        }
+
+        @Override
+        public <R> Query<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return new SharedQuery<>(new Function<SqlClient, Query<SqlResult<R>>>() {
+                @Override
+                public Query<SqlResult<R>> apply(SqlClient client) {
+                    return factory.apply(client).collecting(collector);
+                }
+            });
+        }
+
+        @Override
+        public <U> Query<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return new SharedQuery<>(new Function<SqlClient, Query<RowSet<U>>>() {
+                @Override
+                public Query<RowSet<U>> apply(SqlClient client) {
+                    return factory.apply(client).mapping(mapper);
+                }
+            });
+        }
+    }
+
+    private class SharedPreparedQuery<T> implements PreparedQuery<T> {
+
+        private final Function<SqlClient, PreparedQuery<T>> factory;
+
+        SharedPreparedQuery(Function<SqlClient, PreparedQuery<T>> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<T>> handler) {
+            execute().onComplete(handler);
+        }
+
+        @Override
+        public Future<T> execute() {
+            return withConnection(new Function<SqlConnection, Future<T>>() {
+                @Override
+                public Future<T> apply(SqlConnection connection) {
+                    return factory.apply(connection).execute();
+                }
+            });
+        }
+
+        @Override
+        public void execute(Tuple tuple, Handler<AsyncResult<T>> handler) {
+            execute(tuple).onComplete(handler);
+        }
+
+        @Override
+        public Future<T> execute(Tuple tuple) {
+            return withConnection(new Function<SqlConnection, Future<T>>() {
+                @Override
+                public Future<T> apply(SqlConnection connection) {
+                    return factory.apply(connection).execute(tuple);
+                }
+            });
+        }
+
+        @Override
+        public void executeBatch(List<Tuple> batch, Handler<AsyncResult<T>> handler) {
+            executeBatch(batch).onComplete(handler);
+        }
+
+        @Override
+        public Future<T> executeBatch(List<Tuple> batch) {
+            return withConnection(new Function<SqlConnection, Future<T>>() {
+                @Override
+                public Future<T> apply(SqlConnection connection) {
+                    return factory.apply(connection).executeBatch(batch);
+                }
+            });
+        }
+
+        @Override
+        public <R> PreparedQuery<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return new SharedPreparedQuery<>(new Function<SqlClient, PreparedQuery<SqlResult<R>>>() {
+                @Override
+                public PreparedQuery<SqlResult<R>> apply(SqlClient client) {
+                    return factory.apply(client).collecting(collector);
+                }
+            });
+        }
+
+        @Override
+        public <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return new SharedPreparedQuery<>(new Function<SqlClient, PreparedQuery<RowSet<U>>>() {
+                @Override
+                public PreparedQuery<RowSet<U>> apply(SqlClient client) {
+                    return factory.apply(client).mapping(mapper);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.sqlclient.Pool;
+
+/**
+ * Registers the metrics of a datasource pool, if it is a {@link SharedPool}.
+ */
+public class SharedPoolMetrics implements Consumer<MetricsFactory> {
+
+    private final Pool pool;
+    private final String dataSourceName;
+
+    public SharedPoolMetrics(Pool pool, String dataSourceName) {
+        this.pool = pool;
+        this.dataSourceName = dataSourceName;
+    }
+
+    @Override
+    public void accept(MetricsFactory metricsFactory) {
+        if (!(pool instanceof SharedPool)) {
+            return;
+        }
+        SharedPool sharedPool = (SharedPool) pool;
+        String tagValue = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
+
+        metricsFactory.builder("reactive.pool.size")
+                .description("Number of connections, either in use, idle or being created.")
+                .tag("datasource", tagValue)
+                .buildGauge(sharedPool::getSize);
+        metricsFactory.builder("reactive.pool.active.count")
+                .description("Number of connections in use or being created.")
+                .tag("datasource", tagValue)
+                .buildGauge(sharedPool::getActiveCount);
+        metricsFactory.builder("reactive.pool.idle.count")
+                .description("Number of idle connections in the pool, available to be acquired.")
+                .tag("datasource", tagValue)
+                .buildGauge(sharedPool::getIdleCount);
+        metricsFactory.builder("reactive.pool.utilization")
+                .description("Ratio of the connections in use or being created to the maximum size of the pool.")
+                .tag("datasource", tagValue)
+                .buildGauge(() -> (double) sharedPool.getActiveCount() / sharedPool.getMaxSize());
+        metricsFactory.builder("reactive.pool.waiting.count")
+                .description("Number of requests waiting for a connection to be released.")
+                .tag("datasource", tagValue)
+                .buildGauge(sharedPool::getWaitingCount);
+
+        metricsFactory.builder("reactive.pool.acquire.count")
+                .description("Number of times a connection was requested.")
+                .tag("datasource", tagValue)
+                .buildCounter(sharedPool::getAcquireCount);
+        metricsFactory.builder("reactive.pool.wait.count")
+                .description("Number of times a request had to wait for a connection to be released.")
+                .tag("datasource", tagValue)
+                .buildCounter(sharedPool::getWaitCount);
+        metricsFactory.builder("reactive.pool.wait.time")
+                .description("Total time the requests waited for a connection to be released.")
+                .tag("datasource", tagValue)
+                .unit("milliseconds")
+                .buildCounter(sharedPool::getWaitTime);
+    }
+}
@@ -23,6 +23,7 @@ import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.reactive.datasource.ReactiveDataSource;
 import io.quarkus.reactive.datasource.deployment.VertxPoolBuildItem;
@@ -76,6 +77,22 @@ class ReactiveDB2ClientProcessor {
         return new ServiceStartBuildItem("reactive-db2-client");
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(DB2PoolRecorder recorder,
+            DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            List<DB2PoolBuildItem> db2Pools,
+            BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
+        if (!dataSourcesBuildTimeConfig.metricsEnabled) {
+            return;
+        }
+        for (DB2PoolBuildItem pool : db2Pools) {
+            // the metrics are only registered if the shared pool is enabled at runtime
+            datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(
+                    recorder.registerPoolMetrics(pool.getDB2Pool(), pool.getDataSourceName())));
+        }
+    }
+
     /**
      * The health check needs to be produced in a separate method to avoid a circular dependency (the Vert.x instance creation
      * consumes the AdditionalBeanBuildItems).
@@ -0,0 +1,25 @@
+package io.quarkus.reactive.db2.client.runtime;
+
+import io.quarkus.reactive.datasource.runtime.SharedPool;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.db2client.DB2ConnectOptions;
+import io.vertx.db2client.DB2Connection;
+import io.vertx.db2client.DB2Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
+
+public class SharedDB2Pool extends SharedPool implements DB2Pool {
+
+    private final DB2ConnectOptions db2ConnectOptions;
+
+    public SharedDB2Pool(Vertx vertx, DB2ConnectOptions db2ConnectOptions, PoolOptions poolOptions) {
+        super(vertx, poolOptions);
+        this.db2ConnectOptions = db2ConnectOptions;
+    }
+
+    @Override
+    protected Future<SqlConnection> connect() {
+        return DB2Connection.connect(vertx, db2ConnectOptions).map(connection -> connection);
+    }
+}
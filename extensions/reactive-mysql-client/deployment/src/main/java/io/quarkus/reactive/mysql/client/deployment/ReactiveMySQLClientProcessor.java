@@ -24,6 +24,7 @@ import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.reactive.datasource.ReactiveDataSource;
 import io.quarkus.reactive.datasource.deployment.VertxPoolBuildItem;
@@ -82,6 +83,22 @@ class ReactiveMySQLClientProcessor {
         return DevServicesDatasourceConfigurationHandlerBuildItem.reactive(DatabaseKind.MYSQL);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(MySQLPoolRecorder recorder,
+            DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            List<MySQLPoolBuildItem> mySQLPools,
+            BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
+        if (!dataSourcesBuildTimeConfig.metricsEnabled) {
+            return;
+        }
+        for (MySQLPoolBuildItem pool : mySQLPools) {
+            // the metrics are only registered if the shared pool is enabled at runtime
+            datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(
+                    recorder.registerPoolMetrics(pool.getMySQLPool(), pool.getDataSourceName())));
+        }
+    }
+
     /**
      * The health check needs to be produced in a separate method to avoid a circular dependency (the Vert.x instance creation
      * consumes the AdditionalBeanBuildItems).
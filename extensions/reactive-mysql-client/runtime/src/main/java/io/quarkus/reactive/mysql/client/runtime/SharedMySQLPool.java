@@ -0,0 +1,25 @@
+package io.quarkus.reactive.mysql.client.runtime;
+
+import io.quarkus.reactive.datasource.runtime.SharedPool;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.mysqlclient.MySQLConnectOptions;
+import io.vertx.mysqlclient.MySQLConnection;
+import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
+
+public class SharedMySQLPool extends SharedPool implements MySQLPool {
+
+    private final MySQLConnectOptions mySQLConnectOptions;
+
+    public SharedMySQLPool(Vertx vertx, MySQLConnectOptions mySQLConnectOptions, PoolOptions poolOptions) {
+        super(vertx, poolOptions);
+        this.mySQLConnectOptions = mySQLConnectOptions;
+    }
+
+    @Override
+    protected Future<SqlConnection> connect() {
+        return MySQLConnection.connect(vertx, mySQLConnectOptions).map(connection -> connection);
+    }
+}
@@ -25,6 +25,7 @@ import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageConfigBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.reactive.datasource.ReactiveDataSource;
 import io.quarkus.reactive.datasource.deployment.VertxPoolBuildItem;
@@ -89,6 +90,22 @@ class ReactivePgClientProcessor {
         return new ServiceStartBuildItem("reactive-pg-client");
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(PgPoolRecorder recorder,
+            DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            List<PgPoolBuildItem> pgPools,
+            BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
+        if (!dataSourcesBuildTimeConfig.metricsEnabled) {
+            return;
+        }
+        for (PgPoolBuildItem pool : pgPools) {
+            // the metrics are only registered if the shared pool is enabled at runtime
+            datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(
+                    recorder.registerPoolMetrics(pool.getPgPool(), pool.getDataSourceName())));
+        }
+    }
+
     /**
      * The health check needs to be produced in a separate method to avoid a circular dependency (the Vert.x instance creation
      * consumes the AdditionalBeanBuildItems).
@@ -25,6 +25,28 @@ public class DataSourceReactivePostgreSQLConfig {
     @ConfigItem
     public OptionalInt pipeliningLimit = OptionalInt.empty();
 
+    /**
+     * Whether the queries executed directly on the pool, i.e. not on a connection obtained from it, are pipelined.
+     * <p>
+     * When enabled, the independent queries issued concurrently from the same event loop share a connection and are sent
+     * without waiting for the results of the previous ones, up to {@code pipelined-pool-max-queries} queries, so that N
+     * queries take roughly one round trip instead of N.
+     * Transactions and the connections obtained from the pool are not affected: Hibernate Reactive and Panache, which
+     * obtain a connection from the pool, do not benefit from it.
+     * This implies the use of a {@code shared-pool}.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean pipelinedPool = false;
+
+    /**
+     * The maximum number of queries sharing a connection when {@code pipelined-pool} is enabled.
+     * <p>
+     * The database executes the queries of a connection one after the other, so a slow query delays all the queries
+     * pipelined behind it. Keep this value low; it is capped by {@code pipelining-limit}.
+     */
+    @ConfigItem(defaultValue = "8")
+    public int pipelinedPoolMaxQueries = 8;
+
     /**
      * SSL operating mode of the client.
      * <p>
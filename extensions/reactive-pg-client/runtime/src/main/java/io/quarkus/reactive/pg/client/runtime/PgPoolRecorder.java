@@ -11,6 +11,7 @@ import static io.quarkus.vertx.core.runtime.SSLConfigHelper.configurePfxTrustOpt
 
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.jboss.logging.Logger;
 
@@ -20,9 +21,11 @@ import io.quarkus.datasource.runtime.DataSourceRuntimeConfig;
 import io.quarkus.datasource.runtime.DataSourcesRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.SharedPoolMetrics;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.core.Vertx;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgPool;
@@ -55,6 +58,10 @@ public class PgPoolRecorder {
         return new RuntimeValue<>(io.vertx.mutiny.pgclient.PgPool.newInstance(pgPool.getValue()));
     }
 
+    public Consumer<MetricsFactory> registerPoolMetrics(RuntimeValue<PgPool> pool, String dataSourceName) {
+        return new SharedPoolMetrics(pool.getValue(), dataSourceName);
+    }
+
     private PgPool initialize(Vertx vertx, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig) {
@@ -66,6 +73,14 @@ public class PgPoolRecorder {
             log.warn(
                     "Configuration element 'thread-local' on Reactive datasource connections is deprecated and will be ignored. The started pool will always be based on a per-thread separate pool now.");
         }
+        if (dataSourceReactivePostgreSQLConfig.pipelinedPool) {
+            int maxPipelinedQueries = Math.min(dataSourceReactivePostgreSQLConfig.pipelinedPoolMaxQueries,
+                    pgConnectOptions.getPipeliningLimit());
+            return new SharedPgPool(vertx, pgConnectOptions, poolOptions, maxPipelinedQueries);
+        }
+        if (dataSourceReactiveRuntimeConfig.sharedPool) {
+            return new SharedPgPool(vertx, pgConnectOptions, poolOptions, 0);
+        }
         return new ThreadLocalPgPool(vertx, pgConnectOptions, poolOptions);
     }
 
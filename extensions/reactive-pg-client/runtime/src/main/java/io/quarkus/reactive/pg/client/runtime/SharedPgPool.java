@@ -0,0 +1,25 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import io.quarkus.reactive.datasource.runtime.SharedPool;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.pgclient.PgPool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
+
+public class SharedPgPool extends SharedPool implements PgPool {
+
+    private final PgConnectOptions pgConnectOptions;
+
+    public SharedPgPool(Vertx vertx, PgConnectOptions pgConnectOptions, PoolOptions poolOptions, int maxPipelinedQueries) {
+        super(vertx, poolOptions, maxPipelinedQueries);
+        this.pgConnectOptions = pgConnectOptions;
+    }
+
+    @Override
+    protected Future<SqlConnection> connect() {
+        return PgConnection.connect(vertx, pgConnectOptions).map(connection -> connection);
+    }
+}
@@ -16,6 +16,13 @@ public class ResteasyReactiveConfig {
     @ConfigItem(defaultValue = "10k")
     public MemorySize inputBufferSize;
 
+    /**
+     * The amount of memory used to buffer the items of a {@code Multi} streamed as a JSON array before writing them to
+     * the connection. The buffered items are also written as soon as the items emitted in a row have all been serialized.
+     */
+    @ConfigItem(defaultValue = "8k")
+    public MemorySize streamingBufferSize;
+
     /**
      * By default we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
@@ -35,6 +42,14 @@ public class ResteasyReactiveConfig {
     @Experimental("This flag has a high probability of going away in the future")
     public boolean defaultProduces;
 
+    /**
+     * If enabled, the URI templates of all the endpoints are compiled into a segment trie that is used to
+     * match requests, instead of trying each candidate template that shares the same stem one after the other.
+     * This speeds up routing for applications with a large number of endpoints.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compiledRouting;
+
     /**
      * Whether or not annotations such `@IfBuildTimeProfile`, `@IfBuildTimeProperty` and friends will be taken
      * into account when used on JAX-RS classes.
@@ -0,0 +1,580 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.jandex.ArrayType;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.FieldCreator;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedJacksonDeserializer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedJacksonSerializer;
+
+/**
+ * Generates Jackson serializers and deserializers for plain DTO classes, so that Jackson does not need to
+ * introspect them and access their properties reflectively.
+ * <p>
+ * Only classes that Jackson would handle with its default bean (de)serializers and whose properties can be
+ * determined from the index are supported: public, non generic classes directly extending {@code Object}, without
+ * subclasses and without any Jackson or {@code java.beans} annotation. Properties are the public getters and
+ * fields for serialization, and the public setters and non final fields for deserialization, named the way
+ * Jackson names them by default.
+ */
+final class JacksonSerializerGenerator {
+
+    static final String SERIALIZER_SUFFIX = "$QuarkusJacksonSerializer";
+    static final String DESERIALIZER_SUFFIX = "$QuarkusJacksonDeserializer";
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    private static final String CONSTRUCTOR = "<init>";
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+
+    JacksonSerializerGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.classOutput = classOutput;
+    }
+
+    /**
+     * @return the properties of the class, or {@code null} if the class is not supported
+     */
+    Map<String, Property> properties(DotName className) {
+        ClassInfo classInfo = index.getClassByName(className);
+        if (classInfo == null || !isSupported(classInfo)) {
+            return null;
+        }
+        // Jandex sorts the members by name, which gives a stable property order
+        Map<String, Property> properties = new TreeMap<>();
+        for (FieldInfo field : classInfo.fields()) {
+            short flags = field.flags();
+            if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || Modifier.isTransient(flags)) {
+                continue;
+            }
+            if (!field.name().equals(manglePropertyName(field.name(), 0))) {
+                // Jackson would expose this field and a matching getter as two properties
+                return null;
+            }
+            Property property = properties.computeIfAbsent(field.name(), Property::new);
+            property.field = field;
+            if (Modifier.isFinal(flags)) {
+                property.readOnlyField = true;
+            }
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            short flags = method.flags();
+            if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || isSynthetic(flags)) {
+                continue;
+            }
+            String name = method.name();
+            int parameters = method.parameters().size();
+            Type returnType = method.returnType();
+            if (parameters == 0 && name.startsWith("get") && returnType.kind() != Type.Kind.VOID) {
+                if (!addGetter(properties, manglePropertyName(name, 3), method)) {
+                    return null;
+                }
+            } else if (parameters == 0 && name.startsWith("is") && returnType.kind() == Type.Kind.PRIMITIVE
+                    && returnType.asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+                if (!addGetter(properties, manglePropertyName(name, 2), method)) {
+                    return null;
+                }
+            } else if (parameters == 1 && name.startsWith("set")) {
+                String propertyName = manglePropertyName(name, 3);
+                if (propertyName == null) {
+                    continue;
+                }
+                Property property = properties.computeIfAbsent(propertyName, Property::new);
+                if (property.setter != null) {
+                    // overloaded setters, Jackson has its own rules to pick one of them
+                    property.ambiguousSetter = true;
+                }
+                property.setter = method;
+            }
+        }
+        return properties.isEmpty() ? null : properties;
+    }
+
+    private static boolean addGetter(Map<String, Property> properties, String name, MethodInfo method) {
+        if (name == null) {
+            return true;
+        }
+        Property property = properties.computeIfAbsent(name, Property::new);
+        if (property.getter != null) {
+            // both getX() and isX(), Jackson has its own rules to pick one of them
+            return false;
+        }
+        property.getter = method;
+        return true;
+    }
+
+    private boolean isSupported(ClassInfo classInfo) {
+        short flags = classInfo.flags();
+        if (!Modifier.isPublic(flags) || Modifier.isAbstract(flags) || Modifier.isInterface(flags)
+                || (flags & 0x4000) != 0 // enum
+                || !OBJECT.equals(classInfo.superName())
+                || !classInfo.typeParameters().isEmpty()) {
+            return false;
+        }
+        if (classInfo.nestingType() != ClassInfo.NestingType.TOP_LEVEL
+                && (classInfo.nestingType() != ClassInfo.NestingType.INNER || !Modifier.isStatic(flags))) {
+            return false;
+        }
+        for (DotName annotation : classInfo.annotations().keySet()) {
+            String name = annotation.toString();
+            if (name.startsWith("com.fasterxml.jackson.") || name.startsWith("java.beans.")
+                    || name.startsWith("kotlin.")) {
+                return false;
+            }
+        }
+        return index.getAllKnownSubclasses(classInfo.name()).isEmpty();
+    }
+
+    private static boolean isSynthetic(short flags) {
+        return (flags & 0x1000) != 0;
+    }
+
+    /**
+     * Same as Jackson's default (legacy) property naming: the leading upper case characters are lower cased.
+     */
+    static String manglePropertyName(String name, int offset) {
+        int end = name.length();
+        if (end == offset) {
+            return null;
+        }
+        char c = name.charAt(offset);
+        char d = Character.toLowerCase(c);
+        if (c == d) {
+            return name.substring(offset);
+        }
+        StringBuilder sb = new StringBuilder(end - offset);
+        sb.append(d);
+        for (int i = offset + 1; i < end; ++i) {
+            c = name.charAt(i);
+            d = Character.toLowerCase(c);
+            if (c == d) {
+                sb.append(name, i, end);
+                break;
+            }
+            sb.append(d);
+        }
+        return sb.toString();
+    }
+
+    static boolean canSerialize(Map<String, Property> properties) {
+        for (Property property : properties.values()) {
+            if (property.getter != null || property.field != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean canDeserialize(DotName className, Map<String, Property> properties) {
+        ClassInfo classInfo = index.getClassByName(className);
+        MethodInfo constructor = classInfo.method(CONSTRUCTOR);
+        if (constructor == null || !Modifier.isPublic(constructor.flags())) {
+            return false;
+        }
+        for (Property property : properties.values()) {
+            if (property.ambiguousSetter) {
+                return false;
+            }
+            Type type = property.mutatorType();
+            if (type == null) {
+                // Jackson may use the getter of a read only collection as a setter
+                return false;
+            }
+            if (!isResolvable(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isResolvable(Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+            case CLASS:
+                return true;
+            case ARRAY:
+                return isResolvable(type.asArrayType().component());
+            case PARAMETERIZED_TYPE:
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    if (!isResolvable(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Generates a serializer similar to:
+     *
+     * <pre>
+     * public class Person$QuarkusJacksonSerializer extends GeneratedJacksonSerializer {
+     *     private static final SerializedString age = new SerializedString("age");
+     *     private static final SerializedString name = new SerializedString("name");
+     *
+     *     public Person$QuarkusJacksonSerializer() {
+     *         super(Person.class);
+     *     }
+     *
+     *     protected void serializeProperties(Object value, JsonGenerator gen, SerializerProvider provider) {
+     *         Person person = (Person) value;
+     *         gen.writeFieldName(age);
+     *         gen.writeNumber(person.getAge());
+     *         gen.writeFieldName(name);
+     *         gen.writeString(person.getName());
+     *     }
+     * }
+     * </pre>
+     *
+     * @return the name of the generated class
+     */
+    String generateSerializer(DotName className, Map<String, Property> properties) {
+        String serializerClassName = className.toString() + SERIALIZER_SUFFIX;
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput)
+                .className(serializerClassName)
+                .superClass(GeneratedJacksonSerializer.class)
+                .build()) {
+            generateConstructor(classCreator, className, GeneratedJacksonSerializer.class);
+
+            MethodCreator clinit = classCreator.getMethodCreator("<clinit>", void.class);
+            clinit.setModifiers(Modifier.STATIC);
+
+            MethodCreator serialize = classCreator.getMethodCreator("serializeProperties", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class);
+            serialize.setModifiers(Modifier.PROTECTED);
+            serialize.addException(IOException.class);
+            ResultHandle bean = serialize.checkCast(serialize.getMethodParam(0), className.toString());
+            ResultHandle gen = serialize.getMethodParam(1);
+            ResultHandle provider = serialize.getMethodParam(2);
+
+            int i = 0;
+            for (Property property : properties.values()) {
+                if (property.getter == null && property.field == null) {
+                    continue;
+                }
+                FieldCreator nameField = classCreator.getFieldCreator("NAME_" + i++, SerializedString.class)
+                        .setModifiers(Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL);
+                clinit.writeStaticField(nameField.getFieldDescriptor(), clinit.newInstance(
+                        MethodDescriptor.ofConstructor(SerializedString.class, String.class),
+                        clinit.load(property.name)));
+
+                serialize.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(JsonGenerator.class, "writeFieldName", void.class,
+                                SerializableString.class),
+                        gen, serialize.readStaticField(nameField.getFieldDescriptor()));
+                ResultHandle value;
+                Type type;
+                if (property.getter != null) {
+                    value = serialize.invokeVirtualMethod(MethodDescriptor.of(property.getter), bean);
+                    type = property.getter.returnType();
+                } else {
+                    value = serialize.readInstanceField(FieldDescriptor.of(property.field), bean);
+                    type = property.field.type();
+                }
+                writeValue(serialize, gen, provider, value, type);
+            }
+            serialize.returnValue(null);
+            clinit.returnValue(null);
+        }
+        return serializerClassName;
+    }
+
+    private static void writeValue(BytecodeCreator creator, ResultHandle gen, ResultHandle provider, ResultHandle value,
+            Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            switch (type.asPrimitiveType().primitive()) {
+                case BOOLEAN:
+                    writePrimitive(creator, gen, "writeBoolean", boolean.class, value);
+                    return;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    writePrimitive(creator, gen, "writeNumber", int.class, value);
+                    return;
+                case LONG:
+                    writePrimitive(creator, gen, "writeNumber", long.class, value);
+                    return;
+                case FLOAT:
+                    writePrimitive(creator, gen, "writeNumber", float.class, value);
+                    return;
+                case DOUBLE:
+                    writePrimitive(creator, gen, "writeNumber", double.class, value);
+                    return;
+                case CHAR:
+                    writePrimitive(creator, gen, "writeString", String.class, creator.invokeStaticMethod(
+                            MethodDescriptor.ofMethod(String.class, "valueOf", String.class, char.class), value));
+                    return;
+            }
+        }
+        if (type.kind() == Type.Kind.CLASS && type.name().equals(STRING)) {
+            // writeString(null) writes a null token
+            writePrimitive(creator, gen, "writeString", String.class, value);
+            return;
+        }
+        creator.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(SerializerProvider.class, "defaultSerializeValue", void.class, Object.class,
+                        JsonGenerator.class),
+                provider, value, gen);
+    }
+
+    private static void writePrimitive(BytecodeCreator creator, ResultHandle gen, String method, Class<?> type,
+            ResultHandle value) {
+        creator.invokeVirtualMethod(MethodDescriptor.ofMethod(JsonGenerator.class, method, void.class, type), gen, value);
+    }
+
+    /**
+     * Generates a deserializer similar to:
+     *
+     * <pre>
+     * public class Person$QuarkusJacksonDeserializer extends GeneratedJacksonDeserializer {
+     *
+     *     public Person$QuarkusJacksonDeserializer() {
+     *         super(Person.class);
+     *     }
+     *
+     *     protected Object createInstance() {
+     *         return new Person();
+     *     }
+     *
+     *     protected boolean deserializeProperty(Object bean, String name, JsonParser p, DeserializationContext ctxt) {
+     *         Person person = (Person) bean;
+     *         if ("age".equals(name)) {
+     *             Object value = readValue(p, ctxt, Integer.class);
+     *             if (value != null) {
+     *                 person.setAge(((Integer) value).intValue());
+     *             }
+     *             return true;
+     *         }
+     *         if ("name".equals(name)) {
+     *             person.setName((String) readValue(p, ctxt, String.class));
+     *             return true;
+     *         }
+     *         return false;
+     *     }
+     * }
+     * </pre>
+     *
+     * @return the name of the generated class
+     */
+    String generateDeserializer(DotName className, Map<String, Property> properties) {
+        String deserializerClassName = className.toString() + DESERIALIZER_SUFFIX;
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput)
+                .className(deserializerClassName)
+                .superClass(GeneratedJacksonDeserializer.class)
+                .build()) {
+            generateConstructor(classCreator, className, GeneratedJacksonDeserializer.class);
+
+            MethodCreator createInstance = classCreator.getMethodCreator("createInstance", Object.class);
+            createInstance.setModifiers(Modifier.PROTECTED);
+            createInstance.returnValue(createInstance.newInstance(MethodDescriptor.ofConstructor(className.toString())));
+
+            MethodCreator deserialize = classCreator.getMethodCreator("deserializeProperty", boolean.class, Object.class,
+                    String.class, JsonParser.class, DeserializationContext.class);
+            deserialize.setModifiers(Modifier.PROTECTED);
+            deserialize.addException(IOException.class);
+            ResultHandle bean = deserialize.checkCast(deserialize.getMethodParam(0), className.toString());
+            ResultHandle name = deserialize.getMethodParam(1);
+            ResultHandle parser = deserialize.getMethodParam(2);
+            ResultHandle ctxt = deserialize.getMethodParam(3);
+
+            for (Property property : properties.values()) {
+                BytecodeCreator matches = deserialize.ifTrue(deserialize.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(String.class, "equals", boolean.class, Object.class),
+                        deserialize.load(property.name), name)).trueBranch();
+                Type type = property.mutatorType();
+                ResultHandle value = readValue(matches, parser, ctxt, type);
+                if (type.kind() == Type.Kind.PRIMITIVE) {
+                    // a null token leaves the default value of the primitive property
+                    BranchResult isNull = matches.ifNull(value);
+                    BytecodeCreator notNull = isNull.falseBranch();
+                    setValue(notNull, property, bean, unbox(notNull, value, type.asPrimitiveType()));
+                } else {
+                    setValue(matches, property, bean, matches.checkCast(value, castTarget(type)));
+                }
+                matches.returnValue(matches.load(true));
+            }
+            deserialize.returnValue(deserialize.load(false));
+        }
+        return deserializerClassName;
+    }
+
+    private static ResultHandle readValue(BytecodeCreator creator, ResultHandle parser, ResultHandle ctxt, Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE || type.kind() == Type.Kind.CLASS) {
+            String rawName = type.kind() == Type.Kind.PRIMITIVE ? boxedName(type.asPrimitiveType())
+                    : type.name().toString();
+            return creator.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(GeneratedJacksonDeserializer.class, "readValue", Object.class,
+                            JsonParser.class, DeserializationContext.class, Class.class),
+                    parser, ctxt, creator.loadClass(rawName));
+        }
+        ResultHandle typeFactory = creator.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(DeserializationContext.class, "getTypeFactory", TypeFactory.class), ctxt);
+        return creator.invokeStaticMethod(
+                MethodDescriptor.ofMethod(GeneratedJacksonDeserializer.class, "readValue", Object.class,
+                        JsonParser.class, DeserializationContext.class, JavaType.class),
+                parser, ctxt, javaType(creator, typeFactory, type));
+    }
+
+    private static ResultHandle javaType(BytecodeCreator creator, ResultHandle typeFactory, Type type) {
+        switch (type.kind()) {
+            case ARRAY:
+                ArrayType arrayType = type.asArrayType();
+                ResultHandle result = javaType(creator, typeFactory, arrayType.component());
+                for (int i = 0; i < arrayType.dimensions(); i++) {
+                    result = creator.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(TypeFactory.class, "constructArrayType",
+                                    com.fasterxml.jackson.databind.type.ArrayType.class, JavaType.class),
+                            typeFactory, result);
+                }
+                return result;
+            case PARAMETERIZED_TYPE:
+                ParameterizedType parameterizedType = type.asParameterizedType();
+                List<Type> arguments = parameterizedType.arguments();
+                ResultHandle argumentTypes = creator.newArray(JavaType.class, arguments.size());
+                for (int i = 0; i < arguments.size(); i++) {
+                    creator.writeArrayValue(argumentTypes, i, javaType(creator, typeFactory, arguments.get(i)));
+                }
+                return creator.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(TypeFactory.class, "constructParametricType", JavaType.class,
+                                Class.class, JavaType[].class),
+                        typeFactory, creator.loadClass(parameterizedType.name().toString()), argumentTypes);
+            default:
+                return creator.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(TypeFactory.class, "constructType", JavaType.class,
+                                java.lang.reflect.Type.class),
+                        typeFactory, creator.loadClass(type.name().toString()));
+        }
+    }
+
+    private static String castTarget(Type type) {
+        if (type.kind() == Type.Kind.ARRAY) {
+            return DescriptorUtils.typeToString(type);
+        }
+        return type.name().toString();
+    }
+
+    private static String boxedName(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return Boolean.class.getName();
+            case BYTE:
+                return Byte.class.getName();
+            case SHORT:
+                return Short.class.getName();
+            case INT:
+                return Integer.class.getName();
+            case LONG:
+                return Long.class.getName();
+            case FLOAT:
+                return Float.class.getName();
+            case DOUBLE:
+                return Double.class.getName();
+            case CHAR:
+                return Character.class.getName();
+            default:
+                throw new IllegalArgumentException("Unknown primitive type " + type);
+        }
+    }
+
+    private static ResultHandle unbox(BytecodeCreator creator, ResultHandle value, PrimitiveType type) {
+        String boxedName = boxedName(type);
+        String primitiveName = type.name().toString();
+        return creator.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(boxedName, primitiveName + "Value", primitiveName),
+                creator.checkCast(value, boxedName));
+    }
+
+    private static void setValue(BytecodeCreator creator, Property property, ResultHandle bean, ResultHandle value) {
+        if (property.setter != null) {
+            creator.invokeVirtualMethod(MethodDescriptor.of(property.setter), bean, value);
+        } else {
+            creator.writeInstanceField(FieldDescriptor.of(property.field), bean, value);
+        }
+    }
+
+    private static void generateConstructor(ClassCreator classCreator, DotName className, Class<?> superClass) {
+        MethodCreator constructor = classCreator.getMethodCreator(CONSTRUCTOR, void.class);
+        constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(superClass, Class.class),
+                constructor.getThis(), constructor.loadClass(className.toString()));
+        constructor.returnValue(null);
+    }
+
+    /**
+     * @return the types of the properties, used to find the DTOs nested in the supported classes
+     */
+    static List<Type> propertyTypes(Map<String, Property> properties) {
+        List<Type> types = new ArrayList<>();
+        for (Property property : properties.values()) {
+            if (property.getter != null) {
+                types.add(property.getter.returnType());
+            } else if (property.field != null) {
+                types.add(property.field.type());
+            }
+            Type mutatorType = property.mutatorType();
+            if (mutatorType != null) {
+                types.add(mutatorType);
+            }
+        }
+        return types;
+    }
+
+    static final class Property {
+
+        final String name;
+        MethodInfo getter;
+        MethodInfo setter;
+        FieldInfo field;
+        boolean readOnlyField;
+        boolean ambiguousSetter;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        Type mutatorType() {
+            if (setter != null) {
+                return setter.parameters().get(0);
+            }
+            if (field != null && !readOnlyField) {
+                return field.type();
+            }
+            return null;
+        }
+    }
+}
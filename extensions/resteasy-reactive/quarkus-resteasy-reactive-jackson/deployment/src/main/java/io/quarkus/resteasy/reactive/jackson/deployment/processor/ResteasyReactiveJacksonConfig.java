@@ -0,0 +1,18 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-reactive.jackson")
+public class ResteasyReactiveJacksonConfig {
+
+    /**
+     * If enabled, Jackson serializers and deserializers are generated at build time for the plain DTOs used as
+     * parameters or return types of the resource methods, and registered on the {@code ObjectMapper}.
+     * <p>
+     * This avoids Jackson's introspection and reflective access for these classes. Only classes without Jackson
+     * annotations, superclass or subclasses are handled, the other classes keep using the default Jackson behavior.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean generateSerializers;
+}
@@ -1,15 +1,40 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javax.ws.rs.core.MediaType;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+import org.jboss.resteasy.reactive.common.processor.scanning.ResourceScanningResult;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.jackson.spi.JacksonModuleBuildItem;
+import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
+import io.quarkus.resteasy.reactive.jackson.CustomSerialization;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
@@ -23,6 +48,19 @@ import io.vertx.core.json.JsonObject;
 
 public class ResteasyReactiveJacksonProcessor {
 
+    private static final DotName JSON_VIEW = DotName.createSimple(JsonView.class.getName());
+    private static final DotName CUSTOM_SERIALIZATION = DotName.createSimple(CustomSerialization.class.getName());
+    // the parameters annotated with one of these are not read from the request body
+    private static final Set<DotName> NON_BODY_PARAMETER_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            ResteasyReactiveDotNames.PATH_PARAM, ResteasyReactiveDotNames.QUERY_PARAM,
+            ResteasyReactiveDotNames.HEADER_PARAM, ResteasyReactiveDotNames.FORM_PARAM,
+            ResteasyReactiveDotNames.MATRIX_PARAM, ResteasyReactiveDotNames.COOKIE_PARAM,
+            ResteasyReactiveDotNames.BEAN_PARAM, ResteasyReactiveDotNames.REST_PATH_PARAM,
+            ResteasyReactiveDotNames.REST_QUERY_PARAM, ResteasyReactiveDotNames.REST_HEADER_PARAM,
+            ResteasyReactiveDotNames.REST_FORM_PARAM, ResteasyReactiveDotNames.REST_MATRIX_PARAM,
+            ResteasyReactiveDotNames.REST_COOKIE_PARAM, ResteasyReactiveDotNames.MULTI_PART_FORM_PARAM,
+            ResteasyReactiveDotNames.CONTEXT, ResteasyReactiveDotNames.SUSPENDED));
+
     @BuildStep
     void feature(BuildProducer<FeatureBuildItem> feature) {
         feature.produce(new FeatureBuildItem(Feature.RESTEASY_REACTIVE_JACKSON));
@@ -71,4 +109,111 @@ public class ResteasyReactiveJacksonProcessor {
                         JsonObject.class.getName(),
                         Collections.singletonList(MediaType.APPLICATION_JSON)));
     }
+
+    @BuildStep
+    void generateSerializers(ResteasyReactiveJacksonConfig config,
+            Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
+            CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<JacksonModuleBuildItem> jacksonModules) {
+        if (!config.generateSerializers || !resourceScanningResultBuildItem.isPresent()) {
+            return;
+        }
+        ResourceScanningResult result = resourceScanningResultBuildItem.get().getResult();
+
+        Set<DotName> candidates = new LinkedHashSet<>();
+        for (ClassInfo resourceClass : result.getScannedResources().values()) {
+            for (MethodInfo method : resourceClass.methods()) {
+                if (!isResourceMethod(method, result.getHttpAnnotationToMethod().keySet())
+                        || method.hasAnnotation(JSON_VIEW) || method.hasAnnotation(CUSTOM_SERIALIZATION)) {
+                    continue;
+                }
+                collectClassNames(method.returnType(), candidates);
+                for (int i = 0; i < method.parameters().size(); i++) {
+                    if (isBodyParameter(method, i)) {
+                        collectClassNames(method.parameters().get(i), candidates);
+                    }
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        JacksonSerializerGenerator generator = new JacksonSerializerGenerator(index.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true));
+        JacksonModuleBuildItem.Builder module = new JacksonModuleBuildItem.Builder("resteasy-reactive-generated");
+        boolean generated = false;
+        Set<DotName> processed = new HashSet<>();
+        Deque<DotName> toProcess = new ArrayDeque<>(candidates);
+        while (!toProcess.isEmpty()) {
+            DotName className = toProcess.poll();
+            if (!processed.add(className)) {
+                continue;
+            }
+            Map<String, JacksonSerializerGenerator.Property> properties = generator.properties(className);
+            if (properties == null) {
+                continue;
+            }
+            if (JacksonSerializerGenerator.canSerialize(properties)) {
+                module.addSerializer(generator.generateSerializer(className, properties), className.toString());
+                generated = true;
+            }
+            if (generator.canDeserialize(className, properties)) {
+                module.addDeserializer(generator.generateDeserializer(className, properties), className.toString());
+                generated = true;
+            }
+            // the DTOs nested in this one also get their own serializers
+            Set<DotName> nested = new LinkedHashSet<>();
+            for (Type propertyType : JacksonSerializerGenerator.propertyTypes(properties)) {
+                collectClassNames(propertyType, nested);
+            }
+            toProcess.addAll(nested);
+        }
+        if (generated) {
+            jacksonModules.produce(module.build());
+        }
+    }
+
+    private static boolean isResourceMethod(MethodInfo method, Set<DotName> httpAnnotations) {
+        for (DotName httpAnnotation : httpAnnotations) {
+            if (method.hasAnnotation(httpAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBodyParameter(MethodInfo method, int position) {
+        for (AnnotationInstance annotation : method.annotations()) {
+            AnnotationTarget target = annotation.target();
+            if (target.kind() == AnnotationTarget.Kind.METHOD_PARAMETER
+                    && target.asMethodParameter().position() == position
+                    && NON_BODY_PARAMETER_ANNOTATIONS.contains(annotation.name())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the classes of the given type, including the element types of collections and async types.
+     */
+    private static void collectClassNames(Type type, Set<DotName> classNames) {
+        switch (type.kind()) {
+            case CLASS:
+                classNames.add(type.name());
+                break;
+            case ARRAY:
+                collectClassNames(type.asArrayType().component(), classNames);
+                break;
+            case PARAMETERIZED_TYPE:
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    collectClassNames(argument, classNames);
+                }
+                break;
+            default:
+                break;
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.smallrye.mutiny.Uni;
+
+@Path("/generated")
+public class GeneratedSerializersResource {
+
+    @POST
+    @Path("/order")
+    public Uni<Order> order(Order order) {
+        for (OrderLine line : order.getLines()) {
+            line.setPrice(line.getPrice() * 2);
+        }
+        order.setPaid(true);
+        return Uni.createFrom().item(order);
+    }
+
+    @POST
+    @Path("/validated/{id}")
+    public String validated(@PathParam("id") String id, @Valid @NotNull ValidatedOrder order) {
+        return id + ":" + order.getReference();
+    }
+
+    @GET
+    @Path("/annotated")
+    public AnnotatedOrder annotated() {
+        AnnotatedOrder order = new AnnotatedOrder();
+        order.setReference("ref");
+        return order;
+    }
+
+    public static class Order {
+
+        private String reference;
+        private boolean paid;
+        private List<OrderLine> lines;
+
+        public String getReference() {
+            return reference;
+        }
+
+        public void setReference(String reference) {
+            this.reference = reference;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public void setPaid(boolean paid) {
+            this.paid = paid;
+        }
+
+        public List<OrderLine> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<OrderLine> lines) {
+            this.lines = lines;
+        }
+    }
+
+    public static class OrderLine {
+
+        public String product;
+        public int quantity;
+        private double price;
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+
+    public static class ValidatedOrder {
+
+        @NotNull
+        private String reference;
+
+        public String getReference() {
+            return reference;
+        }
+
+        public void setReference(String reference) {
+            this.reference = reference;
+        }
+    }
+
+    public static class AnnotatedOrder {
+
+        private String reference;
+
+        @JsonProperty("ref")
+        public String getReference() {
+            return reference;
+        }
+
+        public void setReference(String reference) {
+            this.reference = reference;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedJacksonSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class GeneratedSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(GeneratedSerializersResource.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.generate-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testGeneratedSerializersAreRegistered() throws JsonMappingException {
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(GeneratedSerializersResource.Order.class) instanceof GeneratedJacksonSerializer);
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(GeneratedSerializersResource.OrderLine.class) instanceof GeneratedJacksonSerializer);
+        // a body parameter with bean validation annotations
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(GeneratedSerializersResource.ValidatedOrder.class) instanceof GeneratedJacksonSerializer);
+        assertFalse(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(GeneratedSerializersResource.AnnotatedOrder.class) instanceof GeneratedJacksonSerializer);
+    }
+
+    @Test
+    public void testOrder() {
+        RestAssured.with()
+                .body("{\"reference\":\"abc\",\"unknown\":{\"a\":[1]},\"lines\":[{\"product\":\"cheese\",\"quantity\":2,\"price\":1.5}]}")
+                .contentType("application/json")
+                .post("/generated/order")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("reference", Matchers.equalTo("abc"))
+                .body("paid", Matchers.equalTo(true))
+                .body("lines[0].product", Matchers.equalTo("cheese"))
+                .body("lines[0].quantity", Matchers.equalTo(2))
+                .body("lines[0].price", Matchers.equalTo(3.0f));
+    }
+
+    @Test
+    public void testValidatedOrder() {
+        RestAssured.with()
+                .body("{\"reference\":\"abc\"}")
+                .contentType("application/json")
+                .post("/generated/validated/1")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("1:abc"));
+        RestAssured.with()
+                .body("{}")
+                .contentType("application/json")
+                .post("/generated/validated/1")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testAnnotatedClassKeepsJacksonBehavior() {
+        RestAssured.get("/generated/annotated")
+                .then()
+                .statusCode(200)
+                .body("ref", Matchers.equalTo("ref"));
+    }
+}
@@ -235,6 +235,18 @@ public class SimpleJsonResource extends SuperClass<Person> {
         return Multi.createFrom().empty();
     }
 
+    @GET
+    @Path("/multi-large")
+    public Multi<Person> getMultiLarge() {
+        // larger than the streaming buffer
+        return Multi.createFrom().range(0, 10_000).map(i -> {
+            Person person = new Person();
+            person.setFirst("Bob" + i);
+            person.setLast("Builder" + i);
+            return person;
+        });
+    }
+
     @POST
     @Path("/genericInput")
     public String genericInputTest(DataItem<Item> item) {
@@ -237,6 +237,15 @@ public class SimpleJsonTest {
                 .statusCode(200)
                 .contentType("application/json")
                 .body(Matchers.equalTo("[]"));
+        RestAssured
+                .with()
+                .get("/simple/multi-large")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("size()", Matchers.equalTo(10_000))
+                .body("[0].first", Matchers.equalTo("Bob0"))
+                .body("[9999].last", Matchers.equalTo("Builder9999"));
     }
 
     @Test
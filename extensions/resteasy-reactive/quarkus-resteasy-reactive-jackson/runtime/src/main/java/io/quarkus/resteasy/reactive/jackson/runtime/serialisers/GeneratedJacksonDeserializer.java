@@ -0,0 +1,109 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerFactory;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Base class of the deserializers generated at build time for the DTOs of the resource methods.
+ * <p>
+ * Subclasses create the bean and set its properties, without going through Jackson's introspection.
+ * If the {@code ObjectMapper} is configured in a way the generated code does not account for (mix-ins, naming
+ * strategy, default typing, case insensitive properties or failing on {@code null} primitives), the standard bean
+ * deserializer is used instead.
+ */
+public abstract class GeneratedJacksonDeserializer<T> extends StdDeserializer<T> implements ContextualDeserializer {
+
+    protected GeneratedJacksonDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    protected abstract T createInstance();
+
+    /**
+     * Reads the value the parser points to into the given property of the bean.
+     *
+     * @return {@code false} if the bean has no such property
+     */
+    protected abstract boolean deserializeProperty(T bean, String name, JsonParser p, DeserializationContext ctxt)
+            throws IOException;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (T) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        T bean = createInstance();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.getCurrentName();
+            p.nextToken();
+            if (!deserializeProperty(bean, name, p, ctxt)) {
+                ctxt.handleUnknownProperty(p, this, bean, name);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Used by the generated code to read a property value, {@code null} tokens are returned as is.
+     */
+    protected static Object readValue(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, type);
+    }
+
+    /**
+     * Used by the generated code to read a property value of a parameterized type, {@code null} tokens are returned
+     * as is.
+     */
+    protected static Object readValue(JsonParser p, DeserializationContext ctxt, JavaType type) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, type);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        if (isSupported(ctxt.getConfig())) {
+            return this;
+        }
+        JavaType type = ctxt.constructType(handledType());
+        BeanDescription description = ctxt.getConfig().introspect(type);
+        JsonDeserializer<Object> deserializer = BeanDeserializerFactory.instance.createBeanDeserializer(ctxt, type,
+                description);
+        if (deserializer instanceof ResolvableDeserializer) {
+            ((ResolvableDeserializer) deserializer).resolve(ctxt);
+        }
+        return ctxt.handlePrimaryContextualization(deserializer, property, type);
+    }
+
+    private boolean isSupported(DeserializationConfig config) {
+        return config.getPropertyNamingStrategy() == null
+                && config.findMixInClassFor(handledType()) == null
+                && !config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                && !config.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+                && config.getDefaultTyper(config.constructType(Object.class)) == null;
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Base class of the serializers generated at build time for the DTOs of the resource methods.
+ * <p>
+ * Subclasses only write the properties of the bean, without going through Jackson's introspection.
+ * If the {@code ObjectMapper} is configured in a way the generated code does not account for (mix-ins, naming
+ * strategy, default typing, non default inclusion or view handling), the standard bean serializer is used instead.
+ */
+public abstract class GeneratedJacksonSerializer<T> extends StdSerializer<T> implements ContextualSerializer {
+
+    protected GeneratedJacksonSerializer(Class<T> type) {
+        super(type);
+    }
+
+    /**
+     * Writes the properties of the bean, the enclosing object is handled by the caller.
+     */
+    protected abstract void serializeProperties(T value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException;
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        serializeProperties(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        gen.setCurrentValue(value);
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        serializeProperties(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        if (isSupported(provider.getConfig())) {
+            return this;
+        }
+        JsonSerializer<Object> serializer = BeanSerializerFactory.instance.createSerializer(provider,
+                provider.constructType(handledType()));
+        if (serializer instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) serializer).resolve(provider);
+        }
+        return provider.handlePrimaryContextualization(serializer, property);
+    }
+
+    private boolean isSupported(SerializationConfig config) {
+        if (config.getPropertyNamingStrategy() != null
+                || config.findMixInClassFor(handledType()) != null
+                || !config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                || config.getDefaultTyper(config.constructType(Object.class)) != null) {
+            return false;
+        }
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(handledType()).getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+}
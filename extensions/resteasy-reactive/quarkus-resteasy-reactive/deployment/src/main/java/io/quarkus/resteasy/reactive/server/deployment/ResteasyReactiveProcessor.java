@@ -579,7 +579,8 @@ public class ResteasyReactiveProcessor {
         return new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
                 getEffectivePropertyValue("input-buffer-size", config.inputBufferSize.asLongValue(), Long.class, mpConfig),
                 getEffectivePropertyValue("single-default-produces", config.singleDefaultProduces, Boolean.class, mpConfig),
-                getEffectivePropertyValue("default-produces", config.defaultProduces, Boolean.class, mpConfig));
+                getEffectivePropertyValue("default-produces", config.defaultProduces, Boolean.class, mpConfig),
+                config.compiledRouting);
     }
 
     private <T> T getEffectivePropertyValue(String legacyPropertyName, T newPropertyValue, Class<T> propertyType,
@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.server.deployment;
 
+import static io.quarkus.resteasy.reactive.server.deployment.ResteasyReactiveServerDotNames.CACHED_RESPONSE;
 import static io.quarkus.resteasy.reactive.server.deployment.ResteasyReactiveServerDotNames.SERVER_REQUEST_FILTER;
 import static io.quarkus.resteasy.reactive.server.deployment.ResteasyReactiveServerDotNames.SERVER_RESPONSE_FILTER;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.SERVER_EXCEPTION_MAPPER;
@@ -33,12 +34,15 @@ import org.jboss.resteasy.reactive.common.processor.scanning.ApplicationScanning
 import org.jboss.resteasy.reactive.common.processor.scanning.ResteasyReactiveInterceptorScanner;
 import org.jboss.resteasy.reactive.server.core.ExceptionMapping;
 import org.jboss.resteasy.reactive.server.model.ContextResolvers;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
 import org.jboss.resteasy.reactive.server.model.ParamConverterProviders;
 import org.jboss.resteasy.reactive.server.processor.scanning.AsyncReturnTypeScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveContextResolverScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveExceptionMappingScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveFeatureScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveParamConverterScanner;
+import org.jboss.resteasy.reactive.server.vertx.ResponseCacheHandler;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
@@ -51,6 +55,7 @@ import io.quarkus.deployment.index.IndexingUtil;
 import io.quarkus.resteasy.reactive.common.deployment.ApplicationResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceInterceptorsContributorBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
+import io.quarkus.resteasy.reactive.common.runtime.ResteasyReactiveConfig;
 import io.quarkus.resteasy.reactive.spi.ContainerRequestFilterBuildItem;
 import io.quarkus.resteasy.reactive.spi.ContainerResponseFilterBuildItem;
 import io.quarkus.resteasy.reactive.spi.ContextResolverBuildItem;
@@ -68,8 +73,35 @@ import io.quarkus.resteasy.reactive.spi.ParamConverterBuildItem;
 public class ResteasyReactiveScanningProcessor {
 
     @BuildStep
-    public MethodScannerBuildItem asyncSupport() {
-        return new MethodScannerBuildItem(new AsyncReturnTypeScanner());
+    public void asyncSupport(ResteasyReactiveConfig config, BuildProducer<MethodScannerBuildItem> methodScanners) {
+        methodScanners.produce(
+                new MethodScannerBuildItem(new AsyncReturnTypeScanner((int) config.streamingBufferSize.asLongValue())));
+        // produced after the async support so that the cached responses capture the resolved result of the method
+        methodScanners.produce(cachedResponseSupport());
+    }
+
+    private MethodScannerBuildItem cachedResponseSupport() {
+        return new MethodScannerBuildItem(new MethodScanner() {
+            @Override
+            public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+                    Map<String, Object> methodContext) {
+                AnnotationInstance cachedResponse = method.annotation(CACHED_RESPONSE);
+                if (cachedResponse == null || cachedResponse.target().kind() != AnnotationTarget.Kind.METHOD) {
+                    return Collections.emptyList();
+                }
+                if (!method.hasAnnotation(ResteasyReactiveDotNames.GET)) {
+                    throw new IllegalStateException("@CachedResponse can only be used on @GET methods, offending method: "
+                            + method.declaringClass().name() + "#" + method.name());
+                }
+                AnnotationValue ttl = cachedResponse.value("ttl");
+                AnnotationValue etag = cachedResponse.value("etag");
+                AnnotationValue maxEntries = cachedResponse.value("maxEntries");
+                // the handler runs after the request filters, before the parameters are resolved
+                return Collections.singletonList(new ResponseCacheHandler.Customizer(
+                        new ResponseCacheHandler(ttl != null ? ttl.asLong() : 0, etag == null || etag.asBoolean(),
+                                maxEntries != null ? maxEntries.asInt() : 1000)));
+            }
+        });
     }
 
     @BuildStep
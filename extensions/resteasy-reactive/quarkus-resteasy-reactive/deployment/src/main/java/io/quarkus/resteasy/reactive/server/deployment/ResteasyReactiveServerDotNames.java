@@ -7,6 +7,7 @@ import javax.ws.rs.core.Context;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.server.CachedResponse;
 import org.jboss.resteasy.reactive.server.ServerRequestFilter;
 import org.jboss.resteasy.reactive.server.ServerResponseFilter;
 import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
@@ -24,6 +25,7 @@ public class ResteasyReactiveServerDotNames {
     public static final DotName QUARKUS_REST_CONTAINER_REQUEST_CONTEXT = DotName
             .createSimple(ResteasyReactiveContainerRequestContext.class.getName());
     public static final DotName SIMPLIFIED_RESOURCE_INFO = DotName.createSimple(SimpleResourceInfo.class.getName());
+    public static final DotName CACHED_RESPONSE = DotName.createSimple(CachedResponse.class.getName());
     public static final DotName ROUTING_CONTEXT = DotName.createSimple(RoutingContext.class.getName());
 
     public static final DotName JSON_IGNORE = DotName.createSimple("com.fasterxml.jackson.annotation.JsonIgnore");
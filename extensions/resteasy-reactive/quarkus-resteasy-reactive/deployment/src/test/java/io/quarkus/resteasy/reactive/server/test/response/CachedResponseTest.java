@@ -0,0 +1,140 @@
+package io.quarkus.resteasy.reactive.server.test.response;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.NewCookie;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.CachedResponse;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+
+public class CachedResponseTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CachedResource.class));
+
+    @Test
+    public void testCachedResponse() {
+        ExtractableResponse<?> response = RestAssured.get("/cached/hello?name=foo")
+                .then().statusCode(200).body(equalTo("hello foo 1"))
+                .extract();
+        String etag = response.header("ETag");
+        Assertions.assertNotNull(etag);
+        RestAssured.get("/cached/hello?name=foo")
+                .then().statusCode(200).body(equalTo("hello foo 1"))
+                .header("Content-Type", response.contentType())
+                .header("ETag", etag);
+        // the query is part of the key
+        RestAssured.get("/cached/hello?name=bar")
+                .then().statusCode(200).body(equalTo("hello bar 2"));
+
+        RestAssured.given().header("If-None-Match", etag).get("/cached/hello?name=foo")
+                .then().statusCode(304).header("ETag", etag);
+        RestAssured.given().header("If-None-Match", "\"other\", W/" + etag).get("/cached/hello?name=foo")
+                .then().statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"other\"").get("/cached/hello?name=foo")
+                .then().statusCode(200).body(equalTo("hello foo 1"));
+    }
+
+    @Test
+    public void testBytes() {
+        RestAssured.get("/cached/bytes")
+                .then().statusCode(200).body(equalTo("bytes 1"));
+        RestAssured.get("/cached/bytes")
+                .then().statusCode(200).body(equalTo("bytes 1"));
+    }
+
+    @Test
+    public void testNoEtag() {
+        RestAssured.get("/cached/no-etag")
+                .then().statusCode(200).body(equalTo("no-etag 1")).header("ETag", (String) null);
+        RestAssured.get("/cached/no-etag")
+                .then().statusCode(200).body(equalTo("no-etag 1")).header("ETag", (String) null);
+    }
+
+    @Test
+    public void testCookieNotCached() {
+        RestAssured.get("/cached/cookie")
+                .then().statusCode(200).body(equalTo("cookie 1"));
+        RestAssured.get("/cached/cookie")
+                .then().statusCode(200).body(equalTo("cookie 2"));
+    }
+
+    @Test
+    public void testMaxEntries() {
+        RestAssured.get("/cached/max?v=1")
+                .then().statusCode(200).body(equalTo("max 1"));
+        // the oldest entry is evicted
+        RestAssured.get("/cached/max?v=2")
+                .then().statusCode(200).body(equalTo("max 2"));
+        RestAssured.get("/cached/max?v=2")
+                .then().statusCode(200).body(equalTo("max 2"));
+        RestAssured.get("/cached/max?v=1")
+                .then().statusCode(200).body(equalTo("max 3"));
+        RestAssured.get("/cached/max?v=1")
+                .then().statusCode(200).body(equalTo("max 3"));
+    }
+
+    @Path("cached")
+    public static class CachedResource {
+
+        private final AtomicInteger hello = new AtomicInteger();
+        private final AtomicInteger bytes = new AtomicInteger();
+        private final AtomicInteger noEtag = new AtomicInteger();
+        private final AtomicInteger cookie = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        @CachedResponse
+        @GET
+        @Path("hello")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String hello(@QueryParam("name") String name) {
+            return "hello " + name + " " + hello.incrementAndGet();
+        }
+
+        @CachedResponse(ttl = 60)
+        @GET
+        @Path("bytes")
+        public byte[] bytes() {
+            return ("bytes " + bytes.incrementAndGet()).getBytes();
+        }
+
+        @CachedResponse(etag = false)
+        @GET
+        @Path("no-etag")
+        public String noEtag() {
+            return "no-etag " + noEtag.incrementAndGet();
+        }
+
+        @CachedResponse
+        @GET
+        @Path("cookie")
+        public Response cookie() {
+            return Response.ok("cookie " + cookie.incrementAndGet()).cookie(new NewCookie("foo", "bar")).build();
+        }
+
+        @CachedResponse(maxEntries = 1)
+        @GET
+        @Path("max")
+        public String max() {
+            return "max " + max.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.ExecutorRecorder;
+import io.quarkus.runtime.util.VirtualThreadSupport;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+
+public class VirtualThreadsTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ThreadResource.class)
+                    .addAsResource(new StringAsset("quarkus.thread-pool.virtual-threads=true"),
+                            "application.properties"));
+
+    @Test
+    public void test() {
+        if (VirtualThreadSupport.isSupported()) {
+            RestAssured.get("/thread")
+                    .then().body(Matchers.startsWith("executor-virtual-thread-"), Matchers.endsWith(":true"));
+        } else {
+            // falls back to the core thread pool
+            RestAssured.get("/thread")
+                    .then().body(Matchers.startsWith("executor-thread-"), Matchers.endsWith(":false"));
+        }
+    }
+
+    @Test
+    public void testCoreExecutor() {
+        // The core executor is never replaced by the virtual thread executor
+        RestAssured.get("/thread/core")
+                .then().body(Matchers.startsWith("executor-thread-"), Matchers.endsWith(":false"));
+    }
+
+    @Path("thread")
+    public static class ThreadResource {
+
+        @Blocking
+        @GET
+        public String thread() {
+            return currentThread();
+        }
+
+        @Path("core")
+        @GET
+        public String core() throws InterruptedException, ExecutionException {
+            return CompletableFuture.supplyAsync(ThreadResource::currentThread, ExecutorRecorder.getCurrent()).get();
+        }
+
+        static String currentThread() {
+            return Thread.currentThread().getName() + ":" + VirtualThreadSupport.isVirtual(Thread.currentThread());
+        }
+    }
+
+}
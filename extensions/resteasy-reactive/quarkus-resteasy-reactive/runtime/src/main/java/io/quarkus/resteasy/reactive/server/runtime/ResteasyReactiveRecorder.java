@@ -56,7 +56,7 @@ public class ResteasyReactiveRecorder extends ResteasyReactiveCommonRecorder {
     public static final Supplier<Executor> EXECUTOR_SUPPLIER = new Supplier<Executor>() {
         @Override
         public Executor get() {
-            return ExecutorRecorder.getCurrent();
+            return ExecutorRecorder.getBlockingExecutor();
         }
     };
 
@@ -12,8 +12,41 @@ public class RequestMapperTestCase {
 
     @Test
     public void testPathMapper() {
+        testPathMapper(false);
+    }
+
+    @Test
+    public void testCompiledPathMapper() {
+        testPathMapper(true);
+    }
+
+    @Test
+    public void testCompiledMapperMatchesLinearMapper() {
+        String[] templates = { "/", "/id", "/id/{param}", "/id/{param}/sub", "/id/{param}/{other}", "/id/literal",
+                "/id/literal/{param}", "/bar/{p1}/{p2}", "/bar/{p1}", "/bar/x{p1}", "/bar/{p1:[0-9]+}/more",
+                "/files/{path:.*}", "/id/{param}/{other}/{third}", "/bar/{p1}.json", "/{all}" };
+        RequestMapper<String> linear = mapper(false, templates);
+        RequestMapper<String> compiled = mapper(true, templates);
+        String[] paths = { "/", "/id", "/id/", "/id/34", "/id/34/", "/id/34/sub", "/id/34/sub/", "/id/34/other",
+                "/id/literal", "/id/literal/", "/id/literal/foo", "/id/a/b/c", "/id/a/b/c/d", "/bar/34/44", "/bar/34",
+                "/bar/x34", "/bar/123/more", "/bar/abc/more", "/bar/34.json", "/files/a/b/c.txt", "/foo", "/foo/bar",
+                "/id//x", "/bar/%20a/b" };
+        for (String path : paths) {
+            RequestMapper.RequestMatch<String> expected = linear.map(path);
+            RequestMapper.RequestMatch<String> actual = compiled.map(path);
+            if (expected == null) {
+                Assertions.assertNull(actual, path);
+                continue;
+            }
+            Assertions.assertNotNull(actual, path);
+            Assertions.assertEquals(expected.value, actual.value, path);
+            Assertions.assertEquals(expected.remaining, actual.remaining, path);
+            Assertions.assertArrayEquals(expected.pathParamValues, actual.pathParamValues, path);
+        }
+    }
 
-        RequestMapper<String> mapper = mapper("/id", "/id/{param}", "/bar/{p1}/{p2}", "/bar/{p1}");
+    private void testPathMapper(boolean compiled) {
+        RequestMapper<String> mapper = mapper(compiled, "/id", "/id/{param}", "/bar/{p1}/{p2}", "/bar/{p1}");
         mapper.dump();
 
         RequestMapper.RequestMatch<String> result = mapper.map("/bar/34/44");
@@ -35,12 +68,12 @@ public class RequestMapperTestCase {
 
     }
 
-    RequestMapper<String> mapper(String... vals) {
+    RequestMapper<String> mapper(boolean compiled, String... vals) {
         List<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
             list.add(new RequestMapper.RequestPath<>(false, new URITemplate(i, false), i));
         }
-        return new RequestMapper<>(list);
+        return new RequestMapper<>(list, compiled);
     }
 
 }
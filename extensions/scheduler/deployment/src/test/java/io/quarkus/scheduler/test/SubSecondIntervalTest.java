@@ -0,0 +1,57 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.runtime.ScheduledJobStatistics;
+import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SubSecondIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.metrics.enabled=true"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // 10 executions every 100ms would take at least 10 seconds if the triggers were only checked every second
+        assertTrue(Jobs.LATCH.await(3, TimeUnit.SECONDS));
+
+        List<ScheduledJobStatistics> statistics = ((SimpleScheduler) scheduler).getStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals("fast", statistics.get(0).getId());
+        assertTrue(statistics.get(0).getExecutionCount() >= 10);
+        assertEquals(0, statistics.get(0).getSkippedExecutionCount());
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(10);
+
+        @Scheduled(identity = "fast", every = "0.1s")
+        void fast() {
+            LATCH.countDown();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.util.VirtualThreadSupport;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class VirtualThreadsScheduledMethodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.thread-pool.virtual-threads=true"),
+                            "application.properties"));
+
+    @Test
+    public void testScheduledMethodThread() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        if (VirtualThreadSupport.isSupported()) {
+            assertTrue(Jobs.threadName.startsWith("executor-virtual-thread-"), Jobs.threadName);
+            assertTrue(Jobs.virtual);
+        } else {
+            // falls back to the core thread pool
+            assertTrue(Jobs.threadName.startsWith("executor-thread-"), Jobs.threadName);
+            assertEquals(false, Jobs.virtual);
+        }
+    }
+
+    public static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(1);
+
+        static volatile String threadName;
+        static volatile boolean virtual;
+
+        @Scheduled(every = "1s")
+        void ping() {
+            if (LATCH.getCount() > 0) {
+                threadName = Thread.currentThread().getName();
+                virtual = VirtualThreadSupport.isVirtual(Thread.currentThread());
+                LATCH.countDown();
+            }
+        }
+
+    }
+
+}
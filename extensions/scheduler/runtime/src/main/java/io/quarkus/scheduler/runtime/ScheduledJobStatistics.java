@@ -0,0 +1,61 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Statistics recorded for a scheduled job when the scheduler metrics are enabled.
+ *
+ * @see SchedulerConfig#metricsEnabled
+ */
+public class ScheduledJobStatistics {
+
+    private final String id;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder skippedExecutions = new LongAdder();
+
+    /*
+     * The scheduler may be created before the metrics are registered, this recorder is therefore set after the scheduler
+     * creation.
+     */
+    private volatile TimeRecorder lagRecorder;
+
+    public ScheduledJobStatistics(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Records the start of an execution.
+     *
+     * @param lagMillis the time elapsed between the scheduled fire time and the actual start of the execution
+     */
+    public void recordExecution(long lagMillis) {
+        executions.increment();
+        TimeRecorder recorder = lagRecorder;
+        if (recorder != null) {
+            recorder.update(Math.max(lagMillis, 0L), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void recordSkippedExecution() {
+        skippedExecutions.increment();
+    }
+
+    public void setLagRecorder(TimeRecorder lagRecorder) {
+        this.lagRecorder = lagRecorder;
+    }
+
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    public long getSkippedExecutionCount() {
+        return skippedExecutions.sum();
+    }
+}
@@ -18,4 +18,13 @@ public class SchedulerConfig {
     @ConfigItem(defaultValue = "quartz")
     public CronType cronType;
 
+    /**
+     * Whether scheduler metrics are published in case a metrics extension is present.
+     * <p>
+     * The number of executions, the number of skipped executions and the execution lag, i.e. the time elapsed between the
+     * scheduled fire time and the actual start of an execution, are recorded for each job.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "false")
+    public boolean metricsEnabled;
+
 }
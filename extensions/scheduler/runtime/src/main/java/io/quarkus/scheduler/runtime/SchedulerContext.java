@@ -14,6 +14,15 @@ public interface SchedulerContext {
 
     List<ScheduledMethodMetadata> getScheduledMethods();
 
+    /**
+     * 
+     * @return {@code true} if the statistics of the scheduled jobs should be recorded
+     * @see SchedulerConfig#metricsEnabled
+     */
+    default boolean isMetricsEnabled() {
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     default ScheduledInvoker createInvoker(String invokerClassName) {
         try {
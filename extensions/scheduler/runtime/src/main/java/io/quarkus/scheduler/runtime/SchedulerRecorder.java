@@ -2,11 +2,16 @@ package io.quarkus.scheduler.runtime;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.cronutils.model.CronType;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.scheduler.Scheduler;
 
 @Recorder
 public class SchedulerRecorder {
@@ -20,7 +25,9 @@ public class SchedulerRecorder {
 
                     @Override
                     public ExecutorService getExecutor() {
-                        return executorService;
+                        // Scheduled methods run on virtual threads if enabled
+                        ExecutorService virtualThreadExecutor = ExecutorRecorder.getVirtualThreadExecutor();
+                        return virtualThreadExecutor != null ? virtualThreadExecutor : executorService;
                     }
 
                     @Override
@@ -32,8 +39,42 @@ public class SchedulerRecorder {
                     public List<ScheduledMethodMetadata> getScheduledMethods() {
                         return scheduledMethods;
                     }
+
+                    @Override
+                    public boolean isMetricsEnabled() {
+                        return config.metricsEnabled;
+                    }
                 };
             }
         };
     }
+
+    public Consumer<MetricsFactory> getMetricsFactoryConsumer() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Scheduler scheduler = Arc.container().instance(Scheduler.class).get();
+                if (scheduler instanceof SimpleScheduler) {
+                    for (ScheduledJobStatistics statistics : ((SimpleScheduler) scheduler).getStatistics()) {
+                        registerMetrics(metricsFactory, statistics);
+                    }
+                }
+            }
+        };
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory, ScheduledJobStatistics statistics) {
+        metricsFactory.builder("scheduler.executions")
+                .description("The number of times a scheduled job was triggered, including the skipped executions")
+                .tag("job", statistics.getId())
+                .buildCounter(statistics, ScheduledJobStatistics::getExecutionCount);
+        metricsFactory.builder("scheduler.executions.skipped")
+                .description("The number of executions of a scheduled job skipped because the previous one was still running")
+                .tag("job", statistics.getId())
+                .buildCounter(statistics, ScheduledJobStatistics::getSkippedExecutionCount);
+        statistics.setLagRecorder(metricsFactory.builder("scheduler.execution.lag")
+                .description("The time elapsed between the scheduled fire time and the actual start of an execution")
+                .tag("job", statistics.getId())
+                .buildTimer());
+    }
 }
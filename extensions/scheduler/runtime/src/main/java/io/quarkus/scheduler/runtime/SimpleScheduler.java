@@ -2,10 +2,10 @@ package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -41,19 +41,23 @@ import io.quarkus.scheduler.SkippedExecution;
 import io.quarkus.scheduler.Trigger;
 import io.quarkus.scheduler.runtime.util.SchedulerUtils;
 
+/**
+ * A lightweight scheduler that does not evaluate the triggers periodically. Instead, each task computes the next fire time of
+ * its trigger and is scheduled on a single-threaded {@link ScheduledExecutorService} whose delay queue is a priority queue
+ * ordered by fire time. The scheduler thread therefore only wakes up when an execution is due, and the cron expressions are
+ * only evaluated once per execution.
+ */
 @Typed(Scheduler.class)
 @Singleton
 public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
-
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
+    private final List<ScheduledJobStatistics> statistics;
     private final boolean enabled;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
@@ -61,6 +65,7 @@ public class SimpleScheduler implements Scheduler {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ArrayList<>();
+        this.statistics = new ArrayList<>();
         this.executor = context.getExecutor();
 
         if (!schedulerRuntimeConfig.enabled) {
@@ -87,11 +92,16 @@ public class SimpleScheduler implements Scheduler {
                     Optional<SimpleTrigger> trigger = createTrigger(method.getInvokerClassName(), parser, scheduled,
                             nameSequence);
                     if (trigger.isPresent()) {
+                        ScheduledJobStatistics jobStatistics = null;
+                        if (context.isMetricsEnabled()) {
+                            jobStatistics = new ScheduledJobStatistics(trigger.get().getId());
+                            statistics.add(jobStatistics);
+                        }
                         ScheduledInvoker invoker = context.createInvoker(method.getInvokerClassName());
                         if (scheduled.concurrentExecution() == ConcurrentExecution.SKIP) {
-                            invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
+                            invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent, jobStatistics);
                         }
-                        scheduledTasks.add(new ScheduledTask(trigger.get(), invoker));
+                        scheduledTasks.add(new ScheduledTask(trigger.get(), invoker, jobStatistics));
                     }
                 }
             }
@@ -103,12 +113,13 @@ public class SimpleScheduler implements Scheduler {
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        ZonedDateTime now = ZonedDateTime.now();
+        for (ScheduledTask task : scheduledTasks) {
+            ZonedDateTime nextFireTime = task.trigger.scheduleNext(now);
+            if (nextFireTime != null) {
+                task.schedule(nextFireTime, now);
+            }
+        }
     }
 
     @PreDestroy
@@ -122,15 +133,13 @@ public class SimpleScheduler implements Scheduler {
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOGGER.trace("Skip all triggers - scheduler paused");
-            return;
-        }
-        ZonedDateTime now = ZonedDateTime.now();
-        for (ScheduledTask task : scheduledTasks) {
-            task.execute(now, executor);
-        }
+    /**
+     * 
+     * @return the statistics of the scheduled jobs, empty if metrics are not enabled
+     * @see SchedulerConfig#metricsEnabled
+     */
+    public List<ScheduledJobStatistics> getStatistics() {
+        return Collections.unmodifiableList(statistics);
     }
 
     @Override
@@ -227,37 +236,72 @@ public class SimpleScheduler implements Scheduler {
         }
     }
 
-    static class ScheduledTask {
+    class ScheduledTask implements Runnable {
 
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        final ScheduledJobStatistics statistics;
 
-        ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker) {
+        ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, ScheduledJobStatistics statistics) {
             this.trigger = trigger;
             this.invoker = invoker;
+            this.statistics = statistics;
         }
 
-        void execute(ZonedDateTime now, ExecutorService executor) {
-            if (!trigger.isRunning()) {
+        /**
+         * Executed by the scheduler thread when the next fire time of the trigger is reached.
+         */
+        @Override
+        public void run() {
+            ZonedDateTime now = ZonedDateTime.now();
+            ZonedDateTime scheduledFireTime = trigger.nextFireTime;
+            if (now.isBefore(scheduledFireTime)) {
+                // The delay of the executor is based on System.nanoTime() which may drift from the system clock
+                schedule(scheduledFireTime, now);
                 return;
             }
-            ZonedDateTime scheduledFireTime = trigger.evaluate(now);
-            if (scheduledFireTime != null) {
-                try {
-                    executor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
-                            } catch (Throwable t) {
-                                LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
-                            }
+            if (!running) {
+                LOGGER.tracef("Skip trigger %s - scheduler paused", trigger);
+            } else if (!trigger.isRunning()) {
+                LOGGER.tracef("Skip trigger %s - trigger paused", trigger);
+            } else {
+                trigger.lastFireTime = scheduledFireTime;
+                execute(now, scheduledFireTime);
+            }
+            ZonedDateTime nextFireTime = trigger.scheduleNext(now);
+            if (nextFireTime != null) {
+                schedule(nextFireTime, now);
+            }
+        }
+
+        void schedule(ZonedDateTime fireTime, ZonedDateTime now) {
+            try {
+                scheduledExecutor.schedule(this, Math.max(Duration.between(now, fireTime).toNanos(), 0L),
+                        TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                LOGGER.debugf("Trigger %s not scheduled - scheduler stopped", trigger);
+            }
+        }
+
+        void execute(ZonedDateTime now, ZonedDateTime scheduledFireTime) {
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (statistics != null) {
+                            statistics.recordExecution(
+                                    System.currentTimeMillis() - scheduledFireTime.toInstant().toEpochMilli());
                         }
-                    });
-                    LOGGER.debugf("Executing scheduled task for trigger %s", trigger);
-                } catch (RejectedExecutionException e) {
-                    LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", trigger);
-                }
+                        try {
+                            invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
+                        } catch (Throwable t) {
+                            LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
+                        }
+                    }
+                });
+                LOGGER.debugf("Executing scheduled task for trigger %s", trigger);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", trigger);
             }
         }
 
@@ -268,6 +312,9 @@ public class SimpleScheduler implements Scheduler {
         private final String id;
         private volatile boolean running;
         protected final ZonedDateTime start;
+        // Both fire times are only updated by the scheduler thread
+        volatile ZonedDateTime nextFireTime;
+        volatile ZonedDateTime lastFireTime;
 
         public SimpleTrigger(String id, ZonedDateTime start) {
             this.id = id;
@@ -276,16 +323,34 @@ public class SimpleScheduler implements Scheduler {
         }
 
         /**
-         * 
+         *
+         * @param previousFireTime the previous scheduled fire time, {@code null} if the trigger was not scheduled yet
          * @param now
-         * @return the scheduled time if fired, {@code null} otherwise
+         * @return the next fire time, {@code null} if the trigger will not fire again
          */
-        abstract ZonedDateTime evaluate(ZonedDateTime now);
+        abstract ZonedDateTime computeNextFireTime(ZonedDateTime previousFireTime, ZonedDateTime now);
+
+        ZonedDateTime scheduleNext(ZonedDateTime now) {
+            nextFireTime = computeNextFireTime(nextFireTime, now);
+            return nextFireTime;
+        }
 
         public String getId() {
             return id;
         }
 
+        @Override
+        public Instant getNextFireTime() {
+            ZonedDateTime next = nextFireTime;
+            return next != null ? next.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            ZonedDateTime last = lastFireTime;
+            return last != null ? last.toInstant() : null;
+        }
+
         public synchronized boolean isRunning() {
             return running;
         }
@@ -298,40 +363,24 @@ public class SimpleScheduler implements Scheduler {
 
     static class IntervalTrigger extends SimpleTrigger {
 
+        // milliseconds
         private final long interval;
-        private volatile ZonedDateTime lastFireTime;
 
         public IntervalTrigger(String id, ZonedDateTime start, long interval) {
             super(id, start);
-            this.interval = interval;
+            // A zero interval would result in a busy loop
+            this.interval = Math.max(interval, 1L);
         }
 
         @Override
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            if (lastFireTime == null) {
+        ZonedDateTime computeNextFireTime(ZonedDateTime previousFireTime, ZonedDateTime now) {
+            if (previousFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return now;
-            }
-            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
-                ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return scheduledFireTime;
+                return now.isBefore(start) ? start : now;
             }
-            return null;
-        }
-
-        @Override
-        public Instant getNextFireTime() {
-            return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            return lastFireTime.toInstant();
+            // The executions missed while the scheduler thread was blocked are not replayed
+            long missedPeriods = Math.max(ChronoUnit.MILLIS.between(previousFireTime, now), 0L) / interval;
+            return previousFireTime.plus(Duration.ofMillis(interval * (missedPeriods + 1)));
         }
 
         @Override
@@ -345,9 +394,6 @@ public class SimpleScheduler implements Scheduler {
 
     static class CronTrigger extends SimpleTrigger {
 
-        // microseconds
-        private static final long DIFF_THRESHOLD = CHECK_PERIOD * 1000;
-
         private final Cron cron;
         private final ExecutionTime executionTime;
 
@@ -358,35 +404,14 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        public Instant getNextFireTime() {
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(ZonedDateTime.now());
-            return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            Optional<ZonedDateTime> prevFireTime = executionTime.lastExecution(ZonedDateTime.now());
-            return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
-        }
-
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            Optional<ZonedDateTime> lastFireTime = executionTime.lastExecution(now);
-            if (lastFireTime.isPresent()) {
-                ZonedDateTime trunc = lastFireTime.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isBefore(trunc)) {
-                    return null;
-                }
-                // Use microseconds precision to workaround incompatibility between jdk8 and jdk9+
-                long diff = ChronoUnit.MICROS.between(trunc, now);
-                if (diff <= DIFF_THRESHOLD) {
-                    LOGGER.debugf("%s fired, diff=%s μs", this, diff);
-                    return trunc;
-                }
+        ZonedDateTime computeNextFireTime(ZonedDateTime previousFireTime, ZonedDateTime now) {
+            ZonedDateTime from = now.isBefore(start) ? start : now;
+            if (previousFireTime != null && from.isBefore(previousFireTime)) {
+                from = previousFireTime;
             }
-            return null;
+            // The executions missed while the scheduler thread was blocked are not replayed
+            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(from);
+            return nextFireTime.isPresent() ? nextFireTime.get() : null;
         }
 
         @Override
@@ -23,11 +23,24 @@ public final class SkipConcurrentExecutionInvoker implements ScheduledInvoker {
     private final AtomicBoolean running;
     private final ScheduledInvoker delegate;
     private final Event<SkippedExecution> event;
+    private final ScheduledJobStatistics statistics;
 
     public SkipConcurrentExecutionInvoker(ScheduledInvoker delegate, Event<SkippedExecution> event) {
+        this(delegate, event, null);
+    }
+
+    /**
+     * 
+     * @param delegate
+     * @param event
+     * @param statistics the statistics of the job, may be {@code null}
+     */
+    public SkipConcurrentExecutionInvoker(ScheduledInvoker delegate, Event<SkippedExecution> event,
+            ScheduledJobStatistics statistics) {
         this.running = new AtomicBoolean(false);
         this.delegate = delegate;
         this.event = event;
+        this.statistics = statistics;
     }
 
     @Override
@@ -40,6 +53,9 @@ public final class SkipConcurrentExecutionInvoker implements ScheduledInvoker {
             }
         } else {
             LOGGER.debugf("Skipped scheduled invoker execution: %s", delegate.getClass().getName());
+            if (statistics != null) {
+                statistics.recordSkippedExecution();
+            }
             SkippedExecution payload = new SkippedExecution(execution.getTrigger().getId(), execution.getFireTime());
             event.fire(payload);
             event.fireAsync(payload);
@@ -11,13 +11,19 @@ import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.jandex.Type;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaOrderingDecorator;
+import io.quarkus.smallrye.reactivemessaging.kafka.ReactiveMessagingKafkaConfig;
+import io.quarkus.smallrye.reactivemessaging.kafka.ReactiveMessagingKafkaRecorder;
 import io.vertx.kafka.client.consumer.impl.KafkaReadStreamImpl;
 
 public class SmallRyeReactiveMessagingKafkaProcessor {
@@ -39,6 +45,17 @@ public class SmallRyeReactiveMessagingKafkaProcessor {
                         .build());
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem orderingDecorator() {
+        return AdditionalBeanBuildItem.unremovableOf(KafkaOrderingDecorator.class);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureOrdering(ReactiveMessagingKafkaRecorder recorder, ReactiveMessagingKafkaConfig config) {
+        recorder.configureOrdering(config);
+    }
+
     @BuildStep
     public void defaultSerdeConfig(ReactiveMessagingKafkaBuildTimeConfig buildTimeConfig,
             CombinedIndexBuildItem combinedIndex,
@@ -0,0 +1,67 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public class KafkaOrderingDecoratorTest {
+
+    // the key is the first letter of the payload, payloads starting with "-" have no key
+    private static final Function<Message<?>, Object> KEY = message -> {
+        String payload = (String) message.getPayload();
+        return payload.startsWith("-") ? null : payload.substring(0, 1);
+    };
+
+    @Test
+    public void testMessageIsHeldBackUntilThePreviousOneWithTheSameKeyIsAcknowledged() {
+        AssertSubscriber<Message<?>> subscriber = KafkaOrderingDecorator
+                .orderByKey(Multi.createFrom().items("a1", "b1", "a2", "-1", "a3", "b2").map(Message::of), KEY)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        // the other keys keep flowing
+        assertThat(payloads(subscriber)).containsExactly("a1", "b1", "-1");
+        subscriber.assertNotTerminated();
+
+        subscriber.getItems().get(0).ack();
+        assertThat(payloads(subscriber)).containsExactly("a1", "b1", "-1", "a2");
+        // the same message is only released once
+        subscriber.getItems().get(0).ack();
+        assertThat(payloads(subscriber)).containsExactly("a1", "b1", "-1", "a2");
+
+        subscriber.getItems().get(1).nack(new IllegalStateException());
+        assertThat(payloads(subscriber)).containsExactly("a1", "b1", "-1", "a2", "b2");
+        subscriber.getItems().get(3).ack();
+        assertThat(payloads(subscriber)).containsExactly("a1", "b1", "-1", "a2", "b2", "a3");
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void testDownstreamDemandIsRespected() {
+        AssertSubscriber<Message<?>> subscriber = KafkaOrderingDecorator
+                .orderByKey(Multi.createFrom().items("a1", "a2", "b1", "c1").map(Message::of), KEY)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        assertThat(payloads(subscriber)).containsExactly("a1");
+
+        subscriber.request(1);
+        // a2 is held back, b1 is delivered instead
+        assertThat(payloads(subscriber)).containsExactly("a1", "b1");
+
+        subscriber.getItems().get(0).ack();
+        subscriber.assertNotTerminated();
+        subscriber.request(2);
+        assertThat(payloads(subscriber)).containsExactly("a1", "b1", "a2", "c1");
+        subscriber.assertCompleted();
+    }
+
+    private static List<Object> payloads(AssertSubscriber<Message<?>> subscriber) {
+        return subscriber.getItems().stream().map(Message::getPayload).collect(Collectors.toList());
+    }
+}
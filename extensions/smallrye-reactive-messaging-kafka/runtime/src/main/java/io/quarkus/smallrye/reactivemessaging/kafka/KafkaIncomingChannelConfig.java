@@ -0,0 +1,23 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class KafkaIncomingChannelConfig {
+
+    /**
+     * The ordering kept when the records of this channel are processed by a {@code @Blocking(ordered = false)} method.
+     * <p>
+     * With {@code partition}, the records of the same partition are processed one after the other, and the records of
+     * different partitions are processed in parallel. With {@code key}, only the records with the same key are processed
+     * one after the other, which allows more parallelism than the number of partitions. With {@code none}, the records
+     * are processed in parallel without any ordering.
+     * <p>
+     * A record is only delivered once the previous record with the same partition or key has been acknowledged, so the
+     * method must acknowledge the records once they are processed, which is the default for methods receiving the
+     * payload. The method must receive the payload or a {@code Message}, not a {@code KafkaRecord}.
+     */
+    @ConfigItem(defaultValue = "none")
+    public KafkaOrdering ordering;
+}
@@ -0,0 +1,7 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+public enum KafkaOrdering {
+    NONE,
+    PARTITION,
+    KEY
+}
@@ -0,0 +1,279 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.reactive.messaging.PublisherDecorator;
+import io.smallrye.reactive.messaging.kafka.IncomingKafkaRecordMetadata;
+
+/**
+ * Keeps the ordering per partition or per key of the records emitted by the incoming Kafka channels configured with an
+ * ordering, so that the {@code @Blocking(ordered = false)} methods process them in parallel while keeping the order
+ * per partition or per key.
+ * <p>
+ * The ordering key is read from the {@link IncomingKafkaRecordMetadata} of each record. A record is only emitted once
+ * the previous record with the same key has been acknowledged or negatively acknowledged, i.e. once it has been
+ * processed. The records with other keys keep flowing in the meantime.
+ */
+@ApplicationScoped
+public class KafkaOrderingDecorator implements PublisherDecorator {
+
+    private volatile Map<String, KafkaOrdering> orderings = Collections.emptyMap();
+
+    public void setOrderings(Map<String, KafkaOrdering> orderings) {
+        this.orderings = orderings;
+    }
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName) {
+        KafkaOrdering ordering = orderings.get(channelName);
+        if (ordering == null || ordering == KafkaOrdering.NONE) {
+            return publisher;
+        }
+        return orderByKey(publisher, message -> orderingKey(ordering, message));
+    }
+
+    static Multi<Message<?>> orderByKey(Multi<? extends Message<?>> publisher, Function<Message<?>, Object> keyFunction) {
+        return Multi.createFrom().<Message<?>> publisher(
+                subscriber -> publisher.subscribe(new KeyOrderingSubscriber(keyFunction, subscriber)));
+    }
+
+    @SuppressWarnings("rawtypes")
+    static Object orderingKey(KafkaOrdering ordering, Message<?> message) {
+        Optional<IncomingKafkaRecordMetadata> metadata = message.getMetadata(IncomingKafkaRecordMetadata.class);
+        if (!metadata.isPresent()) {
+            return null;
+        }
+        IncomingKafkaRecordMetadata record = metadata.get();
+        if (ordering == KafkaOrdering.KEY && record.getKey() != null) {
+            return Arrays.asList(record.getTopic(), record.getKey());
+        }
+        return Arrays.asList(record.getTopic(), record.getPartition());
+    }
+
+    /**
+     * Holds back the messages whose key has a message being processed, up to {@link #MAX_WAITING} messages, and requests
+     * more messages from upstream in the meantime so that the other keys are not blocked.
+     */
+    static final class KeyOrderingSubscriber implements Subscriber<Message<?>>, Subscription {
+
+        static final int MAX_WAITING = 1024;
+
+        private final Function<Message<?>, Object> keyFunction;
+        private final Subscriber<? super Message<?>> downstream;
+        private volatile Subscription upstream;
+
+        // The state is guarded by this, the downstream is only signalled by the thread draining
+        private final Map<Object, Deque<Message<?>>> waitingPerKey = new HashMap<>();
+        private final Deque<Message<?>> ready = new ArrayDeque<>();
+        private int waiting;
+        private long requested;
+        private long upstreamRequested;
+        private boolean draining;
+        private boolean done;
+        private boolean cancelled;
+        private Throwable failure;
+
+        KeyOrderingSubscriber(Function<Message<?>, Object> keyFunction, Subscriber<? super Message<?>> downstream) {
+            this.keyFunction = keyFunction;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(Message<?> message) {
+            Object key = keyFunction.apply(message);
+            synchronized (this) {
+                if (upstreamRequested != Long.MAX_VALUE) {
+                    upstreamRequested--;
+                }
+                if (key == null) {
+                    ready.add(message);
+                } else {
+                    Message<?> ordered = releasingKeyOnAck(message, key);
+                    Deque<Message<?>> queue = waitingPerKey.get(key);
+                    if (queue == null) {
+                        // no message with this key is being processed
+                        waitingPerKey.put(key, new ArrayDeque<>());
+                        ready.add(ordered);
+                    } else {
+                        queue.add(ordered);
+                        waiting++;
+                    }
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            synchronized (this) {
+                this.failure = failure;
+            }
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                done = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            synchronized (this) {
+                requested = Subscriptions.add(requested, n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                waitingPerKey.clear();
+                ready.clear();
+            }
+            upstream.cancel();
+        }
+
+        private Message<?> releasingKeyOnAck(Message<?> message, Object key) {
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    release(key);
+                }
+            };
+            return Message.of(message.getPayload(), message.getMetadata(), () -> {
+                release.run();
+                return message.ack();
+            }, reason -> {
+                release.run();
+                return message.nack(reason);
+            });
+        }
+
+        private void release(Object key) {
+            synchronized (this) {
+                Deque<Message<?>> queue = waitingPerKey.get(key);
+                if (queue == null) {
+                    // cancelled
+                    return;
+                }
+                Message<?> next = queue.poll();
+                if (next == null) {
+                    waitingPerKey.remove(key);
+                } else {
+                    waiting--;
+                    ready.add(next);
+                }
+            }
+            drain();
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    // the draining thread picks up the new state before it stops
+                    return;
+                }
+                draining = true;
+            }
+            for (;;) {
+                Message<?> next = null;
+                long toRequest = 0;
+                Throwable error = null;
+                boolean complete = false;
+                synchronized (this) {
+                    if (cancelled) {
+                        draining = false;
+                        return;
+                    }
+                    if (failure != null) {
+                        error = failure;
+                        cancelled = true;
+                        waitingPerKey.clear();
+                        ready.clear();
+                    } else if (requested > 0 && !ready.isEmpty()) {
+                        next = ready.poll();
+                        if (requested != Long.MAX_VALUE) {
+                            requested--;
+                        }
+                    } else if (done) {
+                        if (!ready.isEmpty() || waiting > 0) {
+                            draining = false;
+                            return;
+                        }
+                        complete = true;
+                        cancelled = true;
+                    } else {
+                        toRequest = toRequest();
+                        if (toRequest == 0) {
+                            draining = false;
+                            return;
+                        }
+                    }
+                }
+                if (error != null) {
+                    downstream.onError(error);
+                    return;
+                } else if (complete) {
+                    downstream.onComplete();
+                    return;
+                } else if (next != null) {
+                    downstream.onNext(next);
+                } else {
+                    upstream.request(toRequest);
+                }
+            }
+        }
+
+        // Must be called while holding the lock
+        private long toRequest() {
+            if (requested == Long.MAX_VALUE) {
+                if (upstreamRequested == Long.MAX_VALUE) {
+                    return 0;
+                }
+                upstreamRequested = Long.MAX_VALUE;
+                return Long.MAX_VALUE;
+            }
+            if (waiting >= MAX_WAITING) {
+                return 0;
+            }
+            // the messages held back do not count, so that the other keys keep flowing
+            long toRequest = requested - ready.size() - upstreamRequested;
+            if (toRequest <= 0) {
+                return 0;
+            }
+            upstreamRequested += toRequest;
+            return toRequest;
+        }
+    }
+}
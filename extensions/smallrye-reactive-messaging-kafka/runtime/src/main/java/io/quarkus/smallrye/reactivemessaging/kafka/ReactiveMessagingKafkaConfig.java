@@ -0,0 +1,21 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "reactive-messaging.kafka", phase = ConfigPhase.RUN_TIME)
+public class ReactiveMessagingKafkaConfig {
+
+    /**
+     * The configuration of the incoming channels.
+     */
+    @ConfigItem
+    @ConfigDocMapKey("channel-name")
+    @ConfigDocSection
+    public Map<String, KafkaIncomingChannelConfig> incoming;
+}
@@ -0,0 +1,19 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class ReactiveMessagingKafkaRecorder {
+
+    public void configureOrdering(ReactiveMessagingKafkaConfig config) {
+        Map<String, KafkaOrdering> orderings = new HashMap<>();
+        for (Map.Entry<String, KafkaIncomingChannelConfig> entry : config.incoming.entrySet()) {
+            orderings.put(entry.getKey(), entry.getValue().ordering);
+        }
+        Arc.container().instance(KafkaOrderingDecorator.class).get().setOrderings(orderings);
+    }
+}
@@ -0,0 +1,122 @@
+package io.quarkus.smallrye.reactivemessaging.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Publisher;
+
+import io.quarkus.runtime.util.VirtualThreadSupport;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+public class VirtualThreadsBlockingSubscriberTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ProduceIn.class, UnorderedConsumer.class, OrderedConsumer.class)
+                    .addAsResource(new StringAsset("quarkus.thread-pool.virtual-threads=true"),
+                            "application.properties"));
+
+    @Inject
+    UnorderedConsumer unordered;
+
+    @Inject
+    OrderedConsumer ordered;
+
+    @Test
+    public void testConsumerThreads() {
+        await().until(() -> unordered.list().size() == 3 && ordered.list().size() == 3);
+        assertThat(unordered.list()).contains("a", "b", "c");
+        assertThat(ordered.list()).containsExactly("a", "b", "c");
+
+        for (String name : unordered.threads()) {
+            if (VirtualThreadSupport.isSupported()) {
+                assertThat(name).startsWith("executor-virtual-thread-").endsWith(":true");
+            } else {
+                // falls back to the Vert.x worker pool
+                assertThat(name).startsWith("vert.x-worker-thread-").endsWith(":false");
+            }
+        }
+        // Ordered consumers always use the Vert.x worker pool
+        for (String name : ordered.threads()) {
+            assertThat(name).startsWith("vert.x-worker-thread-").endsWith(":false");
+        }
+    }
+
+    @ApplicationScoped
+    public static class ProduceIn {
+
+        @Outgoing("unordered")
+        public Publisher<String> unordered() {
+            return Multi.createFrom().items("a", "b", "c");
+        }
+
+        @Outgoing("ordered")
+        public Publisher<String> ordered() {
+            return Multi.createFrom().items("a", "b", "c");
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class UnorderedConsumer {
+
+        private final List<String> list = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Incoming("unordered")
+        @Blocking(ordered = false)
+        public void consume(String s) {
+            threads.add(Thread.currentThread().getName() + ":" + VirtualThreadSupport.isVirtual(Thread.currentThread()));
+            list.add(s);
+        }
+
+        public List<String> list() {
+            return list;
+        }
+
+        public List<String> threads() {
+            return threads;
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class OrderedConsumer {
+
+        private final List<String> list = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Incoming("ordered")
+        @Blocking
+        public void consume(String s) {
+            threads.add(Thread.currentThread().getName() + ":" + VirtualThreadSupport.isVirtual(Thread.currentThread()));
+            list.add(s);
+        }
+
+        public List<String> list() {
+            return list;
+        }
+
+        public List<String> threads() {
+            return threads;
+        }
+
+    }
+
+}
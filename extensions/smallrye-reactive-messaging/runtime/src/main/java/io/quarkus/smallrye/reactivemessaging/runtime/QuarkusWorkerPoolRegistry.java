@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Priority;
 import javax.enterprise.context.ApplicationScoped;
@@ -17,11 +18,14 @@ import org.eclipse.microprofile.config.ConfigProvider;
 import org.slf4j.LoggerFactory;
 
 import io.quarkus.arc.AlternativePriority;
+import io.quarkus.runtime.ExecutorRecorder;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 import io.smallrye.reactive.messaging.connectors.ExecutionHolder;
 import io.smallrye.reactive.messaging.connectors.WorkerPoolRegistry;
 import io.smallrye.reactive.messaging.helpers.Validation;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 import io.vertx.mutiny.core.WorkerExecutor;
 
 @AlternativePriority(1)
@@ -50,12 +54,29 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
         Objects.requireNonNull(uni, "Action to execute not provided");
 
         if (workerName == null) {
+            if (!ordered) {
+                ExecutorService virtualThreadExecutor = ExecutorRecorder.getVirtualThreadExecutor();
+                if (virtualThreadExecutor != null) {
+                    return executeOnVirtualThread(uni, virtualThreadExecutor);
+                }
+            }
             return executionHolder.vertx().executeBlocking(uni, ordered);
         } else {
             return getWorker(workerName).executeBlocking(uni, ordered);
         }
     }
 
+    private <T> Uni<T> executeOnVirtualThread(Uni<T> uni, ExecutorService virtualThreadExecutor) {
+        // The ordered executions still use the Vert.x worker pool which serializes them per context
+        Uni<T> result = uni.runSubscriptionOn(virtualThreadExecutor);
+        Context context = Vertx.currentContext();
+        if (context != null) {
+            // Like executeBlocking(), the result is emitted on the caller context
+            result = result.emitOn(command -> context.runOnContext(ignored -> command.run()));
+        }
+        return result;
+    }
+
     private WorkerExecutor getWorker(String workerName) {
         Objects.requireNonNull(workerName, "Worker Name not specified");
 
@@ -13,6 +13,7 @@ public final class FilterBuildItem extends MultiBuildItem {
 
     //predefined system priorities
     public static final int CORS = 300;
+    public static final int CONCURRENCY_LIMIT = 250;
     public static final int AUTHENTICATION = 200;
     public static final int AUTHORIZATION = 100;
 
@@ -0,0 +1,103 @@
+package io.quarkus.vertx.http.accesslog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.awaitility.Awaitility;
+import org.awaitility.core.ThrowingRunnable;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests writing the access log to a file through the ring buffer receiver
+ */
+public class AccessLogRingBufferFileTestCase {
+
+    @RegisterExtension
+    public static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    Path logDirectory;
+                    try {
+                        logDirectory = Files.createTempDirectory("quarkus-tests");
+                        //backslash is an escape char, we need this to be properly formatted for windows
+                        Properties p = new Properties();
+                        p.setProperty("quarkus.http.access-log.enabled", "true");
+                        p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                        p.setProperty("quarkus.http.access-log.ring-buffer", "true");
+                        p.setProperty("quarkus.http.access-log.ring-buffer-size", "4");
+                        p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                        p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                        p.setProperty("quarkus.http.access-log.pattern", "combined");
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        p.store(out, null);
+
+                        return ShrinkWrap.create(JavaArchive.class)
+                                .add(new ByteArrayAsset(out.toByteArray()),
+                                        "application.properties");
+
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        Files.createDirectories(logDirectory);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testLogMessagesToFile() {
+        final String paramValue = UUID.randomUUID().toString();
+        // more requests than the ring buffer can hold
+        for (int i = 0; i < 10; i++) {
+            RestAssured.given().header("User-Agent", "ring-buffer-test").get("/does-not-exist?foo=" + paramValue + i);
+        }
+
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(new ThrowingRunnable() {
+                    @Override
+                    public void run() throws Throwable {
+                        Path path = logDirectory.resolve("server.log");
+                        Assertions.assertTrue(Files.exists(path));
+                        String data = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+                        for (int i = 0; i < 10; i++) {
+                            String requestLine = "\"GET /does-not-exist?foo=" + paramValue + i + " HTTP/1.1\" 404";
+                            Assertions.assertTrue(data.contains(requestLine), "access log is missing request " + i);
+                        }
+                        Assertions.assertTrue(data.contains("\"ring-buffer-test\""), "User-Agent is missing in the access log");
+                        Assertions.assertEquals(10, data.split("\n").length);
+                    }
+                });
+    }
+
+}
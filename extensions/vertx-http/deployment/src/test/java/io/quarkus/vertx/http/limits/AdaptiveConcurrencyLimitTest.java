@@ -0,0 +1,60 @@
+package io.quarkus.vertx.http.limits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.limits.AdaptiveConcurrencyLimit;
+
+public class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    public void testLimitFollowsLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 10, 2, 100, 1.5, 0.2);
+        assertEquals(10, limit.getLimit());
+
+        // stable latency with the limit fully used: the limit grows
+        for (int i = 0; i < 50; i++) {
+            saturate(limit, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int grownLimit = limit.getLimit();
+        assertTrue(grownLimit > 10, "limit should have grown: " + grownLimit);
+
+        // the requests suddenly get much slower: the limit shrinks
+        for (int i = 0; i < 2; i++) {
+            saturate(limit, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        assertTrue(limit.getLimit() < grownLimit, "limit should have shrunk: " + limit.getLimit());
+        assertTrue(limit.getLimit() >= 2);
+    }
+
+    @Test
+    public void testRequestsOverTheLimitAreRejected() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 2, 1, 2, 1.5, 0.2);
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(1, limit.getRejected());
+        assertEquals(2, limit.getInflight());
+
+        limit.release(1000);
+        assertTrue(limit.tryAcquire());
+    }
+
+    /**
+     * Acquires all the permits, then releases them with the given latency.
+     */
+    private static void saturate(AdaptiveConcurrencyLimit limit, long latency) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(latency);
+        }
+    }
+}
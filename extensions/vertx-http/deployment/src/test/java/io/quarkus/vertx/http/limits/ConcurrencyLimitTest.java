@@ -0,0 +1,64 @@
+package io.quarkus.vertx.http.limits;
+
+import static io.restassured.RestAssured.get;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+public class ConcurrencyLimitTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.limits.concurrency.enabled=true\n" +
+            "quarkus.http.limits.concurrency.initial-limit=1\n" +
+            "quarkus.http.limits.concurrency.max-limit=1\n" +
+            "quarkus.http.limits.concurrency.route.other.paths=/other/*\n" +
+            "quarkus.http.limits.concurrency.route.other.initial-limit=5\n" +
+            "quarkus.http.limits.concurrency.route.other.max-limit=5\n";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class)
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties"));
+
+    @Test
+    public void testRequestsOverTheLimitAreRejected() throws Exception {
+        Routes.held = new CompletableFuture<>();
+        CompletableFuture<Integer> heldStatus = CompletableFuture.supplyAsync(() -> get("/hold").statusCode());
+        RoutingContext held = Routes.held.get(10, TimeUnit.SECONDS);
+
+        // the default limit is reached, but the other route has its own limit
+        get("/fast").then().statusCode(503);
+        get("/other/fast").then().statusCode(200);
+
+        held.vertx().runOnContext(v -> held.response().end());
+        Assertions.assertEquals(200, heldStatus.get(10, TimeUnit.SECONDS));
+        get("/fast").then().statusCode(200);
+    }
+
+    @ApplicationScoped
+    public static class Routes {
+
+        static volatile CompletableFuture<RoutingContext> held;
+
+        public void setup(@Observes Router router) {
+            router.get("/hold").handler(rc -> held.complete(rc));
+            router.get("/fast").handler(rc -> rc.response().end("fast"));
+            router.get("/other/fast").handler(rc -> rc.response().end("fast"));
+        }
+    }
+}
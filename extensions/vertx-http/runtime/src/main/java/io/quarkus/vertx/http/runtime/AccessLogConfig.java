@@ -77,4 +77,19 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * If the messages logged to a file should be encoded on the request thread into a lock-free ring buffer, which is then
+     * drained by a dedicated writer thread. This avoids creating a {@code String} for each request and reduces the
+     * contention between the request threads under high load.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean ringBuffer;
+
+    /**
+     * The number of messages the ring buffer can hold, rounded up to the next power of two. When the ring buffer is full,
+     * up to the same number of messages are queued until the writer thread catches up, and the next messages are dropped.
+     */
+    @ConfigItem(defaultValue = "8192")
+    public int ringBufferSize;
+
 }
@@ -0,0 +1,58 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class ConcurrencyLimitConfig {
+
+    /**
+     * If enabled, the number of requests handled concurrently is limited, and the requests over the limit are
+     * rejected with a 503 status before being dispatched to the application.
+     * <p>
+     * The limit adapts to the observed latency: it grows while the latency stays stable and is reduced when the latency
+     * increases, for example because a downstream service slows down.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The initial limit, before any latency has been observed.
+     */
+    @ConfigItem(defaultValue = "20")
+    public int initialLimit;
+
+    /**
+     * The minimum value of the limit.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int minLimit;
+
+    /**
+     * The maximum value of the limit.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxLimit;
+
+    /**
+     * How much the latency of the recent requests can exceed the long term latency before the limit is reduced.
+     * For example {@code 1.5} reduces the limit once the recent requests are 50% slower than usual.
+     */
+    @ConfigItem(defaultValue = "1.5")
+    public double latencyTolerance;
+
+    /**
+     * How fast the limit follows the changes of latency, between {@code 0} (never changes) and {@code 1} (immediately
+     * takes the new value).
+     */
+    @ConfigItem(defaultValue = "0.2")
+    public double smoothing;
+
+    /**
+     * The routes with their own limit. The requests that do not match any of these routes share the default limit.
+     */
+    @ConfigItem(name = "route")
+    public Map<String, ConcurrencyLimitRouteConfig> routes;
+}
@@ -0,0 +1,36 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class ConcurrencyLimitRouteConfig {
+
+    /**
+     * The paths of this route. If the path ends in /* then this is treated as a path prefix, otherwise it is treated
+     * as an exact match.
+     */
+    @ConfigItem
+    public List<String> paths;
+
+    /**
+     * The initial limit of this route, the default initial limit is used if not set.
+     */
+    @ConfigItem
+    public OptionalInt initialLimit;
+
+    /**
+     * The minimum limit of this route, the default minimum limit is used if not set.
+     */
+    @ConfigItem
+    public OptionalInt minLimit;
+
+    /**
+     * The maximum limit of this route, the default maximum limit is used if not set.
+     */
+    @ConfigItem
+    public OptionalInt maxLimit;
+}
@@ -38,4 +38,10 @@ public class ServerLimitsConfig {
     @ConfigItem(defaultValue = "2048")
     public MemorySize maxFormAttributeSize;
 
+    /**
+     * The adaptive concurrency limit
+     */
+    @ConfigItem
+    public ConcurrencyLimitConfig concurrency;
+
 }
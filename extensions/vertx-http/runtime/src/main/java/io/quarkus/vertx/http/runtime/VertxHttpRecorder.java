@@ -68,6 +68,7 @@ import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
@@ -268,7 +269,7 @@ public class VertxHttpRecorder {
             RuntimeValue<Router> httpRouterRuntimeValue, String rootPath, LaunchMode launchMode, boolean requireBodyHandler,
             Handler<RoutingContext> bodyHandler, HttpConfiguration httpConfiguration,
             GracefulShutdownFilter gracefulShutdownFilter, ShutdownConfig shutdownConfig,
-            Executor executor) {
+            Executor executor, ShutdownContext shutdown) {
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
 
@@ -395,8 +396,25 @@ public class VertxHttpRecorder {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                if (accessLog.ringBuffer) {
+                    RingBufferAccessLogReceiver ringBufferReceiver = new RingBufferAccessLogReceiver(outputDir.toPath(),
+                            accessLog.baseFileName, accessLog.logSuffix, accessLog.rotate, accessLog.ringBufferSize);
+                    // Writes the pending messages and stops the writer thread
+                    shutdown.addLastShutdownTask(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                ringBufferReceiver.close();
+                            } catch (IOException e) {
+                                LOGGER.error("Unable to close the access log", e);
+                            }
+                        }
+                    });
+                    receiver = ringBufferReceiver;
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
+                            accessLog.rotate);
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -28,6 +29,13 @@ public class CompositeExchangeAttribute implements ExchangeAttribute {
         return sb.toString();
     }
 
+    @Override
+    public void appendAttribute(RoutingContext exchange, ByteBuf buffer) {
+        for (int i = 0; i < attributes.length; ++i) {
+            attributes[i].appendAttribute(exchange, buffer);
+        }
+    }
+
     @Override
     public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("combined", newValue);
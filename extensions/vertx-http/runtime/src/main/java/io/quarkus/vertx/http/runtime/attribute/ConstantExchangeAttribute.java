@@ -1,5 +1,8 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -9,9 +12,11 @@ import io.vertx.ext.web.RoutingContext;
 public class ConstantExchangeAttribute implements ExchangeAttribute {
 
     private final String value;
+    private final byte[] encodedValue;
 
     public ConstantExchangeAttribute(final String value) {
         this.value = value;
+        this.encodedValue = value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
     }
 
     @Override
@@ -19,6 +24,13 @@ public class ConstantExchangeAttribute implements ExchangeAttribute {
         return value;
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final ByteBuf buffer) {
+        if (encodedValue != null) {
+            buffer.writeBytes(encodedValue);
+        }
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("constant", newValue);
@@ -1,5 +1,7 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -16,6 +18,22 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Appends the UTF-8 encoded attribute to the given buffer. Nothing is appended if the attribute is not present.
+     * <p>
+     * The default implementation encodes the result of {@link #readAttribute(RoutingContext)}. Attributes that can be
+     * encoded without creating an intermediate {@link String} should override this method.
+     * 
+     * @param exchange The exchange
+     * @param buffer The buffer
+     */
+    default void appendAttribute(final RoutingContext exchange, final ByteBuf buffer) {
+        String value = readAttribute(exchange);
+        if (value != null) {
+            ByteBufUtil.writeUtf8(buffer, value);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      * 
@@ -1,5 +1,8 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -24,27 +27,34 @@ public class RequestLineAttribute implements ExchangeAttribute {
                 .append(' ')
                 .append(exchange.request().uri());
         sb.append(' ');
-        String httpVersion = "-";
-        switch (exchange.request().version()) {
+        sb.append(httpVersion(exchange.request()));
+        return sb.toString();
+    }
+
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final ByteBuf buffer) {
+        ByteBufUtil.writeAscii(buffer, exchange.request().method().name());
+        buffer.writeByte(' ');
+        ByteBufUtil.writeUtf8(buffer, exchange.request().uri());
+        buffer.writeByte(' ');
+        ByteBufUtil.writeAscii(buffer, httpVersion(exchange.request()));
+    }
+
+    private static String httpVersion(HttpServerRequest request) {
+        switch (request.version()) {
             case HTTP_1_0:
-                httpVersion = "HTTP/1.0";
-                break;
+                return "HTTP/1.0";
             case HTTP_1_1:
-                httpVersion = "HTTP/1.1";
-                break;
+                return "HTTP/1.1";
             case HTTP_2:
-                httpVersion = "HTTP/2";
-                break;
+                return "HTTP/2";
             default:
                 // best effort to try and infer the HTTP version from
                 // any "unknown" enum value
-                httpVersion = exchange.request().version().name()
+                return request.version().name()
                         .replace("HTTP_", "HTTP/")
                         .replace("_", ".");
-                break;
         }
-        sb.append(httpVersion);
-        return sb.toString();
     }
 
     @Override
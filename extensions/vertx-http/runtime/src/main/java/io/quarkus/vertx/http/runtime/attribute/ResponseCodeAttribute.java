@@ -1,5 +1,7 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -22,6 +24,18 @@ public class ResponseCodeAttribute implements ExchangeAttribute {
         return Integer.toString(exchange.response().getStatusCode());
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final ByteBuf buffer) {
+        int statusCode = exchange.response().getStatusCode();
+        if (statusCode >= 100 && statusCode <= 999) {
+            buffer.writeByte('0' + statusCode / 100);
+            buffer.writeByte('0' + statusCode / 10 % 10);
+            buffer.writeByte('0' + statusCode % 10);
+        } else {
+            ByteBufUtil.writeAscii(buffer, Integer.toString(statusCode));
+        }
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         exchange.response().setStatusCode(Integer.parseInt(newValue));
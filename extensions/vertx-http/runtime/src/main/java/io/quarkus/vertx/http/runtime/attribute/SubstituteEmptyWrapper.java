@@ -1,5 +1,8 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
 import io.vertx.ext.web.RoutingContext;
 
 public class SubstituteEmptyWrapper implements ExchangeAttributeWrapper {
@@ -18,10 +21,12 @@ public class SubstituteEmptyWrapper implements ExchangeAttributeWrapper {
     public static class SubstituteEmptyAttribute implements ExchangeAttribute {
         private final ExchangeAttribute attribute;
         private final String substitute;
+        private final byte[] encodedSubstitute;
 
         public SubstituteEmptyAttribute(ExchangeAttribute attribute, String substitute) {
             this.attribute = attribute;
             this.substitute = substitute;
+            this.encodedSubstitute = substitute != null ? substitute.getBytes(StandardCharsets.UTF_8) : null;
         }
 
         @Override
@@ -33,6 +38,15 @@ public class SubstituteEmptyWrapper implements ExchangeAttributeWrapper {
             return val;
         }
 
+        @Override
+        public void appendAttribute(RoutingContext exchange, ByteBuf buffer) {
+            int writerIndex = buffer.writerIndex();
+            attribute.appendAttribute(exchange, buffer);
+            if (buffer.writerIndex() == writerIndex && encodedSubstitute != null) {
+                buffer.writeBytes(encodedSubstitute);
+            }
+        }
+
         @Override
         public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
             attribute.writeAttribute(exchange, newValue);
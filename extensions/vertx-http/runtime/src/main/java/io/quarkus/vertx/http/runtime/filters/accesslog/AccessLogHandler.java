@@ -24,6 +24,9 @@ import java.util.StringJoiner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.FastThreadLocal;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
 import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
@@ -90,6 +93,18 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    // Buffers that grew past this size because of a huge message are not reused
+    private static final int MAX_REUSED_BUFFER_SIZE = 64 * 1024;
+
+    // Messages are encoded in a buffer that is reused by each thread
+    private static final FastThreadLocal<ByteBuf> BUFFERS = new FastThreadLocal<ByteBuf>() {
+        @Override
+        protected ByteBuf initialValue() {
+            return Unpooled.buffer(INITIAL_BUFFER_SIZE);
+        }
+    };
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final ExchangeAttribute tokens;
@@ -143,7 +158,17 @@ public class AccessLogHandler implements Handler<RoutingContext> {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                if (accessLogReceiver instanceof EncodedAccessLogReceiver) {
+                    ByteBuf buffer = BUFFERS.get();
+                    buffer.clear();
+                    tokens.appendAttribute(rc, buffer);
+                    ((EncodedAccessLogReceiver) accessLogReceiver).logMessage(buffer);
+                    if (buffer.capacity() > MAX_REUSED_BUFFER_SIZE) {
+                        BUFFERS.remove();
+                    }
+                } else {
+                    accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                }
             }
         });
         rc.next();
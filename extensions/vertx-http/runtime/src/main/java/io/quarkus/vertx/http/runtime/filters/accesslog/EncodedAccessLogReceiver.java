@@ -0,0 +1,20 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * An {@link AccessLogReceiver} that accepts messages which are already UTF-8 encoded. The access log handler encodes the
+ * messages with {@link io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute#appendAttribute} instead of creating a
+ * {@link String} for each request.
+ */
+public interface EncodedAccessLogReceiver extends AccessLogReceiver {
+
+    /**
+     * The readable bytes of the buffer must be consumed before this method returns since the buffer is reused for the next
+     * message. The reader index of the buffer is not modified.
+     *
+     * @param message the UTF-8 encoded message, without the line separator
+     */
+    void logMessage(ByteBuf message);
+
+}
@@ -0,0 +1,413 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Log Receiver that stores logs in a directory under the specified file name, and rotates them after midnight, like
+ * {@link DefaultAccessLogReceiver}.
+ * <p>
+ * The messages are copied as bytes into a bounded multi-producer single-consumer ring buffer. Each slot of the ring buffer
+ * owns a byte array which is reused for the next messages, so logging a message does not allocate once the buffer is warm.
+ * The arrays larger than {@link #MAX_RETAINED_SLOT_SIZE} are released once written, so that a few long messages do not
+ * keep their memory for the lifetime of the receiver. A dedicated thread drains the ring buffer into a direct buffer which
+ * is then written to a {@link FileChannel}.
+ * <p>
+ * Producers never block: if the ring buffer is full, the messages are stored in an overflow queue holding at most as many
+ * messages as the ring buffer, and they may then not be written in the order in which they were logged. If the overflow
+ * queue is full too, the messages are dropped, and the number of dropped messages is reported in the server log.
+ */
+public class RingBufferAccessLogReceiver implements EncodedAccessLogReceiver, Closeable {
+
+    private static final Logger log = Logger.getLogger(RingBufferAccessLogReceiver.class);
+
+    private static final String DEFAULT_LOG_SUFFIX = "log";
+
+    private static final int INITIAL_SLOT_SIZE = 256;
+    private static final int MAX_RETAINED_SLOT_SIZE = 8 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // The writer wakes up periodically to rotate the log file even if there are no messages
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final int capacity;
+    private final int mask;
+    /*
+     * The slot of index i is free for the producer that claimed i if sequences[i & mask] == i, and the message stored in the
+     * slot is ready to be written if sequences[i & mask] == i + 1.
+     */
+    private final AtomicLongArray sequences;
+    private final byte[][] slots;
+    private final int[] lengths;
+    private final AtomicLong producerIndex;
+    private final Queue<byte[]> overflow;
+    private final AtomicInteger overflowSize;
+    private final LongAdder dropped;
+
+    private final Thread writerThread;
+    private volatile boolean writerParked;
+    private volatile boolean forceLogRotation;
+    private volatile boolean closed;
+
+    // The following fields are only accessed by the writer thread
+    private long consumerIndex;
+    private final ByteBuffer writeBuffer;
+    private FileChannel channel;
+    private long changeOverPoint;
+    private String currentDateString;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final boolean rotate;
+
+    /**
+     *
+     * @param outputDirectory
+     * @param logBaseName
+     * @param logNameSuffix
+     * @param rotate
+     * @param size the number of slots of the ring buffer, rounded up to the next power of two
+     */
+    public RingBufferAccessLogReceiver(final Path outputDirectory, final String logBaseName, final String logNameSuffix,
+            boolean rotate, int size) {
+        if (size < 1 || size > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid ring buffer size: " + size);
+        }
+        this.capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.slots = new byte[capacity][];
+        this.lengths = new int[capacity];
+        this.producerIndex = new AtomicLong();
+        this.overflow = new ConcurrentLinkedQueue<>();
+        this.overflowSize = new AtomicInteger();
+        this.dropped = new LongAdder();
+        this.writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName;
+        this.rotate = rotate;
+        this.logNameSuffix = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
+        this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
+        calculateChangeOverPoint();
+        this.writerThread = new Thread(this::runWriter, "access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void logMessage(final String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        long index = claim();
+        if (index < 0) {
+            addOverflow(bytes);
+        } else {
+            int slot = (int) index & mask;
+            slots[slot] = bytes;
+            lengths[slot] = bytes.length;
+            sequences.set(slot, index + 1);
+        }
+        signalWriter();
+    }
+
+    @Override
+    public void logMessage(final ByteBuf message) {
+        int length = message.readableBytes();
+        long index = claim();
+        if (index < 0) {
+            if (reserveOverflow()) {
+                byte[] bytes = new byte[length];
+                message.getBytes(message.readerIndex(), bytes);
+                overflow.add(bytes);
+            }
+        } else {
+            int slot = (int) index & mask;
+            byte[] bytes = slots[slot];
+            if (bytes == null || bytes.length < length) {
+                bytes = new byte[Math.max(length, INITIAL_SLOT_SIZE)];
+                slots[slot] = bytes;
+            }
+            message.getBytes(message.readerIndex(), bytes, 0, length);
+            lengths[slot] = length;
+            // Publishes the message, the volatile write also orders the read of writerParked in signalWriter()
+            sequences.set(slot, index + 1);
+        }
+        signalWriter();
+    }
+
+    /**
+     *
+     * @return the claimed index, or {@code -1} if the ring buffer is full
+     */
+    private long claim() {
+        for (;;) {
+            long index = producerIndex.get();
+            long sequence = sequences.get((int) index & mask);
+            if (sequence == index) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    return index;
+                }
+            } else if (sequence < index) {
+                // The slot still holds a message that was not written yet
+                return -1;
+            }
+            // Otherwise another producer claimed this index in the meantime
+        }
+    }
+
+    private void addOverflow(byte[] message) {
+        if (reserveOverflow()) {
+            overflow.add(message);
+        }
+    }
+
+    /**
+     *
+     * @return {@code true} if the message can be added to the overflow queue, {@code false} if it is full and the message
+     *         must be dropped
+     */
+    private boolean reserveOverflow() {
+        if (overflowSize.incrementAndGet() > capacity) {
+            overflowSize.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private void signalWriter() {
+        if (writerParked) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private boolean isEmpty() {
+        return sequences.get((int) consumerIndex & mask) != consumerIndex + 1 && overflow.isEmpty();
+    }
+
+    private void runWriter() {
+        rotateExistingLogFile();
+        for (;;) {
+            // Read the flag before draining so that all the messages logged before close() are written
+            boolean closing = closed;
+            try {
+                if (forceLogRotation || System.currentTimeMillis() > changeOverPoint) {
+                    doRotate();
+                }
+                reportDropped();
+                if (drain() == 0) {
+                    flush();
+                    if (closing) {
+                        break;
+                    }
+                    writerParked = true;
+                    if (isEmpty() && !forceLogRotation && !closed) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    writerParked = false;
+                }
+            } catch (RuntimeException e) {
+                // The writer thread must not die, the producers would fill the overflow queue forever
+                log.error("Error writing access log", e);
+            }
+        }
+        closeChannel();
+    }
+
+    private int drain() {
+        int count = 0;
+        // Only drain one round of the ring buffer at a time so that a rotation is not delayed forever
+        while (count < capacity) {
+            int slot = (int) consumerIndex & mask;
+            if (sequences.get(slot) != consumerIndex + 1) {
+                break;
+            }
+            byte[] bytes = slots[slot];
+            write(bytes, lengths[slot]);
+            if (bytes.length > MAX_RETAINED_SLOT_SIZE) {
+                // The next producer of this slot allocates an array of the size it needs
+                slots[slot] = null;
+            }
+            sequences.lazySet(slot, consumerIndex + capacity);
+            consumerIndex++;
+            count++;
+        }
+        byte[] message;
+        while (count < capacity && (message = overflow.poll()) != null) {
+            overflowSize.decrementAndGet();
+            write(message, message.length);
+            count++;
+        }
+        return count;
+    }
+
+    private void reportDropped() {
+        long count = dropped.sumThenReset();
+        if (count > 0) {
+            log.warnf("%d access log messages were dropped because the ring buffer and its overflow queue were full, "
+                    + "consider increasing quarkus.http.access-log.ring-buffer-size", count);
+        }
+    }
+
+    private void write(byte[] message, int length) {
+        int offset = 0;
+        while (offset < length) {
+            if (!writeBuffer.hasRemaining()) {
+                flush();
+            }
+            int chunk = Math.min(writeBuffer.remaining(), length - offset);
+            writeBuffer.put(message, offset, chunk);
+            offset += chunk;
+        }
+        if (!writeBuffer.hasRemaining()) {
+            flush();
+        }
+        writeBuffer.put((byte) '\n');
+    }
+
+    private void flush() {
+        if (writeBuffer.position() == 0) {
+            return;
+        }
+        writeBuffer.flip();
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error writing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    private void rotateExistingLogFile() {
+        //if there is an existing log file check if it should be rotated
+        if (!Files.exists(defaultLogFile)) {
+            return;
+        }
+        long lm = 0;
+        try {
+            lm = Files.getLastModifiedTime(defaultLogFile).toMillis();
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        }
+        Calendar c = Calendar.getInstance();
+        c.setTimeInMillis(changeOverPoint);
+        c.add(Calendar.DATE, -1);
+        if (lm <= c.getTimeInMillis()) {
+            doRotate();
+        }
+    }
+
+    private void doRotate() {
+        forceLogRotation = false;
+        if (!rotate) {
+            // Make sure the changeover point is not reached again immediately
+            calculateChangeOverPoint();
+            return;
+        }
+        try {
+            flush();
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + currentDateString + "." + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + currentDateString + "-" + count + "." + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    /**
+     * forces a log rotation. This rotation is performed in an async manner, you cannot rely on the rotation
+     * being performed immediately after this method returns.
+     */
+    public void rotate() {
+        forceLogRotation = true;
+        LockSupport.unpark(writerThread);
+    }
+
+    /**
+     * Writes all the pending messages and stops the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
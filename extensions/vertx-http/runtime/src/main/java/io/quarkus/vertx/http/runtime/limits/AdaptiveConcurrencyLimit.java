@@ -0,0 +1,134 @@
+package io.quarkus.vertx.http.runtime.limits;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrency limit that adapts to the observed latency, based on the gradient algorithm.
+ * <p>
+ * The latencies are sampled in windows of {@link #WINDOW_SIZE} requests. The average latency of each window is
+ * compared to the long term average latency: while the ratio stays within the tolerance the limit grows by
+ * {@code sqrt(limit)}, when the requests get slower the limit is reduced proportionally to the ratio (but never by more
+ * than half). The limit only grows when it is actually used, i.e. when at least half of it was in use during the window.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    static final int WINDOW_SIZE = 10;
+    /**
+     * The number of windows averaged before using an exponential moving average for the long term latency.
+     */
+    private static final int WARMUP_WINDOWS = 10;
+    /**
+     * The factor of the exponential moving average for the long term latency, which covers around 60 windows.
+     */
+    private static final double LONG_TERM_FACTOR = 2.0 / 61;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // guarded by this
+    private double estimatedLimit;
+    private double longTermLatency;
+    private int windows;
+    private long windowLatencySum;
+    private int windowSamples;
+    private int windowMaxInflight;
+
+    public AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit, double tolerance,
+            double smoothing) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(
+                    "Invalid concurrency limits for " + name + ": min " + minLimit + ", max " + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * @return {@code true} if the request can be handled, in which case {@link #release(long)} must be called once it
+     *         completes
+     */
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = inflight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a request acquired with {@link #tryAcquire()}.
+     *
+     * @param latency the time it took to handle the request, in nanoseconds
+     */
+    public void release(long latency) {
+        int current = inflight.getAndDecrement();
+        synchronized (this) {
+            windowLatencySum += latency;
+            windowMaxInflight = Math.max(windowMaxInflight, current);
+            if (++windowSamples < WINDOW_SIZE) {
+                return;
+            }
+            double windowLatency = Math.max(1, (double) windowLatencySum / windowSamples);
+            int maxInflight = windowMaxInflight;
+            windowLatencySum = 0;
+            windowSamples = 0;
+            windowMaxInflight = 0;
+            update(windowLatency, maxInflight);
+        }
+    }
+
+    private void update(double windowLatency, int maxInflight) {
+        if (windows < WARMUP_WINDOWS) {
+            longTermLatency = (longTermLatency * windows + windowLatency) / (windows + 1);
+            windows++;
+        } else {
+            longTermLatency += (windowLatency - longTermLatency) * LONG_TERM_FACTOR;
+        }
+        if (longTermLatency / windowLatency > 2) {
+            // the requests got much faster, let the long term latency catch up
+            longTermLatency *= 0.95;
+        }
+        if (maxInflight < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longTermLatency / windowLatency));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkus.vertx.http.runtime.limits;
+
+import java.util.List;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.security.PathMatcher;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Rejects the requests over the concurrency limit of their route with a 503 status. As this runs as a filter on the
+ * event loop, the rejected requests never reach the worker pool.
+ */
+public class ConcurrencyLimitHandler implements Handler<RoutingContext> {
+
+    private final PathMatcher<AdaptiveConcurrencyLimit> routes;
+    private final List<AdaptiveConcurrencyLimit> limits;
+
+    public ConcurrencyLimitHandler(PathMatcher<AdaptiveConcurrencyLimit> routes, List<AdaptiveConcurrencyLimit> limits) {
+        this.routes = routes;
+        this.limits = limits;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        AdaptiveConcurrencyLimit limit = routes.match(event.normalizedPath()).getValue();
+        if (!limit.tryAcquire()) {
+            event.response().setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code()).end();
+            return;
+        }
+        event.addEndHandler(new ReleaseHandler(limit, System.nanoTime()));
+        event.next();
+    }
+
+    public List<AdaptiveConcurrencyLimit> getLimits() {
+        return limits;
+    }
+
+    private static final class ReleaseHandler implements Handler<AsyncResult<Void>> {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final long start;
+        private boolean released;
+
+        ReleaseHandler(AdaptiveConcurrencyLimit limit, long start) {
+            this.limit = limit;
+            this.start = start;
+        }
+
+        @Override
+        public void handle(AsyncResult<Void> event) {
+            if (!released) {
+                released = true;
+                limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+}
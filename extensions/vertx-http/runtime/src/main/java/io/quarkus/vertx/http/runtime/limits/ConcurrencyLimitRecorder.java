@@ -0,0 +1,76 @@
+package io.quarkus.vertx.http.runtime.limits;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.vertx.http.runtime.ConcurrencyLimitConfig;
+import io.quarkus.vertx.http.runtime.ConcurrencyLimitRouteConfig;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.quarkus.vertx.http.runtime.security.PathMatcher;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class ConcurrencyLimitRecorder {
+
+    static final String DEFAULT_ROUTE = "default";
+
+    public Handler<RoutingContext> concurrencyLimitHandler(HttpConfiguration configuration) {
+        ConcurrencyLimitConfig config = configuration.limits.concurrency;
+        if (!config.enabled) {
+            return null;
+        }
+        List<AdaptiveConcurrencyLimit> limits = new ArrayList<>();
+        AdaptiveConcurrencyLimit defaultLimit = new AdaptiveConcurrencyLimit(DEFAULT_ROUTE, config.initialLimit,
+                config.minLimit, config.maxLimit, config.latencyTolerance, config.smoothing);
+        limits.add(defaultLimit);
+        PathMatcher<AdaptiveConcurrencyLimit> routes = new PathMatcher<>(defaultLimit);
+        for (Map.Entry<String, ConcurrencyLimitRouteConfig> entry : config.routes.entrySet()) {
+            ConcurrencyLimitRouteConfig route = entry.getValue();
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(entry.getKey(),
+                    route.initialLimit.orElse(config.initialLimit), route.minLimit.orElse(config.minLimit),
+                    route.maxLimit.orElse(config.maxLimit), config.latencyTolerance, config.smoothing);
+            limits.add(limit);
+            for (String path : route.paths) {
+                if (path.endsWith("/*")) {
+                    String stripped = path.substring(0, path.length() - 2);
+                    routes.addPrefixPath(stripped.isEmpty() ? "/" : stripped, limit);
+                } else if (path.endsWith("*")) {
+                    routes.addPrefixPath(path.substring(0, path.length() - 1), limit);
+                } else {
+                    routes.addExactPath(path, limit);
+                }
+            }
+        }
+        return new ConcurrencyLimitHandler(routes, limits);
+    }
+
+    public Consumer<MetricsFactory> registerMetrics(Handler<RoutingContext> handler) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!(handler instanceof ConcurrencyLimitHandler)) {
+                    return;
+                }
+                for (AdaptiveConcurrencyLimit limit : ((ConcurrencyLimitHandler) handler).getLimits()) {
+                    metricsFactory.builder("http.server.concurrency.limit")
+                            .description("Current adaptive limit of the requests handled concurrently.")
+                            .tag("route", limit.getName())
+                            .buildGauge(limit::getLimit);
+                    metricsFactory.builder("http.server.concurrency.inflight")
+                            .description("Number of requests currently handled.")
+                            .tag("route", limit.getName())
+                            .buildGauge(limit::getInflight);
+                    metricsFactory.builder("http.server.concurrency.rejected")
+                            .description("Number of requests rejected because the concurrency limit was reached.")
+                            .tag("route", limit.getName())
+                            .buildCounter(limit::getRejected);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+class RingBufferAccessLogReceiverTest {
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    void testWritesShortAndLongMessages() throws Exception {
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            // long messages release the array of their slot once written, the next ones must still be written in full
+            char[] padding = new char[i % 3 == 0 ? 10_000 : 10];
+            Arrays.fill(padding, 'x');
+            messages.add("message " + i + " " + new String(padding));
+        }
+
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(logDirectory, "server", ".log", false, 4);
+        Path logFile = logDirectory.resolve("server.log");
+        try {
+            for (int i = 0; i < messages.size(); i++) {
+                ByteBuf buf = Unpooled.copiedBuffer(messages.get(i), StandardCharsets.UTF_8);
+                receiver.logMessage(buf);
+                buf.release();
+                // wait for the writer, so that the slots are reused and no message overflows
+                awaitLines(logFile, i + 1);
+            }
+        } finally {
+            receiver.close();
+        }
+
+        Assertions.assertEquals(messages, Files.readAllLines(logFile, StandardCharsets.UTF_8));
+    }
+
+    private static void awaitLines(Path logFile, int count) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!Files.exists(logFile) || Files.readAllLines(logFile, StandardCharsets.UTF_8).size() < count) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "message " + count + " was not written");
+            Thread.sleep(10);
+        }
+    }
+}
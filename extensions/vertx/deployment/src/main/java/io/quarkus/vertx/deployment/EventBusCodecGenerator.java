@@ -0,0 +1,389 @@
+package io.quarkus.vertx.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.vertx.runtime.GeneratedEventBusCodec;
+
+/**
+ * Generates binary event bus codecs for the {@code @ConsumeEvent} payload types.
+ * <p>
+ * Only the classes whose whole state can be read and restored without reflection are supported: public, non generic
+ * classes directly extending {@code Object}, without subclasses, with a public no-args constructor, and whose
+ * non-transient fields are either public and non-final, or have a public getter and setter. The fields can be of a
+ * primitive type, a primitive wrapper, {@code String}, {@code byte[]}, an enum or another supported class.
+ */
+final class EventBusCodecGenerator {
+
+    static final String CODEC_SUFFIX = "$QuarkusEventBusCodec";
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    private static final String CONSTRUCTOR = "<init>";
+
+    private static final Map<DotName, String> BOXED_TYPES = new HashMap<>();
+
+    static {
+        BOXED_TYPES.put(DotName.createSimple(Boolean.class.getName()), "Boolean");
+        BOXED_TYPES.put(DotName.createSimple(Byte.class.getName()), "Byte");
+        BOXED_TYPES.put(DotName.createSimple(Short.class.getName()), "Short");
+        BOXED_TYPES.put(DotName.createSimple(Character.class.getName()), "Character");
+        BOXED_TYPES.put(DotName.createSimple(Integer.class.getName()), "Integer");
+        BOXED_TYPES.put(DotName.createSimple(Long.class.getName()), "Long");
+        BOXED_TYPES.put(DotName.createSimple(Float.class.getName()), "Float");
+        BOXED_TYPES.put(DotName.createSimple(Double.class.getName()), "Double");
+    }
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    /**
+     * The analyzed classes, mapped to their properties or {@code null} if they are not supported.
+     */
+    private final Map<DotName, List<Property>> analyzed = new HashMap<>();
+    private final Set<DotName> generated = new HashSet<>();
+
+    EventBusCodecGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.classOutput = classOutput;
+    }
+
+    /**
+     * Generates the codec of the given class, and the codecs of the classes of its fields.
+     *
+     * @return the name of the generated codec, or {@code null} if the class is not supported
+     */
+    String generate(DotName className) {
+        if (analyze(className) == null) {
+            return null;
+        }
+        generateAll(className);
+        return codecName(className);
+    }
+
+    static String codecName(DotName className) {
+        return className.toString() + CODEC_SUFFIX;
+    }
+
+    private void generateAll(DotName className) {
+        if (!generated.add(className)) {
+            return;
+        }
+        List<Property> properties = analyzed.get(className);
+        for (Property property : properties) {
+            if (property.nested) {
+                generateAll(property.type.name());
+            }
+        }
+        generateCodec(className, properties);
+    }
+
+    private List<Property> analyze(DotName className) {
+        if (analyzed.containsKey(className)) {
+            return analyzed.get(className);
+        }
+        // Mark the class as unsupported while it is analyzed, so that cyclic references are not supported
+        analyzed.put(className, null);
+        List<Property> properties = properties(className);
+        analyzed.put(className, properties);
+        return properties;
+    }
+
+    private List<Property> properties(DotName className) {
+        ClassInfo classInfo = index.getClassByName(className);
+        if (classInfo == null || !isSupported(classInfo)) {
+            return null;
+        }
+        List<Property> properties = new ArrayList<>();
+        for (FieldInfo field : classInfo.fields()) {
+            short flags = field.flags();
+            if (Modifier.isStatic(flags) || Modifier.isTransient(flags)) {
+                continue;
+            }
+            Property property = new Property(field);
+            if (!isSupportedType(property)) {
+                return null;
+            }
+            if (!Modifier.isPublic(flags) || Modifier.isFinal(flags)) {
+                String suffix = Character.toUpperCase(field.name().charAt(0)) + field.name().substring(1);
+                property.getter = findAccessor(classInfo, "get" + suffix, field.type(), null);
+                if (property.getter == null && field.type().kind() == Type.Kind.PRIMITIVE
+                        && field.type().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+                    property.getter = findAccessor(classInfo, "is" + suffix, field.type(), null);
+                }
+                property.setter = findAccessor(classInfo, "set" + suffix, null, field.type());
+                if (property.getter == null || property.setter == null) {
+                    return null;
+                }
+            }
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    private boolean isSupported(ClassInfo classInfo) {
+        short flags = classInfo.flags();
+        if (!Modifier.isPublic(flags) || Modifier.isAbstract(flags) || Modifier.isInterface(flags)
+                || (flags & 0x4000) != 0 // enum
+                || !OBJECT.equals(classInfo.superName())
+                || !classInfo.typeParameters().isEmpty()) {
+            return false;
+        }
+        if (classInfo.nestingType() != ClassInfo.NestingType.TOP_LEVEL
+                && (classInfo.nestingType() != ClassInfo.NestingType.INNER || !Modifier.isStatic(flags))) {
+            return false;
+        }
+        MethodInfo constructor = classInfo.method(CONSTRUCTOR);
+        if (constructor == null || !Modifier.isPublic(constructor.flags())) {
+            return false;
+        }
+        return index.getAllKnownSubclasses(classInfo.name()).isEmpty();
+    }
+
+    private boolean isSupportedType(Property property) {
+        Type type = property.type;
+        switch (type.kind()) {
+            case PRIMITIVE:
+                return true;
+            case ARRAY:
+                return type.asArrayType().dimensions() == 1
+                        && type.asArrayType().component().kind() == Type.Kind.PRIMITIVE
+                        && type.asArrayType().component().asPrimitiveType().primitive() == PrimitiveType.Primitive.BYTE;
+            case CLASS:
+                DotName name = type.name();
+                if (STRING.equals(name) || BOXED_TYPES.containsKey(name)) {
+                    return true;
+                }
+                ClassInfo classInfo = index.getClassByName(name);
+                if (classInfo != null && (classInfo.flags() & 0x4000) != 0) {
+                    property.enumeration = true;
+                    return true;
+                }
+                property.nested = true;
+                return analyze(name) != null;
+            default:
+                return false;
+        }
+    }
+
+    private static MethodInfo findAccessor(ClassInfo classInfo, String name, Type returnType, Type parameterType) {
+        for (MethodInfo method : classInfo.methods()) {
+            if (!method.name().equals(name) || !Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags())) {
+                continue;
+            }
+            if (returnType != null && method.parameters().isEmpty() && method.returnType().equals(returnType)) {
+                return method;
+            }
+            if (parameterType != null && method.parameters().size() == 1
+                    && method.parameters().get(0).equals(parameterType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private void generateCodec(DotName className, List<Property> properties) {
+        String codecName = codecName(className);
+        String typeName = className.toString();
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput)
+                .className(codecName)
+                .superClass(GeneratedEventBusCodec.class)
+                .build()) {
+
+            MethodCreator constructor = classCreator.getMethodCreator(CONSTRUCTOR, void.class);
+            // the receiving node looks the codec up by its name, which must therefore not depend on the registration order
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(GeneratedEventBusCodec.class, String.class),
+                    constructor.getThis(), constructor.load(codecName));
+            constructor.returnValue(null);
+
+            MethodCreator write = classCreator.getMethodCreator("write", void.class, ByteBuf.class.getName(), typeName);
+            write.setModifiers(Modifier.PUBLIC | Modifier.STATIC);
+            ResultHandle out = write.getMethodParam(0);
+            ResultHandle value = write.getMethodParam(1);
+            BytecodeCreator present = write.ifTrue(write.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(GeneratedEventBusCodec.class, "writePresence", boolean.class, ByteBuf.class,
+                            Object.class),
+                    out, value)).trueBranch();
+            for (Property property : properties) {
+                writeProperty(present, property, out, getValue(present, property, value));
+            }
+            write.returnValue(null);
+
+            MethodCreator read = classCreator.getMethodCreator("read", typeName, ByteBuf.class.getName());
+            read.setModifiers(Modifier.PUBLIC | Modifier.STATIC);
+            ResultHandle in = read.getMethodParam(0);
+            BranchResult isPresent = read.ifTrue(read.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(ByteBuf.class, "readBoolean", boolean.class), in));
+            isPresent.falseBranch().returnValue(isPresent.falseBranch().loadNull());
+            BytecodeCreator found = isPresent.trueBranch();
+            ResultHandle instance = found.newInstance(MethodDescriptor.ofConstructor(typeName));
+            for (Property property : properties) {
+                setValue(found, property, instance, readProperty(found, property, in));
+            }
+            found.returnValue(instance);
+
+            MethodCreator encode = classCreator.getMethodCreator("encode", void.class, ByteBuf.class, Object.class);
+            encode.setModifiers(Modifier.PROTECTED);
+            encode.invokeStaticMethod(MethodDescriptor.ofMethod(codecName, "write", void.class, ByteBuf.class.getName(),
+                    typeName), encode.getMethodParam(0), encode.checkCast(encode.getMethodParam(1), typeName));
+            encode.returnValue(null);
+
+            MethodCreator decode = classCreator.getMethodCreator("decode", Object.class, ByteBuf.class);
+            decode.setModifiers(Modifier.PROTECTED);
+            decode.returnValue(decode.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(codecName, "read", typeName, ByteBuf.class.getName()),
+                    decode.getMethodParam(0)));
+        }
+    }
+
+    private static ResultHandle getValue(BytecodeCreator creator, Property property, ResultHandle bean) {
+        if (property.getter != null) {
+            return creator.invokeVirtualMethod(MethodDescriptor.of(property.getter), bean);
+        }
+        return creator.readInstanceField(FieldDescriptor.of(property.field), bean);
+    }
+
+    private static void setValue(BytecodeCreator creator, Property property, ResultHandle bean, ResultHandle value) {
+        if (property.setter != null) {
+            creator.invokeVirtualMethod(MethodDescriptor.of(property.setter), bean, value);
+        } else {
+            creator.writeInstanceField(FieldDescriptor.of(property.field), bean, value);
+        }
+    }
+
+    private static void writeProperty(BytecodeCreator creator, Property property, ResultHandle out, ResultHandle value) {
+        Type type = property.type;
+        String typeName = type.name().toString();
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+            String method = "write" + primitiveName(primitive);
+            // writeByte(), writeShort() and writeChar() take an int, as the JVM does for these types
+            Class<?> parameterType = primitive == PrimitiveType.Primitive.BYTE || primitive == PrimitiveType.Primitive.SHORT
+                    || primitive == PrimitiveType.Primitive.CHAR ? int.class : primitiveClass(primitive);
+            creator.invokeVirtualMethod(MethodDescriptor.ofMethod(ByteBuf.class, method, ByteBuf.class, parameterType),
+                    out, value);
+        } else if (type.kind() == Type.Kind.ARRAY) {
+            creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedEventBusCodec.class, "writeBytes", void.class,
+                    ByteBuf.class, byte[].class), out, value);
+        } else if (STRING.equals(type.name())) {
+            creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedEventBusCodec.class, "writeString", void.class,
+                    ByteBuf.class, String.class), out, value);
+        } else if (BOXED_TYPES.containsKey(type.name())) {
+            creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedEventBusCodec.class,
+                    "write" + BOXED_TYPES.get(type.name()), void.class, ByteBuf.class.getName(), typeName), out, value);
+        } else if (property.enumeration) {
+            creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedEventBusCodec.class, "writeEnum", void.class,
+                    ByteBuf.class, Enum.class), out, value);
+        } else {
+            creator.invokeStaticMethod(MethodDescriptor.ofMethod(codecName(type.name()), "write", void.class,
+                    ByteBuf.class.getName(), typeName), out, value);
+        }
+    }
+
+    private static ResultHandle readProperty(BytecodeCreator creator, Property property, ResultHandle in) {
+        Type type = property.type;
+        String typeName = type.name().toString();
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+            return creator.invokeVirtualMethod(MethodDescriptor.ofMethod(ByteBuf.class, "read" + primitiveName(primitive),
+                    primitiveClass(primitive)), in);
+        } else if (type.kind() == Type.Kind.ARRAY) {
+            return creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedEventBusCodec.class, "readBytes",
+                    byte[].class, ByteBuf.class), in);
+        } else if (STRING.equals(type.name())) {
+            return creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedEventBusCodec.class, "readString",
+                    String.class, ByteBuf.class), in);
+        } else if (BOXED_TYPES.containsKey(type.name())) {
+            return creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedEventBusCodec.class,
+                    "read" + BOXED_TYPES.get(type.name()), typeName, ByteBuf.class.getName()), in);
+        } else if (property.enumeration) {
+            return creator.checkCast(creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedEventBusCodec.class,
+                    "readEnum", Enum.class, ByteBuf.class, Class.class), in, creator.loadClass(typeName)), typeName);
+        } else {
+            return creator.invokeStaticMethod(MethodDescriptor.ofMethod(codecName(type.name()), "read", typeName,
+                    ByteBuf.class.getName()), in);
+        }
+    }
+
+    private static String primitiveName(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case BOOLEAN:
+                return "Boolean";
+            case BYTE:
+                return "Byte";
+            case SHORT:
+                return "Short";
+            case CHAR:
+                return "Char";
+            case INT:
+                return "Int";
+            case LONG:
+                return "Long";
+            case FLOAT:
+                return "Float";
+            case DOUBLE:
+                return "Double";
+            default:
+                throw new IllegalArgumentException("Unknown primitive type: " + primitive);
+        }
+    }
+
+    private static Class<?> primitiveClass(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case BOOLEAN:
+                return boolean.class;
+            case BYTE:
+                return byte.class;
+            case SHORT:
+                return short.class;
+            case CHAR:
+                return char.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            case DOUBLE:
+                return double.class;
+            default:
+                throw new IllegalArgumentException("Unknown primitive type: " + primitive);
+        }
+    }
+
+    static final class Property {
+
+        final FieldInfo field;
+        final Type type;
+        MethodInfo getter;
+        MethodInfo setter;
+        boolean enumeration;
+        boolean nested;
+
+        Property(FieldInfo field) {
+            this.field = field;
+            this.type = field.type();
+        }
+    }
+}
@@ -25,8 +25,11 @@ import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
@@ -39,12 +42,16 @@ public class EventBusCodecProcessor {
     @BuildStep
     public void registerCodecs(
             BeanArchiveIndexBuildItem beanArchiveIndexBuildItem,
+            CombinedIndexBuildItem combinedIndex,
             BuildProducer<MessageCodecBuildItem> messageCodecs,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
 
         final IndexView index = beanArchiveIndexBuildItem.getIndex();
         Collection<AnnotationInstance> consumeEventAnnotationInstances = index.getAnnotations(CONSUME_EVENT);
         Map<Type, DotName> codecByTypes = new HashMap<>();
+        EventBusCodecGenerator generator = new EventBusCodecGenerator(combinedIndex.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true));
         for (AnnotationInstance consumeEventAnnotationInstance : consumeEventAnnotationInstances) {
             AnnotationTarget typeTarget = consumeEventAnnotationInstance.target();
             if (typeTarget.kind() != AnnotationTarget.Kind.METHOD) {
@@ -65,26 +72,27 @@ public class EventBusCodecProcessor {
             } else if (codecTargetFromParameter != null) {
                 // Codec is not set, check if we have a built-in codec
                 if (!hasBuiltInCodec(codecTargetFromParameter)) {
-                    // Ensure local delivery.
+                    DotName defaultCodec = codecByTypes.get(codecTargetFromParameter);
+                    if (defaultCodec == null) {
+                        defaultCodec = defaultCodec(codecTargetFromParameter,
+                                generateCodec(generator, codecTargetFromParameter));
+                    }
+                    // Ensure local delivery, unless a codec supporting the wire delivery could be generated.
                     AnnotationValue local = consumeEventAnnotationInstance.value("local");
-                    if (local != null && !local.asBoolean()) {
+                    if (LOCAL_EVENT_BUS_CODEC.equals(defaultCodec) && local != null && !local.asBoolean()) {
                         throw new UnsupportedOperationException(
                                 "The generic message codec can only be used for local delivery,"
                                         + ", implement your own event bus codec for " + codecTargetFromParameter.name()
                                                 .toString());
-                    } else if (!codecByTypes.containsKey(codecTargetFromParameter)) {
-                        LOGGER.infof("Local Message Codec registered for type %s",
-                                codecTargetFromParameter.toString());
-                        codecByTypes.put(codecTargetFromParameter, LOCAL_EVENT_BUS_CODEC);
                     }
+                    codecByTypes.put(codecTargetFromParameter, defaultCodec);
                 }
             }
 
             if (codecTargetFromReturnType != null && !hasBuiltInCodec(codecTargetFromReturnType)
                     && !codecByTypes.containsKey(codecTargetFromReturnType)) {
-
-                LOGGER.infof("Local Message Codec registered for type %s", codecTargetFromReturnType.toString());
-                codecByTypes.put(codecTargetFromReturnType, LOCAL_EVENT_BUS_CODEC);
+                codecByTypes.put(codecTargetFromReturnType,
+                        defaultCodec(codecTargetFromReturnType, generateCodec(generator, codecTargetFromReturnType)));
             }
         }
 
@@ -103,6 +111,23 @@ public class EventBusCodecProcessor {
                 });
     }
 
+    private static DotName generateCodec(EventBusCodecGenerator generator, Type type) {
+        if (type.kind() != Type.Kind.CLASS) {
+            return null;
+        }
+        String codec = generator.generate(type.name());
+        return codec == null ? null : DotName.createSimple(codec);
+    }
+
+    private static DotName defaultCodec(Type type, DotName generatedCodec) {
+        if (generatedCodec != null) {
+            LOGGER.debugf("Generated Message Codec registered for type %s", type.toString());
+            return generatedCodec;
+        }
+        LOGGER.infof("Local Message Codec registered for type %s", type.toString());
+        return LOCAL_EVENT_BUS_CODEC;
+    }
+
     private static final List<String> BUILT_IN_CODECS = Arrays.asList(
             // Primitive wrapper classes
             Boolean.class.getName(),
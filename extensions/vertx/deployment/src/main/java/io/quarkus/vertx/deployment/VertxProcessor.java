@@ -17,6 +17,9 @@ import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AutoAddScopeBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem.BeanConfiguratorBuildItem;
+import io.quarkus.arc.deployment.ContextRegistrationPhaseBuildItem;
+import io.quarkus.arc.deployment.ContextRegistrationPhaseBuildItem.ContextConfiguratorBuildItem;
+import io.quarkus.arc.deployment.CustomScopeBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem.BeanClassAnnotationExclusion;
 import io.quarkus.arc.processor.AnnotationStore;
@@ -41,7 +44,9 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.vertx.ConsumeEvent;
+import io.quarkus.vertx.PerEventLoop;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
+import io.quarkus.vertx.runtime.PerEventLoopContext;
 import io.quarkus.vertx.runtime.VertxProducer;
 import io.quarkus.vertx.runtime.VertxRecorder;
 
@@ -92,6 +97,17 @@ class VertxProcessor {
         return new VertxBuildItem(recorder.forceStart(vertx.getVertx()));
     }
 
+    @BuildStep
+    ContextConfiguratorBuildItem registerPerEventLoopContext(ContextRegistrationPhaseBuildItem contextRegistrationPhase) {
+        return new ContextConfiguratorBuildItem(contextRegistrationPhase.getContext()
+                .configure(PerEventLoop.class).normal().contextClass(PerEventLoopContext.class));
+    }
+
+    @BuildStep
+    CustomScopeBuildItem registerPerEventLoopScope() {
+        return new CustomScopeBuildItem(PerEventLoop.class);
+    }
+
     @BuildStep
     public UnremovableBeanBuildItem unremovableBeans() {
         return new UnremovableBeanBuildItem(new BeanClassAnnotationExclusion(CONSUME_EVENT));
@@ -0,0 +1,117 @@
+package io.quarkus.vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.eventbus.Message;
+
+public class GeneratedEventBusCodecTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap
+                    .create(JavaArchive.class).addClasses(OrderService.class, Order.class, Customer.class, Status.class));
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testLocalDeliveryPassesTheInstance() {
+        Order order = order();
+        Order received = vertx.eventBus().<Order> request("orders", order)
+                .onItem().transform(Message::body)
+                .await().indefinitely();
+        assertThat(received).isSameAs(order);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWireRoundTrip() throws Exception {
+        MessageCodec<Order, Order> codec = (MessageCodec<Order, Order>) Thread.currentThread().getContextClassLoader()
+                .loadClass(Order.class.getName() + "$QuarkusEventBusCodec").getConstructor().newInstance();
+        Buffer buffer = Buffer.buffer().appendInt(42);
+        codec.encodeToWire(buffer, order());
+
+        // the name is used to look the codec up on the receiving node, it must be deterministic
+        assertThat(codec.name()).isEqualTo(Order.class.getName() + "$QuarkusEventBusCodec");
+
+        Order decoded = codec.decodeFromWire(4, buffer);
+        assertThat(decoded.id).isEqualTo("order-1");
+        assertThat(decoded.quantity).isEqualTo(3);
+        assertThat(decoded.discount).isNull();
+        assertThat(decoded.status).isEqualTo(Status.SHIPPED);
+        assertThat(decoded.payload).containsExactly(1, 2, 3);
+        assertThat(decoded.getTimestamp()).isEqualTo(123456789L);
+        assertThat(decoded.getCustomer().name).isEqualTo("bob");
+        assertThat(decoded.getCustomer().vip).isTrue();
+    }
+
+    private static Order order() {
+        Order order = new Order();
+        order.id = "order-1";
+        order.quantity = 3;
+        order.status = Status.SHIPPED;
+        order.payload = new byte[] { 1, 2, 3 };
+        order.setTimestamp(123456789L);
+        Customer customer = new Customer();
+        customer.name = "bob";
+        customer.vip = true;
+        order.setCustomer(customer);
+        return order;
+    }
+
+    static class OrderService {
+
+        // the generated codec supports the wire delivery, so the consumer does not need to be local
+        @ConsumeEvent(value = "orders", local = false)
+        public Order process(Order order) {
+            return order;
+        }
+    }
+
+    public enum Status {
+        NEW,
+        SHIPPED
+    }
+
+    public static class Customer {
+        public String name;
+        public Boolean vip;
+    }
+
+    public static class Order {
+        public String id;
+        public int quantity;
+        public Integer discount;
+        public Status status;
+        public byte[] payload;
+        private long timestamp;
+        private Customer customer;
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(Customer customer) {
+            this.customer = customer;
+        }
+    }
+}
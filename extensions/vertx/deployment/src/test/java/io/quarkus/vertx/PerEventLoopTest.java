@@ -0,0 +1,90 @@
+package io.quarkus.vertx;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ContextNotActiveException;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+public class PerEventLoopTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Counter.class));
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Counter counter;
+
+    @Test
+    public void testInstancePerEventLoop() throws Exception {
+        Context first = vertx.getOrCreateContext();
+        Context second = vertx.getOrCreateContext();
+        // the contexts are assigned to the event loops in a round-robin fashion
+        Assertions.assertNotSame(((ContextInternal) first).nettyEventLoop(), ((ContextInternal) second).nettyEventLoop());
+
+        Assertions.assertEquals(3, increment(first, 3));
+        Assertions.assertEquals(2, increment(second, 2));
+        Assertions.assertEquals(4, increment(first, 1));
+
+        Assertions.assertEquals(2, PerEventLoopBeans.instances(Counter.class).size());
+        Assertions.assertEquals(6, PerEventLoopBeans.sum(Counter.class, Counter::get));
+        Assertions.assertEquals(4L, PerEventLoopBeans.reduce(Counter.class, 0L, (max, c) -> Math.max(max, c.get())));
+    }
+
+    @Test
+    public void testNotActiveOutsideOfEventLoop() throws Exception {
+        Assertions.assertThrows(ContextNotActiveException.class, counter::get);
+
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(v -> vertx.executeBlocking(promise -> {
+            try {
+                counter.increment();
+                failure.complete(null);
+            } catch (Throwable t) {
+                failure.complete(t);
+            }
+            promise.complete();
+        }, false));
+        Assertions.assertTrue(failure.get(5, TimeUnit.SECONDS) instanceof ContextNotActiveException);
+    }
+
+    private long increment(Context context, int times) throws Exception {
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            for (int i = 0; i < times; i++) {
+                counter.increment();
+            }
+            result.complete(counter.get());
+        });
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    @PerEventLoop
+    public static class Counter {
+
+        private long count;
+
+        void increment() {
+            count++;
+        }
+
+        long get() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.vertx;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.enterprise.context.NormalScope;
+
+/**
+ * Specifies that a bean has one instance per Vert.x event loop.
+ * <p>
+ * The client proxy of the bean delegates to the instance of the current event loop, so the state of an instance is only
+ * accessed by the thread of its event loop, and its state, e.g. hot counters or caches, needs no synchronization. The
+ * context is not active on the other threads, including the worker threads and the main thread during startup, and
+ * using the bean there results in a {@link javax.enterprise.context.ContextNotActiveException}.
+ * <p>
+ * The instances of all the event loops can be aggregated with {@link PerEventLoopBeans}.
+ * 
+ * <pre>
+ * &#64;PerEventLoop
+ * class HitCounter {
+ *
+ *     long hits;
+ *
+ *     void hit() {
+ *         hits++;
+ *     }
+ * }
+ *
+ * long total = PerEventLoopBeans.sum(HitCounter.class, counter -> counter.hits);
+ * </pre>
+ */
+@Documented
+@NormalScope
+@Inherited
+@Target({ TYPE, METHOD, FIELD })
+@Retention(RUNTIME)
+public @interface PerEventLoop {
+
+}
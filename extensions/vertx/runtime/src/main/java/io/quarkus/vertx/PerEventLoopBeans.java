@@ -0,0 +1,69 @@
+package io.quarkus.vertx;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.vertx.runtime.PerEventLoopContext;
+
+/**
+ * Aggregates the instances of a {@link PerEventLoop} bean.
+ * <p>
+ * The instances are read without synchronization from the calling thread, so the aggregated values may not reflect the
+ * latest updates made on the event loops. Only the instances created so far are aggregated.
+ */
+public final class PerEventLoopBeans {
+
+    private PerEventLoopBeans() {
+    }
+
+    /**
+     * @param beanType a type of the bean
+     * @return the instances of the {@link PerEventLoop} beans that have the given type, one per event loop
+     */
+    public static <T> List<T> instances(Class<T> beanType) {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return Collections.emptyList();
+        }
+        List<T> instances = new ArrayList<>();
+        for (InjectableContext context : container.getContexts(PerEventLoop.class)) {
+            if (context instanceof PerEventLoopContext) {
+                ((PerEventLoopContext) context).collectInstances(beanType, instances);
+            }
+        }
+        return instances;
+    }
+
+    /**
+     * @param beanType a type of the bean
+     * @param function the function applied to each instance
+     * @return the sum of the values of the function for the instances of the given type
+     */
+    public static <T> long sum(Class<T> beanType, ToLongFunction<? super T> function) {
+        long sum = 0;
+        for (T instance : instances(beanType)) {
+            sum += function.applyAsLong(instance);
+        }
+        return sum;
+    }
+
+    /**
+     * @param beanType a type of the bean
+     * @param identity the initial value
+     * @param accumulator the function combining the current value with an instance
+     * @return the result of the accumulation of the instances of the given type
+     */
+    public static <T, R> R reduce(Class<T> beanType, R identity, BiFunction<R, ? super T, R> accumulator) {
+        R result = identity;
+        for (T instance : instances(beanType)) {
+            result = accumulator.apply(result, instance);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,191 @@
+package io.quarkus.vertx.runtime;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.quarkus.vertx.LocalEventBusCodec;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Base class of the codecs generated at build time for the {@link io.quarkus.vertx.ConsumeEvent} payload types.
+ * <p>
+ * Like {@link LocalEventBusCodec}, the local delivery passes the instance itself. The wire delivery writes the fields
+ * of the payload in binary form into a Netty buffer which is then appended to the event bus buffer, instead of going
+ * through an intermediate JSON representation.
+ * <p>
+ * The receiving node looks the codec up by its name, so the name must be the same on every node, no matter the order
+ * in which the codecs are registered. The generated codecs are named after the payload class.
+ *
+ * @param <T> the type of object supported by this codec.
+ */
+public abstract class GeneratedEventBusCodec<T> extends LocalEventBusCodec<T> {
+
+    protected GeneratedEventBusCodec(String name) {
+        super(name);
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, T value) {
+        ByteBuf out = Unpooled.buffer();
+        try {
+            encode(out, value);
+            buffer.appendBuffer(Buffer.buffer(out));
+        } finally {
+            out.release();
+        }
+    }
+
+    @Override
+    public T decodeFromWire(int pos, Buffer buffer) {
+        // a duplicate of the underlying buffer, with its own indexes
+        ByteBuf in = buffer.getByteBuf();
+        in.readerIndex(pos);
+        return decode(in);
+    }
+
+    protected abstract void encode(ByteBuf out, T value);
+
+    protected abstract T decode(ByteBuf in);
+
+    // The methods below are used by the generated codecs to write the nullable values
+
+    public static void writeString(ByteBuf out, String value) {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        int lengthIndex = out.writerIndex();
+        out.writeInt(0);
+        int length = out.writeCharSequence(value, StandardCharsets.UTF_8);
+        out.setInt(lengthIndex, length);
+    }
+
+    public static String readString(ByteBuf in) {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = in.toString(in.readerIndex(), length, StandardCharsets.UTF_8);
+        in.skipBytes(length);
+        return value;
+    }
+
+    public static void writeBytes(ByteBuf out, byte[] value) {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(value.length);
+        out.writeBytes(value);
+    }
+
+    public static byte[] readBytes(ByteBuf in) {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        in.readBytes(value);
+        return value;
+    }
+
+    public static void writeEnum(ByteBuf out, Enum<?> value) {
+        writeString(out, value == null ? null : value.name());
+    }
+
+    public static <E extends Enum<E>> E readEnum(ByteBuf in, Class<E> type) {
+        String name = readString(in);
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    public static void writeBoolean(ByteBuf out, Boolean value) {
+        if (writePresence(out, value)) {
+            out.writeBoolean(value);
+        }
+    }
+
+    public static Boolean readBoolean(ByteBuf in) {
+        return in.readBoolean() ? in.readBoolean() : null;
+    }
+
+    public static void writeByte(ByteBuf out, Byte value) {
+        if (writePresence(out, value)) {
+            out.writeByte(value);
+        }
+    }
+
+    public static Byte readByte(ByteBuf in) {
+        return in.readBoolean() ? in.readByte() : null;
+    }
+
+    public static void writeShort(ByteBuf out, Short value) {
+        if (writePresence(out, value)) {
+            out.writeShort(value);
+        }
+    }
+
+    public static Short readShort(ByteBuf in) {
+        return in.readBoolean() ? in.readShort() : null;
+    }
+
+    public static void writeCharacter(ByteBuf out, Character value) {
+        if (writePresence(out, value)) {
+            out.writeChar(value);
+        }
+    }
+
+    public static Character readCharacter(ByteBuf in) {
+        return in.readBoolean() ? in.readChar() : null;
+    }
+
+    public static void writeInteger(ByteBuf out, Integer value) {
+        if (writePresence(out, value)) {
+            out.writeInt(value);
+        }
+    }
+
+    public static Integer readInteger(ByteBuf in) {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    public static void writeLong(ByteBuf out, Long value) {
+        if (writePresence(out, value)) {
+            out.writeLong(value);
+        }
+    }
+
+    public static Long readLong(ByteBuf in) {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    public static void writeFloat(ByteBuf out, Float value) {
+        if (writePresence(out, value)) {
+            out.writeFloat(value);
+        }
+    }
+
+    public static Float readFloat(ByteBuf in) {
+        return in.readBoolean() ? in.readFloat() : null;
+    }
+
+    public static void writeDouble(ByteBuf out, Double value) {
+        if (writePresence(out, value)) {
+            out.writeDouble(value);
+        }
+    }
+
+    public static Double readDouble(ByteBuf in) {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+
+    /**
+     * Writes whether the value is present, used by the generated codecs for the nested payloads.
+     *
+     * @return {@code true} if the value is not {@code null}
+     */
+    public static boolean writePresence(ByteBuf out, Object value) {
+        out.writeBoolean(value != null);
+        return value != null;
+    }
+}
@@ -0,0 +1,176 @@
+package io.quarkus.vertx.runtime;
+
+import java.lang.annotation.Annotation;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ComputingCache;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
+import io.quarkus.vertx.PerEventLoop;
+import io.vertx.core.Context;
+
+/**
+ * The context of the {@link PerEventLoop} beans, which keeps a separate set of instances for each event loop.
+ * <p>
+ * The context is only active on the event loop threads, so that an instance is never accessed by several threads at once.
+ * The worker threads and the threads outside of Vert.x get a {@link javax.enterprise.context.ContextNotActiveException}.
+ */
+public class PerEventLoopContext implements InjectableContext {
+
+    private static final Function<Object, Shard> NEW_SHARD = new Function<Object, Shard>() {
+        @Override
+        public Shard apply(Object key) {
+            return new Shard();
+        }
+    };
+
+    private final ConcurrentMap<Object, Shard> shards = new ConcurrentHashMap<>();
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return PerEventLoop.class;
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        return currentShard().get(contextual, creationalContext);
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual) {
+        Shard shard = shards.get(currentKey());
+        return shard != null ? shard.get(contextual) : null;
+    }
+
+    @Override
+    public boolean isActive() {
+        return Context.isOnEventLoopThread();
+    }
+
+    @Override
+    public ContextState getState() {
+        return currentShard();
+    }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        Shard shard = shards.get(currentKey());
+        if (shard != null) {
+            shard.destroy(contextual);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        for (Shard shard : shards.values()) {
+            shard.destroy();
+        }
+        shards.clear();
+    }
+
+    @Override
+    public void destroy(ContextState state) {
+        if (state instanceof Shard) {
+            ((Shard) state).destroy();
+        } else {
+            throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
+        }
+    }
+
+    /**
+     * Adds the instances of the beans that have the given type, from all the event loops, to the given list.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void collectInstances(Class<T> beanType, List<T> instances) {
+        for (Shard shard : shards.values()) {
+            for (ContextInstanceHandle<?> handle : shard.instances.getPresentValues()) {
+                if (handle.getBean().getTypes().contains(beanType)) {
+                    instances.add((T) handle.get());
+                }
+            }
+        }
+    }
+
+    private Shard currentShard() {
+        Object key = currentKey();
+        Shard shard = shards.get(key);
+        if (shard == null) {
+            shard = shards.computeIfAbsent(key, NEW_SHARD);
+        }
+        return shard;
+    }
+
+    private static Object currentKey() {
+        if (!Context.isOnEventLoopThread()) {
+            throw new ContextNotActiveException(
+                    "@PerEventLoop beans can only be used on an event loop thread, not on " + Thread.currentThread());
+        }
+        // an event loop is backed by a single thread
+        return Thread.currentThread();
+    }
+
+    static final class Shard implements ContextState {
+
+        private final ComputingCache<String, ContextInstanceHandle<?>> instances = new ComputingCache<>();
+
+        @SuppressWarnings("unchecked")
+        <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+            InjectableBean<T> bean = (InjectableBean<T>) contextual;
+            return (T) instances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
+                @Override
+                public ContextInstanceHandle<?> get() {
+                    return new ContextInstanceHandleImpl<>(bean, bean.create(creationalContext), creationalContext);
+                }
+            }).get();
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T get(Contextual<T> contextual) {
+            ContextInstanceHandle<?> handle = instances.getValueIfPresent(((InjectableBean<T>) contextual).getIdentifier());
+            return handle != null ? (T) handle.get() : null;
+        }
+
+        void destroy(Contextual<?> contextual) {
+            ContextInstanceHandle<?> handle = instances.remove(((InjectableBean<?>) contextual).getIdentifier());
+            if (handle != null) {
+                handle.destroy();
+            }
+        }
+
+        synchronized void destroy() {
+            Set<ContextInstanceHandle<?>> values = instances.getPresentValues();
+            // Destroy the producers first
+            for (Iterator<ContextInstanceHandle<?>> iterator = values.iterator(); iterator.hasNext();) {
+                ContextInstanceHandle<?> instanceHandle = iterator.next();
+                if (instanceHandle.getBean().getDeclaringBean() != null) {
+                    instanceHandle.destroy();
+                    iterator.remove();
+                }
+            }
+            for (ContextInstanceHandle<?> instanceHandle : values) {
+                instanceHandle.destroy();
+            }
+            instances.clear();
+        }
+
+        @Override
+        public Map<InjectableBean<?>, Object> getContextualInstances() {
+            return instances.getPresentValues().stream()
+                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+        }
+    }
+}
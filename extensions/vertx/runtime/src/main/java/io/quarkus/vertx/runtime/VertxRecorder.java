@@ -10,12 +10,16 @@ import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ProfileManager;
 import io.quarkus.vertx.ConsumeEvent;
+import io.quarkus.vertx.PerEventLoop;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -46,6 +50,7 @@ public class VertxRecorder {
                 @Override
                 public void run() {
                     unregisterMessageConsumers();
+                    destroyPerEventLoopBeans();
                 }
             });
         } else {
@@ -64,6 +69,17 @@ public class VertxRecorder {
 
     void destroy() {
         messageConsumers = null;
+        destroyPerEventLoopBeans();
+    }
+
+    void destroyPerEventLoopBeans() {
+        // the custom contexts are not destroyed when the container is shut down
+        ArcContainer container = Arc.container();
+        if (container != null) {
+            for (InjectableContext context : container.getContexts(PerEventLoop.class)) {
+                context.destroy();
+            }
+        }
     }
 
     void registerMessageConsumers(Map<String, ConsumeEvent> messageConsumerConfigurations) {
@@ -107,6 +107,8 @@ public class BeanDeployment {
 
     private final boolean jtaCapabilities;
 
+    private final boolean indexRequestScopedBeans;
+
     private final AlternativePriorities alternativePriorities;
 
     private final List<Predicate<ClassInfo>> excludeTypes;
@@ -188,6 +190,7 @@ public class BeanDeployment {
         this.interceptorResolver = new InterceptorResolver(this);
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
         this.jtaCapabilities = builder.jtaCapabilities;
+        this.indexRequestScopedBeans = builder.indexRequestScopedBeans;
         this.alternativePriorities = builder.alternativePriorities;
     }
 
@@ -346,6 +349,17 @@ public class BeanDeployment {
 
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
 
+        if (indexRequestScopedBeans) {
+            // Unused beans are already removed so that the indexes are dense
+            int index = 0;
+            for (BeanInfo bean : beans) {
+                if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                    bean.setRequestContextIndex(index++);
+                }
+            }
+            LOGGER.debugf("Assigned request context indexes to %s beans", index);
+        }
+
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
@@ -244,6 +244,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         implementGetKind(beanCreator, InjectableBean.Kind.SYNTHETIC);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
@@ -336,6 +339,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
 
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
@@ -438,6 +444,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         implementGetKind(beanCreator, InjectableBean.Kind.PRODUCER_METHOD);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
@@ -526,6 +535,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() >= 0) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         implementGetKind(beanCreator, InjectableBean.Kind.PRODUCER_FIELD);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
@@ -1740,6 +1752,13 @@ public class BeanGenerator extends AbstractGenerator {
                 .returnValue(isDefaultBean.load(bean.isDefaultBean()));
     }
 
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getRequestContextIndex
+                .returnValue(getRequestContextIndex.load(bean.getRequestContextIndex()));
+    }
+
     protected void implementGetStereotypes(BeanInfo bean, ClassCreator beanCreator, FieldDescriptor stereotypesField) {
         MethodCreator getStereotypes = beanCreator.getMethodCreator("getStereotypes", Set.class).setModifiers(ACC_PUBLIC);
         getStereotypes.returnValue(getStereotypes.readInstanceField(stereotypesField, getStereotypes.getThis()));
@@ -85,6 +85,8 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final boolean forceApplicationClass;
 
+    private int requestContextIndex = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers,
             List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer, Integer alternativePriority,
@@ -416,6 +418,18 @@ public class BeanInfo implements InjectionTargetInfo {
         return defaultBean;
     }
 
+    /**
+     * @return the index of the bean in the request context storage, or {@code -1} if the bean is not indexed
+     * @see BeanProcessor.Builder#setIndexRequestScopedBeans(boolean)
+     */
+    public int getRequestContextIndex() {
+        return requestContextIndex;
+    }
+
+    void setRequestContextIndex(int requestContextIndex) {
+        this.requestContextIndex = requestContextIndex;
+    }
+
     /**
      * @param requiredType
      * @param requiredQualifiers
@@ -288,6 +288,7 @@ public class BeanProcessor {
         boolean jtaCapabilities;
         boolean transformUnproxyableClasses;
         boolean allowMocking;
+        boolean indexRequestScopedBeans;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -318,6 +319,7 @@ public class BeanProcessor {
             jtaCapabilities = false;
             transformUnproxyableClasses = false;
             allowMocking = false;
+            indexRequestScopedBeans = false;
 
             excludeTypes = new ArrayList<>();
 
@@ -491,6 +493,18 @@ public class BeanProcessor {
             return this;
         }
 
+        /**
+         * If set to true then each {@link javax.enterprise.context.RequestScoped} bean is assigned a dense index so that the
+         * request context can store the contextual instances in an array instead of a map.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setIndexRequestScopedBeans(boolean value) {
+            this.indexRequestScopedBeans = value;
+            return this;
+        }
+
         /**
          * If set to true the will generate source files of all generated classes for debug purposes. The generated source is
          * not actually a source file but a textual representation of generated code.
@@ -114,6 +114,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned at build time to {@link javax.enterprise.context.RequestScoped} beans if the request context
+     * storage is indexed.
+     *
+     * @return the index of the bean in the request context storage, or {@code -1} if the bean is not indexed
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
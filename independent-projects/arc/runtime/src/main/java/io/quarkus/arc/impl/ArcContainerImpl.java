@@ -19,6 +19,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -100,16 +101,20 @@ public class ArcContainerImpl implements ArcContainer {
         transitiveInterceptorBindings = new HashMap<>();
         qualifierNonbindingMembers = new HashMap<>();
 
+        List<Components> allComponents = new ArrayList<>();
+        for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
+            allComponents.add(componentsProvider.getComponents());
+        }
+
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
+        requestContext = new RequestContext(getRequestContextIndexedBeans(allComponents));
         contexts = new HashMap<>();
         putContext(requestContext);
         putContext(applicationContext);
         putContext(singletonContext);
 
-        for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
-            Components components = componentsProvider.getComponents();
+        for (Components components : allComponents) {
             for (InjectableBean<?> bean : components.getBeans()) {
                 if (bean instanceof InjectableInterceptor) {
                     interceptors.add((InjectableInterceptor<?>) bean);
@@ -150,6 +155,28 @@ public class ArcContainerImpl implements ArcContainer {
         instance = InstanceImpl.of(Object.class, Collections.emptySet());
     }
 
+    /**
+     * @return the number of beans with a request context index, or {@code 0} if the indexes cannot be used
+     */
+    private static int getRequestContextIndexedBeans(List<Components> allComponents) {
+        BitSet indexes = new BitSet();
+        for (Components components : allComponents) {
+            for (InjectableBean<?> bean : components.getBeans()) {
+                int index = bean.getRequestContextIndex();
+                if (index >= 0) {
+                    if (indexes.get(index)) {
+                        // The indexes were assigned by multiple bean deployments - fall back to the map storage
+                        LOGGER.debugf("Duplicate request context index %s found for %s - indexes are not used", index,
+                                bean);
+                        return 0;
+                    }
+                    indexes.set(index);
+                }
+            }
+        }
+        return indexes.length();
+    }
+
     private void putContext(InjectableContext context) {
         Collection<InjectableContext> values = contexts.get(context.getScope());
         if (values == null) {
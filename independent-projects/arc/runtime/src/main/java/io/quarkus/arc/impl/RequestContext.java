@@ -6,13 +6,15 @@ import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -25,21 +27,33 @@ import org.jboss.logging.Logger;
 
 /**
  * The built-in context for {@link RequestScoped}.
+ * <p>
+ * If the beans were assigned request context indexes at build time then the contextual instances of these beans are stored
+ * in an array. A map is only used for beans without an index.
  *
  * @author Martin Kouba
+ * @see InjectableBean#getRequestContextIndex()
  */
 class RequestContext implements ManagedContext {
 
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
+    // The number of indexed beans, i.e. the size of the array allocated for each request
+    private final int indexedBeans;
+
     public RequestContext() {
+        this(0);
+    }
+
+    public RequestContext(int indexedBeans) {
+        this.indexedBeans = indexedBeans;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,7 +69,7 @@ class RequestContext implements ManagedContext {
     public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
         Objects.requireNonNull(creationalContextFun, "CreationalContext supplier must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             return null;
@@ -86,7 +100,7 @@ class RequestContext implements ManagedContext {
     @Override
     public <T> T get(Contextual<T> contextual) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -102,7 +116,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -116,12 +130,12 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new RequestContextState(indexedBeans));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid initial state: " + initialState.getClass().getName());
             }
@@ -130,12 +144,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        return ctx;
     }
 
     @Override
@@ -151,13 +165,13 @@ class RequestContext implements ManagedContext {
     @Override
     public void destroy(ContextState state) {
         if (state instanceof RequestContextState) {
-            destroy(((RequestContextState) state).value);
+            destroy((RequestContextState) state);
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
+    private void destroy(RequestContextState currentContext) {
         if (currentContext != null) {
             synchronized (currentContext) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -166,7 +180,6 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                //Performance: avoid an iterator on the map elements
                 currentContext.forEach(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 try {
@@ -179,7 +192,7 @@ class RequestContext implements ManagedContext {
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -214,16 +227,103 @@ class RequestContext implements ManagedContext {
 
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        // Instances of indexed beans, null if no bean is indexed
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> indexed;
+        // Instances of beans without an index, lazily initialized if there are indexed beans
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+
+        RequestContextState(int indexedBeans) {
+            if (indexedBeans > 0) {
+                this.indexed = new AtomicReferenceArray<>(indexedBeans);
+            } else {
+                this.indexed = null;
+                this.value = new ConcurrentHashMap<>();
+            }
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                return indexed.get(index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                indexed.set(index, instance);
+            } else {
+                getOrCreateMap().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                return indexed.getAndSet(index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            return map != null ? map.remove(contextual) : null;
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        void forEach(Consumer<ContextInstanceHandle<?>> action) {
+            if (indexed != null) {
+                for (int i = 0; i < indexed.length(); i++) {
+                    ContextInstanceHandle<?> instance = indexed.get(i);
+                    if (instance != null) {
+                        action.accept(instance);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            if (map != null) {
+                //Performance: avoid an iterator on the map elements
+                map.forEach((contextual, instance) -> action.accept(instance));
+            }
+        }
+
+        void clear() {
+            if (indexed != null) {
+                for (int i = 0; i < indexed.length(); i++) {
+                    indexed.set(i, null);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            if (map != null) {
+                map.clear();
+            }
+        }
+
+        private int indexOf(Contextual<?> contextual) {
+            if (indexed != null && contextual instanceof InjectableBean) {
+                int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+                if (index < indexed.length()) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> getOrCreateMap() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            if (map == null) {
+                synchronized (this) {
+                    map = value;
+                    if (map == null) {
+                        value = map = new ConcurrentHashMap<>();
+                    }
+                }
+            }
+            return map;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            forEach(instance -> instances.put(instance.getBean(), instance.get()));
+            return instances;
         }
 
     }
@@ -82,6 +82,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         private boolean removeUnusedBeans = false;
         private final List<Predicate<BeanInfo>> exclusions;
         private AlternativePriorities alternativePriorities;
+        private boolean indexRequestScopedBeans = false;
 
         public Builder() {
             resourceReferenceProviders = new ArrayList<>();
@@ -186,6 +187,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder indexRequestScopedBeans(boolean value) {
+            this.indexRequestScopedBeans = value;
+            return this;
+        }
+
         public ArcTestContainer build() {
             return new ArcTestContainer(this);
         }
@@ -217,6 +223,8 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
 
     private final AlternativePriorities alternativePriorities;
 
+    private final boolean indexRequestScopedBeans;
+
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
         this.beanClasses = Arrays.asList(beanClasses);
@@ -236,6 +244,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.removeUnusedBeans = false;
         this.exclusions = Collections.emptyList();
         this.alternativePriorities = null;
+        this.indexRequestScopedBeans = false;
     }
 
     public ArcTestContainer(Builder builder) {
@@ -257,6 +266,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.removeUnusedBeans = builder.removeUnusedBeans;
         this.exclusions = builder.exclusions;
         this.alternativePriorities = builder.alternativePriorities;
+        this.indexRequestScopedBeans = builder.indexRequestScopedBeans;
     }
 
     // this is where we start Arc, we operate on a per-method basis
@@ -402,6 +412,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
                 builder.addRemovalExclusion(exclusion);
             }
             builder.setAlternativePriorities(alternativePriorities);
+            builder.setIndexRequestScopedBeans(indexRequestScopedBeans);
 
             BeanProcessor beanProcessor = builder.build();
 
@@ -0,0 +1,118 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.RequestScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class IndexedRequestContextTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(IndexedController.class, IndexedService.class, DependentButton.class)
+            .indexRequestScopedBeans(true).build();
+
+    @Test
+    public void testIndexesAssigned() {
+        ArcContainer arc = Arc.container();
+        int controllerIndex = arc.instance(IndexedController.class).getBean().getRequestContextIndex();
+        int serviceIndex = arc.instance(IndexedService.class).getBean().getRequestContextIndex();
+        assertTrue(controllerIndex >= 0);
+        assertTrue(serviceIndex >= 0);
+        assertNotEquals(controllerIndex, serviceIndex);
+        // Only @RequestScoped beans are indexed
+        assertEquals(-1, arc.instance(DependentButton.class).getBean().getRequestContextIndex());
+    }
+
+    @Test
+    public void testPropagationAcrossThreads() throws InterruptedException, ExecutionException {
+        IndexedController.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        requestContext.activate();
+        String controllerId = arc.instance(IndexedController.class).get().getId();
+        ContextState state = requestContext.getState();
+        requestContext.deactivate();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String serviceId = CompletableFuture.supplyAsync(() -> {
+                requestContext.activate(state);
+                try {
+                    assertEquals(controllerId, arc.instance(IndexedController.class).get().getId());
+                    // Created on a different thread but stored in the propagated state
+                    return arc.instance(IndexedService.class).get().getId();
+                } finally {
+                    requestContext.deactivate();
+                }
+            }, executor).get();
+
+            requestContext.activate(state);
+            assertEquals(serviceId, arc.instance(IndexedService.class).get().getId());
+            assertEquals(2, state.getContextualInstances().size());
+            assertFalse(IndexedController.DESTROYED.get());
+            requestContext.terminate();
+            assertTrue(IndexedController.DESTROYED.get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // A new request gets new instances
+        requestContext.activate();
+        assertNotEquals(controllerId, arc.instance(IndexedController.class).get().getId());
+        requestContext.terminate();
+    }
+
+    @RequestScoped
+    static class IndexedController {
+
+        static final AtomicBoolean DESTROYED = new AtomicBoolean();
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.set(true);
+        }
+
+    }
+
+    @RequestScoped
+    static class IndexedService {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+    @Dependent
+    static class DependentButton {
+
+    }
+
+}
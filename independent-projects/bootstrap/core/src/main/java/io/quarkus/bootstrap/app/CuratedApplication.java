@@ -2,6 +2,7 @@ package io.quarkus.bootstrap.app;
 
 import io.quarkus.bootstrap.BootstrapConstants;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
+import io.quarkus.bootstrap.classloading.JarIndexCache;
 import io.quarkus.bootstrap.classloading.MemoryClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.bootstrap.model.AppArtifact;
@@ -330,5 +331,6 @@ public class CuratedApplication implements Serializable, AutoCloseable {
         if (baseRuntimeClassLoader != null) {
             baseRuntimeClassLoader.close();
         }
+        JarIndexCache.pruneIndexFiles();
     }
 }
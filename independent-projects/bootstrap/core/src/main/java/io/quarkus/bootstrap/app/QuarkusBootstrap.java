@@ -3,6 +3,7 @@ package io.quarkus.bootstrap.app;
 import io.quarkus.bootstrap.BootstrapAppModelFactory;
 import io.quarkus.bootstrap.BootstrapException;
 import io.quarkus.bootstrap.classloading.ClassLoaderEventListener;
+import io.quarkus.bootstrap.classloading.JarIndexCache;
 import io.quarkus.bootstrap.model.AppArtifact;
 import io.quarkus.bootstrap.model.AppArtifactKey;
 import io.quarkus.bootstrap.model.AppDependency;
@@ -130,6 +131,11 @@ public class QuarkusBootstrap implements Serializable {
         //all we want to do is resolve all our dependencies
         //once we have this it is up to augment to set up the class loader to actually use them
 
+        if ((mode == Mode.DEV || mode == Mode.TEST || test) && !disableClasspathCache && targetDirectory != null) {
+            //the jar indexes are shared by all the class loaders, including the ones created by dev mode restarts
+            JarIndexCache.setCacheDirectory(targetDirectory.resolve("quarkus").resolve("bootstrap").resolve("jar-index"));
+        }
+
         if (existingModel != null) {
             return new CuratedApplication(this, new CurationResult(existingModel), classLoadingConfig);
         }
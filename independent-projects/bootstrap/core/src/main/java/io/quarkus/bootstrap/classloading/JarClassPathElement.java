@@ -24,6 +24,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -167,6 +168,15 @@ public class JarClassPathElement implements ClassPathElement {
 
     @Override
     public synchronized Set<String> getProvidedResources() {
+        return JarIndexCache.getProvidedResources(root, new Supplier<Set<String>>() {
+            @Override
+            public Set<String> get() {
+                return scanProvidedResources();
+            }
+        });
+    }
+
+    private Set<String> scanProvidedResources() {
         return withJarFile((new Function<JarFile, Set<String>>() {
             @Override
             public Set<String> apply(JarFile jarFile) {
@@ -0,0 +1,229 @@
+package io.quarkus.bootstrap.classloading;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.jboss.logging.Logger;
+
+/**
+ * A cache of the resources provided by jar files, used in dev and test mode to avoid scanning every jar each time a
+ * {@link QuarkusClassLoader} is created.
+ * <p>
+ * Each jar is identified by a fingerprint made of its path, size and last modified time. The indexes are kept in memory so
+ * that they are shared by all the class loaders of the JVM, e.g. across dev mode restarts and test applications, and are
+ * persisted in the cache directory so that they can be loaded by the next JVM instead of scanning the jars again. A jar is
+ * only scanned again if its fingerprint changes. At most {@value #MAX_INDEXES} indexes are kept in memory, the least
+ * recently used ones are dropped first.
+ * <p>
+ * The index files that were not used since the cache directory was set, e.g. the ones of a jar that has since changed or
+ * was removed from the class path, are deleted by {@link #pruneIndexFiles()}.
+ * <p>
+ * The cache is disabled until a cache directory is set.
+ */
+public final class JarIndexCache {
+
+    private static final Logger log = Logger.getLogger(JarIndexCache.class);
+
+    private static final int FORMAT_ID = 1;
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int MAX_INDEXES = 2048;
+
+    private static final Map<String, Set<String>> indexes = Collections
+            .synchronizedMap(new LinkedHashMap<String, Set<String>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+                    return size() > MAX_INDEXES;
+                }
+            });
+    private static final Set<Path> usedIndexFiles = ConcurrentHashMap.newKeySet();
+    private static volatile Path cacheDirectory;
+    private static volatile long cacheDirectorySetAt;
+
+    private JarIndexCache() {
+    }
+
+    /**
+     * Enables the cache.
+     *
+     * @param directory the directory in which the indexes are persisted, or {@code null} to disable the cache
+     */
+    public static void setCacheDirectory(Path directory) {
+        if (directory == null) {
+            cacheDirectory = null;
+            indexes.clear();
+            usedIndexFiles.clear();
+        } else if (!directory.equals(cacheDirectory)) {
+            usedIndexFiles.clear();
+            cacheDirectorySetAt = System.currentTimeMillis();
+            cacheDirectory = directory;
+        }
+    }
+
+    /**
+     * Deletes the index files that were not used since the cache directory was set. The index files written by other JVMs
+     * after this time are kept, as they may still be in use.
+     */
+    public static void pruneIndexFiles() {
+        Path directory = cacheDirectory;
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        long setAt = cacheDirectorySetAt;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + INDEX_SUFFIX)) {
+            for (Path file : files) {
+                if (usedIndexFiles.contains(file)) {
+                    continue;
+                }
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < setAt) {
+                        Files.delete(file);
+                    }
+                } catch (IOException e) {
+                    // e.g. the index file is mapped by another JVM on Windows
+                    log.debugf(e, "Failed to delete the jar index %s", file);
+                }
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Failed to prune the jar indexes in %s", directory);
+        }
+    }
+
+    /**
+     *
+     * @param jar the jar file
+     * @param scanner scans the jar if its index is not cached
+     * @return the resources provided by the jar, the set must not be modified
+     */
+    static Set<String> getProvidedResources(Path jar, Supplier<Set<String>> scanner) {
+        Path directory = cacheDirectory;
+        if (directory == null) {
+            return scanner.get();
+        }
+        String fingerprint;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+            // The resources of multi release jars depend on the Java version
+            fingerprint = jar.toAbsolutePath() + "|" + attributes.size() + "|" + attributes.lastModifiedTime().toMillis()
+                    + "|" + JarClassPathElement.JAVA_VERSION;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to compute the fingerprint of %s", jar);
+            return scanner.get();
+        }
+        Path indexFile = directory
+                .resolve(jar.getFileName() + "-" + Integer.toHexString(fingerprint.hashCode()) + INDEX_SUFFIX);
+        Set<String> resources = indexes.get(fingerprint);
+        if (resources != null) {
+            // The index must not be pruned, and it may not be persisted yet, e.g. if the cache directory has changed
+            if (usedIndexFiles.add(indexFile) && !Files.exists(indexFile)) {
+                write(indexFile, fingerprint, resources);
+            }
+            return resources;
+        }
+        resources = read(indexFile, fingerprint);
+        if (resources == null) {
+            resources = Collections.unmodifiableSet(scanner.get());
+            write(indexFile, fingerprint, resources);
+        }
+        usedIndexFiles.add(indexFile);
+        Set<String> existing = indexes.putIfAbsent(fingerprint, resources);
+        return existing != null ? existing : resources;
+    }
+
+    private static Set<String> read(Path indexFile, String fingerprint) {
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != FORMAT_ID) {
+                log.debugf("Unsupported jar index format in %s", indexFile);
+                return null;
+            }
+            byte[] bytes = new byte[256];
+            int length = buffer.getInt();
+            bytes = ensureCapacity(bytes, length, buffer.remaining());
+            buffer.get(bytes, 0, length);
+            if (!fingerprint.equals(new String(bytes, 0, length, StandardCharsets.UTF_8))) {
+                // Another jar with the same file name and fingerprint hash code
+                return null;
+            }
+            int count = buffer.getInt();
+            // Each resource takes at least 4 bytes
+            if (count < 0 || count > buffer.remaining() / 4) {
+                throw new IllegalArgumentException("Invalid resource count " + count);
+            }
+            Set<String> resources = new HashSet<>((int) (count / 0.75f) + 1);
+            for (int i = 0; i < count; i++) {
+                length = buffer.getInt();
+                bytes = ensureCapacity(bytes, length, buffer.remaining());
+                buffer.get(bytes, 0, length);
+                resources.add(new String(bytes, 0, length, StandardCharsets.UTF_8));
+            }
+            return Collections.unmodifiableSet(resources);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            log.debugf(e, "Failed to read the jar index %s", indexFile);
+            return null;
+        }
+    }
+
+    private static void write(Path indexFile, String fingerprint, Set<String> resources) {
+        try {
+            Files.createDirectories(indexFile.getParent());
+            // Write a temporary file first so that other JVMs never read a partial index
+            Path tmp = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream os = Files.newOutputStream(tmp);
+                        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                    out.writeInt(FORMAT_ID);
+                    writeString(out, fingerprint);
+                    out.writeInt(resources.size());
+                    for (String resource : resources) {
+                        writeString(out, resource);
+                    }
+                }
+                try {
+                    Files.move(tmp, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // e.g. the index file is mapped by another JVM on Windows
+            log.debugf(e, "Failed to write the jar index %s", indexFile);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] ensureCapacity(byte[] bytes, int length, int remaining) {
+        if (length < 0 || length > remaining) {
+            throw new IllegalArgumentException("Invalid length " + length);
+        }
+        return bytes.length >= length ? bytes : new byte[Math.max(length, bytes.length * 2)];
+    }
+}
@@ -0,0 +1,169 @@
+package io.quarkus.bootstrap.classloader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.bootstrap.classloading.JarClassPathElement;
+import io.quarkus.bootstrap.classloading.JarIndexCache;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JarIndexCacheTestCase {
+
+    @TempDir
+    Path tempDirectory;
+
+    Path jarPath;
+    Path cacheDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jarPath = tempDirectory.resolve("test.jar");
+        cacheDirectory = tempDirectory.resolve("jar-index");
+        createJar("org/acme/Foo.class");
+        JarIndexCache.setCacheDirectory(cacheDirectory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        JarIndexCache.setCacheDirectory(null);
+    }
+
+    @Test
+    public void shouldPersistIndex() throws IOException {
+        Set<String> resources = providedResources();
+        assertTrue(resources.contains("org/acme/Foo.class"));
+        assertTrue(resources.contains("org/acme"));
+        assertEquals(1, indexFiles().size());
+
+        // clears the in-memory indexes, the persisted index is loaded
+        JarIndexCache.setCacheDirectory(null);
+        JarIndexCache.setCacheDirectory(cacheDirectory);
+        assertEquals(resources, providedResources());
+        assertEquals(1, indexFiles().size());
+    }
+
+    @Test
+    public void shouldRescanModifiedJar() throws IOException {
+        assertTrue(providedResources().contains("org/acme/Foo.class"));
+
+        createJar("org/acme/Bar.class");
+        Files.setLastModifiedTime(jarPath,
+                FileTime.fromMillis(Files.getLastModifiedTime(jarPath).toMillis() + 10000));
+        Set<String> resources = providedResources();
+        assertTrue(resources.contains("org/acme/Bar.class"));
+        assertFalse(resources.contains("org/acme/Foo.class"));
+        assertEquals(2, indexFiles().size());
+    }
+
+    @Test
+    public void shouldNotReusePersistedIndexOfModifiedJar() throws IOException {
+        assertTrue(providedResources().contains("org/acme/Foo.class"));
+        Path oldIndex = indexFiles().iterator().next();
+
+        // a new build, after the jar has changed
+        JarIndexCache.setCacheDirectory(null);
+        createJar("org/acme/Bar.class");
+        Files.setLastModifiedTime(jarPath,
+                FileTime.fromMillis(Files.getLastModifiedTime(jarPath).toMillis() + 10000));
+        Files.setLastModifiedTime(oldIndex, FileTime.fromMillis(System.currentTimeMillis() - 10000));
+        JarIndexCache.setCacheDirectory(cacheDirectory);
+        Set<String> resources = providedResources();
+        assertTrue(resources.contains("org/acme/Bar.class"));
+        assertFalse(resources.contains("org/acme/Foo.class"));
+        assertEquals(2, indexFiles().size());
+
+        // the index of the previous version of the jar was not used by this build
+        JarIndexCache.pruneIndexFiles();
+        Set<Path> indexFiles = indexFiles();
+        assertEquals(1, indexFiles.size());
+        assertFalse(indexFiles.contains(oldIndex));
+
+        // the remaining index is reused by the next build
+        JarIndexCache.setCacheDirectory(null);
+        JarIndexCache.setCacheDirectory(cacheDirectory);
+        assertEquals(resources, providedResources());
+        JarIndexCache.pruneIndexFiles();
+        assertEquals(indexFiles, indexFiles());
+    }
+
+    @Test
+    public void shouldKeepIndexLoadedFromMemory() throws IOException {
+        Set<String> resources = providedResources();
+        Path index = indexFiles().iterator().next();
+
+        // a second build in the same JVM, the index is loaded from memory
+        Files.setLastModifiedTime(index, FileTime.fromMillis(System.currentTimeMillis() - 10000));
+        JarIndexCache.setCacheDirectory(tempDirectory.resolve("other"));
+        JarIndexCache.setCacheDirectory(cacheDirectory);
+        assertEquals(resources, providedResources());
+        JarIndexCache.pruneIndexFiles();
+        assertEquals(Collections.singleton(index), indexFiles());
+    }
+
+    @Test
+    public void shouldPersistIndexLoadedFromMemoryInNewCacheDirectory() throws IOException {
+        Set<String> resources = providedResources();
+
+        // the index is loaded from memory and persisted in the new cache directory
+        cacheDirectory = tempDirectory.resolve("other");
+        JarIndexCache.setCacheDirectory(cacheDirectory);
+        assertEquals(resources, providedResources());
+        assertEquals(1, indexFiles().size());
+
+        JarIndexCache.setCacheDirectory(null);
+        JarIndexCache.setCacheDirectory(cacheDirectory);
+        assertEquals(resources, providedResources());
+    }
+
+    @Test
+    public void shouldKeepIndexesWrittenAfterCacheDirectoryWasSet() throws IOException {
+        Path otherIndex = cacheDirectory.resolve("other.jar-1234.idx");
+        Files.createDirectories(cacheDirectory);
+        // e.g. written by another JVM sharing the same target directory
+        Files.write(otherIndex, new byte[] { 0 });
+        Files.setLastModifiedTime(otherIndex, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+        providedResources();
+        JarIndexCache.pruneIndexFiles();
+        assertEquals(2, indexFiles().size());
+        assertTrue(indexFiles().contains(otherIndex));
+    }
+
+    private Set<String> providedResources() throws IOException {
+        try (JarClassPathElement element = new JarClassPathElement(jarPath)) {
+            return new HashSet<>(element.getProvidedResources());
+        }
+    }
+
+    private Set<Path> indexFiles() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.collect(Collectors.toSet());
+        }
+    }
+
+    private void createJar(String resource) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jarPath);
+                JarOutputStream jos = new JarOutputStream(out)) {
+            jos.putNextEntry(new JarEntry("org/acme/"));
+            jos.closeEntry();
+            jos.putNextEntry(new JarEntry(resource));
+            jos.write("test".getBytes());
+            jos.closeEntry();
+        }
+    }
+}
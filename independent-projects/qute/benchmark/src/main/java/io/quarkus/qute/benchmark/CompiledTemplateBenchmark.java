@@ -0,0 +1,172 @@
+package io.quarkus.qute.benchmark;
+
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.Results.Result;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the rendering of a checked template by the interpreter and by a compiled template.
+ * <p>
+ * The value resolver and the compiled template mirror the classes generated by the Quarkus extension. Build with
+ * {@code mvn package -Dbenchmarks} and run with {@code java -jar benchmark/target/benchmarks.jar}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledTemplateBenchmark {
+
+    static final String TEMPLATE = "<h1>{item.name}</h1>\n"
+            + "<p>Price: {item.price}</p>\n"
+            + "<p>Owner: {item.owner.name}</p>\n"
+            + "<p>Active: {item.active}</p>\n";
+
+    private Template interpreted;
+    private Template compiled;
+    private Item item;
+
+    @Setup
+    public void setup() {
+        interpreted = newEngine().build().parse(TEMPLATE, null, "item");
+        compiled = newEngine().addCompiledTemplate("item", new ItemCompiledTemplate()).build().parse(TEMPLATE, null,
+                "item");
+        item = new Item("Alpha", new BigDecimal("10.5"), new Owner("Lu"), true);
+        String expected = interpreted.data("item", item).render();
+        if (!expected.equals(compiled.data("item", item).render())) {
+            throw new IllegalStateException("Different output");
+        }
+    }
+
+    @Benchmark
+    public String interpreter() {
+        return interpreted.data("item", item).render();
+    }
+
+    @Benchmark
+    public String compiled() {
+        return compiled.data("item", item).render();
+    }
+
+    private static EngineBuilder newEngine() {
+        return Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).resolveSync(ctx -> {
+                    Item item = (Item) ctx.getBase();
+                    switch (ctx.getName()) {
+                        case "name":
+                            return item.getName();
+                        case "price":
+                            return item.getPrice();
+                        case "owner":
+                            return item.getOwner();
+                        case "active":
+                            return item.isActive();
+                        default:
+                            return Result.NOT_FOUND;
+                    }
+                }).build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Owner.class).applyToName("name")
+                        .resolveSync(ctx -> ((Owner) ctx.getBase()).getName()).build());
+    }
+
+    static class ItemCompiledTemplate implements CompiledTemplate {
+
+        private final List<String> expressions = Arrays.asList("item.name", "item.price", "item.owner.name", "item.active");
+
+        @Override
+        public List<String> getExpressions() {
+            return expressions;
+        }
+
+        @Override
+        public Object evaluate(int index, Map<String, Object> data) {
+            Object item = data.get("item");
+            if (!(item instanceof Item)) {
+                return Result.NOT_FOUND;
+            }
+            switch (index) {
+                case 0:
+                    return ((Item) item).getName();
+                case 1:
+                    return ((Item) item).getPrice();
+                case 2:
+                    Object owner = ((Item) item).getOwner();
+                    if (!(owner instanceof Owner)) {
+                        return Result.NOT_FOUND;
+                    }
+                    return ((Owner) owner).getName();
+                case 3:
+                    return Boolean.valueOf(((Item) item).isActive());
+                default:
+                    return Result.NOT_FOUND;
+            }
+        }
+
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final BigDecimal price;
+        private final Owner owner;
+        private final boolean active;
+
+        public Item(String name, BigDecimal price, Owner owner, boolean active) {
+            this.name = name;
+            this.price = price;
+            this.owner = owner;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public Owner getOwner() {
+            return owner;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+    }
+
+    public static class Owner {
+
+        private final String name;
+
+        public Owner(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
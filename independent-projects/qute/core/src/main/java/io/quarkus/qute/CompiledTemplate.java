@@ -0,0 +1,35 @@
+package io.quarkus.qute;
+
+import io.quarkus.qute.Results.Result;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled template evaluates the expressions of a template synchronously, typically by means of direct field access and
+ * method invocations generated at build time.
+ * <p>
+ * A template makes use of a compiled template only if it consists of text and expressions and all the expressions are
+ * supported by the compiled template. The template data must be set via {@link TemplateInstance#data(String, Object)}. If
+ * an expression cannot be evaluated synchronously, i.e. {@link Result#NOT_FOUND} is returned or the value is asynchronous,
+ * then the template is rendered by the regular asynchronous resolution.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the original string representation of the expressions supported by this compiled template
+     * @see Expression#toOriginalString()
+     */
+    List<String> getExpressions();
+
+    /**
+     *
+     * @param index The index of the expression in the list returned by {@link #getExpressions()}
+     * @param data The template data
+     * @return the value or {@link Result#NOT_FOUND} if it's not possible to evaluate the expression synchronously
+     */
+    Object evaluate(int index, Map<String, Object> data);
+
+}
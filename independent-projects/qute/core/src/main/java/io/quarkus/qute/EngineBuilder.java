@@ -20,6 +20,7 @@ public final class EngineBuilder {
     final List<ResultMapper> resultMappers;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
+    final Map<String, CompiledTemplate> compiledTemplates;
     boolean removeStandaloneLines;
 
     EngineBuilder() {
@@ -29,6 +30,7 @@ public final class EngineBuilder {
         this.locators = new ArrayList<>();
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
     }
 
     public EngineBuilder addSectionHelper(SectionHelperFactory<?> factory) {
@@ -131,6 +133,20 @@ public final class EngineBuilder {
         return this;
     }
 
+    /**
+     * The compiled template is used by the template with the given id if all its expressions can be evaluated by the compiled
+     * template.
+     * 
+     * @param templateId
+     * @param compiledTemplate
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(String templateId, CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.put(templateId, compiledTemplate);
+        return this;
+    }
+
     public EngineBuilder computeSectionHelper(Function<String, SectionHelperFactory<?>> func) {
         this.sectionHelperFunc = func;
         return this;
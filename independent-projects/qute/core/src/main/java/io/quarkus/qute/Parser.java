@@ -181,6 +181,11 @@ class Parser implements Function<String, Expression>, ParserHelper {
             }
             template.root.optimizeNodes(nodesToRemove);
 
+            CompiledTemplate compiledTemplate = engine.getCompiledTemplate(templateId);
+            if (compiledTemplate != null) {
+                template.initCompiledNodes(compiledTemplate);
+            }
+
             LOGGER.tracef("Parsing finished in %s ms", System.currentTimeMillis() - start);
             return template;
 
@@ -18,20 +18,21 @@ public class SingleResultNode implements ResultNode {
     @Override
     public void process(Consumer<String> consumer) {
         if (value != null) {
-            String result = null;
-            if (expressionNode != null) {
-                for (ResultMapper mapper : expressionNode.getEngine().getResultMappers()) {
-                    if (mapper.appliesTo(expressionNode.expression.getOrigin(), value)) {
-                        result = mapper.map(value, expressionNode.expression);
-                        break;
-                    }
+            consumer.accept(expressionNode != null ? map(value, expressionNode) : value.toString());
+        }
+    }
+
+    static String map(Object value, ExpressionNode expressionNode) {
+        for (ResultMapper mapper : expressionNode.getEngine().getResultMappers()) {
+            if (mapper.appliesTo(expressionNode.expression.getOrigin(), value)) {
+                String result = mapper.map(value, expressionNode.expression);
+                if (result != null) {
+                    return result;
                 }
+                break;
             }
-            if (result == null) {
-                result = value.toString();
-            }
-            consumer.accept(result);
         }
+        return value.toString();
     }
 
 }
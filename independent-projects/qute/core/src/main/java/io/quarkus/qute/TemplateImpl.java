@@ -1,8 +1,10 @@
 package io.quarkus.qute;
 
+import io.quarkus.qute.Results.Result;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -17,6 +19,8 @@ class TemplateImpl implements Template {
     private final EngineImpl engine;
     private final Optional<Variant> variant;
     final SectionNode root;
+    // Text nodes are represented by String, expression nodes by CompiledExpressionNode
+    private Object[] compiledNodes;
 
     TemplateImpl(EngineImpl engine, SectionNode root, String generatedId, Optional<Variant> variant) {
         this.engine = engine;
@@ -45,6 +49,33 @@ class TemplateImpl implements Template {
         return variant;
     }
 
+    void initCompiledNodes(CompiledTemplate compiledTemplate) {
+        if (root.blocks.size() != 1) {
+            return;
+        }
+        List<String> expressions = compiledTemplate.getExpressions();
+        List<TemplateNode> nodes = root.blocks.get(0).nodes;
+        Object[] compiled = new Object[nodes.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            TemplateNode node = nodes.get(i);
+            if (node instanceof TextNode) {
+                compiled[i] = ((TextNode) node).getValue();
+            } else if (node instanceof ExpressionNode) {
+                ExpressionNode expressionNode = (ExpressionNode) node;
+                int index = expressions.indexOf(expressionNode.expression.toOriginalString());
+                if (index == -1) {
+                    // Expression not supported by the compiled template
+                    return;
+                }
+                compiled[i] = new CompiledExpressionNode(compiledTemplate, index, expressionNode);
+            } else {
+                // Sections are not supported
+                return;
+            }
+        }
+        this.compiledNodes = compiled;
+    }
+
     private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
@@ -96,6 +127,13 @@ class TemplateImpl implements Template {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            if (compiledNodes != null && data instanceof Map) {
+                @SuppressWarnings("unchecked")
+                CompletionStage<Void> result = renderCompiled(compiledNodes, (Map<String, Object>) data, consumer);
+                if (result != null) {
+                    return result;
+                }
+            }
             CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
@@ -117,6 +155,60 @@ class TemplateImpl implements Template {
             return result;
         }
 
+        /**
+         * 
+         * @return the completion stage or {@code null} if it's not possible to render the template synchronously
+         */
+        private CompletionStage<Void> renderCompiled(Object[] nodes, Map<String, Object> data, Consumer<String> consumer) {
+            String[] results = new String[nodes.length];
+            try {
+                for (int i = 0; i < nodes.length; i++) {
+                    Object node = nodes[i];
+                    if (node instanceof String) {
+                        results[i] = (String) node;
+                    } else {
+                        CompiledExpressionNode expressionNode = (CompiledExpressionNode) node;
+                        Object value = expressionNode.compiledTemplate.evaluate(expressionNode.index, data);
+                        if (value == null) {
+                            continue;
+                        }
+                        if (value == Result.NOT_FOUND || value instanceof CompletionStage || value instanceof Uni
+                                || value instanceof ResultNode) {
+                            // Fall back to the async resolution
+                            return null;
+                        }
+                        results[i] = SingleResultNode.map(value, expressionNode.node);
+                    }
+                }
+            } catch (Throwable e) {
+                return Futures.failure(e);
+            }
+            try {
+                for (String result : results) {
+                    if (result != null) {
+                        consumer.accept(result);
+                    }
+                }
+            } catch (Throwable e) {
+                return Futures.failure(e);
+            }
+            return Futures.COMPLETED;
+        }
+
+    }
+
+    private static final class CompiledExpressionNode {
+
+        final CompiledTemplate compiledTemplate;
+        final int index;
+        final ExpressionNode node;
+
+        CompiledExpressionNode(CompiledTemplate compiledTemplate, int index, ExpressionNode node) {
+            this.compiledTemplate = compiledTemplate;
+            this.index = index;
+            this.node = node;
+        }
+
     }
 
     static class DataNamespaceResolver implements NamespaceResolver {
@@ -0,0 +1,105 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.quarkus.qute.Results.Result;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CompiledTemplateTest {
+
+    @Test
+    public void testCompiledTemplate() {
+        NameCompiledTemplate compiled = new NameCompiledTemplate();
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        assertEquals("Hello Lu! Hello LU!",
+                engine.parse("Hello {name}! Hello {name.toUpperCase}!", null, "hello").data("name", "lu").render());
+        assertEquals(2, compiled.evaluated.get());
+        // Null values are ignored
+        assertEquals("Hello ! Hello !",
+                engine.parse("Hello {name}! Hello {name.toUpperCase}!", null, "hello").data("name", "-").render());
+    }
+
+    @Test
+    public void testResultMappers() {
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", new NameCompiledTemplate())
+                .addResultMapper((val, expr) -> expr.toOriginalString() + "=" + val).build();
+        assertEquals("Hello name=Lu", engine.parse("Hello {name}", null, "hello").data("name", "lu").render());
+    }
+
+    @Test
+    public void testFallback() {
+        NameCompiledTemplate compiled = new NameCompiledTemplate();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addCompiledTemplate("hello", compiled).build();
+        // NOT_FOUND
+        assertEquals("Hello foo!", engine.parse("Hello {name}!", null, "hello").data("name", "foo").render());
+        // Async value
+        assertEquals("Hello bar!", engine.parse("Hello {name}!", null, "hello").data("name", "bar").render());
+        assertEquals(2, compiled.evaluated.get());
+        // Expression not supported
+        assertEquals("Hello lu!", engine.parse("Hello {other}!", null, "hello").data("other", "lu").render());
+        // Sections are not supported
+        assertEquals("Hello lu!", engine.parse("Hello {#if true}{name}{/if}!", null, "hello").data("name", "lu").render());
+        // Data object
+        assertEquals("Hello lu!", engine.parse("Hello {name}!", null, "hello").data(new Person("lu")).render());
+        assertEquals(2, compiled.evaluated.get());
+    }
+
+    @Test
+    public void testFailure() {
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", new NameCompiledTemplate()).build();
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> engine.parse("Hello {name}!", null, "hello").data("name", "fail").render());
+        assertEquals("Failed", e.getMessage());
+    }
+
+    static class NameCompiledTemplate implements CompiledTemplate {
+
+        final AtomicInteger evaluated = new AtomicInteger();
+
+        @Override
+        public List<String> getExpressions() {
+            return Arrays.asList("name", "name.toUpperCase");
+        }
+
+        @Override
+        public Object evaluate(int index, Map<String, Object> data) {
+            evaluated.incrementAndGet();
+            String name = (String) data.get("name");
+            switch (name) {
+                case "-":
+                    return null;
+                case "foo":
+                    return Result.NOT_FOUND;
+                case "bar":
+                    return CompletableFuture.completedFuture(name);
+                case "fail":
+                    throw new IllegalStateException("Failed");
+                default:
+                    return index == 0 ? Character.toUpperCase(name.charAt(0)) + name.substring(1) : name.toUpperCase();
+            }
+        }
+
+    }
+
+    public static class Person {
+
+        private final String name;
+
+        public Person(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
@@ -23,14 +23,26 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * If enabled, the URI templates of the endpoints are compiled into a segment trie that is used
+     * to match requests, instead of trying each candidate template one after the other.
+     */
+    private boolean compiledRouting;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
 
     public ResteasyReactiveConfig(long inputBufferSize, boolean singleDefaultProduces, boolean defaultProduces) {
+        this(inputBufferSize, singleDefaultProduces, defaultProduces, false);
+    }
+
+    public ResteasyReactiveConfig(long inputBufferSize, boolean singleDefaultProduces, boolean defaultProduces,
+            boolean compiledRouting) {
         this.inputBufferSize = inputBufferSize;
         this.singleDefaultProduces = singleDefaultProduces;
         this.defaultProduces = defaultProduces;
+        this.compiledRouting = compiledRouting;
     }
 
     public long getInputBufferSize() {
@@ -56,4 +68,12 @@ public class ResteasyReactiveConfig {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public boolean isCompiledRouting() {
+        return compiledRouting;
+    }
+
+    public void setCompiledRouting(boolean compiledRouting) {
+        this.compiledRouting = compiledRouting;
+    }
 }
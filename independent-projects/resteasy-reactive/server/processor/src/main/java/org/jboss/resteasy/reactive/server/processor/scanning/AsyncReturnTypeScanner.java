@@ -22,6 +22,19 @@ public class AsyncReturnTypeScanner implements MethodScanner {
     private static final DotName MULTI = DotName.createSimple(Multi.class.getName());
     private static final DotName PUBLISHER = DotName.createSimple(Publisher.class.getName());
 
+    private final int streamingBufferSize;
+
+    public AsyncReturnTypeScanner() {
+        this(PublisherResponseHandler.DEFAULT_STREAMING_BUFFER_SIZE);
+    }
+
+    /**
+     * @param streamingBufferSize the size of the buffer used to stream the items of a {@link Multi}
+     */
+    public AsyncReturnTypeScanner(int streamingBufferSize) {
+        this.streamingBufferSize = streamingBufferSize;
+    }
+
     @Override
     public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
             Map<String, Object> methodContext) {
@@ -34,7 +47,7 @@ public class AsyncReturnTypeScanner implements MethodScanner {
                     HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE));
         }
         if (returnTypeName.equals(MULTI) || returnTypeName.equals(PUBLISHER)) {
-            return Collections.singletonList(new FixedHandlerChainCustomizer(new PublisherResponseHandler(),
+            return Collections.singletonList(new FixedHandlerChainCustomizer(new PublisherResponseHandler(streamingBufferSize),
                     HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE));
         }
         return Collections.emptyList();
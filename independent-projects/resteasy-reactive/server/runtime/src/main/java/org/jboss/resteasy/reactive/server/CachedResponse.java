@@ -0,0 +1,44 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * When used on a {@code GET} resource method, the encoded responses of the method are cached and subsequent requests with
+ * the same URI, {@code Accept} and {@code Accept-Language} headers, and the same values for the headers listed in the
+ * {@code Vary} header of the response, are served from the cache, without invoking the method or serializing the entity
+ * again. The request and response filters are executed for every request.
+ * <p>
+ * Only successful responses that are written in one go are cached, i.e. responses with a {@code 200} status, no
+ * {@code Set-Cookie} header and a body that is not streamed. The requests with an {@code Authorization} or {@code Cookie}
+ * header, or from an authenticated user, are never cached, and neither are the responses of methods that have writer
+ * interceptors.
+ * <p>
+ * If {@link #etag()} is {@code true}, an {@code ETag} header is added to the cached response unless the method already sets
+ * one, and the requests whose {@code If-None-Match} header matches it get a {@code 304 Not Modified} response.
+ * <p>
+ * Note that this is only supported when running on Vert.x.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CachedResponse {
+
+    /**
+     * The time, in seconds, a response is cached for. If zero or negative, the response is cached until the application is
+     * stopped.
+     */
+    long ttl() default 0;
+
+    /**
+     * Whether an {@code ETag} header is added to the cached response and conditional requests are handled.
+     */
+    boolean etag() default true;
+
+    /**
+     * The maximum number of responses cached for the method, i.e. the maximum number of distinct URIs, {@code Accept} and
+     * {@code Accept-Language} headers. Once it is reached, the expired responses are evicted first, then the oldest ones.
+     */
+    int maxEntries() default 1000;
+}
@@ -40,6 +40,7 @@ public class Deployment {
     private final List<ServerRestHandler> preMatchHandlers;
     private final List<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers;
     private final List<RuntimeConfigurableServerRestHandler> runtimeConfigurableServerRestHandlers;
+    private final boolean compiledRouting;
 
     public Deployment(ExceptionMapping exceptionMapping, ContextResolvers contextResolvers,
             ServerSerialisers serialisers,
@@ -49,7 +50,8 @@ public class Deployment {
             ThreadSetupAction threadSetupAction, RequestContextFactory requestContextFactory,
             List<ServerRestHandler> preMatchHandlers,
             List<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers,
-            List<RuntimeConfigurableServerRestHandler> runtimeConfigurableServerRestHandlers) {
+            List<RuntimeConfigurableServerRestHandler> runtimeConfigurableServerRestHandlers,
+            boolean compiledRouting) {
         this.exceptionMapping = exceptionMapping;
         this.contextResolvers = contextResolvers;
         this.serialisers = serialisers;
@@ -64,6 +66,7 @@ public class Deployment {
         this.preMatchHandlers = preMatchHandlers;
         this.classMappers = classMappers;
         this.runtimeConfigurableServerRestHandlers = runtimeConfigurableServerRestHandlers;
+        this.compiledRouting = compiledRouting;
     }
 
     public Supplier<Application> getApplicationSupplier() {
@@ -115,6 +118,14 @@ public class Deployment {
         return classMappers;
     }
 
+    /**
+     * @return true if the request mappers compile their templates into a
+     *         {@link org.jboss.resteasy.reactive.server.mapping.RequestTrie}
+     */
+    public boolean isCompiledRouting() {
+        return compiledRouting;
+    }
+
     public ParameterConverter getRuntimeParamConverter(Class<?> fieldOwnerClass, String fieldName, boolean single) {
         List<ResourceParamConverterProvider> providers = getParamConverterProviders().getParamConverterProviders();
         if (providers.size() > 0) {
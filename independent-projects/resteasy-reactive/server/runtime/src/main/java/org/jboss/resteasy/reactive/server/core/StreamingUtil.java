@@ -2,6 +2,7 @@ package org.jboss.resteasy.reactive.server.core;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
@@ -44,8 +45,17 @@ public class StreamingUtil {
     }
 
     private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeEntity(context, findWriter(context, entity.getClass()), entity, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Finds the writer of the streamed entities of the given class, which can be reused for all the entities of this class
+     * sent in the response.
+     */
+    public static MessageBodyWriter<Object> findWriter(ResteasyReactiveRequestContext context, Class<?> entityClass) {
         ServerSerialisers serialisers = context.getDeployment().getSerialisers();
-        Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
         MediaType mediaType = context.getResponseMediaType();
         // FIXME: this should belong somewhere else as it's generic
@@ -53,23 +63,21 @@ public class StreamingUtil {
         MessageBodyWriter<Object>[] writers = (MessageBodyWriter<Object>[]) serialisers
                 .findWriters(null, entityClass, mediaType, RuntimeType.SERVER)
                 .toArray(ServerSerialisers.NO_WRITER);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        boolean wrote = false;
         for (MessageBodyWriter<Object> writer : writers) {
             // Spec(API) says we should use class/type/mediaType but doesn't talk about annotations 
             if (writer.isWriteable(entityClass, entityType, Serialisers.NO_ANNOTATION, mediaType)) {
-                // FIXME: spec doesn't really say what headers we should use here
-                writer.writeTo(entity, entityClass, entityType, Serialisers.NO_ANNOTATION, mediaType,
-                        Serialisers.EMPTY_MULTI_MAP, baos);
-                wrote = true;
-                break;
+                return writer;
             }
         }
-        if (!wrote) {
-            throw new IllegalStateException(
-                    "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
-        }
-        return baos.toByteArray();
+        throw new IllegalStateException(
+                "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
+    }
+
+    public static void writeEntity(ResteasyReactiveRequestContext context, MessageBodyWriter<Object> writer, Object entity,
+            OutputStream outputStream) throws IOException {
+        // FIXME: spec doesn't really say what headers we should use here
+        writer.writeTo(entity, entity.getClass(), context.getGenericReturnType(), Serialisers.NO_ANNOTATION,
+                context.getResponseMediaType(), Serialisers.EMPTY_MULTI_MAP, outputStream);
     }
 
     public static void setHeaders(ResteasyReactiveRequestContext context, ServerHttpResponse response) {
@@ -89,13 +89,14 @@ public class RuntimeDeploymentManager {
 
         RuntimeInterceptorDeployment interceptorDeployment = new RuntimeInterceptorDeployment(info, configurationImpl,
                 closeTaskHandler);
+        boolean compiledRouting = info.getConfig() != null && info.getConfig().isCompiledRouting();
         ResourceLocatorHandler resourceLocatorHandler = new ResourceLocatorHandler(
                 new Function<Class<?>, BeanFactory.BeanInstance<?>>() {
                     @Override
                     public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
                         return info.getFactoryCreator().apply(aClass).createInstance();
                     }
-                });
+                }, compiledRouting);
         List<RuntimeConfigurableServerRestHandler> runtimeConfigurableServerRestHandlers = new ArrayList<>();
         RuntimeResourceDeployment runtimeResourceDeployment = new RuntimeResourceDeployment(info, executorSupplier,
                 customServerRestHandlers,
@@ -112,7 +113,8 @@ public class RuntimeDeploymentManager {
 
                 RuntimeMappingDeployment.buildMethodMapper(templates, method, runtimeResource);
             }
-            Map<String, RequestMapper<RuntimeResource>> mappersByMethod = RuntimeMappingDeployment.buildClassMapper(templates);
+            Map<String, RequestMapper<RuntimeResource>> mappersByMethod = RuntimeMappingDeployment.buildClassMapper(templates,
+                    compiledRouting);
             resourceLocatorHandler.addResource(loadClass(clazz.getClassName()), mappersByMethod);
         }
 
@@ -144,7 +146,7 @@ public class RuntimeDeploymentManager {
             Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> perClassMappers = entry
                     .getValue();
             Map<String, RequestMapper<RuntimeResource>> mappersByMethod = RuntimeMappingDeployment
-                    .buildClassMapper(perClassMappers);
+                    .buildClassMapper(perClassMappers, compiledRouting);
             ClassRoutingHandler classRoutingHandler = new ClassRoutingHandler(mappersByMethod, classTemplateNameCount);
 
             int maxMethodTemplateNameCount = 0;
@@ -205,7 +207,7 @@ public class RuntimeDeploymentManager {
                 abortHandlingChain.toArray(EMPTY_REST_HANDLER_ARRAY), dynamicEntityWriter,
                 prefix, paramConverterProviders, configurationImpl, applicationSupplier,
                 threadSetupAction, requestContextFactory, preMatchHandlers, classMappers,
-                runtimeConfigurableServerRestHandlers);
+                runtimeConfigurableServerRestHandlers, compiledRouting);
     }
 
     private void addRuntimeConfigurableHandlers(RuntimeResource runtimeResource,
@@ -18,6 +18,12 @@ public class RuntimeMappingDeployment {
 
     public static Map<String, RequestMapper<RuntimeResource>> buildClassMapper(
             Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> perClassMappers) {
+        return buildClassMapper(perClassMappers, false);
+    }
+
+    public static Map<String, RequestMapper<RuntimeResource>> buildClassMapper(
+            Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> perClassMappers,
+            boolean compiledRouting) {
         Map<String, RequestMapper<RuntimeResource>> mappersByMethod = new HashMap<>();
         SortedMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>> nullMethod = perClassMappers.get(null);
         if (nullMethod == null) {
@@ -57,7 +63,7 @@ public class RuntimeMappingDeployment {
                     result.add(new RequestMapper.RequestPath<>(false, fake.getPath(), fake));
                 }
             }
-            mappersByMethod.put(i.getKey(), new RequestMapper<>(result));
+            mappersByMethod.put(i.getKey(), new RequestMapper<>(result, compiledRouting));
         }
         return mappersByMethod;
     }
@@ -1,8 +1,11 @@
 package org.jboss.resteasy.reactive.server.handlers;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.MessageBodyWriter;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.SseUtil;
@@ -41,67 +44,188 @@ public class PublisherResponseHandler implements ServerRestHandler {
         }
     }
 
+    /**
+     * Streams the items as they are emitted, as a JSON array if the media type is JSON.
+     * <p>
+     * The items are serialised into a single buffer, reused for the whole response. Each item is written to the connection
+     * in its own chunk, except for the items of a JSON array which are written when the buffer reaches the configured size
+     * or when the items emitted in a row have all been serialised. No more items are requested while the write queue of the
+     * connection is full, so that the response is streamed with constant memory.
+     */
     private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
 
-        // Huge hack to stream valid json
-        private boolean json;
-        private String nextJsonPrefix;
+        private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.US_ASCII);
+
+        private final boolean json;
+        private final int bufferSize;
+        private final StreamingBuffer buffer;
+        private final Runnable flushTask = new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        };
+
+        // the fields below are guarded by this
         private boolean hadItem;
+        private boolean flushScheduled;
+        private boolean waitingForDrain;
+        private boolean failed;
+        private Class<?> writerClass;
+        private MessageBodyWriter<Object> writer;
 
-        StreamingMultiSubscriber(ResteasyReactiveRequestContext requestContext, boolean json) {
+        StreamingMultiSubscriber(ResteasyReactiveRequestContext requestContext, boolean json, int bufferSize) {
             super(requestContext);
             this.json = json;
-            this.nextJsonPrefix = "[";
-            this.hadItem = false;
+            this.bufferSize = bufferSize;
+            this.buffer = new StreamingBuffer(bufferSize);
+            requestContext.serverResponse().addDrainHandler(new Runnable() {
+                @Override
+                public void run() {
+                    drained();
+                }
+            });
         }
 
         @Override
         public void onNext(Object item) {
-            hadItem = true;
-            StreamingUtil.send(requestContext, item, json ? nextJsonPrefix : null)
-                    .handle(new BiFunction<Object, Throwable, Object>() {
-                        @Override
-                        public Object apply(Object v, Throwable t) {
-                            if (t != null) {
-                                // need to cancel because the exception didn't come from the Multi
-                                try {
-                                    subscription.cancel();
-                                } catch (Throwable t2) {
-                                    t2.printStackTrace();
-                                }
-                                handleException(requestContext, t);
-                            } else {
-                                // next item will need this prefix if json
-                                nextJsonPrefix = ",";
-                                // send in the next item
-                                subscription.request(1);
-                            }
-                            return null;
+            try {
+                synchronized (this) {
+                    if (failed) {
+                        return;
+                    }
+                    if (!hadItem) {
+                        hadItem = true;
+                        StreamingUtil.setHeaders(requestContext, requestContext.serverResponse());
+                        if (json) {
+                            buffer.write('[');
                         }
-                    });
+                    } else if (json) {
+                        buffer.write(',');
+                    }
+                    Class<?> entityClass = item.getClass();
+                    if (entityClass != writerClass) {
+                        writer = StreamingUtil.findWriter(requestContext, entityClass);
+                        writerClass = entityClass;
+                    }
+                    StreamingUtil.writeEntity(requestContext, writer, item, buffer);
+                    if (!json || buffer.size() >= bufferSize) {
+                        // the clients may expect one chunk per item when it is not a JSON array
+                        write(buffer.drain());
+                    } else if (!flushScheduled) {
+                        // the items emitted in a row are written together
+                        flushScheduled = true;
+                        requestContext.registerTimer(0, flushTask);
+                    }
+                }
+            } catch (Throwable t) {
+                failed(t);
+                return;
+            }
+            requestNext();
+        }
+
+        private synchronized void flush() {
+            flushScheduled = false;
+            if (!failed && buffer.size() > 0) {
+                write(buffer.drain());
+            }
+        }
+
+        // called with the lock held, so that the chunks are written in order
+        private void write(byte[] data) {
+            requestContext.serverResponse().write(data, new Consumer<Throwable>() {
+                @Override
+                public void accept(Throwable t) {
+                    if (t != null) {
+                        failed(t);
+                    }
+                }
+            });
+        }
+
+        private void requestNext() {
+            synchronized (this) {
+                if (failed) {
+                    return;
+                }
+                if (requestContext.serverResponse().isWriteQueueFull()) {
+                    // the next item is requested once the connection is writable again
+                    waitingForDrain = true;
+                    return;
+                }
+            }
+            subscription.request(1);
+        }
+
+        private void drained() {
+            synchronized (this) {
+                if (!waitingForDrain) {
+                    return;
+                }
+                waitingForDrain = false;
+            }
+            subscription.request(1);
+        }
+
+        private void failed(Throwable t) {
+            synchronized (this) {
+                if (failed) {
+                    return;
+                }
+                failed = true;
+            }
+            // need to cancel because the exception didn't come from the Multi
+            try {
+                subscription.cancel();
+            } catch (Throwable t2) {
+                t2.printStackTrace();
+            }
+            handleException(requestContext, t);
         }
 
         @Override
         public void onComplete() {
-            if (!hadItem) {
-                StreamingUtil.setHeaders(requestContext, requestContext.serverResponse());
-            }
-            if (json) {
-                String postfix;
-                // check if we never sent the open prefix
+            synchronized (this) {
+                if (failed) {
+                    return;
+                }
                 if (!hadItem) {
-                    postfix = "[]";
-                } else {
-                    postfix = "]";
+                    StreamingUtil.setHeaders(requestContext, requestContext.serverResponse());
+                }
+                if (json) {
+                    // check if we never sent the open prefix
+                    if (!hadItem) {
+                        buffer.write(EMPTY_ARRAY, 0, EMPTY_ARRAY.length);
+                    } else {
+                        buffer.write(']');
+                    }
+                }
+                if (buffer.size() > 0) {
+                    requestContext.serverResponse().write(buffer.drain()).handle((v, t) -> {
+                        super.onComplete();
+                        return null;
+                    });
+                    return;
                 }
-                byte[] postfixBytes = postfix.getBytes(StandardCharsets.US_ASCII);
-                requestContext.serverResponse().write(postfixBytes).handle((v, t) -> {
-                    super.onComplete();
-                    return null;
-                });
-            } else {
-                super.onComplete();
             }
+            super.onComplete();
+        }
+    }
+
+    /**
+     * The buffer of a streamed response, whose array is reused once its content has been written.
+     */
+    static final class StreamingBuffer extends ByteArrayOutputStream {
+
+        StreamingBuffer(int size) {
+            super(size);
+        }
+
+        byte[] drain() {
+            byte[] data = toByteArray();
+            reset();
+            return data;
         }
     }
 
@@ -173,6 +297,25 @@ public class PublisherResponseHandler implements ServerRestHandler {
             }
     };
 
+    public static final int DEFAULT_STREAMING_BUFFER_SIZE = 8192;
+
+    private int streamingBufferSize = DEFAULT_STREAMING_BUFFER_SIZE;
+
+    public PublisherResponseHandler() {
+    }
+
+    public PublisherResponseHandler(int streamingBufferSize) {
+        this.streamingBufferSize = streamingBufferSize;
+    }
+
+    public int getStreamingBufferSize() {
+        return streamingBufferSize;
+    }
+
+    public void setStreamingBufferSize(int streamingBufferSize) {
+        this.streamingBufferSize = streamingBufferSize;
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
         // FIXME: handle Response with entity being a Multi
@@ -201,7 +344,7 @@ public class PublisherResponseHandler implements ServerRestHandler {
     }
 
     private void handleStreaming(ResteasyReactiveRequestContext requestContext, Publisher<?> result, boolean json) {
-        result.subscribe(new StreamingMultiSubscriber(requestContext, json));
+        result.subscribe(new StreamingMultiSubscriber(requestContext, json, streamingBufferSize));
     }
 
     private void handleSse(ResteasyReactiveRequestContext requestContext, Publisher<?> result) {
@@ -21,9 +21,15 @@ public class ResourceLocatorHandler implements ServerRestHandler {
 
     private final Map<Class<?>, Map<String, RequestMapper<RuntimeResource>>> resourceLocatorHandlers = new ConcurrentHashMap<>();
     private final Function<Class<?>, BeanFactory.BeanInstance<?>> instantiator;
+    private final boolean compiledRouting;
 
     public ResourceLocatorHandler(Function<Class<?>, BeanFactory.BeanInstance<?>> instantiator) {
+        this(instantiator, false);
+    }
+
+    public ResourceLocatorHandler(Function<Class<?>, BeanFactory.BeanInstance<?>> instantiator, boolean compiledRouting) {
         this.instantiator = instantiator;
+        this.compiledRouting = compiledRouting;
     }
 
     @Override
@@ -118,7 +124,7 @@ public class ResourceLocatorHandler implements ServerRestHandler {
         }
         Map<String, RequestMapper<RuntimeResource>> finalResult = new HashMap<>();
         for (Map.Entry<String, List<RequestMapper.RequestPath<RuntimeResource>>> i : newMapper.entrySet()) {
-            finalResult.put(i.getKey(), new RequestMapper<RuntimeResource>(i.getValue()));
+            finalResult.put(i.getKey(), new RequestMapper<RuntimeResource>(i.getValue(), compiledRouting));
         }
         //it does not matter if this is computed twice
         resourceLocatorHandlers.put(locatorClass, finalResult);
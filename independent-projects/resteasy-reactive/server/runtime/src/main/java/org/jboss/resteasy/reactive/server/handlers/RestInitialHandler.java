@@ -22,7 +22,7 @@ public class RestInitialHandler implements ServerRestHandler {
     final RequestContextFactory requestContextFactory;
 
     public RestInitialHandler(Deployment deployment) {
-        this.mappers = new RequestMapper<>(deployment.getClassMappers());
+        this.mappers = new RequestMapper<>(deployment.getClassMappers(), deployment.isCompiledRouting());
         this.deployment = deployment;
         this.providers = new ProvidersImpl(deployment);
         this.preMappingHandlers = deployment.getPreMatchHandlers();
@@ -256,6 +256,8 @@ public class PathMatcher<T> implements Dumpable {
                 if (x instanceof Dumpable)
                     ((Dumpable) x).dump(level);
             }
+        } else if (value instanceof Dumpable) {
+            ((Dumpable) value).dump(level);
         }
     }
 
@@ -16,11 +16,25 @@ public class RequestMapper<T> {
      * TODO: this needs a lot of work
      */
     private final PathMatcher<List<RequestPath<T>>> requestPaths;
+    /**
+     * The per stem tries, only present if the mapper has been compiled
+     */
+    private final PathMatcher<RequestTrie<T>> requestTries;
     private final List<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(List<RequestPath<T>> templates) {
+        this(templates, false);
+    }
+
+    /**
+     * @param templates The templates to map
+     * @param compiled If the templates should be compiled into a {@link RequestTrie} for each stem, instead of
+     *        being tried one after the other
+     */
+    public RequestMapper(List<RequestPath<T>> templates, boolean compiled) {
         this.requestPaths = new PathMatcher<>();
+        this.requestTries = compiled ? new PathMatcher<>() : null;
         this.templates = templates;
         int max = 0;
         Map<String, List<RequestPath<T>>> aggregates = new HashMap<>();
@@ -42,11 +56,21 @@ public class RequestMapper<T> {
         }
         for (Map.Entry<String, List<RequestPath<T>>> entry : aggregates.entrySet()) {
             requestPaths.addPrefixPath(entry.getKey(), entry.getValue());
+            if (requestTries != null) {
+                requestTries.addPrefixPath(entry.getKey(), new RequestTrie<>(entry.getValue(), max));
+            }
         }
         maxParams = max;
     }
 
     public RequestMatch<T> map(String path) {
+        if (requestTries != null) {
+            PathMatcher.PathMatch<RequestTrie<T>> initialMatch = requestTries.match(path);
+            if (initialMatch.getValue() == null) {
+                return null;
+            }
+            return initialMatch.getValue().map(path, initialMatch.getMatched().length());
+        }
         int pathLength = path.length();
         PathMatcher.PathMatch<List<RequestPath<T>>> initialMatch = requestPaths.match(path);
         if (initialMatch.getValue() == null) {
@@ -176,7 +200,15 @@ public class RequestMapper<T> {
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
+        if (requestTries != null) {
+            this.requestTries.dump(0);
+        } else {
+            this.requestPaths.dump(0);
+        }
+    }
+
+    public boolean isCompiled() {
+        return requestTries != null;
     }
 
     public PathMatcher<List<RequestPath<T>>> getRequestPaths() {
@@ -0,0 +1,282 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jboss.resteasy.reactive.common.util.URIDecoder;
+
+/**
+ * A segment trie of all the {@link RequestMapper.RequestPath} instances that share the same stem.
+ * <p>
+ * Literal components are split on {@code /} so that templates with common leading segments share
+ * the same nodes, which means that each part of the request path is only compared once no matter
+ * how many templates have been registered.
+ * <p>
+ * Every template is ranked by its position in the sorted candidate list used by {@link RequestMapper}.
+ * The search never enters a branch that can only produce a worse ranked template than the one that
+ * has already been matched, so the result is always the same as the result of the linear search.
+ */
+public class RequestTrie<T> implements Dumpable {
+
+    private final Node<T> root;
+    private final int maxParams;
+    private final ThreadLocal<Search<T>> searches = new ThreadLocal<Search<T>>() {
+        @Override
+        protected Search<T> initialValue() {
+            return new Search<>(maxParams);
+        }
+    };
+
+    /**
+     * @param paths The candidates, sorted in the order in which they must be tried
+     * @param maxParams The maximum number of path parameters
+     */
+    public RequestTrie(List<RequestMapper.RequestPath<T>> paths, int maxParams) {
+        this.maxParams = maxParams;
+        this.root = new Node<>(NodeType.LITERAL, null, null, 0);
+        for (int rank = 0; rank < paths.size(); rank++) {
+            RequestMapper.RequestPath<T> path = paths.get(rank);
+            Node<T> current = root;
+            boolean terminated = false;
+            for (int i = 1; i < path.template.components.length; ++i) {
+                URITemplate.TemplateComponent segment = path.template.components[i];
+                if (segment.type == URITemplate.Type.LITERAL) {
+                    String literal = segment.literalText;
+                    int start = 0;
+                    for (int pos = 1; pos <= literal.length(); ++pos) {
+                        if (pos == literal.length() || literal.charAt(pos) == '/') {
+                            current = current.child(NodeType.LITERAL, literal.substring(start, pos), rank);
+                            start = pos;
+                        }
+                    }
+                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                    current = current.child(NodeType.DEFAULT_REGEX, null, rank);
+                } else {
+                    //the custom regex is always the last component, as it swallows the rest of the template
+                    Node<T> leaf = new Node<>(NodeType.CUSTOM_REGEX, null, segment, rank);
+                    leaf.addLeaf(path, rank);
+                    current.children.add(leaf);
+                    terminated = true;
+                }
+            }
+            if (!terminated) {
+                current.addLeaf(path, rank);
+            }
+        }
+    }
+
+    /**
+     * Matches the path, starting at the given position which must be the end of the stem.
+     * <p>
+     * The search state is reused by the calling thread, and the path parameters are only decoded for the template
+     * that wins, so the only allocations are the returned match, its parameter values and the matchers of the custom
+     * regular expressions that are tried.
+     */
+    public RequestMapper.RequestMatch<T> map(String path, int matchPos) {
+        Search<T> search = searches.get();
+        search.start(path);
+        try {
+            search.match(root, matchPos, 0);
+            return search.result();
+        } finally {
+            search.reset();
+        }
+    }
+
+    @Override
+    public void dump(int level) {
+        root.dump(level);
+    }
+
+    enum NodeType {
+        LITERAL,
+        DEFAULT_REGEX,
+        CUSTOM_REGEX
+    }
+
+    static final class Node<T> implements Dumpable {
+
+        final NodeType type;
+        final String literal;
+        final URITemplate.TemplateComponent regex;
+        /**
+         * The best rank of all the templates reachable from this node. As templates are added in rank order this is
+         * the rank of the template that created the node, and the children are naturally sorted by it.
+         */
+        final int minRank;
+        final List<Node<T>> children = new ArrayList<>();
+        final List<RequestMapper.RequestPath<T>> leaves = new ArrayList<>();
+        final List<Integer> leafRanks = new ArrayList<>();
+
+        Node(NodeType type, String literal, URITemplate.TemplateComponent regex, int minRank) {
+            this.type = type;
+            this.literal = literal;
+            this.regex = regex;
+            this.minRank = minRank;
+        }
+
+        Node<T> child(NodeType type, String literal, int rank) {
+            for (int i = 0; i < children.size(); i++) {
+                Node<T> child = children.get(i);
+                if (child.type == type && (type != NodeType.LITERAL || child.literal.equals(literal))) {
+                    return child;
+                }
+            }
+            Node<T> child = new Node<>(type, literal, null, rank);
+            children.add(child);
+            return child;
+        }
+
+        void addLeaf(RequestMapper.RequestPath<T> path, int rank) {
+            leaves.add(path);
+            leafRanks.add(rank);
+        }
+
+        @Override
+        public void dump(int level) {
+            indent(level);
+            if (type == NodeType.LITERAL) {
+                System.err.println("Node: " + literal);
+            } else if (type == NodeType.DEFAULT_REGEX) {
+                System.err.println("Node: {}");
+            } else {
+                System.err.println("Node: " + regex.pattern);
+            }
+            for (int i = 0; i < leaves.size(); i++) {
+                leaves.get(i).dump(level + 1);
+            }
+            for (int i = 0; i < children.size(); i++) {
+                children.get(i).dump(level + 1);
+            }
+        }
+    }
+
+    private static final class Search<T> {
+
+        final int maxParams;
+        /**
+         * The start and end positions of the path parameters on the current branch
+         */
+        final int[] captures;
+        /**
+         * The start and end positions of the path parameters of the best match, the values are only decoded once
+         * the search has finished
+         */
+        final int[] bestCaptures;
+        String path;
+        int pathLength;
+        int bestRank;
+        RequestMapper.RequestPath<T> bestLeaf;
+        int bestMatchPos;
+        int bestParamCount;
+
+        Search(int maxParams) {
+            this.maxParams = maxParams;
+            this.captures = new int[maxParams * 2];
+            this.bestCaptures = new int[maxParams * 2];
+        }
+
+        void start(String path) {
+            this.path = path;
+            this.pathLength = path.length();
+            this.bestRank = Integer.MAX_VALUE;
+        }
+
+        void reset() {
+            //do not retain the request path or the template once the search is done
+            this.path = null;
+            this.bestLeaf = null;
+        }
+
+        void match(Node<T> node, int matchPos, int paramCount) {
+            for (int i = 0; i < node.leaves.size(); i++) {
+                int rank = node.leafRanks.get(i);
+                if (rank >= bestRank) {
+                    break;
+                }
+                RequestMapper.RequestPath<T> leaf = node.leaves.get(i);
+                if (accepts(leaf, matchPos)) {
+                    record(leaf, rank, matchPos, paramCount);
+                    break;
+                }
+            }
+            for (int i = 0; i < node.children.size(); i++) {
+                Node<T> child = node.children.get(i);
+                if (child.minRank >= bestRank) {
+                    //children are sorted by rank, so nothing that follows can do better
+                    return;
+                }
+                if (child.type == NodeType.LITERAL) {
+                    if (path.regionMatches(matchPos, child.literal, 0, child.literal.length())) {
+                        match(child, matchPos + child.literal.length(), paramCount);
+                    }
+                } else if (child.type == NodeType.DEFAULT_REGEX) {
+                    if (matchPos == pathLength) {
+                        continue;
+                    }
+                    int end = path.indexOf('/', matchPos);
+                    if (end == -1) {
+                        end = pathLength;
+                    }
+                    captures[paramCount * 2] = matchPos;
+                    captures[paramCount * 2 + 1] = end;
+                    match(child, end, paramCount + 1);
+                } else {
+                    Pattern pattern = child.regex.pattern;
+                    Matcher matcher = pattern.matcher(path);
+                    if (matcher.find(matchPos)) {
+                        RequestMapper.RequestPath<T> leaf = child.leaves.get(0);
+                        if (accepts(leaf, matcher.end())) {
+                            int count = paramCount;
+                            for (String name : child.regex.names) {
+                                captures[count * 2] = matcher.start(name);
+                                captures[count * 2 + 1] = matcher.end(name);
+                                count++;
+                            }
+                            record(leaf, child.minRank, matcher.end(), count);
+                        }
+                    }
+                }
+            }
+        }
+
+        private boolean accepts(RequestMapper.RequestPath<T> leaf, int matchPos) {
+            if (matchPos == pathLength || leaf.prefixTemplate) {
+                return true;
+            }
+            //according to the spec every template ends with (/.*)?
+            return path.charAt(matchPos) == '/' && matchPos == pathLength - 1;
+        }
+
+        private void record(RequestMapper.RequestPath<T> leaf, int rank, int matchPos, int paramCount) {
+            System.arraycopy(captures, 0, bestCaptures, 0, paramCount * 2);
+            bestRank = rank;
+            bestLeaf = leaf;
+            bestMatchPos = matchPos;
+            bestParamCount = paramCount;
+        }
+
+        RequestMapper.RequestMatch<T> result() {
+            if (bestLeaf == null) {
+                return null;
+            }
+            String[] params = new String[maxParams];
+            for (int i = 0; i < bestParamCount; i++) {
+                int start = bestCaptures[i * 2];
+                //an optional regex group that did not participate in the match
+                params[i] = start == -1 ? null
+                        : URIDecoder.decodeURIComponent(path.substring(start, bestCaptures[i * 2 + 1]), false);
+            }
+            String remaining;
+            if (bestMatchPos == pathLength) {
+                remaining = "";
+            } else if (bestMatchPos == 1) {
+                remaining = path;
+            } else {
+                remaining = path.substring(bestMatchPos);
+            }
+            return new RequestMapper.RequestMatch<>(bestLeaf.template, bestLeaf.value, params, remaining);
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.WriterInterceptor;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Serves the responses of a method annotated with {@link org.jboss.resteasy.reactive.server.CachedResponse} from a cache.
+ * <p>
+ * The first response to a {@code GET} request for a given URI, {@code Accept} and {@code Accept-Language} headers is
+ * stored, the encoded body being copied once into a direct buffer. The status and headers stored are the ones of the
+ * method result, before the response filters run. The subsequent requests whose headers listed in the {@code Vary} header
+ * of the response match are served from the cache: the method is not invoked and the entity is not serialized, but the
+ * chain is re-entered before the response filters, which are thus executed for every request. A retained duplicate of the
+ * direct buffer is written to the connection without being copied, unless a filter replaces the entity.
+ * <p>
+ * The direct buffer of an entry is released when the entry expires, is replaced or is evicted. Once the maximum number of
+ * entries is reached, the expired entries are evicted first, then the oldest entries.
+ * <p>
+ * The requests with credentials, i.e. an {@code Authorization} or {@code Cookie} header or an authenticated user, are
+ * neither served from nor stored into the cache. Neither are the requests of methods that have writer interceptors, as
+ * the interceptors would otherwise be applied to an already encoded body.
+ */
+public class ResponseCacheHandler implements ServerRestHandler {
+
+    private final ConcurrentMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private long ttl;
+    private boolean etag;
+    private int maxEntries;
+
+    public ResponseCacheHandler() {
+    }
+
+    public ResponseCacheHandler(long ttl, boolean etag, int maxEntries) {
+        this.ttl = ttl;
+        this.etag = etag;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (!(requestContext instanceof VertxResteasyReactiveRequestContext)) {
+            return;
+        }
+        VertxResteasyReactiveRequestContext vertxContext = (VertxResteasyReactiveRequestContext) requestContext;
+        HttpServerRequest request = vertxContext.getContext().request();
+        if (request.method() != HttpMethod.GET) {
+            // e.g. HEAD requests
+            return;
+        }
+        if (hasCredentials(vertxContext, request) || hasWriterInterceptors(requestContext)) {
+            return;
+        }
+        String key = key(request);
+        CacheEntry cached = cache.get(key);
+        if (cached != null) {
+            if (cached.isExpired(System.nanoTime())) {
+                remove(key, cached);
+            } else if (cached.matchesVary(request)) {
+                // the method is skipped, the response filters and the writer run on the cached response
+                Response response = cached.toResponse(request, vertxContext);
+                if (response != null) {
+                    requestContext.setResult(response);
+                    requestContext.restart(requestContext.getAbortHandlerChain(), true);
+                    return;
+                }
+                // the entry has just been evicted
+            }
+        }
+        vertxContext.setResponseBodyListener(new Store(vertxContext, key));
+    }
+
+    private void remove(String key, CacheEntry entry) {
+        if (cache.remove(key, entry)) {
+            entry.release();
+        }
+    }
+
+    private void put(String key, CacheEntry entry) {
+        CacheEntry previous = cache.put(key, entry);
+        if (previous != null) {
+            previous.release();
+        }
+    }
+
+    /**
+     * Evicts the expired entries and then the oldest entries, until there is room for a new entry.
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        for (Map.Entry<String, CacheEntry> entry : cache.entrySet()) {
+            if (entry.getValue().isExpired(now)) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+        while (cache.size() >= maxEntries) {
+            Map.Entry<String, CacheEntry> oldest = null;
+            for (Map.Entry<String, CacheEntry> entry : cache.entrySet()) {
+                if (oldest == null || entry.getValue().sequence < oldest.getValue().sequence) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null) {
+                break;
+            }
+            remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private static boolean hasCredentials(VertxResteasyReactiveRequestContext vertxContext, HttpServerRequest request) {
+        return request.headers().contains(HttpHeaderNames.AUTHORIZATION)
+                || request.headers().contains(HttpHeaderNames.COOKIE)
+                || vertxContext.getContext().user() != null;
+    }
+
+    private static boolean hasWriterInterceptors(ResteasyReactiveRequestContext requestContext) {
+        WriterInterceptor[] interceptors = requestContext.getWriterInterceptors();
+        return interceptors != null && interceptors.length > 0;
+    }
+
+    private static String key(HttpServerRequest request) {
+        String accept = request.getHeader(HttpHeaderNames.ACCEPT);
+        String acceptLanguage = request.getHeader(HttpHeaderNames.ACCEPT_LANGUAGE);
+        if (accept == null && acceptLanguage == null) {
+            return request.uri();
+        }
+        return request.uri() + '\n' + (accept != null ? accept : "") + '\n'
+                + (acceptLanguage != null ? acceptLanguage : "");
+    }
+
+    /**
+     * @return the names of the request headers listed in the {@code Vary} header of the response, or {@code null} if the
+     *         response varies on anything
+     */
+    private static List<String> varyHeaders(HttpServerResponse response) {
+        List<String> vary = response.headers().getAll(HttpHeaderNames.VARY);
+        if (vary.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>();
+        for (String value : vary) {
+            for (String name : value.split(",")) {
+                name = name.trim();
+                if (name.equals("*")) {
+                    return null;
+                }
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    private CacheEntry create(HttpServerRequest request, HttpServerResponse response, Response methodResponse, byte[] body,
+            List<String> varyHeaders) {
+        List<Map.Entry<String, String>> headers = new ArrayList<>();
+        if (methodResponse != null) {
+            for (Map.Entry<String, List<String>> header : methodResponse.getStringHeaders().entrySet()) {
+                String name = header.getKey();
+                if (HttpHeaderNames.CONTENT_LENGTH.contentEqualsIgnoreCase(name)
+                        || HttpHeaderNames.TRANSFER_ENCODING.contentEqualsIgnoreCase(name)
+                        || HttpHeaderNames.DATE.contentEqualsIgnoreCase(name)
+                        || HttpHeaderNames.CONTENT_TYPE.contentEqualsIgnoreCase(name)) {
+                    continue;
+                }
+                for (String value : header.getValue()) {
+                    headers.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+                }
+            }
+        }
+        // the ETag set by the method or by a response filter, which sets it again on the cached responses
+        String etagValue = response.headers().get(HttpHeaderNames.ETAG);
+        if (etag && etagValue == null) {
+            CRC32 crc = new CRC32();
+            crc.update(body, 0, body.length);
+            etagValue = "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+            headers.add(new AbstractMap.SimpleImmutableEntry<>(HttpHeaderNames.ETAG.toString(), etagValue));
+        }
+        List<Map.Entry<String, String>> varyValues = new ArrayList<>(varyHeaders.size());
+        for (String name : varyHeaders) {
+            varyValues.add(new AbstractMap.SimpleImmutableEntry<>(name, request.getHeader(name)));
+        }
+        ByteBuf buffer = Unpooled.directBuffer(body.length).writeBytes(body);
+        long expiresAt = ttl > 0 ? System.nanoTime() + TimeUnit.SECONDS.toNanos(ttl) : 0;
+        return new CacheEntry(headers, response.headers().get(HttpHeaderNames.CONTENT_TYPE), buffer,
+                etag ? etagValue : null, varyValues, expiresAt, sequence.incrementAndGet());
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public ResponseCacheHandler setTtl(long ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    public boolean isEtag() {
+        return etag;
+    }
+
+    public ResponseCacheHandler setEtag(boolean etag) {
+        this.etag = etag;
+        return this;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public ResponseCacheHandler setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    /**
+     * Stores the response when its body is written, if the method result has been captured.
+     */
+    final class Store implements Consumer<byte[]> {
+
+        private final VertxResteasyReactiveRequestContext vertxContext;
+        private final String key;
+        private boolean captured;
+        private Object methodResult;
+
+        Store(VertxResteasyReactiveRequestContext vertxContext, String key) {
+            this.vertxContext = vertxContext;
+            this.key = key;
+        }
+
+        void capture(Object result) {
+            captured = true;
+            methodResult = result;
+        }
+
+        @Override
+        public void accept(byte[] body) {
+            if (!captured) {
+                // e.g. the method failed
+                return;
+            }
+            HttpServerResponse response = vertxContext.getContext().response();
+            if (response.getStatusCode() != HttpResponseStatus.OK.code()
+                    || response.headers().contains(HttpHeaderNames.SET_COOKIE)) {
+                return;
+            }
+            Response methodResponse = null;
+            if (methodResult instanceof Response) {
+                methodResponse = (Response) methodResult;
+                if (methodResponse.getStatus() != HttpResponseStatus.OK.code()) {
+                    return;
+                }
+            }
+            List<String> varyHeaders = varyHeaders(response);
+            if (varyHeaders == null) {
+                return;
+            }
+            if (maxEntries <= 0) {
+                return;
+            }
+            if (cache.size() >= maxEntries && !cache.containsKey(key)) {
+                evict();
+            }
+            CacheEntry entry = create(vertxContext.getContext().request(), response, methodResponse, body, varyHeaders);
+            if (entry.etag != null && !response.headers().contains(HttpHeaderNames.ETAG)) {
+                // the body has not been written yet
+                response.putHeader(HttpHeaderNames.ETAG, entry.etag);
+            }
+            put(key, entry);
+        }
+    }
+
+    /**
+     * Captures the result of the method, before the response filters run, for the response to be cached. It runs after the
+     * method is invoked and the asynchronous result is resolved.
+     */
+    public static class CaptureHandler implements ServerRestHandler {
+
+        @Override
+        public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+            if (requestContext instanceof VertxResteasyReactiveRequestContext) {
+                Consumer<byte[]> listener = ((VertxResteasyReactiveRequestContext) requestContext).getResponseBodyListener();
+                if (listener instanceof ResponseCacheHandler.Store) {
+                    ((ResponseCacheHandler.Store) listener).capture(requestContext.getResult());
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a {@link ResponseCacheHandler} before the parameters of the method are resolved, and a {@link CaptureHandler}
+     * after the method is invoked.
+     */
+    public static class Customizer implements HandlerChainCustomizer {
+
+        private static final CaptureHandler CAPTURE_HANDLER = new CaptureHandler();
+
+        private ResponseCacheHandler handler;
+
+        public Customizer() {
+        }
+
+        public Customizer(ResponseCacheHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public List<ServerRestHandler> handlers(Phase phase) {
+            if (phase == Phase.RESOLVE_METHOD_PARAMETERS) {
+                return Collections.singletonList(handler);
+            } else if (phase == Phase.AFTER_METHOD_INVOKE) {
+                return Collections.singletonList(CAPTURE_HANDLER);
+            }
+            return Collections.emptyList();
+        }
+
+        public ResponseCacheHandler getHandler() {
+            return handler;
+        }
+
+        public Customizer setHandler(ResponseCacheHandler handler) {
+            this.handler = handler;
+            return this;
+        }
+    }
+
+    static final class CacheEntry {
+
+        final List<Map.Entry<String, String>> headers;
+        final String contentType;
+        final ByteBuf buffer;
+        final String etag;
+        final List<Map.Entry<String, String>> varyValues;
+        final long expiresAt;
+        final long sequence;
+
+        CacheEntry(List<Map.Entry<String, String>> headers, String contentType, ByteBuf buffer, String etag,
+                List<Map.Entry<String, String>> varyValues, long expiresAt, long sequence) {
+            this.headers = headers;
+            this.contentType = contentType;
+            this.buffer = buffer;
+            this.etag = etag;
+            this.varyValues = varyValues;
+            this.expiresAt = expiresAt;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Releases the buffer once the entry is removed from the cache. The buffer is freed when the responses being written
+         * release their duplicates.
+         */
+        void release() {
+            buffer.release();
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+
+        boolean matchesVary(HttpServerRequest request) {
+            for (int i = 0; i < varyValues.size(); i++) {
+                Map.Entry<String, String> vary = varyValues.get(i);
+                if (!Objects.equals(vary.getValue(), request.getHeader(vary.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return the response, or {@code null} if the buffer has already been released
+         */
+        Response toResponse(HttpServerRequest request, VertxResteasyReactiveRequestContext vertxContext) {
+            if (etag != null && matches(request.getHeader(HttpHeaderNames.IF_NONE_MATCH), etag)) {
+                return Response.notModified().header(HttpHeaderNames.ETAG.toString(), etag).build();
+            }
+            ByteBuf duplicate;
+            try {
+                duplicate = buffer.retainedDuplicate();
+            } catch (IllegalReferenceCountException e) {
+                // evicted concurrently
+                return null;
+            }
+            // the response filters see a heap copy of the body, the writer writes the duplicate instead
+            byte[] body = ByteBufUtil.getBytes(duplicate);
+            vertxContext.setEncodedBody(body, duplicate);
+            Response.ResponseBuilder builder = Response.ok(body);
+            for (int i = 0; i < headers.size(); i++) {
+                Map.Entry<String, String> header = headers.get(i);
+                builder.header(header.getKey(), header.getValue());
+            }
+            if (contentType != null) {
+                builder.header(HttpHeaderNames.CONTENT_TYPE.toString(), contentType);
+            }
+            return builder.build();
+        }
+
+        static boolean matches(String ifNoneMatch, String etag) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            String opaqueTag = opaqueTag(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                candidate = candidate.trim();
+                // weak comparison, see RFC 7232
+                if (candidate.equals("*") || opaqueTag(candidate).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String opaqueTag(String etag) {
+            return etag.startsWith("W/") ? etag.substring(2) : etag;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.jboss.resteasy.reactive.server.vertx;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -15,6 +16,7 @@ import io.vertx.ext.web.RoutingContext;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +25,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import javax.ws.rs.container.CompletionCallback;
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.jaxrs.ProvidersImpl;
@@ -40,6 +43,10 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     protected final HttpServerResponse response;
     private final Executor contextExecutor;
     protected Consumer<ResteasyReactiveRequestContext> preCommitTask;
+    protected Consumer<byte[]> responseBodyListener;
+    protected byte[] pendingBody;
+    protected byte[] encodedBody;
+    protected ByteBuf encodedBodyBuffer;
     ContinueState continueState = ContinueState.NONE;
 
     public VertxResteasyReactiveRequestContext(Deployment deployment, ProvidersImpl providers,
@@ -291,12 +298,31 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public ServerHttpResponse end(byte[] data) {
-        response.end(Buffer.buffer(data));
+        if (responseBodyListener != null) {
+            // notified once the headers are encoded
+            pendingBody = data;
+        }
+        if (data == encodedBody && encodedBodyBuffer != null) {
+            ByteBuf buffer = encodedBodyBuffer;
+            encodedBodyBuffer = null;
+            // Vert.x does not release the buffers it writes
+            response.end(Buffer.buffer(buffer), new Handler<AsyncResult<Void>>() {
+                @Override
+                public void handle(AsyncResult<Void> event) {
+                    buffer.release();
+                }
+            });
+        } else {
+            response.end(Buffer.buffer(data));
+        }
         return this;
     }
 
     @Override
     public ServerHttpResponse end(String data) {
+        if (responseBodyListener != null) {
+            pendingBody = data.getBytes(StandardCharsets.UTF_8);
+        }
         response.end(data);
         return this;
     }
@@ -337,6 +363,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        responseBodyListener = null;
         response.write(Buffer.buffer(data), new Handler<AsyncResult<Void>>() {
             @Override
             public void handle(AsyncResult<Void> event) {
@@ -352,6 +379,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public CompletionStage<Void> write(byte[] data) {
+        responseBodyListener = null;
         CompletableFuture<Void> ret = new CompletableFuture<>();
         response.write(Buffer.buffer(data), new Handler<AsyncResult<Void>>() {
             @Override
@@ -382,11 +410,57 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         preCommitTask = task;
     }
 
+    /**
+     * Sets a listener that is notified of the body of the response once the headers are encoded but before they are written,
+     * so that the listener can still add headers, if the whole body is written with a single {@code end} call. The listener
+     * is not notified if the body is written in several chunks.
+     *
+     * @param listener the listener, or {@code null}
+     */
+    public void setResponseBodyListener(Consumer<byte[]> listener) {
+        responseBodyListener = listener;
+    }
+
+    public Consumer<byte[]> getResponseBodyListener() {
+        return responseBodyListener;
+    }
+
+    /**
+     * Sets a body that has already been encoded into a buffer: if exactly this array is written with {@code end}, the buffer
+     * is written instead of a copy of the array. The context takes ownership of the buffer: it is released once written, or
+     * when the request completes if the array is not written.
+     *
+     * @param body the body
+     * @param buffer the buffer holding the same bytes as the body
+     */
+    public void setEncodedBody(byte[] body, ByteBuf buffer) {
+        encodedBody = body;
+        encodedBodyBuffer = buffer;
+        registerCompletionCallback(new CompletionCallback() {
+            @Override
+            public void onComplete(Throwable throwable) {
+                ByteBuf unwritten = encodedBodyBuffer;
+                if (unwritten != null) {
+                    // e.g. a response filter replaced the entity
+                    encodedBodyBuffer = null;
+                    unwritten.release();
+                }
+            }
+        });
+    }
+
     @Override
     public void handle(Void event) {
         if (preCommitTask != null) {
             preCommitTask.accept(this);
         }
+        if (pendingBody != null) {
+            byte[] body = pendingBody;
+            pendingBody = null;
+            if (responseBodyListener != null) {
+                responseBodyListener.accept(body);
+            }
+        }
     }
 
     @Override
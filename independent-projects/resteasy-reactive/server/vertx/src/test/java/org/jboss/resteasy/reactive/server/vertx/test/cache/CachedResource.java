@@ -0,0 +1,47 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.server.CachedResponse;
+
+@Path("/cached")
+public class CachedResource {
+
+    static final AtomicInteger HELLO = new AtomicInteger();
+    static final AtomicInteger VARY = new AtomicInteger();
+    static final AtomicInteger LANGUAGE = new AtomicInteger();
+    static final AtomicInteger BOUNDED = new AtomicInteger();
+
+    @CachedResponse
+    @GET
+    @Path("/hello")
+    public String hello() {
+        return "hello " + HELLO.incrementAndGet();
+    }
+
+    @CachedResponse
+    @GET
+    @Path("/vary")
+    public Response vary() {
+        return Response.ok("vary " + VARY.incrementAndGet()).header(HttpHeaders.VARY, "X-Tenant")
+                .header("X-Method", "true").build();
+    }
+
+    @CachedResponse
+    @GET
+    @Path("/language")
+    public String language() {
+        return "language " + LANGUAGE.incrementAndGet();
+    }
+
+    @CachedResponse(maxEntries = 2)
+    @GET
+    @Path("/bounded")
+    public String bounded(@QueryParam("id") String id) {
+        return "bounded " + id + " " + BOUNDED.incrementAndGet();
+    }
+}
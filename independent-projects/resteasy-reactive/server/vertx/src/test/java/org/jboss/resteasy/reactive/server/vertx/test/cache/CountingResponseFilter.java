@@ -0,0 +1,18 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+
+@Provider
+public class CountingResponseFilter implements ContainerResponseFilter {
+
+    static final AtomicInteger COUNT = new AtomicInteger();
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        responseContext.getHeaders().add("X-Filter", COUNT.incrementAndGet());
+    }
+}
@@ -0,0 +1,127 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.server.CachedResponse;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
+import org.jboss.resteasy.reactive.server.vertx.ResponseCacheHandler;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ResponseCacheTest {
+
+    private static final DotName CACHED_RESPONSE = DotName.createSimple(CachedResponse.class.getName());
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(CachedResource.class, CountingResponseFilter.class);
+                }
+            })
+            .addMethodScanner(new MethodScanner() {
+                @Override
+                public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+                        Map<String, Object> methodContext) {
+                    AnnotationInstance cachedResponse = method.annotation(CACHED_RESPONSE);
+                    if (cachedResponse == null) {
+                        return Collections.emptyList();
+                    }
+                    AnnotationValue maxEntries = cachedResponse.value("maxEntries");
+                    return Collections.singletonList(new ResponseCacheHandler.Customizer(
+                            new ResponseCacheHandler(0, true, maxEntries != null ? maxEntries.asInt() : 100)));
+                }
+            });
+
+    @Test
+    public void testResponseFiltersRunOnCachedResponses() {
+        ExtractableResponse<?> first = RestAssured.get("/cached/hello")
+                .then().statusCode(200).body(equalTo("hello 1"))
+                .extract();
+        String etag = first.header("ETag");
+        Assertions.assertNotNull(etag);
+        int filtered = Integer.parseInt(first.header("X-Filter"));
+
+        ExtractableResponse<?> second = RestAssured.get("/cached/hello")
+                .then().statusCode(200).body(equalTo("hello 1"))
+                .header("ETag", etag)
+                .extract();
+        // the filter ran again, and its header is not duplicated by the cache
+        Assertions.assertEquals(Collections.singletonList(String.valueOf(filtered + 1)),
+                second.headers().getValues("X-Filter"));
+
+        ExtractableResponse<?> notModified = RestAssured.given().header("If-None-Match", etag).get("/cached/hello")
+                .then().statusCode(304).header("ETag", etag)
+                .extract();
+        Assertions.assertEquals(String.valueOf(filtered + 2), notModified.header("X-Filter"));
+    }
+
+    @Test
+    public void testCredentialsBypassTheCache() {
+        String body = RestAssured.get("/cached/hello").then().statusCode(200).extract().asString();
+        RestAssured.given().header("Authorization", "Basic Zm9vOmJhcg==").get("/cached/hello")
+                .then().statusCode(200).body(equalTo("hello " + (CachedResource.HELLO.get())));
+        Assertions.assertNotEquals(body, "hello " + CachedResource.HELLO.get());
+        RestAssured.given().cookie("session", "secret").get("/cached/hello")
+                .then().statusCode(200).body(equalTo("hello " + (CachedResource.HELLO.get())));
+    }
+
+    @Test
+    public void testVaryHeaders() {
+        String first = RestAssured.given().header("X-Tenant", "a").get("/cached/vary")
+                .then().statusCode(200).header("X-Method", "true").extract().asString();
+        RestAssured.given().header("X-Tenant", "a").get("/cached/vary")
+                .then().statusCode(200).body(equalTo(first))
+                .header("X-Method", "true").header("Vary", "X-Tenant");
+        String other = RestAssured.given().header("X-Tenant", "b").get("/cached/vary")
+                .then().statusCode(200).extract().asString();
+        Assertions.assertNotEquals(first, other);
+    }
+
+    @Test
+    public void testAcceptLanguageIsPartOfTheKey() {
+        String english = RestAssured.given().header("Accept-Language", "en").get("/cached/language")
+                .then().statusCode(200).extract().asString();
+        RestAssured.given().header("Accept-Language", "en").get("/cached/language")
+                .then().statusCode(200).body(equalTo(english));
+        String french = RestAssured.given().header("Accept-Language", "fr").get("/cached/language")
+                .then().statusCode(200).extract().asString();
+        Assertions.assertNotEquals(english, french);
+    }
+
+    @Test
+    public void testOldestEntriesAreEvicted() {
+        String a = RestAssured.get("/cached/bounded?id=a").then().statusCode(200).extract().asString();
+        RestAssured.get("/cached/bounded?id=a").then().statusCode(200).body(equalTo(a));
+        String b = RestAssured.get("/cached/bounded?id=b").then().statusCode(200).extract().asString();
+        // the cache is full, the oldest entry is evicted
+        String c = RestAssured.get("/cached/bounded?id=c").then().statusCode(200).extract().asString();
+        RestAssured.get("/cached/bounded?id=c").then().statusCode(200).body(equalTo(c));
+        RestAssured.get("/cached/bounded?id=b").then().statusCode(200).body(equalTo(b));
+        String newA = RestAssured.get("/cached/bounded?id=a").then().statusCode(200).extract().asString();
+        Assertions.assertNotEquals(a, newA);
+        // the new entries are still cached
+        for (int i = 0; i < 10; i++) {
+            String d = RestAssured.get("/cached/bounded?id=d" + i).then().statusCode(200).extract().asString();
+            RestAssured.get("/cached/bounded?id=d" + i).then().statusCode(200).body(equalTo(d));
+        }
+    }
+}
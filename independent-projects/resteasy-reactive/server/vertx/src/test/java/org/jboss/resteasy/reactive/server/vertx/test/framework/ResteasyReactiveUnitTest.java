@@ -49,10 +49,12 @@ import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.core.startup.RuntimeDeploymentManager;
 import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
 import org.jboss.resteasy.reactive.server.processor.ServerEndpointIndexer;
+import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveContextResolverScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveExceptionMappingScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveFeatureScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveParamConverterScanner;
+import org.jboss.resteasy.reactive.server.providers.serialisers.ServerByteArrayMessageBodyHandler;
 import org.jboss.resteasy.reactive.server.providers.serialisers.ServerStringMessageBodyHandler;
 import org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveVertxHandler;
 import org.jboss.resteasy.reactive.server.vertx.VertxRequestContextFactory;
@@ -80,6 +82,7 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
     private Supplier<JavaArchive> archiveProducer;
 
     private Consumer<List<LogRecord>> assertLogRecords;
+    private final List<MethodScanner> methodScanners = new ArrayList<>();
 
     private Timer timeoutTimer;
     private volatile TimerTask timeoutTask;
@@ -131,6 +134,11 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
         return this;
     }
 
+    public ResteasyReactiveUnitTest addMethodScanner(MethodScanner methodScanner) {
+        methodScanners.add(methodScanner);
+        return this;
+    }
+
     public ResteasyReactiveUnitTest assertLogRecords(Consumer<List<LogRecord>> assertLogRecords) {
         if (this.assertLogRecords != null) {
             throw new IllegalStateException("Don't set the a log record assertion twice"
@@ -220,6 +228,7 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
                 .setInjectableBeans(new HashMap<>())
                 .setConfig(new ResteasyReactiveConfig(10000, true, true))
                 .setHttpAnnotationToMethod(resources.getHttpAnnotationToMethod())
+                .addMethodScanners(methodScanners)
                 .build();
 
         List<ResourceClass> resourceClasses = new ArrayList<>();
@@ -234,24 +243,8 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
         }
 
         ServerSerialisers serialisers = new ServerSerialisers();
-        serialisers.addWriter(String.class, new ResourceWriter()
-                .setMediaTypeStrings(Collections.singletonList(MediaType.WILDCARD))
-                .setFactory(new BeanFactory<MessageBodyWriter<?>>() {
-                    @Override
-                    public BeanInstance<MessageBodyWriter<?>> createInstance() {
-                        return new BeanInstance<MessageBodyWriter<?>>() {
-                            @Override
-                            public MessageBodyWriter<?> getInstance() {
-                                return new ServerStringMessageBodyHandler();
-                            }
-
-                            @Override
-                            public void close() {
-
-                            }
-                        };
-                    }
-                }));
+        addWriter(serialisers, String.class, new ServerStringMessageBodyHandler());
+        addWriter(serialisers, byte[].class, new ServerByteArrayMessageBodyHandler());
         DeploymentInfo info = new DeploymentInfo()
                 .setApplicationPath("/")
                 .setFeatures(ResteasyReactiveFeatureScanner.createFeatures(index, applicationScanningResult))
@@ -288,10 +281,31 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
                 closeable -> closeTasks.add(closeable), new VertxRequestContextFactory(), ThreadSetupAction.NOOP, "/");
         Deployment deployment = runtimeDeploymentManager.deploy();
         RestInitialHandler initialHandler = new RestInitialHandler(deployment);
-        router.route().handler(new ResteasyReactiveVertxHandler(initialHandler));
+        route = router.route().handler(new ResteasyReactiveVertxHandler(initialHandler));
 
     }
 
+    private static void addWriter(ServerSerialisers serialisers, Class<?> type, MessageBodyWriter<?> writer) {
+        serialisers.addWriter(type, new ResourceWriter()
+                .setMediaTypeStrings(Collections.singletonList(MediaType.WILDCARD))
+                .setFactory(new BeanFactory<MessageBodyWriter<?>>() {
+                    @Override
+                    public BeanInstance<MessageBodyWriter<?>> createInstance() {
+                        return new BeanInstance<MessageBodyWriter<?>>() {
+                            @Override
+                            public MessageBodyWriter<?> getInstance() {
+                                return writer;
+                            }
+
+                            @Override
+                            public void close() {
+
+                            }
+                        };
+                    }
+                }));
+    }
+
     @Override
     public void afterAll(ExtensionContext extensionContext) throws Exception {
         if (assertLogRecords != null) {
@@ -301,6 +315,11 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
         inMemoryLogHandler.clearRecords();
 
         System.clearProperty("test.url");
+        if (route != null) {
+            // the server is shared by the test classes
+            route.remove();
+            route = null;
+        }
         timeoutTask.cancel();
         timeoutTask = null;
         timeoutTimer = null;
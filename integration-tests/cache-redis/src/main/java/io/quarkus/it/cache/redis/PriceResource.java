@@ -0,0 +1,56 @@
+package io.quarkus.it.cache.redis;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+
+@ApplicationScoped
+@Path("/prices")
+public class PriceResource {
+
+    public static final String CACHE_NAME = "prices";
+
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @GET
+    @Path("/{id}")
+    @CacheResult(cacheName = CACHE_NAME)
+    public String get(@PathParam("id") String id) {
+        return id + "-" + computations.incrementAndGet();
+    }
+
+    @DELETE
+    @Path("/{id}")
+    @CacheInvalidate(cacheName = CACHE_NAME)
+    public void invalidate(@PathParam("id") String id) {
+    }
+
+    @GET
+    @Path("/computations")
+    public int computations() {
+        return computations.get();
+    }
+
+    @GET
+    @Path("/batch")
+    public String batch(@QueryParam("id") List<String> ids) {
+        Map<Object, Object> values = cache.getAll(ids).toCompletableFuture().join();
+        return new TreeMap<>(values).toString();
+    }
+}
@@ -0,0 +1,18 @@
+package io.quarkus.it.cache.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import io.quarkus.cache.CacheValueCodec;
+
+public class StringCacheValueCodec implements CacheValueCodec {
+
+    @Override
+    public byte[] encode(Object value) {
+        return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
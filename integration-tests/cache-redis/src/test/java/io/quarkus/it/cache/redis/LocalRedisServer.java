@@ -0,0 +1,292 @@
+package io.quarkus.it.cache.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.regex.Pattern;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+/**
+ * A minimal in-process Redis stand-in speaking RESP2. It only supports the commands used by the {@code redis} cache type and
+ * the Redis client, which is enough to test the cache without a real Redis server.
+ */
+public class LocalRedisServer implements QuarkusTestResourceLifecycleManager {
+
+    private final Map<String, byte[]> data = new ConcurrentHashMap<>();
+    private final Map<String, Set<Connection>> subscriptions = new ConcurrentHashMap<>();
+    private ServerSocket serverSocket;
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        Thread acceptor = new Thread(this::accept, "local-redis-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return Collections.singletonMap("quarkus.redis.hosts", "redis://localhost:" + serverSocket.getLocalPort());
+    }
+
+    @Override
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // ignored
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Connection connection = new Connection(serverSocket.accept());
+                Thread thread = new Thread(connection::serve, "local-redis-connection");
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                // the server socket was closed
+            }
+        }
+    }
+
+    private final class Connection {
+
+        private final Socket socket;
+        private final OutputStream out;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        void serve() {
+            try (InputStream in = new BufferedInputStream(socket.getInputStream())) {
+                List<byte[]> command;
+                while ((command = readCommand(in)) != null) {
+                    execute(command);
+                }
+            } catch (IOException e) {
+                // the client disconnected
+            } finally {
+                for (Set<Connection> subscribers : subscriptions.values()) {
+                    subscribers.remove(this);
+                }
+            }
+        }
+
+        private void execute(List<byte[]> command) throws IOException {
+            String name = string(command.get(0)).toUpperCase();
+            switch (name) {
+                case "HELLO":
+                    // forces the client to fall back to RESP2
+                    writeError("ERR unknown command 'HELLO'");
+                    break;
+                case "PING":
+                    writeSimple("PONG");
+                    break;
+                case "AUTH":
+                case "SELECT":
+                case "CLIENT":
+                    writeSimple("OK");
+                    break;
+                case "GET":
+                    writeBulk(data.get(string(command.get(1))));
+                    break;
+                case "SET":
+                    // expiration arguments are accepted but ignored
+                    data.put(string(command.get(1)), command.get(2));
+                    writeSimple("OK");
+                    break;
+                case "DEL":
+                case "UNLINK":
+                    int deleted = 0;
+                    for (int i = 1; i < command.size(); i++) {
+                        if (data.remove(string(command.get(i))) != null) {
+                            deleted++;
+                        }
+                    }
+                    writeInteger(deleted);
+                    break;
+                case "SCAN":
+                    scan(command);
+                    break;
+                case "PUBLISH":
+                    publish(string(command.get(1)), command.get(2));
+                    break;
+                case "SUBSCRIBE":
+                    for (int i = 1; i < command.size(); i++) {
+                        String channel = string(command.get(i));
+                        subscriptions.computeIfAbsent(channel, c -> new CopyOnWriteArraySet<>()).add(this);
+                        synchronized (this) {
+                            out.write(("*3\r\n").getBytes(StandardCharsets.UTF_8));
+                            bulk("subscribe".getBytes(StandardCharsets.UTF_8));
+                            bulk(command.get(i));
+                            out.write((":" + i + "\r\n").getBytes(StandardCharsets.UTF_8));
+                            out.flush();
+                        }
+                    }
+                    break;
+                default:
+                    writeError("ERR unknown command '" + name + "'");
+            }
+        }
+
+        private void scan(List<byte[]> command) throws IOException {
+            Pattern pattern = null;
+            for (int i = 2; i < command.size() - 1; i++) {
+                if ("MATCH".equalsIgnoreCase(string(command.get(i)))) {
+                    pattern = globToPattern(string(command.get(i + 1)));
+                }
+            }
+            List<String> keys = new ArrayList<>();
+            for (String key : data.keySet()) {
+                if (pattern == null || pattern.matcher(key).matches()) {
+                    keys.add(key);
+                }
+            }
+            // everything is returned at once so the cursor is always 0
+            synchronized (this) {
+                out.write("*2\r\n".getBytes(StandardCharsets.UTF_8));
+                bulk("0".getBytes(StandardCharsets.UTF_8));
+                out.write(("*" + keys.size() + "\r\n").getBytes(StandardCharsets.UTF_8));
+                for (String key : keys) {
+                    bulk(key.getBytes(StandardCharsets.UTF_8));
+                }
+                out.flush();
+            }
+        }
+
+        private void publish(String channel, byte[] message) throws IOException {
+            Set<Connection> subscribers = subscriptions.getOrDefault(channel, Collections.emptySet());
+            for (Connection subscriber : subscribers) {
+                subscriber.push(channel, message);
+            }
+            writeInteger(subscribers.size());
+        }
+
+        synchronized void push(String channel, byte[] message) {
+            try {
+                out.write("*3\r\n".getBytes(StandardCharsets.UTF_8));
+                bulk("message".getBytes(StandardCharsets.UTF_8));
+                bulk(channel.getBytes(StandardCharsets.UTF_8));
+                bulk(message);
+                out.flush();
+            } catch (IOException e) {
+                // the subscriber disconnected
+            }
+        }
+
+        private synchronized void writeSimple(String value) throws IOException {
+            out.write(("+" + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        private synchronized void writeError(String value) throws IOException {
+            out.write(("-" + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        private synchronized void writeInteger(long value) throws IOException {
+            out.write((":" + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        private synchronized void writeBulk(byte[] value) throws IOException {
+            if (value == null) {
+                out.write("$-1\r\n".getBytes(StandardCharsets.UTF_8));
+            } else {
+                bulk(value);
+            }
+            out.flush();
+        }
+
+        private void bulk(byte[] value) throws IOException {
+            out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.write(value);
+            out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            return null;
+        }
+        if (type != '*') {
+            throw new IOException("Unsupported RESP type: " + (char) type);
+        }
+        int size = Integer.parseInt(readLine(in));
+        List<byte[]> command = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Bulk string expected");
+            }
+            int length = Integer.parseInt(readLine(in));
+            byte[] value = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int count = in.read(value, read, length - read);
+                if (count == -1) {
+                    throw new IOException("Unexpected end of stream");
+                }
+                read += count;
+            }
+            // CRLF
+            in.read();
+            in.read();
+            command.add(value);
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c == -1) {
+                throw new IOException("Unexpected end of stream");
+            }
+            line.append((char) c);
+        }
+        // LF
+        in.read();
+        return line.toString();
+    }
+
+    private static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '\\' && i + 1 < glob.length()) {
+                regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+            } else if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static String string(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
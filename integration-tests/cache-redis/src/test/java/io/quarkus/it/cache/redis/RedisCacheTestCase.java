@@ -0,0 +1,95 @@
+package io.quarkus.it.cache.redis;
+
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.client.RedisClient;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.vertx.redis.client.Response;
+
+@QuarkusTest
+@QuarkusTestResource(LocalRedisServer.class)
+@DisplayName("Tests the redis cache type")
+public class RedisCacheTestCase {
+
+    private static final String CHANNEL = "quarkus-cache:prices";
+    // The keys are prefixed with the class name of the cache key.
+    private static final String KEY_PREFIX = CHANNEL + ":java.lang.String:";
+    // The values stored in Redis are prefixed with a byte that tells whether they are null or not.
+    private static final String NON_NULL = "\u0001";
+
+    @Inject
+    RedisClient redisClient;
+
+    @Test
+    public void testTwoTierCache() {
+        // STEP 1
+        // Action: @CacheResult-annotated method called twice.
+        // Expected effect: value computed once and written to both tiers.
+        // Verified by: returned values, computations counter and Redis content.
+        getPrice("a", "a-1");
+        getPrice("a", "a-1");
+        assertComputations(1);
+        awaitRemoteValue("a", NON_NULL + "a-1");
+
+        // STEP 2
+        // Action: another instance updates the Redis entry and publishes an invalidation.
+        // Expected effect: the local entry is evicted and the value is reloaded from Redis without being computed.
+        // Verified by: returned value and computations counter.
+        redisClient.set(Arrays.asList(KEY_PREFIX + "a", NON_NULL + "a-other"));
+        redisClient.publish(CHANNEL, "Kother-node|java.lang.String:a");
+        awaitPrice("a", "a-other");
+        assertComputations(1);
+
+        // STEP 3
+        // Action: @CacheInvalidate-annotated method call.
+        // Expected effect: entry removed from both tiers and value computed again on the next call.
+        // Verified by: Redis content, returned value and computations counter.
+        RestAssured.given().when().delete("/prices/a").then().statusCode(204);
+        awaitRemoteValue("a", null);
+        getPrice("a", "a-2");
+        assertComputations(2);
+
+        // STEP 4
+        // Action: batch lookup of a locally cached key, a key only present in Redis and an unknown key.
+        // Expected effect: the first two values are returned and nothing is computed.
+        // Verified by: returned values and computations counter.
+        awaitRemoteValue("a", NON_NULL + "a-2");
+        redisClient.set(Arrays.asList(KEY_PREFIX + "b", NON_NULL + "b-remote"));
+        RestAssured.given().queryParam("id", "a", "b", "c").when().get("/prices/batch").then().statusCode(200)
+                .body(is("{a=a-2, b=b-remote}"));
+        assertComputations(2);
+
+        redisClient.del(Collections.singletonList(KEY_PREFIX + "b"));
+    }
+
+    private void getPrice(String id, String expected) {
+        RestAssured.given().when().get("/prices/" + id).then().statusCode(200).body(is(expected));
+    }
+
+    private void awaitPrice(String id, String expected) {
+        Awaitility.await().atMost(Duration.ofSeconds(10L)).untilAsserted(() -> getPrice(id, expected));
+    }
+
+    private void assertComputations(int expected) {
+        RestAssured.given().when().get("/prices/computations").then().statusCode(200).body(is(String.valueOf(expected)));
+    }
+
+    private void awaitRemoteValue(String id, String expected) {
+        Awaitility.await().atMost(Duration.ofSeconds(10L)).until(() -> {
+            Response response = redisClient.get(KEY_PREFIX + id);
+            return expected == null ? response == null : response != null && expected.equals(response.toString());
+        });
+    }
+}
@@ -242,6 +242,13 @@ public class TestEndpoint {
                                 Assertions.assertEquals(person, byId);
                                 Assertions.assertEquals("Person<" + person.id + ">", byId.toString());
 
+                                return Person.findByIds(Arrays.asList(person.id, -1L, person.id));
+                            }).flatMap(byIds -> {
+                                Assertions.assertEquals(3, byIds.size());
+                                Assertions.assertEquals(person, byIds.get(0));
+                                Assertions.assertNull(byIds.get(1));
+                                Assertions.assertEquals(person, byIds.get(2));
+
                                 return person.delete();
                             }).flatMap(v -> Person.count())
                             .flatMap(count -> {
@@ -961,6 +968,13 @@ public class TestEndpoint {
                                 Assertions.assertEquals(person, byId);
                                 Assertions.assertEquals("Person<" + person.id + ">", byId.toString());
 
+                                return personDao.findByIds(Arrays.asList(person.id, -1L, person.id));
+                            }).flatMap(byIds -> {
+                                Assertions.assertEquals(3, byIds.size());
+                                Assertions.assertEquals(person, byIds.get(0));
+                                Assertions.assertNull(byIds.get(1));
+                                Assertions.assertEquals(person, byIds.get(2));
+
                                 return person.delete();
                             }).flatMap(v -> personDao.count())
                             .flatMap(count -> {
@@ -1,6 +1,7 @@
 package io.quarkus.it.kafka;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.ws.rs.GET;
@@ -13,10 +14,20 @@ public class KafkaEndpoint {
     @Inject
     PeopleManager people;
 
+    @Inject
+    KeyedRecordConsumer keyedRecords;
+
     @GET
     @Path("/people")
     @Produces(MediaType.APPLICATION_JSON)
     public List<Person> getPeople() {
         return people.getPeople();
     }
+
+    @GET
+    @Path("/keyed")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Object> getKeyedRecords() {
+        return keyedRecords.getResult();
+    }
 }
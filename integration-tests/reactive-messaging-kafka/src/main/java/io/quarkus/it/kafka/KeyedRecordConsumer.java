@@ -0,0 +1,53 @@
+package io.quarkus.it.kafka;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+/**
+ * Consumes the records of a channel configured with the {@code key} ordering, and records the order in which they are
+ * processed and how many are processed at the same time.
+ */
+@ApplicationScoped
+public class KeyedRecordConsumer {
+
+    private final Map<String, List<String>> processed = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inflightPerKey = new ConcurrentHashMap<>();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+    private final AtomicInteger maxInflightPerKey = new AtomicInteger();
+
+    @Incoming("keyed-in")
+    @Blocking(ordered = false)
+    public void consume(String value) throws InterruptedException {
+        String key = value.substring(0, value.indexOf('-'));
+        AtomicInteger keyInflight = inflightPerKey.computeIfAbsent(key, k -> new AtomicInteger());
+        maxInflightPerKey.accumulateAndGet(keyInflight.incrementAndGet(), Math::max);
+        maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+        try {
+            // long enough for the records of the other keys to be processed in the meantime
+            Thread.sleep(50);
+            processed.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(value);
+        } finally {
+            inflight.decrementAndGet();
+            keyInflight.decrementAndGet();
+        }
+    }
+
+    public Map<String, Object> getResult() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("processed", processed);
+        result.put("maxInflight", maxInflight.get());
+        result.put("maxInflightPerKey", maxInflightPerKey.get());
+        return result;
+    }
+}
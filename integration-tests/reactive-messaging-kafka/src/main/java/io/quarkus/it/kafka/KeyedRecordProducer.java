@@ -0,0 +1,29 @@
+package io.quarkus.it.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+
+@ApplicationScoped
+public class KeyedRecordProducer {
+
+    static final String[] KEYS = { "a", "b", "c" };
+    static final int RECORDS_PER_KEY = 10;
+
+    @Outgoing("keyed-out")
+    public Multi<KafkaRecord<String, String>> generateRecords() {
+        List<KafkaRecord<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < RECORDS_PER_KEY; i++) {
+            for (String key : KEYS) {
+                records.add(KafkaRecord.of(key, key + "-" + i));
+            }
+        }
+        return Multi.createFrom().iterable(records);
+    }
+}
@@ -3,7 +3,9 @@ package io.quarkus.it.kafka;
 import static io.restassured.RestAssured.get;
 import static org.awaitility.Awaitility.await;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.common.mapper.TypeRef;
+import io.restassured.path.json.JsonPath;
 
 @QuarkusTest
 @QuarkusTestResource(KafkaTestResource.class)
@@ -24,4 +27,28 @@ public class KafkaConnectorTest {
         await().untilAsserted(() -> Assertions.assertEquals(get("/kafka/people").as(TYPE_REF).size(), 6));
     }
 
+    @Test
+    public void testKeyOrdering() {
+        await().untilAsserted(() -> {
+            Map<String, List<String>> processed = get("/kafka/keyed").jsonPath().getMap("processed");
+            for (String key : KeyedRecordProducer.KEYS) {
+                Assertions.assertEquals(KeyedRecordProducer.RECORDS_PER_KEY,
+                        processed.getOrDefault(key, new ArrayList<>()).size(), "records of key " + key);
+            }
+        });
+
+        JsonPath result = get("/kafka/keyed").jsonPath();
+        Map<String, List<String>> processed = result.getMap("processed");
+        for (String key : KeyedRecordProducer.KEYS) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < KeyedRecordProducer.RECORDS_PER_KEY; i++) {
+                expected.add(key + "-" + i);
+            }
+            Assertions.assertEquals(expected, processed.get(key), "records of key " + key + " were reordered");
+        }
+        // the records of a key are processed one after the other, and the keys in parallel
+        Assertions.assertEquals(1, result.getInt("maxInflightPerKey"));
+        Assertions.assertTrue(result.getInt("maxInflight") > 1, "the keys were not processed in parallel");
+    }
+
 }